@@ -0,0 +1,57 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.time.Clock;
+import java.util.Locale;
+
+/**
+ * The available certificate manager implementations
+ */
+public enum CertManagerType {
+    /**
+     * Certificate manager using the openssl binary ({@link OpenSslCertManager})
+     */
+    OPENSSL,
+
+    /**
+     * Certificate manager using only the Java Cryptography Architecture ({@link JavaCertManager})
+     */
+    JAVA;
+
+    /**
+     * Parses the certificate manager type from a String
+     *
+     * @param type  The type (openssl or java)
+     *
+     * @return  The certificate manager type
+     *
+     * @throws IllegalArgumentException If the type is not known
+     */
+    public static CertManagerType fromString(String type) {
+        return valueOf(type.trim().toUpperCase(Locale.ENGLISH));
+    }
+
+    /**
+     * @return  New certificate manager of this type
+     */
+    public CertManager create() {
+        return create(null);
+    }
+
+    /**
+     * Creates a new certificate manager of this type which takes the keys for the CSRs from a pool of pre-generated keys
+     *
+     * @param keyPairPool   Pool of pre-generated key pairs or null to generate the keys directly
+     *
+     * @return  New certificate manager of this type
+     */
+    public CertManager create(KeyPairPool keyPairPool) {
+        return switch (this) {
+            case OPENSSL -> new OpenSslCertManager(Clock.systemUTC(), keyPairPool);
+            case JAVA -> new JavaCertManager(Clock.systemUTC(), keyPairPool);
+        };
+    }
+}
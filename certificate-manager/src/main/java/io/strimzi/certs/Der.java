@@ -0,0 +1,269 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Minimal ASN.1 DER encoder and decoder covering the structures used by the {@link JavaCertManager}: X.509
+ * certificates, their extensions, PKCS#10 certificate signing requests and PKCS#12 keystores.
+ */
+final class Der {
+    private static final DateTimeFormatter UTC_TIME = DateTimeFormatter.ofPattern("yyMMddHHmmss'Z'");
+    private static final DateTimeFormatter GENERALIZED_TIME = DateTimeFormatter.ofPattern("yyyyMMddHHmmss'Z'");
+
+    private static final int TAG_BOOLEAN = 0x01;
+    private static final int TAG_INTEGER = 0x02;
+    private static final int TAG_BIT_STRING = 0x03;
+    private static final int TAG_OCTET_STRING = 0x04;
+    private static final int TAG_OID = 0x06;
+    private static final int TAG_UTF8_STRING = 0x0c;
+    private static final int TAG_UTC_TIME = 0x17;
+    private static final int TAG_GENERALIZED_TIME = 0x18;
+    private static final int TAG_BMP_STRING = 0x1e;
+    private static final int TAG_SEQUENCE = 0x30;
+    private static final int TAG_SET = 0x31;
+
+    /**
+     * DER encoding of the ASN.1 NULL value
+     */
+    static final byte[] NULL = {0x05, 0x00};
+
+    private Der() { }
+
+    /**
+     * Encodes a tag-length-value element
+     *
+     * @param tag       The tag
+     * @param contents  The contents which are concatenated into the value
+     *
+     * @return  The encoded element
+     */
+    static byte[] tlv(int tag, byte[]... contents) {
+        int length = 0;
+        for (byte[] content : contents) {
+            length += content.length;
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(length + 6);
+        out.write(tag);
+
+        if (length < 0x80) {
+            out.write(length);
+        } else {
+            int lengthBytes = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+            out.write(0x80 | lengthBytes);
+            for (int i = lengthBytes - 1; i >= 0; i--) {
+                out.write(length >>> (8 * i));
+            }
+        }
+
+        for (byte[] content : contents) {
+            out.writeBytes(content);
+        }
+
+        return out.toByteArray();
+    }
+
+    static byte[] sequence(byte[]... elements) {
+        return tlv(TAG_SEQUENCE, elements);
+    }
+
+    static byte[] set(byte[]... elements) {
+        return tlv(TAG_SET, elements);
+    }
+
+    static byte[] bool(boolean value) {
+        return tlv(TAG_BOOLEAN, new byte[]{(byte) (value ? 0xff : 0x00)});
+    }
+
+    static byte[] integer(BigInteger value) {
+        return tlv(TAG_INTEGER, value.toByteArray());
+    }
+
+    static byte[] integer(long value) {
+        return integer(BigInteger.valueOf(value));
+    }
+
+    static byte[] octetString(byte[] value) {
+        return tlv(TAG_OCTET_STRING, value);
+    }
+
+    static byte[] utf8String(String value) {
+        return tlv(TAG_UTF8_STRING, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static byte[] bmpString(String value) {
+        return tlv(TAG_BMP_STRING, value.getBytes(StandardCharsets.UTF_16BE));
+    }
+
+    /**
+     * Encodes a bit string
+     *
+     * @param unusedBits    The number of unused bits in the last byte
+     * @param value         The bits
+     *
+     * @return  The encoded bit string
+     */
+    static byte[] bitString(int unusedBits, byte[] value) {
+        return tlv(TAG_BIT_STRING, new byte[]{(byte) unusedBits}, value);
+    }
+
+    /**
+     * Encodes an explicitly tagged, context specific element
+     *
+     * @param tagNumber     The tag number
+     * @param elements      The elements
+     *
+     * @return  The encoded element
+     */
+    static byte[] explicit(int tagNumber, byte[]... elements) {
+        return tlv(0xa0 | tagNumber, elements);
+    }
+
+    /**
+     * Encodes an implicitly tagged, context specific primitive element
+     *
+     * @param tagNumber     The tag number
+     * @param value         The value
+     *
+     * @return  The encoded element
+     */
+    static byte[] implicit(int tagNumber, byte[] value) {
+        return tlv(0x80 | tagNumber, value);
+    }
+
+    /**
+     * Encodes an object identifier
+     *
+     * @param oid   The object identifier in the dotted format
+     *
+     * @return  The encoded object identifier
+     */
+    static byte[] oid(String oid) {
+        String[] arcs = oid.split("\\.");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeBase128(out, Long.parseLong(arcs[0]) * 40 + Long.parseLong(arcs[1]));
+        for (int i = 2; i < arcs.length; i++) {
+            writeBase128(out, Long.parseLong(arcs[i]));
+        }
+
+        return tlv(TAG_OID, out.toByteArray());
+    }
+
+    private static void writeBase128(ByteArrayOutputStream out, long value) {
+        int groups = Math.max(1, (Long.SIZE - Long.numberOfLeadingZeros(value) + 6) / 7);
+        for (int i = groups - 1; i >= 0; i--) {
+            out.write((int) ((value >>> (7 * i)) & 0x7f) | (i > 0 ? 0x80 : 0));
+        }
+    }
+
+    /**
+     * Encodes the time as UTCTime until the year 2049 and as GeneralizedTime from the year 2050 on, as required by
+     * RFC 5280.
+     *
+     * @param instant   The time
+     *
+     * @return  The encoded time
+     */
+    static byte[] time(Instant instant) {
+        ZonedDateTime utc = instant.atZone(ZoneOffset.UTC);
+        if (utc.getYear() < 2050) {
+            return tlv(TAG_UTC_TIME, UTC_TIME.format(utc).getBytes(StandardCharsets.US_ASCII));
+        } else {
+            return tlv(TAG_GENERALIZED_TIME, GENERALIZED_TIME.format(utc).getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+    /**
+     * Splits the value of a constructed element into the encoded elements it contains
+     *
+     * @param encoded   The encoded constructed element
+     *
+     * @return  The encoded elements contained in it
+     *
+     * @throws IOException  If the element is not valid DER
+     */
+    static List<byte[]> elements(byte[] encoded) throws IOException {
+        List<byte[]> elements = new ArrayList<>();
+        int[] header = header(encoded, 0);
+        int position = header[0];
+        int end = position + header[1];
+
+        while (position < end) {
+            int[] elementHeader = header(encoded, position);
+            int elementEnd = elementHeader[0] + elementHeader[1];
+            if (elementEnd > end) {
+                throw new IOException("Invalid DER encoding: element exceeds its parent");
+            }
+
+            elements.add(Arrays.copyOfRange(encoded, position, elementEnd));
+            position = elementEnd;
+        }
+
+        return elements;
+    }
+
+    /**
+     * Returns the value of the element without its tag and length
+     *
+     * @param encoded   The encoded element
+     *
+     * @return  The value of the element
+     *
+     * @throws IOException  If the element is not valid DER
+     */
+    static byte[] value(byte[] encoded) throws IOException {
+        int[] header = header(encoded, 0);
+        return Arrays.copyOfRange(encoded, header[0], header[0] + header[1]);
+    }
+
+    /**
+     * Decodes the header of the element at given position
+     *
+     * @param encoded   The encoded data
+     * @param position  The position of the element
+     *
+     * @return  The position where the value starts and the length of the value
+     *
+     * @throws IOException  If the header is not valid DER
+     */
+    private static int[] header(byte[] encoded, int position) throws IOException {
+        if (position + 2 > encoded.length) {
+            throw new IOException("Invalid DER encoding: truncated header");
+        }
+
+        int length = encoded[position + 1] & 0xff;
+        int valueStart = position + 2;
+
+        if (length >= 0x80) {
+            int lengthBytes = length & 0x7f;
+            if (lengthBytes == 0 || lengthBytes > 3 || valueStart + lengthBytes > encoded.length) {
+                throw new IOException("Invalid DER encoding: unsupported length");
+            }
+
+            length = 0;
+            for (int i = 0; i < lengthBytes; i++) {
+                length = (length << 8) | (encoded[valueStart++] & 0xff);
+            }
+        }
+
+        if (valueStart + length > encoded.length) {
+            throw new IOException("Invalid DER encoding: truncated value");
+        }
+
+        return new int[]{valueStart, length};
+    }
+}
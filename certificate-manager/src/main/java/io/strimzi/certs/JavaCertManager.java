@@ -0,0 +1,671 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.security.cert.CertificateException;
+import java.security.cert.CertificateFactory;
+import java.security.cert.X509Certificate;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.RSAPublicKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.PBEParameterSpec;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * A certificate manager which uses only the Java Cryptography Architecture. Unlike the {@link OpenSslCertManager}, it
+ * does not fork any processes and does not use any temporary files: the keys, CSRs and certificates are generated in
+ * memory and only the results are written into the files passed to it. The certificates, keys, CSRs and PKCS#12 stores
+ * it produces have the same format, extensions and algorithms as the ones produced by the {@link OpenSslCertManager}
+ * with OpenSSL 3.
+ */
+public class JavaCertManager implements CertManager {
+    private static final Logger LOGGER = LogManager.getLogger(JavaCertManager.class);
+
+    private static final String OID_RSA_ENCRYPTION = "1.2.840.113549.1.1.1";
+    private static final String OID_SHA256_WITH_RSA = "1.2.840.113549.1.1.11";
+    private static final String OID_SHA384_WITH_RSA = "1.2.840.113549.1.1.12";
+    private static final String OID_SHA512_WITH_RSA = "1.2.840.113549.1.1.13";
+    private static final String OID_EXTENSION_REQUEST = "1.2.840.113549.1.9.14";
+    private static final String OID_ORGANIZATION_NAME = "2.5.4.10";
+    private static final String OID_COMMON_NAME = "2.5.4.3";
+    private static final String OID_SUBJECT_KEY_IDENTIFIER = "2.5.29.14";
+    private static final String OID_KEY_USAGE = "2.5.29.15";
+    private static final String OID_SUBJECT_ALT_NAME = "2.5.29.17";
+    private static final String OID_BASIC_CONSTRAINTS = "2.5.29.19";
+    private static final String OID_AUTHORITY_KEY_IDENTIFIER = "2.5.29.35";
+    private static final String OID_SHA256 = "2.16.840.1.101.3.4.2.1";
+    private static final String OID_PKCS7_DATA = "1.2.840.113549.1.7.1";
+    private static final String OID_PKCS7_ENCRYPTED_DATA = "1.2.840.113549.1.7.6";
+    private static final String OID_PBES2 = "1.2.840.113549.1.5.13";
+    private static final String OID_FRIENDLY_NAME = "1.2.840.113549.1.9.20";
+    private static final String OID_LOCAL_KEY_ID = "1.2.840.113549.1.9.21";
+    private static final String OID_X509_CERTIFICATE = "1.2.840.113549.1.9.22.1";
+    private static final String OID_PKCS8_SHROUDED_KEY_BAG = "1.2.840.113549.1.12.10.1.2";
+    private static final String OID_CERT_BAG = "1.2.840.113549.1.12.10.1.3";
+
+    // Same protection as used with OpenSSL for the keystores
+    private static final String PKCS12_PBE_ALGORITHM = "PBEWithHmacSHA256AndAES_128";
+    private static final int PKCS12_ITERATIONS = 2048;
+
+    // Key usages encoded as bit strings: keyCertSign and cRLSign for CAs, digitalSignature and keyEncipherment otherwise
+    private static final byte[] CA_KEY_USAGE = Der.bitString(1, new byte[]{0x06});
+    private static final byte[] END_ENTITY_KEY_USAGE = Der.bitString(5, new byte[]{(byte) 0xa0});
+
+    /**
+     * Size of the CA keys
+     */
+    public static final int CA_KEY_SIZE = 4096;
+
+    /**
+     * Size of the keys generated for the CSRs
+     */
+    public static final int KEY_SIZE = 2048;
+
+    private final Clock clock;
+    private final KeyPairPool keyPairPool;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructs the JavaCertManager with the system time
+     */
+    public JavaCertManager() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * Configures the JavaCertManager with time passed as a parameter
+     *
+     * @param clock     Clock / Time which should be used by the manager
+     */
+    public JavaCertManager(Clock clock) {
+        this(clock, null);
+    }
+
+    /**
+     * Configures the JavaCertManager with time and pool of pre-generated keys passed as parameters
+     *
+     * @param clock         Clock / Time which should be used by the manager
+     * @param keyPairPool   Pool of pre-generated key pairs used for the CSRs or null to generate them directly
+     */
+    public JavaCertManager(Clock clock, KeyPairPool keyPairPool) {
+        this.clock = clock;
+        this.keyPairPool = keyPairPool;
+    }
+
+    @Override
+    public void generateSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateRootCaCert(sbj, keyFile, certFile, now.atZone(Clock.systemUTC().getZone()), now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone()), 0);
+    }
+
+    @Override
+    public void renewSelfSignedCert(File keyFile, File certFile, Subject sbj, int days) throws IOException {
+        generateSelfSignedCert(keyFile, certFile, sbj, days);
+    }
+
+    @Override
+    public void generateRootCaCert(Subject subject, File subjectKeyFile, File subjectCertFile,
+                                   ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        generateCaCert(null, null, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    @Override
+    public void generateIntermediateCaCert(File issuerCaKeyFile, File issuerCaCertFile, Subject subject,
+                                           File subjectKeyFile, File subjectCertFile,
+                                           ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        Objects.requireNonNull(issuerCaKeyFile);
+        Objects.requireNonNull(issuerCaCertFile);
+        generateCaCert(issuerCaKeyFile, issuerCaCertFile, subject, subjectKeyFile, subjectCertFile, notBefore, notAfter, pathLength);
+    }
+
+    /**
+     * Generates a CA certificate, using either a new CA key or reusing an existing subject key.
+     *
+     * @param issuerCaKeyFile   The issuing CA key (or null for a root CA).
+     * @param issuerCaCertFile  The issuing CA cert (or null for a root CA).
+     * @param subject           The required subject.
+     * @param subjectKeyFile    The subject key file. If this file is empty then a new CA key will be generated and
+     *                          populated by this call. Otherwise it is assumed to contain the existing CA key.
+     * @param subjectCertFile   The subject certificate file, populated by this call.
+     * @param notBefore         The required NotBefore date of the issued certificate.
+     * @param notAfter          The required NotAfter date of the issued certificate.
+     * @param pathLength        The number of CA certificates below this certificate in a certificate chain.
+     *
+     * @throws IOException IO problems
+     */
+    private void generateCaCert(File issuerCaKeyFile, File issuerCaCertFile, Subject subject,
+                                File subjectKeyFile, File subjectCertFile,
+                                ZonedDateTime notBefore, ZonedDateTime notAfter, int pathLength) throws IOException {
+        if (issuerCaKeyFile == null ^ issuerCaCertFile == null) {
+            throw new IllegalArgumentException();
+        }
+        Objects.requireNonNull(subject);
+        Objects.requireNonNull(subjectKeyFile);
+        Objects.requireNonNull(subjectCertFile);
+        checkValidity(notBefore, notAfter);
+        if (pathLength < 0) {
+            throw new IllegalArgumentException("pathLength cannot be negative: " + pathLength);
+        }
+        if (subject.hasSubjectAltNames()) {
+            throw new IllegalArgumentException("CA certificates should not have Subject Alternative Names");
+        }
+
+        try {
+            boolean newKey = subjectKeyFile.length() == 0;
+            PrivateKey subjectKey;
+            byte[] subjectPublicKeyInfo;
+            if (newKey) {
+                KeyPair keyPair = generateKeyPair(CA_KEY_SIZE);
+                subjectKey = keyPair.getPrivate();
+                subjectPublicKeyInfo = keyPair.getPublic().getEncoded();
+            } else {
+                subjectKey = readPrivateKey(Files.readAllBytes(subjectKeyFile.toPath()));
+                subjectPublicKeyInfo = publicKey(subjectKey).getEncoded();
+            }
+
+            PrivateKey issuerKey;
+            X509Certificate issuerCert;
+            if (issuerCaCertFile == null) {
+                issuerKey = subjectKey;
+                issuerCert = null;
+            } else {
+                issuerKey = readPrivateKey(Files.readAllBytes(issuerCaKeyFile.toPath()));
+                issuerCert = readCertificate(Files.readAllBytes(issuerCaCertFile.toPath()));
+            }
+
+            List<byte[]> extensions = new ArrayList<>(4);
+            extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(subjectPublicKeyInfo))));
+            extensions.add(extension(OID_BASIC_CONSTRAINTS, true, Der.sequence(Der.bool(true), Der.integer(pathLength))));
+            extensions.add(extension(OID_KEY_USAGE, true, CA_KEY_USAGE));
+            if (issuerCert != null) {
+                extensions.add(authorityKeyIdentifier(issuerCert));
+            }
+
+            byte[] dn = distinguishedName(subject);
+            byte[] certificate = signCertificate(issuerCert != null ? issuerCert.getSubjectX500Principal().getEncoded() : dn,
+                    dn, subjectPublicKeyInfo, notBefore.toInstant(), notAfter.toInstant(), extensions, issuerKey);
+
+            Files.write(subjectCertFile.toPath(), pem("CERTIFICATE", certificate));
+            if (newKey) {
+                Files.write(subjectKeyFile.toPath(), pem("PRIVATE KEY", subjectKey.getEncoded()));
+            }
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the CA certificate", e);
+        }
+    }
+
+    @Override
+    public void addCertToTrustStore(File certFile, String certAlias, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        Objects.requireNonNull(certFile);
+        Objects.requireNonNull(certAlias);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        if (trustStoreFile.length() > 0) {
+            try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+                trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+            }
+        } else {
+            trustStore.load(null, trustStorePassword.toCharArray());
+        }
+
+        try (FileInputStream isCertificate = new FileInputStream(certFile)) {
+            X509Certificate certificate = (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(isCertificate);
+            trustStore.setEntry(certAlias, new KeyStore.TrustedCertificateEntry(certificate), null);
+        }
+
+        try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void addKeyAndCertToKeyStore(File keyFile, File certFile, String alias, File keyStoreFile, String keyStorePassword) throws IOException {
+        try {
+            PrivateKey key = readPrivateKey(Files.readAllBytes(keyFile.toPath()));
+            X509Certificate certificate = readCertificate(Files.readAllBytes(certFile.toPath()));
+
+            char[] password = keyStorePassword.toCharArray();
+
+            // The store uses the same format as OpenSSL (-certpbe aes-128-cbc -keypbe aes-128-cbc -macalg sha256). The
+            // JDK KeyStore takes the certificate protection and the MAC algorithm only from JVM-wide security
+            // properties, so the PKCS#12 structure (RFC 7292) is encoded here directly.
+            byte[] attributes = Der.set(
+                    Der.sequence(Der.oid(OID_FRIENDLY_NAME), Der.set(Der.bmpString(alias))),
+                    Der.sequence(Der.oid(OID_LOCAL_KEY_ID), Der.set(Der.octetString(MessageDigest.getInstance("SHA-1").digest(certificate.getEncoded())))));
+
+            Cipher certCipher = pbeCipher(password);
+            byte[] certBag = Der.sequence(Der.oid(OID_CERT_BAG),
+                    Der.explicit(0, Der.sequence(Der.oid(OID_X509_CERTIFICATE), Der.explicit(0, Der.octetString(certificate.getEncoded())))),
+                    attributes);
+            byte[] encryptedCerts = Der.sequence(Der.oid(OID_PKCS7_ENCRYPTED_DATA), Der.explicit(0, Der.sequence(Der.integer(0),
+                    Der.sequence(Der.oid(OID_PKCS7_DATA), pbeAlgorithm(certCipher), Der.implicit(0, certCipher.doFinal(Der.sequence(certBag)))))));
+
+            Cipher keyCipher = pbeCipher(password);
+            byte[] keyBag = Der.sequence(Der.oid(OID_PKCS8_SHROUDED_KEY_BAG),
+                    Der.explicit(0, Der.sequence(pbeAlgorithm(keyCipher), Der.octetString(keyCipher.doFinal(key.getEncoded())))),
+                    attributes);
+            byte[] keys = Der.sequence(Der.oid(OID_PKCS7_DATA), Der.explicit(0, Der.octetString(Der.sequence(keyBag))));
+
+            byte[] authenticatedSafe = Der.sequence(encryptedCerts, keys);
+
+            byte[] macSalt = new byte[8];
+            random.nextBytes(macSalt);
+            Mac mac = Mac.getInstance("HmacPBESHA256");
+            mac.init(SecretKeyFactory.getInstance("PBE").generateSecret(new PBEKeySpec(password)), new PBEParameterSpec(macSalt, PKCS12_ITERATIONS));
+            byte[] macData = Der.sequence(Der.sequence(Der.sequence(Der.oid(OID_SHA256), Der.NULL), Der.octetString(mac.doFinal(authenticatedSafe))),
+                    Der.octetString(macSalt),
+                    Der.integer(PKCS12_ITERATIONS));
+
+            Files.write(keyStoreFile.toPath(), Der.sequence(Der.integer(3),
+                    Der.sequence(Der.oid(OID_PKCS7_DATA), Der.explicit(0, Der.octetString(authenticatedSafe))),
+                    macData));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to create the PKCS#12 keystore", e);
+        }
+    }
+
+    @Override
+    public void deleteFromTrustStore(List<String> aliases, File trustStoreFile, String trustStorePassword)
+            throws IOException, CertificateException, KeyStoreException, NoSuchAlgorithmException {
+        Objects.requireNonNull(aliases);
+        Objects.requireNonNull(trustStoreFile);
+        Objects.requireNonNull(trustStorePassword);
+
+        KeyStore trustStore = KeyStore.getInstance("PKCS12");
+        try (FileInputStream isTrustStore = new FileInputStream(trustStoreFile)) {
+            trustStore.load(isTrustStore, trustStorePassword.toCharArray());
+        }
+        for (String alias : aliases) {
+            trustStore.deleteEntry(alias);
+        }
+        try (FileOutputStream osTrustStore = new FileOutputStream(trustStoreFile)) {
+            trustStore.store(osTrustStore, trustStorePassword.toCharArray());
+        }
+    }
+
+    @Override
+    public void generateCsr(File keyFile, File csrFile, Subject subject) throws IOException {
+        Objects.requireNonNull(keyFile);
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(subject);
+
+        try {
+            KeyPair keyPair = keyPairPool != null ? keyPairPool.take() : generateKeyPair(KEY_SIZE);
+
+            // The SANs are requested through the extension request attribute
+            byte[] attributes = subject.hasSubjectAltNames()
+                    ? Der.explicit(0, Der.sequence(Der.oid(OID_EXTENSION_REQUEST), Der.set(Der.sequence(subjectAltNames(subject)))))
+                    : Der.explicit(0);
+            byte[] requestInfo = Der.sequence(Der.integer(0), distinguishedName(subject), keyPair.getPublic().getEncoded(), attributes);
+
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(keyPair.getPrivate());
+            signature.update(requestInfo);
+            byte[] csr = Der.sequence(requestInfo, Der.sequence(Der.oid(OID_SHA256_WITH_RSA), Der.NULL), Der.bitString(0, signature.sign()));
+
+            Files.write(keyFile.toPath(), pem("PRIVATE KEY", keyPair.getPrivate().getEncoded()));
+            Files.write(csrFile.toPath(), pem("CERTIFICATE REQUEST", csr));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the CSR", e);
+        }
+    }
+
+    @Override
+    public void generateCert(File csrFile, File caKey, File caCert, File crtFile, Subject sbj, int days) throws IOException {
+        generateCert(csrFile, Files.readAllBytes(caKey.toPath()), Files.readAllBytes(caCert.toPath()), crtFile, sbj, days);
+    }
+
+    @Override
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, int days) throws IOException {
+        Instant now = clock.instant();
+        generateCert(csrFile, caKey, caCert, crtFile, sbj, now.atZone(Clock.systemUTC().getZone()), now.plus(days, ChronoUnit.DAYS).atZone(Clock.systemUTC().getZone()));
+    }
+
+    /**
+     * Generates a certificate
+     *
+     * @param csrFile       CSR file
+     * @param caKey         Key of the CA which should sign this certificate
+     * @param caCert        Cert of the CA which should sign this certificate
+     * @param crtFile       Cert file for the newly generated certificate
+     * @param sbj           Subject of the new certificate
+     * @param notBefore     Not before validity
+     * @param notAfter      Not after validity
+     *
+     * @throws IOException  Thrown when working with files fails
+     */
+    public void generateCert(File csrFile, byte[] caKey, byte[] caCert, File crtFile, Subject sbj, ZonedDateTime notBefore, ZonedDateTime notAfter) throws IOException {
+        Objects.requireNonNull(csrFile);
+        Objects.requireNonNull(caKey);
+        Objects.requireNonNull(caCert);
+        Objects.requireNonNull(crtFile);
+        Objects.requireNonNull(sbj);
+        checkValidity(notBefore, notAfter);
+
+        try {
+            PrivateKey issuerKey = readPrivateKey(caKey);
+            X509Certificate issuerCert = readCertificate(caCert);
+
+            // The subject and the public key are taken from the CSR
+            List<byte[]> request = Der.elements(decodePem(Files.readAllBytes(csrFile.toPath())));
+            if (request.size() != 3) {
+                throw new IOException("Invalid CSR in " + csrFile);
+            }
+            List<byte[]> requestInfo = Der.elements(request.get(0));
+            if (requestInfo.size() < 3) {
+                throw new IOException("Invalid CSR in " + csrFile);
+            }
+            byte[] subjectPublicKeyInfo = requestInfo.get(2);
+            verifyCsr(request, subjectPublicKeyInfo);
+
+            // Like with OpenSSL, the SANs are used only from the Subject and the other extensions only when there are no SANs
+            List<byte[]> extensions = new ArrayList<>(4);
+            if (sbj.hasSubjectAltNames()) {
+                extensions.add(extension(OID_SUBJECT_ALT_NAME, false, subjectAltNames(sbj)));
+                extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(subjectPublicKeyInfo))));
+            } else {
+                extensions.add(extension(OID_SUBJECT_KEY_IDENTIFIER, false, Der.octetString(keyIdentifier(subjectPublicKeyInfo))));
+                extensions.add(extension(OID_BASIC_CONSTRAINTS, true, Der.sequence()));
+                extensions.add(extension(OID_KEY_USAGE, true, END_ENTITY_KEY_USAGE));
+            }
+            extensions.add(authorityKeyIdentifier(issuerCert));
+
+            byte[] certificate = signCertificate(issuerCert.getSubjectX500Principal().getEncoded(), requestInfo.get(1),
+                    subjectPublicKeyInfo, notBefore.toInstant(), notAfter.toInstant(), extensions, issuerKey);
+
+            Files.write(crtFile.toPath(), pem("CERTIFICATE", certificate));
+        } catch (GeneralSecurityException e) {
+            throw new IOException("Failed to generate the certificate", e);
+        }
+    }
+
+    private void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
+        Objects.requireNonNull(notBefore);
+        Objects.requireNonNull(notAfter);
+        if (!notBefore.isBefore(notAfter)) {
+            throw new IllegalArgumentException("Invalid notBefore and notAfter: " + notBefore + " must be before " + notAfter);
+        }
+    }
+
+    private KeyPair generateKeyPair(int keySize) throws NoSuchAlgorithmException {
+        long start = System.nanoTime();
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        KeyPair keyPair = generator.generateKeyPair();
+        LOGGER.debug("Generated {} bit RSA key in {}ms", keySize, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return keyPair;
+    }
+
+    /**
+     * Builds and signs the certificate
+     *
+     * @param issuer                Encoded DN of the issuer
+     * @param subject               Encoded DN of the subject
+     * @param subjectPublicKeyInfo  Encoded public key of the subject
+     * @param notBefore             Not before validity
+     * @param notAfter              Not after validity
+     * @param extensions            Encoded extensions
+     * @param issuerKey             Private key of the issuer
+     *
+     * @return  DER encoded certificate
+     */
+    private byte[] signCertificate(byte[] issuer, byte[] subject, byte[] subjectPublicKeyInfo, Instant notBefore, Instant notAfter,
+                                   List<byte[]> extensions, PrivateKey issuerKey) throws GeneralSecurityException {
+        // Same as the default_md used with OpenSSL
+        byte[] signatureAlgorithm = Der.sequence(Der.oid(OID_SHA512_WITH_RSA), Der.NULL);
+        byte[] tbsCertificate = Der.sequence(
+                Der.explicit(0, Der.integer(2)),
+                Der.integer(serialNumber()),
+                signatureAlgorithm,
+                issuer,
+                Der.sequence(Der.time(notBefore.truncatedTo(ChronoUnit.SECONDS)), Der.time(notAfter.truncatedTo(ChronoUnit.SECONDS))),
+                subject,
+                subjectPublicKeyInfo,
+                Der.explicit(3, Der.sequence(extensions.toArray(new byte[0][]))));
+
+        Signature signature = Signature.getInstance("SHA512withRSA");
+        signature.initSign(issuerKey);
+        signature.update(tbsCertificate);
+
+        return Der.sequence(tbsCertificate, signatureAlgorithm, Der.bitString(0, signature.sign()));
+    }
+
+    /**
+     * @return  Random positive serial number of 159 bits (the same as the rand_serial option of OpenSSL)
+     */
+    private BigInteger serialNumber() {
+        return new BigInteger(159, random);
+    }
+
+    /**
+     * Creates a cipher for protecting the PKCS#12 keystore content with PBES2 and AES-128-CBC, using a new random
+     * salt and IV.
+     *
+     * @param password  The keystore password
+     *
+     * @return  The initialized cipher
+     */
+    private Cipher pbeCipher(char[] password) throws GeneralSecurityException {
+        byte[] salt = new byte[8];
+        random.nextBytes(salt);
+        byte[] iv = new byte[16];
+        random.nextBytes(iv);
+
+        Cipher cipher = Cipher.getInstance(PKCS12_PBE_ALGORITHM);
+        cipher.init(Cipher.ENCRYPT_MODE, SecretKeyFactory.getInstance(PKCS12_PBE_ALGORITHM).generateSecret(new PBEKeySpec(password)),
+                new PBEParameterSpec(salt, PKCS12_ITERATIONS, new IvParameterSpec(iv)));
+        return cipher;
+    }
+
+    private static byte[] pbeAlgorithm(Cipher cipher) throws IOException {
+        return Der.sequence(Der.oid(OID_PBES2), cipher.getParameters().getEncoded());
+    }
+
+    /**
+     * Verifies the signature of the CSR
+     *
+     * @param request               Elements of the CSR
+     * @param subjectPublicKeyInfo  Encoded public key from the CSR
+     */
+    private static void verifyCsr(List<byte[]> request, byte[] subjectPublicKeyInfo) throws IOException, GeneralSecurityException {
+        byte[] algorithm = Der.elements(request.get(1)).get(0);
+        String signatureAlgorithm;
+        if (Arrays.equals(algorithm, Der.oid(OID_SHA256_WITH_RSA))) {
+            signatureAlgorithm = "SHA256withRSA";
+        } else if (Arrays.equals(algorithm, Der.oid(OID_SHA384_WITH_RSA))) {
+            signatureAlgorithm = "SHA384withRSA";
+        } else if (Arrays.equals(algorithm, Der.oid(OID_SHA512_WITH_RSA))) {
+            signatureAlgorithm = "SHA512withRSA";
+        } else {
+            throw new IOException("Unsupported CSR signature algorithm");
+        }
+
+        byte[] signatureBits = Der.value(request.get(2));
+        Signature signature = Signature.getInstance(signatureAlgorithm);
+        signature.initVerify(KeyFactory.getInstance("RSA").generatePublic(new X509EncodedKeySpec(subjectPublicKeyInfo)));
+        signature.update(request.get(0));
+        if (!signature.verify(Arrays.copyOfRange(signatureBits, 1, signatureBits.length))) {
+            throw new IOException("Invalid CSR signature");
+        }
+    }
+
+    /**
+     * Encodes the distinguished name in the same way as OpenSSL does with the -utf8 option
+     *
+     * @param subject   The subject
+     *
+     * @return  Encoded DN
+     */
+    private static byte[] distinguishedName(Subject subject) {
+        List<byte[]> rdns = new ArrayList<>(2);
+        if (subject.organizationName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(OID_ORGANIZATION_NAME), Der.utf8String(subject.organizationName()))));
+        }
+        if (subject.commonName() != null) {
+            rdns.add(Der.set(Der.sequence(Der.oid(OID_COMMON_NAME), Der.utf8String(subject.commonName()))));
+        }
+
+        return Der.sequence(rdns.toArray(new byte[0][]));
+    }
+
+    /**
+     * Encodes the SANs of the subject as GeneralNames
+     *
+     * @param subject   The subject
+     *
+     * @return  Encoded SANs
+     */
+    private static byte[] subjectAltNames(Subject subject) throws IOException {
+        List<byte[]> names = new ArrayList<>(subject.dnsNames().size() + subject.ipAddresses().size());
+        for (String dnsName : subject.dnsNames()) {
+            names.add(Der.implicit(2, dnsName.getBytes(StandardCharsets.US_ASCII)));
+        }
+        for (String ip : subject.ipAddresses()) {
+            // The Subject validates that these are IP address literals, so no DNS lookup is done here
+            names.add(Der.implicit(7, InetAddress.getByName(ip).getAddress()));
+        }
+
+        return Der.sequence(names.toArray(new byte[0][]));
+    }
+
+    private static byte[] extension(String oid, boolean critical, byte[] value) {
+        return critical
+                ? Der.sequence(Der.oid(oid), Der.bool(true), Der.octetString(value))
+                : Der.sequence(Der.oid(oid), Der.octetString(value));
+    }
+
+    /**
+     * Builds the authority key identifier extension from the subject key identifier of the issuer (or from its public
+     * key if the issuer certificate does not have it)
+     *
+     * @param issuerCert    Certificate of the issuer
+     *
+     * @return  Encoded extension
+     */
+    private static byte[] authorityKeyIdentifier(X509Certificate issuerCert) throws IOException, NoSuchAlgorithmException {
+        byte[] subjectKeyIdentifier = issuerCert.getExtensionValue(OID_SUBJECT_KEY_IDENTIFIER);
+        byte[] keyIdentifier = subjectKeyIdentifier != null
+                ? Der.value(Der.value(subjectKeyIdentifier))
+                : keyIdentifier(issuerCert.getPublicKey().getEncoded());
+
+        return extension(OID_AUTHORITY_KEY_IDENTIFIER, false, Der.sequence(Der.implicit(0, keyIdentifier)));
+    }
+
+    /**
+     * Calculates the key identifier as the SHA-1 hash of the public key (method 1 from RFC 5280)
+     *
+     * @param subjectPublicKeyInfo  Encoded public key
+     *
+     * @return  The key identifier
+     */
+    private static byte[] keyIdentifier(byte[] subjectPublicKeyInfo) throws IOException, NoSuchAlgorithmException {
+        byte[] publicKeyBits = Der.value(Der.elements(subjectPublicKeyInfo).get(1));
+        return MessageDigest.getInstance("SHA-1").digest(Arrays.copyOfRange(publicKeyBits, 1, publicKeyBits.length));
+    }
+
+    private static PublicKey publicKey(PrivateKey privateKey) throws GeneralSecurityException {
+        if (privateKey instanceof RSAPrivateCrtKey rsaKey) {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(rsaKey.getModulus(), rsaKey.getPublicExponent()));
+        } else {
+            throw new GeneralSecurityException("Unsupported private key " + privateKey.getAlgorithm());
+        }
+    }
+
+    /**
+     * Reads the private key in the PKCS#8 format, or in the PKCS#1 format used by older versions of OpenSSL
+     *
+     * @param pem   The PEM encoded key
+     *
+     * @return  The private key
+     */
+    private static PrivateKey readPrivateKey(byte[] pem) throws IOException, GeneralSecurityException {
+        byte[] der = decodePem(pem);
+        if (new String(pem, StandardCharsets.US_ASCII).contains("BEGIN RSA PRIVATE KEY")) {
+            der = Der.sequence(Der.integer(0), Der.sequence(Der.oid(OID_RSA_ENCRYPTION), Der.NULL), Der.octetString(der));
+        }
+
+        return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
+    private static X509Certificate readCertificate(byte[] pem) throws CertificateException {
+        return (X509Certificate) CertificateFactory.getInstance("X.509").generateCertificate(new ByteArrayInputStream(pem));
+    }
+
+    /**
+     * Decodes the first PEM block
+     *
+     * @param pem   The PEM encoded data
+     *
+     * @return  The DER encoded data
+     */
+    private static byte[] decodePem(byte[] pem) throws IOException {
+        String text = new String(pem, StandardCharsets.US_ASCII);
+        int begin = text.indexOf("-----BEGIN ");
+        int beginEnd = begin < 0 ? -1 : text.indexOf("-----", begin + 11);
+        int end = beginEnd < 0 ? -1 : text.indexOf("-----END ", beginEnd);
+        if (end < 0) {
+            throw new IOException("No PEM data found");
+        }
+
+        return Base64.getMimeDecoder().decode(text.substring(beginEnd + 5, end));
+    }
+
+    /**
+     * Encodes the data in PEM format with 64 characters per line, as OpenSSL does
+     *
+     * @param type  The type of the data
+     * @param der   The DER encoded data
+     *
+     * @return  The PEM encoded data
+     */
+    static byte[] pem(String type, byte[] der) {
+        return ("-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, new byte[]{'\n'}).encodeToString(der)
+                + "\n-----END " + type + "-----\n").getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Bounded pool of pre-generated RSA key pairs. Generating an RSA key is the most expensive part of issuing a
+ * certificate. The pool moves it out of the reconciliation: a low priority background thread keeps the pool topped up
+ * and the certificate managers take the keys from it when generating the CSRs. When the pool is empty, the key is
+ * generated right away as it would be without the pool.
+ */
+public class KeyPairPool {
+    private static final Logger LOGGER = LogManager.getLogger(KeyPairPool.class);
+
+    private final int capacity;
+    private final int keySize;
+    private final BlockingQueue<KeyPair> keyPairs;
+    private final SecureRandom random = new SecureRandom();
+    private final AtomicLong hits = new AtomicLong(0);
+    private final AtomicLong misses = new AtomicLong(0);
+
+    private Thread generatorThread;
+
+    /**
+     * Constructs the key pair pool. The pool is filled only after it is started.
+     *
+     * @param capacity  Maximal number of pre-generated key pairs
+     * @param keySize   Size of the RSA keys in bits
+     */
+    public KeyPairPool(int capacity, int keySize) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("The capacity of the key pair pool must be positive: " + capacity);
+        }
+
+        this.capacity = capacity;
+        this.keySize = keySize;
+        this.keyPairs = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Starts the background thread which keeps the pool topped up
+     */
+    public synchronized void start() {
+        if (generatorThread == null) {
+            generatorThread = new Thread(this::fill, "key-pair-pool");
+            generatorThread.setDaemon(true);
+            generatorThread.setPriority(Thread.MIN_PRIORITY);
+            generatorThread.start();
+            LOGGER.info("Started pool of {} pre-generated {} bit RSA keys", capacity, keySize);
+        }
+    }
+
+    /**
+     * Stops the background thread. The key pairs which are already in the pool can still be taken.
+     */
+    public synchronized void stop() {
+        if (generatorThread != null) {
+            generatorThread.interrupt();
+            generatorThread = null;
+        }
+    }
+
+    /**
+     * Takes a key pair from the pool, or generates a new one if the pool is empty.
+     *
+     * @return  The key pair
+     *
+     * @throws NoSuchAlgorithmException If RSA is not supported
+     */
+    public KeyPair take() throws NoSuchAlgorithmException {
+        KeyPair keyPair = keyPairs.poll();
+
+        if (keyPair != null) {
+            hits.incrementAndGet();
+            return keyPair;
+        } else {
+            misses.incrementAndGet();
+            LOGGER.debug("Key pair pool is empty, generating the key pair directly");
+            return generate();
+        }
+    }
+
+    /**
+     * @return  The number of key pairs currently in the pool
+     */
+    public int size() {
+        return keyPairs.size();
+    }
+
+    /**
+     * @return  The maximal number of key pairs in the pool
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return  The size of the generated keys in bits
+     */
+    public int keySize() {
+        return keySize;
+    }
+
+    /**
+     * @return  The number of key pairs taken from the pool
+     */
+    public long hits() {
+        return hits.get();
+    }
+
+    /**
+     * @return  The number of key pairs which had to be generated because the pool was empty
+     */
+    public long misses() {
+        return misses.get();
+    }
+
+    /**
+     * Generates the key pairs in a loop. Adding the key pair to the pool blocks while the pool is full.
+     */
+    private void fill() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                keyPairs.put(generate());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (NoSuchAlgorithmException | RuntimeException e) {
+                LOGGER.warn("Failed to pre-generate a key pair", e);
+
+                try {
+                    // Do not spin when the generation keeps failing
+                    TimeUnit.SECONDS.sleep(10);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        LOGGER.debug("Key pair pool generator thread stopped");
+    }
+
+    private KeyPair generate() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(keySize, random);
+        return generator.generateKeyPair();
+    }
+}
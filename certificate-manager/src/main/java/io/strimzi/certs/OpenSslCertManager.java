@@ -67,6 +67,7 @@ public class OpenSslCertManager implements CertManager {
 
     private static final Logger LOGGER = LogManager.getLogger(OpenSslCertManager.class);
     private final Clock clock;
+    private final KeyPairPool keyPairPool;
 
     /**
      * Constructs the OpenSslCertManager with the system time
@@ -81,7 +82,18 @@ public class OpenSslCertManager implements CertManager {
      * @param clock     Clock / Time which should be used by the manager
      */
     public OpenSslCertManager(Clock clock) {
+        this(clock, null);
+    }
+
+    /**
+     * Configures the OpenSslCertManager with time and pool of pre-generated keys passed as parameters
+     *
+     * @param clock         Clock / Time which should be used by the manager
+     * @param keyPairPool   Pool of pre-generated key pairs used for the CSRs or null to let OpenSSL generate them
+     */
+    public OpenSslCertManager(Clock clock, KeyPairPool keyPairPool) {
         this.clock = clock;
+        this.keyPairPool = keyPairPool;
     }
 
     void checkValidity(ZonedDateTime notBefore, ZonedDateTime notAfter) {
@@ -419,9 +431,22 @@ public class OpenSslCertManager implements CertManager {
         Objects.requireNonNull(subject);
 
         OpensslArgs cmd = new OpensslArgs("openssl", "req")
-                .opt("-new").opt("-batch").opt("-nodes")
-                .optArg("-keyout", keyFile)
-                .optArg("-out", csrFile);
+                .opt("-new").opt("-batch");
+
+        if (keyPairPool != null) {
+            // Use a pre-generated key instead of letting OpenSSL generate a new one
+            try {
+                Files.write(keyFile.toPath(), JavaCertManager.pem("PRIVATE KEY", keyPairPool.take().getPrivate().getEncoded()));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IOException("Failed to generate the key", e);
+            }
+
+            cmd.optArg("-key", keyFile);
+        } else {
+            cmd.opt("-nodes").optArg("-keyout", keyFile);
+        }
+
+        cmd.optArg("-out", csrFile);
 
         Path sna = null;
         try {
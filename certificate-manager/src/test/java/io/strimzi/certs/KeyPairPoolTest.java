@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.certs;
+
+import java.security.KeyPair;
+import java.security.interfaces.RSAPublicKey;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class KeyPairPoolTest {
+    private static final int KEY_SIZE = 1024;
+
+    @Test
+    public void testMissWhenNotStarted() throws Exception {
+        KeyPairPool pool = new KeyPairPool(2, KEY_SIZE);
+
+        KeyPair keyPair = pool.take();
+        assertThat(((RSAPublicKey) keyPair.getPublic()).getModulus().bitLength(), is(KEY_SIZE));
+        assertThat(pool.hits(), is(0L));
+        assertThat(pool.misses(), is(1L));
+        assertThat(pool.size(), is(0));
+    }
+
+    @Test
+    public void testPoolIsToppedUp() throws Exception {
+        KeyPairPool pool = new KeyPairPool(3, KEY_SIZE);
+        pool.start();
+
+        try {
+            waitForSize(pool, 3);
+
+            KeyPair first = pool.take();
+            KeyPair second = pool.take();
+            assertThat(first.getPublic(), is(not(second.getPublic())));
+            assertThat(pool.hits(), is(2L));
+            assertThat(pool.misses(), is(0L));
+
+            // The pool is filled again, but never over its capacity
+            waitForSize(pool, 3);
+            Thread.sleep(200);
+            assertThat(pool.size(), is(3));
+        } finally {
+            pool.stop();
+        }
+    }
+
+    @Test
+    public void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new KeyPairPool(0, KEY_SIZE));
+    }
+
+    private static void waitForSize(KeyPairPool pool, int size) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 60_000;
+        while (pool.size() < size) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the pool to have " + size + " key pairs");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+}
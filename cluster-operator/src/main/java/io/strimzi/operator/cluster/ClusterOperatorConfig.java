@@ -5,6 +5,7 @@
 package io.strimzi.operator.cluster;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.cluster.leaderelection.LeaderElectionManagerConfig;
 import io.strimzi.operator.cluster.model.ImagePullPolicy;
 import io.strimzi.operator.cluster.model.KafkaVersion;
@@ -234,6 +235,23 @@ public class ClusterOperatorConfig {
      */
     public static final ConfigParameter<Boolean> LEADER_ELECTION_ENABLED = new ConfigParameter<>("STRIMZI_LEADER_ELECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
+    /**
+     * Implementation used to generate the certificates: openssl (forks the openssl binary) or java (generates them in
+     * memory using the Java Cryptography Architecture)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+
+    /**
+     * Number of pre-generated key pairs used for the certificates of the operands. 0 disables the pool and the keys
+     * are generated when the certificate is issued.
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_SIZE", INTEGER, "0", CONFIG_VALUES);
+
+    /**
+     * Size in bits of the pre-generated RSA keys
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_KEY_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_KEY_SIZE", ConfigParameterParser.strictlyPositive(INTEGER), "2048", CONFIG_VALUES);
+
     private static final ConfigParameter<String> POD_SECURITY_PROVIDER_BASELINE_SHORTCUT = new ConfigParameter<>("POD_SECURITY_PROVIDER_BASELINE_SHORTCUT", STRING, "baseline", CONFIG_VALUES);
 
     /**
@@ -607,6 +625,27 @@ public class ClusterOperatorConfig {
         }
     }
 
+    /**
+     * @return  The type of the certificate manager used to generate the certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return  The number of pre-generated key pairs used for the certificates. 0 means no pool is used.
+     */
+    public int getKeyPairPoolSize() {
+        return get(KEY_PAIR_POOL_SIZE);
+    }
+
+    /**
+     * @return  The size in bits of the pre-generated RSA keys
+     */
+    public int getKeyPairPoolKeySize() {
+        return get(KEY_PAIR_POOL_KEY_SIZE);
+    }
+
     @Override
     public String toString() {
         return "ClusterOperatorConfig{" +
@@ -630,6 +669,9 @@ public class ClusterOperatorConfig {
                 "\n\toperatorName='" + getOperatorName() + '\'' +
                 "\n\tpodSecurityProviderClass='" + getPodSecurityProviderClass() + '\'' +
                 "\n\tleaderElectionConfig='" + getLeaderElectionConfig() + '\'' +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tkeyPairPoolSize=" + getKeyPairPoolSize() +
+                "\n\tkeyPairPoolKeySize=" + getKeyPairPoolKeySize() +
                 "}";
     }
 }
@@ -1052,6 +1052,11 @@ public class EntityOperatorTest {
                 .addToVerbs("get", "list", "watch", "create", "delete", "patch", "update")
                 .addToApiGroups("")
                 .build());
+        rules.add(new PolicyRuleBuilder()
+                .addToResources("leases")
+                .addToVerbs("get", "list", "watch", "create", "patch", "update", "delete")
+                .addToApiGroups("coordination.k8s.io")
+                .build());
         assertThat(role.getRules(), is(rules));
     }
 
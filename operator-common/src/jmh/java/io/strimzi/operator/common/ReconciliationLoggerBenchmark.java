@@ -0,0 +1,94 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the {@link ReconciliationLogger} methods at a disabled level, as they are called in the hot paths of the
+ * reconciliations. Run it with {@code -prof gc} to check that {@code gc.alloc.rate.norm} is zero, and that logging for
+ * a new {@link Reconciliation} allocates no more than creating the {@link Reconciliation} alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReconciliationLoggerBenchmark {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationLoggerBenchmark.class);
+
+    Reconciliation reconciliation;
+    String name;
+    Integer replicas;
+
+    @Setup
+    public void setup() {
+        Configurator.setLevel(ReconciliationLoggerBenchmark.class.getName(), Level.INFO);
+        reconciliation = new Reconciliation("benchmark", "Kafka", "my-namespace", "my-cluster");
+        name = "my-topic";
+        replicas = 3;
+    }
+
+    /**
+     * Message without parameters at the disabled DEBUG level
+     */
+    @Benchmark
+    public void debugWithoutParameters() {
+        LOGGER.debugCr(reconciliation, "Reconciling");
+    }
+
+    /**
+     * Message with two parameters at the disabled DEBUG level
+     */
+    @Benchmark
+    public void debugWithParameters() {
+        LOGGER.debugCr(reconciliation, "Topic {} has {} replicas", name, replicas);
+    }
+
+    /**
+     * Message with a parameter at the disabled TRACE level
+     */
+    @Benchmark
+    public void traceWithParameter() {
+        LOGGER.traceCr(reconciliation, "Checking topic {}", name);
+    }
+
+    /**
+     * Creates a new Reconciliation, as the baseline for {@link #debugWithNewReconciliation()}
+     *
+     * @return  The Reconciliation
+     */
+    @Benchmark
+    public Reconciliation newReconciliation() {
+        return new Reconciliation("benchmark", "KafkaTopic", "my-namespace", name);
+    }
+
+    /**
+     * Message with a parameter at the disabled DEBUG level for a new Reconciliation, as the hot paths create a new
+     * Reconciliation for each event
+     *
+     * @return  The Reconciliation
+     */
+    @Benchmark
+    public Reconciliation debugWithNewReconciliation() {
+        Reconciliation reconciliation = new Reconciliation("benchmark", "KafkaTopic", "my-namespace", name);
+        LOGGER.debugCr(reconciliation, "Checking topic {}", name);
+        return reconciliation;
+    }
+}
@@ -5,11 +5,14 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
 
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Interface for providing metrics or their mocks
@@ -51,4 +54,27 @@ public interface MetricsProvider {
      * @return              AtomicInteger which represents the Gauge metric
      */
     AtomicInteger gauge(String name, String description, Tags tags);
+
+    /**
+     * Creates new Gauge type metric which gets its value from the state object when the metrics are collected
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param stateObject   Object from which the value of the metric is computed
+     * @param valueFunction Function computing the value of the metric from the state object
+     * @param <T>           Type of the state object
+     * @return              Gauge metric
+     */
+    <T> Gauge gauge(String name, String description, Tags tags, T stateObject, ToDoubleFunction<T> valueFunction);
+
+    /**
+     * Creates new DistributionSummary type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @return              DistributionSummary metric
+     */
+    DistributionSummary distributionSummary(String name, String description, Tags tags);
 }
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
@@ -13,6 +14,7 @@ import io.vertx.micrometer.backends.BackendRegistries;
 
 import java.time.Duration;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
 
 /**
  * Wraps creation of Micrometer metrics.
@@ -97,4 +99,39 @@ public class MicrometerMetricsProvider implements MetricsProvider {
 
         return gauge;
     }
+
+    /**
+     * Creates new Gauge type metric which gets its value from the state object when the metrics are collected
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @param stateObject   Object from which the value of the metric is computed
+     * @param valueFunction Function computing the value of the metric from the state object
+     * @param <T>           Type of the state object
+     * @return              Gauge metric
+     */
+    @Override
+    public <T> Gauge gauge(String name, String description, Tags tags, T stateObject, ToDoubleFunction<T> valueFunction) {
+        return Gauge.builder(name, stateObject, valueFunction)
+                .description(description)
+                .tags(tags)
+                .register(metrics);
+    }
+
+    /**
+     * Creates new DistributionSummary type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @return              DistributionSummary metric
+     */
+    @Override
+    public DistributionSummary distributionSummary(String name, String description, Tags tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tags(tags)
+                .register(metrics);
+    }
 }
@@ -29,7 +29,7 @@ public class Reconciliation {
     private final String namespace;
     private final String name;
     private final int id;
-    private final Marker marker;
+    private Marker marker; // created lazily by getMarker()
 
     /**
      * Constructs the reconciliation marker
@@ -45,7 +45,6 @@ public class Reconciliation {
         this.namespace = namespace;
         this.name = name;
         this.id = IDS.getAndIncrement();
-        this.marker = MarkerManager.getMarker(this.kind + "(" + this.namespace + "/" + this.name + ")");
     }
 
     /**
@@ -70,9 +69,23 @@ public class Reconciliation {
     }
 
     /**
+     * Returns the logging marker of the reconciled resource. The marker is created when it is first used: when
+     * something is logged for the reconciliation at an enabled level, or when the ReconciliationLogger checks a
+     * disabled level while a filter of the whole logging configuration is configured. It is not registered in the
+     * global Log4j MarkerManager, which never removes its markers. The MarkerFilter of the logging configuration
+     * matches the markers by their name.
+     *
      * @return  The logging marker
      */
     public Marker getMarker() {
+        // Racy initialization is fine: the Log4jMarker name is final, and markers with the same name are equal
+        Marker marker = this.marker;
+
+        if (marker == null) {
+            marker = new MarkerManager.Log4jMarker(kind + "(" + namespace + "/" + name + ")");
+            this.marker = marker;
+        }
+
         return marker;
     }
 
@@ -20,6 +20,9 @@ import org.apache.logging.log4j.util.Supplier;
  * Custom Logger interface with convenience methods for
  * the OFF, FATAL, ERROR, WARN, INFO, DEBUG, TRACE and ALL custom log levels.
  * <p>Compatible with Log4j 2.6 or higher.</p>
+ * <p>The methods which prefix the message with the {@link Reconciliation} check the level first, so that logging at
+ * a disabled level does not build the prefixed message. Unless a filter of the whole logging configuration is
+ * configured, this check does not create the logging marker of the reconciliation either.</p>
  */
 public class ReconciliationLogger implements Serializable {
     private static final long serialVersionUID = 258810740149174L;
@@ -29,6 +32,11 @@ public class ReconciliationLogger implements Serializable {
      */
     private final ExtendedLoggerWrapper logger;
 
+    /**
+     * The wrapped Log4j Core logger, or null when Log4j Core is not the logging implementation
+     */
+    private final org.apache.logging.log4j.core.Logger coreLogger;
+
     private static final String FQCN = ReconciliationLogger.class.getName();
     private static final Level OFF = Level.forName("OFF", 0);
     private static final Level FATAL = Level.forName("FATAL", 100);
@@ -41,6 +49,28 @@ public class ReconciliationLogger implements Serializable {
 
     protected ReconciliationLogger(final Logger logger) {
         this.logger = new ExtendedLoggerWrapper((AbstractLogger) logger, logger.getName(), logger.getMessageFactory());
+        this.coreLogger = logger instanceof org.apache.logging.log4j.core.Logger ? (org.apache.logging.log4j.core.Logger) logger : null;
+    }
+
+    /**
+     * Checks whether logging for the reconciliation is enabled at the given level. A disabled level can be enabled for
+     * a marker only by a filter of the whole logging configuration (filters of the loggers and appenders are applied
+     * only to the enabled levels). So the marker of the reconciliation is created for a disabled level only when such
+     * a filter is configured (or when Log4j Core is not used and this cannot be checked).
+     *
+     * @param level             The logging level
+     * @param reconciliation    The reconciliation
+     *
+     * @return  True if logging for the reconciliation is enabled at the given level. False otherwise.
+     */
+    private boolean isEnabled(final Level level, final Reconciliation reconciliation) {
+        if (logger.isEnabled(level)) {
+            // The marker might still be rejected by a filter, which logIfEnabled() checks
+            return true;
+        }
+
+        return (coreLogger == null || coreLogger.getContext().getConfiguration().hasFilter())
+                && logger.isEnabled(level, reconciliation.getMarker());
     }
 
     /**
@@ -5644,7 +5674,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5655,7 +5687,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5667,7 +5701,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5680,7 +5716,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5690,7 +5728,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void offCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5701,7 +5741,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -5713,7 +5755,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -5726,7 +5770,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -5740,7 +5786,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -5756,7 +5804,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -5773,7 +5823,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -5791,7 +5843,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -5810,7 +5864,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -5831,7 +5887,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -5853,7 +5911,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -5876,7 +5936,9 @@ public class ReconciliationLogger implements Serializable {
     public void offCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -5888,7 +5950,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -5914,7 +5978,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void offCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(OFF, reconciliation)) {
+            logger.logIfEnabled(FQCN, OFF, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -5988,7 +6054,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -5999,7 +6067,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6011,7 +6081,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6024,7 +6096,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6034,7 +6108,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6045,7 +6121,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6057,7 +6135,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6070,7 +6150,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6084,7 +6166,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6100,7 +6184,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6117,7 +6203,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6135,7 +6223,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6154,7 +6244,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6175,7 +6267,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6197,7 +6291,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6220,7 +6316,9 @@ public class ReconciliationLogger implements Serializable {
     public void fatalCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6232,7 +6330,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6258,7 +6358,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void fatalCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(FATAL, reconciliation)) {
+            logger.logIfEnabled(FQCN, FATAL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6332,7 +6434,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6343,7 +6447,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6355,7 +6461,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6368,7 +6476,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6378,7 +6488,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void errorCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6389,7 +6501,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6401,7 +6515,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6414,7 +6530,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6428,7 +6546,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6444,7 +6564,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6461,7 +6583,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6479,7 +6603,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6498,7 +6624,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6519,7 +6647,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6541,7 +6671,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6564,7 +6696,9 @@ public class ReconciliationLogger implements Serializable {
     public void errorCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6576,7 +6710,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6602,7 +6738,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void errorCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(ERROR, reconciliation)) {
+            logger.logIfEnabled(FQCN, ERROR, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -6676,7 +6814,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6687,7 +6827,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6699,7 +6841,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6712,7 +6856,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6722,7 +6868,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void warnCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -6733,7 +6881,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -6745,7 +6895,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -6758,7 +6910,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -6772,7 +6926,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -6788,7 +6944,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -6805,7 +6963,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -6823,7 +6983,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -6842,7 +7004,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -6863,7 +7027,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -6885,7 +7051,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -6908,7 +7076,9 @@ public class ReconciliationLogger implements Serializable {
     public void warnCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -6920,7 +7090,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -6970,7 +7142,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void warnCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(WARN, reconciliation)) {
+            logger.logIfEnabled(FQCN, WARN, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7044,7 +7218,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7055,7 +7231,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7067,7 +7245,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7080,7 +7260,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7090,7 +7272,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void infoCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7101,7 +7285,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7113,7 +7299,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7126,7 +7314,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7140,7 +7330,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7156,7 +7348,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7173,7 +7367,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7191,7 +7387,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7210,7 +7408,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7231,7 +7431,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7253,7 +7455,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7276,7 +7480,9 @@ public class ReconciliationLogger implements Serializable {
     public void infoCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                      final Object p3, final Object p4, final Object p5, final Object p6,
                      final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7288,7 +7494,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7314,7 +7522,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void infoCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(INFO, reconciliation)) {
+            logger.logIfEnabled(FQCN, INFO, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7388,7 +7598,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7399,7 +7611,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7411,7 +7625,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7424,7 +7640,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7434,7 +7652,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void debugCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7445,7 +7665,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7457,7 +7679,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7470,7 +7694,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7484,7 +7710,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7500,7 +7728,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7517,7 +7747,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7535,7 +7767,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7554,7 +7788,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7575,7 +7811,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7597,7 +7835,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7620,7 +7860,9 @@ public class ReconciliationLogger implements Serializable {
     public void debugCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -7632,7 +7874,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7682,7 +7926,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void debugCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(DEBUG, reconciliation)) {
+            logger.logIfEnabled(FQCN, DEBUG, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -7756,7 +8002,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7767,7 +8015,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7779,7 +8029,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7792,7 +8044,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -7802,7 +8056,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void traceCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -7813,7 +8069,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -7825,7 +8083,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -7838,7 +8098,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -7852,7 +8114,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -7868,7 +8132,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -7885,7 +8151,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -7903,7 +8171,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -7922,7 +8192,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -7943,7 +8215,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -7965,7 +8239,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -7988,7 +8264,9 @@ public class ReconciliationLogger implements Serializable {
     public void traceCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                       final Object p3, final Object p4, final Object p5, final Object p6,
                       final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8000,7 +8278,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8026,7 +8306,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void traceCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(TRACE, reconciliation)) {
+            logger.logIfEnabled(FQCN, TRACE, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
@@ -8100,7 +8382,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final Object message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8111,7 +8395,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8123,7 +8409,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final Object message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8136,7 +8424,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final CharSequence message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8146,7 +8436,9 @@ public class ReconciliationLogger implements Serializable {
      * @param message the message object to log.
      */
     public void allCr(final Reconciliation reconciliation, final String message) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, (Throwable) null);
+        }
     }
 
     /**
@@ -8157,7 +8449,9 @@ public class ReconciliationLogger implements Serializable {
      * @param params parameters to the message.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object... params) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, params);
+        }
     }
 
     /**
@@ -8169,7 +8463,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0);
+        }
     }
 
     /**
@@ -8182,7 +8478,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1);
+        }
     }
 
     /**
@@ -8196,7 +8494,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.6
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2);
+        }
     }
 
     /**
@@ -8212,7 +8512,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3);
+        }
     }
 
     /**
@@ -8229,7 +8531,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4);
+        }
     }
 
     /**
@@ -8247,7 +8551,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5);
+        }
     }
 
     /**
@@ -8266,7 +8572,9 @@ public class ReconciliationLogger implements Serializable {
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6);
+        }
     }
 
     /**
@@ -8287,7 +8595,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7);
+        }
     }
 
     /**
@@ -8309,7 +8619,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8);
+        }
     }
 
     /**
@@ -8332,7 +8644,9 @@ public class ReconciliationLogger implements Serializable {
     public void allCr(final Reconciliation reconciliation, final String message, final Object p0, final Object p1, final Object p2,
                     final Object p3, final Object p4, final Object p5, final Object p6,
                     final Object p7, final Object p8, final Object p9) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, p0, p1, p2, p3, p4, p5, p6, p7, p8, p9);
+        }
     }
 
     /**
@@ -8344,7 +8658,9 @@ public class ReconciliationLogger implements Serializable {
      * @param t the exception to log, including its stack trace.
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Throwable t) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, t);
+        }
     }
 
     /**
@@ -8370,7 +8686,9 @@ public class ReconciliationLogger implements Serializable {
      * @since Log4j-2.4
      */
     public void allCr(final Reconciliation reconciliation, final String message, final Supplier<?>... paramSuppliers) {
-        logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        if (isEnabled(ALL, reconciliation)) {
+            logger.logIfEnabled(FQCN, ALL, reconciliation.getMarker(), reconciliation.toString() + ": " + message, paramSuppliers);
+        }
     }
 
     /**
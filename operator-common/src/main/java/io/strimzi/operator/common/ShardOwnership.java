@@ -0,0 +1,266 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * Divides the resources reconciled by an operator between its replicas, so that each resource is reconciled by exactly
+ * one replica. Each replica is a member of a group, and maintains a Kubernetes Lease named {@code <group>-<identity>}
+ * to show that it is alive. The members of the group are the replicas with an unexpired Lease. The resources are
+ * assigned to the members using a consistent hash ring of their key (for example the name of the topic or the user),
+ * so when a member joins or leaves the group, only the resources owned by that member move.
+ *
+ * The renew method has to be called periodically (more often than the lease duration) to renew the Lease of this
+ * replica and observe the other members joining and leaving. It should be called from its own thread, so that other
+ * periodic tasks cannot delay it until the Lease expires. If this replica cannot renew its Lease, it stops owning any
+ * resources once its Lease expires, because the other members will have taken them over.
+ */
+public class ShardOwnership {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ShardOwnership.class);
+
+    /**
+     * Number of points on the ring for each member. More points give a more even distribution of the resources.
+     */
+    /*test*/ static final int VIRTUAL_NODES = 128;
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final String groupLabel;
+    private final String group;
+    private final String identity;
+    private final long leaseDurationMs;
+    private final List<BiConsumer<Ring, Ring>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile Ring ring = Ring.EMPTY;
+    private long lastRenewedMs = -1; // guarded by this
+
+    /**
+     * Constructs the shard ownership
+     *
+     * @param client            Kubernetes client
+     * @param namespace         Namespace of the Leases
+     * @param groupLabel        Label used to find the Leases of the members of the group
+     * @param group             Name of the group
+     * @param identity          Identity of this replica (e.g. the Pod name)
+     * @param leaseDurationMs   Duration of the Leases in milliseconds
+     */
+    public ShardOwnership(KubernetesClient client, String namespace, String groupLabel, String group, String identity, long leaseDurationMs) {
+        this.client = client;
+        this.namespace = namespace;
+        this.groupLabel = groupLabel;
+        this.group = group;
+        this.identity = identity;
+        this.leaseDurationMs = leaseDurationMs;
+    }
+
+    /**
+     * Adds a listener which is called with the previous and the new ring when the members of the group change. The
+     * listeners are called from the thread renewing the Lease, so they should not block.
+     *
+     * @param listener  Listener which should be added
+     */
+    public void addListener(BiConsumer<Ring, Ring> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Checks whether this replica owns a resource
+     *
+     * @param key   Key of the resource
+     *
+     * @return  True if this replica owns the resource. False otherwise.
+     */
+    public boolean owns(String key) {
+        return ring.owns(identity, key);
+    }
+
+    /**
+     * @return  Identity of this replica
+     */
+    public String identity() {
+        return identity;
+    }
+
+    /**
+     * @return  Duration of the Leases in milliseconds
+     */
+    public long leaseDurationMs() {
+        return leaseDurationMs;
+    }
+
+    private String leaseName() {
+        return group + "-" + identity;
+    }
+
+    /**
+     * Renews the Lease of this replica and updates the members of the group based on the Leases of the other members
+     */
+    public synchronized void renew() {
+        long now = System.currentTimeMillis();
+
+        try {
+            client.leases().inNamespace(namespace).resource(new LeaseBuilder()
+                        .withNewMetadata()
+                            .withNamespace(namespace)
+                            .withName(leaseName())
+                            .addToLabels(groupLabel, group)
+                        .endMetadata()
+                        .withNewSpec()
+                            .withHolderIdentity(identity)
+                            .withLeaseDurationSeconds((int) Math.max(1, leaseDurationMs / 1_000))
+                            .withRenewTime(ZonedDateTime.now())
+                        .endSpec()
+                        .build())
+                    .serverSideApply();
+            lastRenewedMs = now;
+
+            List<Lease> leases = client.leases().inNamespace(namespace).withLabel(groupLabel, group).list().getItems();
+            update(new Ring(liveMembers(leases, now)));
+        } catch (RuntimeException e) {
+            // Not only KubernetesClientException: an exception escaping from a periodic task (e.g. thrown by one of the
+            // listeners) would cancel all the future renewals
+            LOGGER.warnOp("Failed to renew Lease {} in namespace {}", leaseName(), namespace, e);
+
+            if (lastRenewedMs < 0 || now - lastRenewedMs > leaseDurationMs) {
+                // Our Lease expired => the other members will have taken over our resources
+                update(Ring.EMPTY);
+            }
+        }
+    }
+
+    /**
+     * Releases the resources of this replica by deleting its Lease, so that the other members take them over without
+     * waiting for the Lease to expire.
+     */
+    public synchronized void release() {
+        ring = Ring.EMPTY;
+
+        try {
+            client.leases().inNamespace(namespace).withName(leaseName()).delete();
+        } catch (KubernetesClientException e) {
+            LOGGER.warnOp("Failed to delete Lease {} in namespace {}", leaseName(), namespace, e);
+        }
+    }
+
+    /*test*/ static Collection<String> liveMembers(List<Lease> leases, long now) {
+        Collection<String> members = new TreeSet<>();
+
+        for (Lease lease : leases) {
+            if (lease.getSpec() == null
+                    || lease.getSpec().getHolderIdentity() == null
+                    || lease.getSpec().getRenewTime() == null
+                    || lease.getSpec().getLeaseDurationSeconds() == null) {
+                continue;
+            }
+
+            long expiresMs = lease.getSpec().getRenewTime().toInstant().toEpochMilli() + lease.getSpec().getLeaseDurationSeconds() * 1_000L;
+            if (expiresMs > now) {
+                members.add(lease.getSpec().getHolderIdentity());
+            }
+        }
+
+        return members;
+    }
+
+    private void update(Ring newRing) {
+        Ring oldRing = ring;
+
+        if (!oldRing.members().equals(newRing.members())) {
+            LOGGER.infoOp("Members of shard group {} changed from {} to {}", group, oldRing.members(), newRing.members());
+            ring = newRing;
+
+            for (BiConsumer<Ring, Ring> listener : listeners) {
+                try {
+                    listener.accept(oldRing, newRing);
+                } catch (RuntimeException e) {
+                    LOGGER.warnOp("Shard group {} listener failed", group, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Consistent hash ring which assigns the resources to the members
+     */
+    public static final class Ring {
+        /**
+         * Ring without any members
+         */
+        public static final Ring EMPTY = new Ring(List.of());
+
+        private final Collection<String> members;
+        private final NavigableMap<Integer, String> points = new TreeMap<>();
+
+        /**
+         * Constructs the ring
+         *
+         * @param members   Identities of the members
+         */
+        public Ring(Collection<String> members) {
+            this.members = new TreeSet<>(members);
+
+            for (String member : this.members) {
+                for (int i = 0; i < VIRTUAL_NODES; i++) {
+                    points.put(hash(member + "#" + i), member);
+                }
+            }
+        }
+
+        /**
+         * @return  Identities of the members
+         */
+        public Collection<String> members() {
+            return members;
+        }
+
+        /**
+         * Finds the owner of a resource
+         *
+         * @param key   Key of the resource
+         *
+         * @return  Identity of the member owning the resource or null if there are no members
+         */
+        public String owner(String key) {
+            if (points.isEmpty()) {
+                return null;
+            }
+
+            var entry = points.ceilingEntry(hash(key));
+            return entry != null ? entry.getValue() : points.firstEntry().getValue();
+        }
+
+        /**
+         * Checks whether a member owns a resource
+         *
+         * @param member    Identity of the member
+         * @param key       Key of the resource
+         *
+         * @return  True if the member owns the resource. False otherwise.
+         */
+        public boolean owns(String member, String key) {
+            return Objects.equals(member, owner(key));
+        }
+
+        private static int hash(String s) {
+            return Utils.murmur2(s.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 public abstract class AbstractControllerLoop {
     private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(AbstractControllerLoop.class);
     private static final long PROGRESS_WARNING_MS = 60_000L;
+    private static final long LOCKED_REQUEUE_DELAY_MS = 100L;
 
     private final String name;
     private final Thread controllerThread;
@@ -102,7 +103,9 @@ public abstract class AbstractControllerLoop {
 
     /**
      * Wrapper method to handle obtaining the lock for the resource or re-queueing the reconciliation if the lock is in
-     * use. When it gets the lock, it calls the reconcileWrapper method.
+     * use. When it gets the lock, it calls the reconcileWrapper method. It does not wait for the lock, so that the
+     * controller loop thread can reconcile other resources in the meantime. Instead, the reconciliation is re-queued to
+     * be retried after a delay.
      *
      * @param reconciliation    Reconciliation marker
      */
@@ -111,7 +114,7 @@ public abstract class AbstractControllerLoop {
         boolean requeue = false;
 
         try {
-            boolean locked = lockManager.tryLock(lockName, 1_000, TimeUnit.MILLISECONDS);
+            boolean locked = lockManager.tryLock(lockName, 0, TimeUnit.MILLISECONDS);
 
             if (locked) {
                 try {
@@ -135,7 +138,7 @@ public abstract class AbstractControllerLoop {
 
         // Failed to get the lock. We will requeue the resource for next time
         if (requeue) {
-            workQueue.enqueue(reconciliation);
+            workQueue.enqueueAfter(reconciliation, LOCKED_REQUEUE_DELAY_MS);
         }
     }
 
@@ -8,56 +8,227 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * Controller queue class wraps a Blocking queue and exposes the methods used by controllers. This includes taking
- * events from the queue and enqueueing events into the queue.
+ * Controller queue class is a keyed work queue which exposes the methods used by controllers. This includes taking
+ * events from the queue, enqueueing events into the queue and re-queueing them after a delay. Each resource is in the
+ * queue at most once, which is checked in constant time, and the queue does not drop any events: its size is bounded by
+ * the number of resources rather than by the number of events.
  */
 public class ControllerQueue {
     private final static Logger LOGGER = LogManager.getLogger(ControllerQueue.class);
 
-    /*test*/ final BlockingQueue<SimplifiedReconciliation> queue;
     private final ControllerMetricsHolder metrics;
+    private final int queueSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    // The reconciliations which are ready to be taken, in the order in which they were enqueued, with the time (in
+    // nanoseconds) at which they were enqueued
+    private final LinkedHashMap<SimplifiedReconciliation, Long> ready; // guarded by lock
+    // The reconciliations which should be enqueued later, with the time (in nanoseconds) at which they are due
+    private final Map<SimplifiedReconciliation, Long> delayed = new HashMap<>(); // guarded by lock
+    // The reconciliations in delayed ordered by when they are due
+    private final PriorityQueue<DelayedReconciliation> delayedByDueTime = new PriorityQueue<>(); // guarded by lock
+    private boolean overSize = false; // guarded by lock
 
     /**
      * Creates the controller queue. The controller should normally exist once per operator for cluster-wide mode or once per
      * namespace for namespaced mode.
      *
-     * @param queueSize     The capacity of the work queue
+     * @param queueSize     The expected capacity of the work queue. The queue grows beyond it when needed, but logs a
+     *                      warning when it does.
      * @param metrics       Holder for the controller metrics
      */
     public ControllerQueue(int queueSize, ControllerMetricsHolder metrics) {
-        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.queueSize = queueSize;
+        this.ready = new LinkedHashMap<>(Math.max(16, (int) (queueSize / 0.75f) + 1));
         this.metrics = metrics;
     }
 
     /**
-     * @return  Takes the next item from the queue. Blocks if the queue is empty.
+     * @return  Takes the next item from the queue. Blocks if the queue is empty or if the reconciliations in it are not due yet.
      *
      * @throws InterruptedException InterruptedException is thrown if interrupted while waiting to get the next resource from the queue (e.g. when the queue is empty)
      */
     public SimplifiedReconciliation take() throws InterruptedException {
-        return queue.take();
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                promoteDue(now);
+
+                Iterator<Map.Entry<SimplifiedReconciliation, Long>> iterator = ready.entrySet().iterator();
+                if (iterator.hasNext()) {
+                    Map.Entry<SimplifiedReconciliation, Long> next = iterator.next();
+                    iterator.remove();
+
+                    SimplifiedReconciliation reconciliation = next.getKey();
+                    metrics.controllerQueueDepth(reconciliation.namespace).decrementAndGet();
+                    metrics.controllerQueueWaitTimer(reconciliation.namespace).record(now - next.getValue(), TimeUnit.NANOSECONDS);
+                    if (ready.size() < queueSize) {
+                        overSize = false;
+                    }
+
+                    if (!ready.isEmpty() || !delayedByDueTime.isEmpty()) {
+                        // This thread might have been the one waiting for the next delayed reconciliation to be due,
+                        // so we wake up another thread to take over
+                        changed.signal();
+                    }
+
+                    return reconciliation;
+                } else if (delayedByDueTime.isEmpty()) {
+                    changed.await();
+                } else {
+                    changed.awaitNanos(delayedByDueTime.peek().dueNanos - now);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
     }
 
     /**
      * Enqueues the next reconciliation. It checks whether another reconciliation for the same resource is already in
-     * the queue and enqueues the new event only if it is not there yet.
+     * the queue and enqueues the new event only if it is not there yet. A reconciliation for the same resource which is
+     * waiting to be re-queued later is kept, because the new event might still run into the lock which caused it to be
+     * re-queued.
      *
      * @param reconciliation    Reconciliation identifier
      */
     public void enqueue(SimplifiedReconciliation reconciliation)    {
-        if (!queue.contains(reconciliation)) {
-            LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
-            if (!queue.offer(reconciliation))    {
-                LOGGER.warn("Failed to enqueue an event because the controller queue is full");
+        lock.lock();
+        try {
+            if (ready.containsKey(reconciliation)) {
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+            } else {
+                LOGGER.debug("Enqueueing {} {} in namespace {}", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+                addReady(reconciliation, System.nanoTime());
+                changed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Enqueues the reconciliation after a delay. This is used to retry reconciliations which could not be run now, for
+     * example because another reconciliation of the same resource is in progress. If a reconciliation for the same
+     * resource is already in the queue (or waiting to be enqueued), the new event is ignored.
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param delayMs           Delay in milliseconds after which the reconciliation should be enqueued
+     */
+    public void enqueueAfter(SimplifiedReconciliation reconciliation, long delayMs)    {
+        lock.lock();
+        try {
+            if (ready.containsKey(reconciliation) || delayed.containsKey(reconciliation)) {
+                metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
+                LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+            } else {
+                LOGGER.debug("Enqueueing {} {} in namespace {} in {}ms", reconciliation.kind, reconciliation.name, reconciliation.namespace, delayMs);
+                long dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+                delayed.put(reconciliation, dueNanos);
+                delayedByDueTime.add(new DelayedReconciliation(reconciliation, dueNanos));
+                changed.signal();
             }
-        } else {
-            metrics.alreadyEnqueuedReconciliationsCounter(reconciliation.namespace).increment(); // Increase the metrics counter
-            LOGGER.debug("{} {} in namespace {} is already enqueued => ignoring", reconciliation.kind, reconciliation.name, reconciliation.namespace);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  The number of reconciliations which are ready to be taken from the queue
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return ready.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return  The number of reconciliations which are waiting to be enqueued after a delay
+     */
+    public int delayedSize() {
+        lock.lock();
+        try {
+            return delayed.size();
+        } finally {
+            lock.unlock();
         }
     }
 
+    /**
+     * Checks whether a reconciliation for the same resource is in the queue or waiting to be enqueued after a delay.
+     *
+     * @param reconciliation    Reconciliation identifier
+     *
+     * @return  True if the resource is in the queue. False otherwise.
+     */
+    public boolean contains(SimplifiedReconciliation reconciliation) {
+        lock.lock();
+        try {
+            return ready.containsKey(reconciliation) || delayed.containsKey(reconciliation);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Moves the delayed reconciliations which are due to the ready queue. Must be called with the lock held.
+     *
+     * @param now   The current time in nanoseconds
+     */
+    private void promoteDue(long now) {
+        while (!delayedByDueTime.isEmpty() && delayedByDueTime.peek().dueNanos - now <= 0) {
+            DelayedReconciliation due = delayedByDueTime.poll();
+            delayed.remove(due.reconciliation);
+
+            // Skip the entries which were enqueued directly in the meantime and did not run yet
+            if (!ready.containsKey(due.reconciliation)) {
+                addReady(due.reconciliation, due.dueNanos);
+            }
+        }
+    }
+
+    /**
+     * Adds a reconciliation to the ready queue. Must be called with the lock held.
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param enqueuedNanos     The time in nanoseconds at which it was enqueued
+     */
+    private void addReady(SimplifiedReconciliation reconciliation, long enqueuedNanos) {
+        ready.put(reconciliation, enqueuedNanos);
+        metrics.controllerQueueDepth(reconciliation.namespace).incrementAndGet();
+
+        if (ready.size() > queueSize && !overSize) {
+            overSize = true;
+            LOGGER.warn("The controller queue has more than {} reconciliations waiting", queueSize);
+        }
+    }
+
+    /**
+     * Reconciliation which should be enqueued at some point in the future
+     *
+     * @param reconciliation    Reconciliation identifier
+     * @param dueNanos          The time in nanoseconds when it should be enqueued
+     */
+    private record DelayedReconciliation(SimplifiedReconciliation reconciliation, long dueNanos) implements Comparable<DelayedReconciliation> {
+        @Override
+        public int compareTo(DelayedReconciliation other) {
+            return Long.compare(dueNanos - other.dueNanos, 0);
+        }
+    }
 }
@@ -5,17 +5,29 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 /**
  * A metrics holder for controllers.
  */
 public class ControllerMetricsHolder extends MetricsHolder {
     private final Map<String, Counter> alreadyQueuedReconciliationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> controllerQueueDepthMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> controllerQueueWaitTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, DistributionSummary> batchSizeMap = new ConcurrentHashMap<>(4);
+    private final Map<String, Timer> batchQueueWaitTimerMap = new ConcurrentHashMap<>(4);
+    private final Map<String, Timer> batchRequestTimerMap = new ConcurrentHashMap<>(4);
+    private final Map<String, Counter> batchPartialFailuresCounterMap = new ConcurrentHashMap<>(4);
+    private final Map<String, Counter> batchFailuresCounterMap = new ConcurrentHashMap<>(4);
 
     /**
      * Constructs the controller metrics holder
@@ -41,4 +53,110 @@ public class ControllerMetricsHolder extends MetricsHolder {
         return getCounter(namespace, kind, METRICS_PREFIX + "reconciliations.already.enqueued", metricsProvider, selectorLabels, alreadyQueuedReconciliationsCounterMap,
                 "Number of reconciliations skipped because another reconciliation for the same resource was still running");
     }
+
+    /**
+     * Gauge metric for the number of reconciliations waiting in the controller queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger controllerQueueDepth(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "controller.queue.depth", metricsProvider, selectorLabels, controllerQueueDepthMap,
+                "Number of reconciliations waiting in the controller queue");
+    }
+
+    /**
+     * Timer which measures how long the reconciliations wait in the controller queue before they are taken from it.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer controllerQueueWaitTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "controller.queue.wait.duration", metricsProvider, selectorLabels, controllerQueueWaitTimerMap,
+                "The time reconciliations wait in the controller queue");
+    }
+
+    /**
+     * Distribution summary of the number of requests in the batches sent by a batch reconciler.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics distribution summary
+     */
+    public DistributionSummary batchSize(String namespace, String reconciler) {
+        return batchMetric(namespace, reconciler, batchSizeMap,
+                tags -> metricsProvider.distributionSummary(METRICS_PREFIX + "batch.size", "Number of requests in the batches sent to Kafka", tags));
+    }
+
+    /**
+     * Timer which measures how long the requests wait in the queue of a batch reconciler before they are sent to Kafka.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics timer
+     */
+    public Timer batchQueueWaitTimer(String namespace, String reconciler) {
+        return batchMetric(namespace, reconciler, batchQueueWaitTimerMap,
+                tags -> metricsProvider.timer(METRICS_PREFIX + "batch.queue.wait.duration", "The time requests wait in the batch queue before they are sent to Kafka", tags));
+    }
+
+    /**
+     * Timer which measures how long the Kafka Admin API requests of a batch reconciler take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics timer
+     */
+    public Timer batchRequestTimer(String namespace, String reconciler) {
+        return batchMetric(namespace, reconciler, batchRequestTimerMap,
+                tags -> metricsProvider.timer(METRICS_PREFIX + "batch.request.duration", "The time the Kafka Admin API requests of the batches take", tags));
+    }
+
+    /**
+     * Counter metric for the number of requests which failed in a batch which otherwise succeeded.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics counter
+     */
+    public Counter batchPartialFailuresCounter(String namespace, String reconciler) {
+        return batchMetric(namespace, reconciler, batchPartialFailuresCounterMap,
+                tags -> metricsProvider.counter(METRICS_PREFIX + "batch.partial.failures", "Number of requests which failed in otherwise successful batches", tags));
+    }
+
+    /**
+     * Counter metric for the number of batches which failed as a whole.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     *
+     * @return  Metrics counter
+     */
+    public Counter batchFailuresCounter(String namespace, String reconciler) {
+        return batchMetric(namespace, reconciler, batchFailuresCounterMap,
+                tags -> metricsProvider.counter(METRICS_PREFIX + "batch.failures", "Number of batches which failed as a whole", tags));
+    }
+
+    /**
+     * Gets or creates a batch reconciler metric. The batch reconciler metrics are tagged with the name of the
+     * reconciler on top of the usual tags.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     * @param reconciler    Name of the batch reconciler
+     * @param metricMap     The map with the metrics
+     * @param fn            Method for generating the metric from the tags
+     *
+     * @return  Metric
+     *
+     * @param <M>   Type of the metric
+     */
+    private <M> M batchMetric(String namespace, String reconciler, Map<String, M> metricMap, Function<Tags, M> fn) {
+        return metricMap.computeIfAbsent(namespace + "/" + kind + "/" + reconciler, x -> fn.apply(tags(namespace, kind, selectorLabels).and("reconciler", reconciler)));
+    }
 }
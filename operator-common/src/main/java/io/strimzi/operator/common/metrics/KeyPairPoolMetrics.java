@@ -0,0 +1,40 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.strimzi.certs.KeyPairPool;
+import io.strimzi.operator.common.MetricsProvider;
+
+/**
+ * Metrics of the pool of pre-generated key pairs: how many key pairs are in the pool and how many key pairs were
+ * taken from it (hits) or had to be generated because the pool was empty (misses).
+ */
+public class KeyPairPoolMetrics {
+    private static final String METRICS_PREFIX = "strimzi.key.pair.pool.";
+
+    private KeyPairPoolMetrics() { }
+
+    /**
+     * Registers the metrics of the key pair pool
+     *
+     * @param metricsProvider   Metrics provider
+     * @param pool              The key pair pool
+     */
+    public static void register(MetricsProvider metricsProvider, KeyPairPool pool) {
+        Gauge.builder(METRICS_PREFIX + "size", pool, KeyPairPool::size)
+                .description("Number of pre-generated key pairs in the pool")
+                .register(metricsProvider.meterRegistry());
+
+        FunctionCounter.builder(METRICS_PREFIX + "hits", pool, KeyPairPool::hits)
+                .description("Number of key pairs taken from the pool")
+                .register(metricsProvider.meterRegistry());
+
+        FunctionCounter.builder(METRICS_PREFIX + "misses", pool, KeyPairPool::misses)
+                .description("Number of key pairs generated directly because the pool was empty")
+                .register(metricsProvider.meterRegistry());
+    }
+}
@@ -5,6 +5,7 @@
 package io.strimzi.operator.common.metrics;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import io.micrometer.core.instrument.Timer;
@@ -179,17 +180,28 @@ public abstract class MetricsHolder {
      * @param <M>   Type of the metric
      */
     private static <M> M metric(String namespace, String kind, Labels selectorLabels, Map<String, M> metricMap, Function<Tags, M> fn) {
-        String selectorValue = selectorLabels != null ? selectorLabels.toSelectorString() : "";
-        Tags metricTags;
         String metricKey = namespace + "/" + kind;
+
+        return metricMap.computeIfAbsent(metricKey, x -> fn.apply(tags(namespace, kind, selectorLabels)));
+    }
+
+    /**
+     * Creates the tags used by the metrics of given namespace and kind
+     *
+     * @param namespace         Namespace or the resource
+     * @param kind              Kind of the resource
+     * @param selectorLabels    Selector labels used to filter the resources
+     *
+     * @return  Metric tags
+     */
+    protected static Tags tags(String namespace, String kind, Labels selectorLabels) {
+        String selectorValue = selectorLabels != null ? selectorLabels.toSelectorString() : "";
+
         if (namespace.equals("*")) {
-            metricTags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", ""), Tag.of("selector", selectorValue));
+            return Tags.of(Tag.of("kind", kind), Tag.of("namespace", ""), Tag.of("selector", selectorValue));
         } else {
-            metricTags = Tags.of(Tag.of("kind", kind), Tag.of("namespace", namespace), Tag.of("selector", selectorValue));
+            return Tags.of(Tag.of("kind", kind), Tag.of("namespace", namespace), Tag.of("selector", selectorValue));
         }
-        Tags finalMetricTags = metricTags;
-
-        return metricMap.computeIfAbsent(metricKey, x -> fn.apply(finalMetricTags));
     }
 
     /**
@@ -242,4 +254,21 @@ public abstract class MetricsHolder {
     protected static Timer getTimer(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, Timer> timerMap, String metricHelp) {
         return metric(namespace, kind, selectorLabels, timerMap, tags -> metrics.timer(metricName, metricHelp, tags));
     }
+
+    /**
+     * Creates or gets a distribution-summary-type metric.
+     *
+     * @param namespace         Namespace of the resource
+     * @param kind              Kind of the resource
+     * @param metricName        Name of the metric
+     * @param metrics           Metrics provider
+     * @param selectorLabels    Selector labels used to filter the resources
+     * @param summaryMap        Map with distribution summaries
+     * @param metricHelp        Help description of the metric
+     *
+     * @return  DistributionSummary metric
+     */
+    protected static DistributionSummary getDistributionSummary(String namespace, String kind, String metricName, MetricsProvider metrics, Labels selectorLabels, Map<String, DistributionSummary> summaryMap, String metricHelp) {
+        return metric(namespace, kind, selectorLabels, summaryMap, tags -> metrics.distributionSummary(metricName, metricHelp, tags));
+    }
 }
@@ -7,6 +7,7 @@ package io.strimzi.operator.common.operator.resource;
 
 import io.fabric8.kubernetes.api.model.LocalObjectReference;
 import io.fabric8.kubernetes.api.model.LocalObjectReferenceBuilder;
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 
@@ -131,6 +132,22 @@ public interface ConfigParameterParser<T> {
         };
     }
 
+    /**
+     * Non-negative Number
+     * @param parser ConfigParameterParser object
+     * @param <T>    Type of parameter
+     * @return Positive number or zero
+     */
+    static <T extends Number> ConfigParameterParser<T> nonNegative(ConfigParameterParser<T> parser) {
+        return configValue -> {
+            var value = parser.parse(configValue);
+            if (value.longValue() < 0) {
+                throw new InvalidConfigurationException("Failed to parse. Negative value is not supported for this configuration");
+            }
+            return value;
+        };
+    }
+
     /**
      * A Java Boolean
      */
@@ -142,6 +159,17 @@ public interface ConfigParameterParser<T> {
         }
     };
 
+    /**
+     * Type of the certificate manager (openssl or java)
+     */
+    ConfigParameterParser<CertManagerType> CERT_MANAGER_TYPE = configValue -> {
+        try {
+            return CertManagerType.fromString(configValue);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Failed to parse. Value " + configValue + " is not a valid certificate manager type", e);
+        }
+    };
+
     /**
      * A kubernetes selector.
      */
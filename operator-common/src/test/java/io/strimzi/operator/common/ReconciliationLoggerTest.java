@@ -0,0 +1,99 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LoggerContext;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.filter.MarkerFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationLoggerTest {
+    private static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciliationLoggerTest.class);
+
+    @AfterEach
+    public void afterEach() {
+        Configurator.setLevel(ReconciliationLoggerTest.class.getName(), Level.INFO);
+    }
+
+    @Test
+    public void testDisabledLevelDoesNotBuildMessage() {
+        Configurator.setLevel(ReconciliationLoggerTest.class.getName(), Level.INFO);
+        CountingReconciliation reconciliation = new CountingReconciliation();
+
+        LOGGER.debugCr(reconciliation, "Message");
+        LOGGER.debugCr(reconciliation, "Message with {}", "parameter");
+        LOGGER.traceCr(reconciliation, "Message with {} and {}", "parameter", 1);
+        LOGGER.traceCr(reconciliation, "Message with {}, {} and {}", "parameter", 1, true);
+        LOGGER.debugCr(reconciliation, "Message", new RuntimeException("Expected"));
+
+        assertThat(reconciliation.toStringCalls.get(), is(0));
+        assertThat(reconciliation.getMarkerCalls.get(), is(0));
+    }
+
+    @Test
+    public void testEnabledLevelBuildsMessage() {
+        Configurator.setLevel(ReconciliationLoggerTest.class.getName(), Level.DEBUG);
+        CountingReconciliation reconciliation = new CountingReconciliation();
+
+        LOGGER.debugCr(reconciliation, "Message with {}", "parameter");
+        LOGGER.traceCr(reconciliation, "Message with {}", "parameter");
+
+        assertThat(reconciliation.toStringCalls.get(), is(1));
+    }
+
+    @Test
+    public void testConfigurationMarkerFilterEnablesDisabledLevel() {
+        Configurator.setLevel(ReconciliationLoggerTest.class.getName(), Level.INFO);
+        LoggerContext context = (LoggerContext) LogManager.getContext(false);
+        Filter filter = MarkerFilter.createFilter("kind(namespace/name)", Filter.Result.ACCEPT, Filter.Result.NEUTRAL);
+        context.getConfiguration().addFilter(filter);
+        context.updateLoggers();
+
+        try {
+            CountingReconciliation reconciliation = new CountingReconciliation();
+            LOGGER.debugCr(reconciliation, "Message with {}", "parameter");
+
+            assertThat(reconciliation.getMarkerCalls.get() > 0, is(true));
+            assertThat(reconciliation.toStringCalls.get(), is(1));
+        } finally {
+            context.getConfiguration().removeFilter(filter);
+            context.updateLoggers();
+        }
+    }
+
+    /**
+     * Reconciliation which counts how many times its String representation was built and its marker was used
+     */
+    static class CountingReconciliation extends Reconciliation {
+        final AtomicInteger toStringCalls = new AtomicInteger(0);
+        final AtomicInteger getMarkerCalls = new AtomicInteger(0);
+
+        CountingReconciliation() {
+            super("test", "kind", "namespace", "name");
+        }
+
+        @Override
+        public String toString() {
+            toStringCalls.incrementAndGet();
+            return super.toString();
+        }
+
+        @Override
+        public Marker getMarker() {
+            getMarkerCalls.incrementAndGet();
+            return super.getMarker();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import org.apache.logging.log4j.Marker;
+import org.apache.logging.log4j.MarkerManager;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class ReconciliationMarkerTest {
+    @Test
+    public void testMarker() {
+        Reconciliation reconciliation = new Reconciliation("test", "Kafka", "my-namespace", "my-cluster");
+        Marker marker = reconciliation.getMarker();
+
+        // The name is used in the MarkerFilter of the logging configuration
+        assertThat(marker.getName(), is("Kafka(my-namespace/my-cluster)"));
+        assertThat(marker.isInstanceOf("Kafka(my-namespace/my-cluster)"), is(true));
+
+        // The marker is created only once for each reconciliation
+        assertThat(reconciliation.getMarker(), is(sameInstance(marker)));
+
+        // Reconciliations of the same resource have equal markers
+        assertThat(new SimplifiedReconciliation("Kafka", "my-namespace", "my-cluster").toReconciliation().getMarker(), is(marker));
+
+        // The marker is not registered in the global MarkerManager
+        assertThat(MarkerManager.exists("Kafka(my-namespace/my-cluster)"), is(false));
+    }
+
+    @Test
+    public void testChurnDoesNotRegisterMarkers() {
+        // Reconciliations of short-living resources which are created and deleted all the time
+        for (int i = 0; i < 1_000; i++) {
+            Reconciliation reconciliation = new SimplifiedReconciliation("KafkaUser", "my-namespace", "churned-user-" + i).toReconciliation();
+            assertThat(reconciliation.getMarker().getName(), is("KafkaUser(my-namespace/churned-user-" + i + ")"));
+        }
+
+        assertThat(MarkerManager.exists("KafkaUser(my-namespace/churned-user-0)"), is(false));
+        assertThat(MarkerManager.exists("KafkaUser(my-namespace/churned-user-999)"), is(false));
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.common;
+
+import io.fabric8.kubernetes.api.model.coordination.v1.Lease;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseBuilder;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseList;
+import io.fabric8.kubernetes.api.model.coordination.v1.LeaseListBuilder;
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.dsl.FilterWatchListDeletable;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.NonNamespaceOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ShardOwnershipTest {
+    private static final int NUM_USERS = 10_000;
+    private static final String NAMESPACE = "my-namespace";
+    private static final String GROUP_LABEL = "strimzi.io/test-shard-group";
+    private static final String GROUP = "my-group";
+
+    @Test
+    public void testEmptyRingOwnsNothing() {
+        assertThat(ShardOwnership.Ring.EMPTY.owner("my-user"), is(nullValue()));
+        assertThat(ShardOwnership.Ring.EMPTY.owns("a", "my-user"), is(false));
+    }
+
+    @Test
+    public void testOwnerDoesNotDependOnOrderOfMembers() {
+        ShardOwnership.Ring ring1 = new ShardOwnership.Ring(List.of("a", "b", "c"));
+        ShardOwnership.Ring ring2 = new ShardOwnership.Ring(List.of("c", "a", "b"));
+
+        for (int i = 0; i < NUM_USERS; i++) {
+            assertThat(ring1.owner("user-" + i), is(ring2.owner("user-" + i)));
+        }
+    }
+
+    @Test
+    public void testUsersAreSpreadBetweenMembers() {
+        ShardOwnership.Ring ring = new ShardOwnership.Ring(List.of("a", "b", "c", "d"));
+        Map<String, Integer> counts = new HashMap<>();
+
+        for (int i = 0; i < NUM_USERS; i++) {
+            counts.merge(ring.owner("user-" + i), 1, Integer::sum);
+        }
+
+        assertThat(counts.size(), is(4));
+        for (int count : counts.values()) {
+            // Within 50% of a fair share
+            assertThat("Uneven distribution " + counts, count > NUM_USERS / 4 / 2 && count < NUM_USERS / 4 * 3 / 2, is(true));
+        }
+    }
+
+    @Test
+    public void testOnlyUsersOfLeavingMemberMove() {
+        ShardOwnership.Ring before = new ShardOwnership.Ring(List.of("a", "b", "c", "d"));
+        ShardOwnership.Ring after = new ShardOwnership.Ring(List.of("a", "b", "c"));
+        int moved = 0;
+
+        for (int i = 0; i < NUM_USERS; i++) {
+            String user = "user-" + i;
+
+            if (!before.owner(user).equals(after.owner(user))) {
+                assertThat(before.owner(user), is("d"));
+                moved++;
+            }
+        }
+
+        assertThat("Moved " + moved, moved > 0 && moved < NUM_USERS / 2, is(true));
+    }
+
+    @Test
+    public void testOnlyUsersToJoiningMemberMove() {
+        ShardOwnership.Ring before = new ShardOwnership.Ring(List.of("a", "b", "c"));
+        ShardOwnership.Ring after = new ShardOwnership.Ring(List.of("a", "b", "c", "d"));
+        int moved = 0;
+
+        for (int i = 0; i < NUM_USERS; i++) {
+            String user = "user-" + i;
+
+            if (!before.owner(user).equals(after.owner(user))) {
+                assertThat(after.owner(user), is("d"));
+                moved++;
+            }
+        }
+
+        assertThat("Moved " + moved, moved > 0 && moved < NUM_USERS / 2, is(true));
+    }
+
+    @Test
+    public void testRenewUpdatesMembers() {
+        long now = System.currentTimeMillis();
+        KubernetesClient client = mockClient(List.of(lease("a", now, 15), lease("b", now, 15)));
+        ShardOwnership shardOwnership = new ShardOwnership(client, NAMESPACE, GROUP_LABEL, GROUP, "a", 15_000);
+        AtomicInteger changes = new AtomicInteger(0);
+        shardOwnership.addListener((oldRing, newRing) -> {
+            assertThat(oldRing.members().isEmpty(), is(true));
+            assertThat(newRing.members(), contains("a", "b"));
+            changes.incrementAndGet();
+        });
+
+        shardOwnership.renew();
+
+        assertThat(changes.get(), is(1));
+        ShardOwnership.Ring ring = new ShardOwnership.Ring(List.of("a", "b"));
+        for (int i = 0; i < 100; i++) {
+            assertThat(shardOwnership.owns("user-" + i), is(ring.owns("a", "user-" + i)));
+        }
+    }
+
+    @Test
+    public void testRenewSurvivesFailingListener() {
+        long now = System.currentTimeMillis();
+        KubernetesClient client = mockClient(List.of(lease("a", now, 15)));
+        ShardOwnership shardOwnership = new ShardOwnership(client, NAMESPACE, GROUP_LABEL, GROUP, "a", 15_000);
+        AtomicInteger changes = new AtomicInteger(0);
+        shardOwnership.addListener((oldRing, newRing) -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        shardOwnership.addListener((oldRing, newRing) -> changes.incrementAndGet());
+
+        // The failing listener does not fail the renewal (which would cancel the periodic renewals) nor prevent the
+        // other listeners from being notified
+        shardOwnership.renew();
+
+        assertThat(changes.get(), is(1));
+        assertThat(shardOwnership.owns("my-user"), is(true));
+    }
+
+    @Test
+    public void testRenewSurvivesUnexpectedException() {
+        KubernetesClient client = mock(KubernetesClient.class);
+        when(client.leases()).thenThrow(new IllegalStateException("Unexpected"));
+        ShardOwnership shardOwnership = new ShardOwnership(client, NAMESPACE, GROUP_LABEL, GROUP, "a", 15_000);
+
+        shardOwnership.renew();
+
+        assertThat(shardOwnership.owns("my-user"), is(false));
+    }
+
+
+    @Test
+    public void testLiveMembers() {
+        long now = System.currentTimeMillis();
+
+        List<Lease> leases = List.of(
+                lease("alive", now - 5_000, 15),
+                lease("expired", now - 20_000, 15),
+                new LeaseBuilder().withNewMetadata().withName("no-spec").endMetadata().build());
+
+        assertThat(ShardOwnership.liveMembers(leases, now), contains("alive"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static KubernetesClient mockClient(List<Lease> leases) {
+        Resource<Lease> mockResource = mock(Resource.class);
+        when(mockResource.serverSideApply()).thenReturn(leases.get(0));
+
+        FilterWatchListDeletable<Lease, LeaseList, Resource<Lease>> mockWithLabel = mock(FilterWatchListDeletable.class);
+        when(mockWithLabel.list()).thenReturn(new LeaseListBuilder().withItems(leases).build());
+
+        NonNamespaceOperation<Lease, LeaseList, Resource<Lease>> mockInNamespace = mock(NonNamespaceOperation.class);
+        when(mockInNamespace.resource(any())).thenReturn(mockResource);
+        when(mockInNamespace.withLabel(GROUP_LABEL, GROUP)).thenReturn(mockWithLabel);
+
+        MixedOperation<Lease, LeaseList, Resource<Lease>> mockLeases = mock(MixedOperation.class);
+        when(mockLeases.inNamespace(NAMESPACE)).thenReturn(mockInNamespace);
+
+        KubernetesClient client = mock(KubernetesClient.class);
+        when(client.leases()).thenReturn(mockLeases);
+        return client;
+    }
+
+    private static Lease lease(String identity, long renewTimeMs, int durationSeconds) {
+        return new LeaseBuilder()
+                .withNewMetadata()
+                    .withName(GROUP + "-" + identity)
+                .endMetadata()
+                .withNewSpec()
+                    .withHolderIdentity(identity)
+                    .withRenewTime(ZonedDateTime.ofInstant(Instant.ofEpochMilli(renewTimeMs), ZoneOffset.UTC))
+                    .withLeaseDurationSeconds(durationSeconds)
+                .endSpec()
+                .build();
+    }
+}
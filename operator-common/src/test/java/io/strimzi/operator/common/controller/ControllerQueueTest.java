@@ -12,6 +12,12 @@ import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -30,11 +36,125 @@ public class ControllerQueueTest {
         q.enqueue(r3);
         q.enqueue(r2);
 
-        assertThat(q.queue.size(), is(2));
-        assertThat(q.queue.contains(r1), is(true));
-        assertThat(q.queue.contains(r3), is(true));
+        assertThat(q.size(), is(2));
+        assertThat(q.contains(r1), is(true));
+        assertThat(q.contains(r3), is(true));
 
         // Test metric
         assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(1.0));
+    }
+
+    @Test
+    public void testEnqueueingBeyondQueueSize() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(2, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        for (int i = 0; i < 5; i++) {
+            q.enqueue(new SimplifiedReconciliation("kind", "my-namespace", "my-name-" + i));
+        }
+
+        assertThat(q.size(), is(5));
+
+        // Events are taken in the order in which they were enqueued
+        for (int i = 0; i < 5; i++) {
+            assertThat(q.take().name, is("my-name-" + i));
+        }
+
+        assertThat(q.size(), is(0));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.depth").tag("kind", "kind").tag("namespace", "my-namespace").gauge().value(), is(0.0));
+        assertThat(metricsRegistry.get("strimzi.controller.queue.wait.duration").tag("kind", "kind").tag("namespace", "my-namespace").timer().count(), is(5L));
+    }
+
+    @Test
+    public void testEnqueueingAfterDelay() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name");
+
+        long start = System.nanoTime();
+        q.enqueueAfter(r1, 200);
+        q.enqueueAfter(r1, 0);
+        q.enqueue(r2);
+
+        assertThat(q.size(), is(1));
+        assertThat(q.delayedSize(), is(1));
+        assertThat(q.contains(r1), is(true));
+        assertThat(metricsRegistry.get("strimzi.reconciliations.already.enqueued").tag("kind", "kind").tag("namespace", "my-namespace").counter().count(), is(1.0));
+
+        // The delayed event is taken only once it is due
+        assertThat(q.take(), is(r2));
+        assertThat(q.take(), is(r1));
+        assertThat(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200), is(true));
+        assertThat(q.delayedSize(), is(0));
+    }
+
+    @Test
+    public void testDelayedIsTakenWhileOtherThreadIsBusy() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name");
+        SimplifiedReconciliation r2 = new SimplifiedReconciliation("kind", "my-namespace", "my-other-name");
+
+        BlockingQueue<SimplifiedReconciliation> taken = new LinkedBlockingQueue<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    // Each thread takes a single reconciliation and then stays busy
+                    taken.add(q.take());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // The thread waiting for the delayed reconciliation takes the other one instead, so the remaining thread
+        // has to take over the waiting
+        q.enqueueAfter(r1, 200);
+        Thread.sleep(50);
+        q.enqueue(r2);
+
+        assertThat(taken.poll(10, TimeUnit.SECONDS), is(r2));
+        assertThat(taken.poll(10, TimeUnit.SECONDS), is(r1));
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    @Test
+    public void testEnqueueingDelayed() throws InterruptedException {
+        MeterRegistry metricsRegistry = new SimpleMeterRegistry();
+        MetricsProvider metrics = new MicrometerMetricsProvider(metricsRegistry);
+        ControllerQueue q = new ControllerQueue(10, new ControllerMetricsHolder("kind", Labels.EMPTY, metrics));
+
+        SimplifiedReconciliation r1 = new SimplifiedReconciliation("kind", "my-namespace", "my-name");
+
+        // A new event for a delayed reconciliation is enqueued right away and the delayed one is kept
+        q.enqueueAfter(r1, 200);
+        q.enqueue(r1);
+
+        assertThat(q.size(), is(1));
+        assertThat(q.delayedSize(), is(1));
+        assertThat(q.take(), is(r1));
+        assertThat(q.contains(r1), is(true));
+        assertThat(q.take(), is(r1));
+        assertThat(q.contains(r1), is(false));
+
+        // A delayed reconciliation which is due while the same resource is still waiting in the queue is skipped
+        q.enqueueAfter(r1, 0);
+        q.enqueue(r1);
+        assertThat(q.take(), is(r1));
+        assertThat(q.size(), is(0));
+        assertThat(q.delayedSize(), is(0));
     }
 }
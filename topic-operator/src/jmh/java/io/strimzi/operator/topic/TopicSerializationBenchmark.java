@@ -0,0 +1,63 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the serialization of topics to and from the JSON held in the topic store of the (bidirectional)
+ * Topic Operator.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicSerializationBenchmark {
+
+    /** The number of configs of the topic. */
+    @Param({"10", "100"})
+    int numConfigs;
+
+    Topic topic;
+    byte[] json;
+
+    @Setup
+    public void setup() {
+        Topic.Builder builder = new Topic.Builder()
+                .withTopicName("my-topic")
+                .withMapName("my-topic")
+                .withNumPartitions(10)
+                .withNumReplicas((short) 3);
+        for (int i = 0; i < numConfigs; i++) {
+            builder.withConfigEntry("config." + i, "value-" + i);
+        }
+        topic = builder.build();
+        json = TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public byte[] toJson() {
+        return TopicSerialization.toJson(topic);
+    }
+
+    @Benchmark
+    public Topic fromJson() {
+        return TopicSerialization.fromJson(json);
+    }
+}
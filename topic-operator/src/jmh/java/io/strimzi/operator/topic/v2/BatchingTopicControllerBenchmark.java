@@ -0,0 +1,124 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the CPU-bound parts of {@link BatchingTopicController} which are applied to every KafkaTopic
+ * in a batch: comparing the configs in the spec with those in Kafka, converting config values, and
+ * partitioning the intermediate results of a batch by error.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchingTopicControllerBenchmark {
+
+    /** The number of configs of each topic. */
+    @Param({"10", "100"})
+    int numConfigs;
+
+    /** The number of topics in the batch passed to partitionedByError. */
+    @Param({"1000", "50000"})
+    int numTopics;
+
+    Reconciliation reconciliation;
+    KafkaTopic kafkaTopic;
+    Config kafkaConfigs;
+    List<String> listValue;
+    List<BatchingTopicController.Pair<String, Either<TopicOperatorException, Integer>>> results;
+
+    @Setup
+    public void setup() {
+        reconciliation = new Reconciliation("benchmark", KafkaTopic.RESOURCE_KIND, "ns", "my-topic");
+        Map<String, Object> specConfigs = new HashMap<>();
+        List<ConfigEntry> entries = new ArrayList<>();
+        for (int i = 0; i < numConfigs; i++) {
+            // a mix of value types, with every fourth config different in Kafka
+            Object value = switch (i % 3) {
+                case 0 -> "value-" + i;
+                case 1 -> (long) i * 1000;
+                default -> i % 2 == 0;
+            };
+            specConfigs.put("config." + i, value);
+            String kafkaValue = i % 4 == 0 ? "other" : String.valueOf(value);
+            entries.add(new ConfigEntry("config." + i, kafkaValue, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), null, null));
+        }
+        // plus some configs which are only set in Kafka
+        for (int i = 0; i < numConfigs / 10; i++) {
+            entries.add(new ConfigEntry("kafka.only." + i, "x", ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), null, null));
+        }
+        kafkaTopic = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-topic")
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(10)
+                    .withReplicas(3)
+                    .withConfig(specConfigs)
+                .endSpec()
+                .build();
+        kafkaConfigs = new Config(entries);
+        listValue = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            listValue.add("value-" + i);
+        }
+        results = new ArrayList<>(numTopics);
+        for (int i = 0; i < numTopics; i++) {
+            Either<TopicOperatorException, Integer> either = i % 10 == 0
+                    ? Either.ofLeft(new TopicOperatorException.NotSupported("error"))
+                    : Either.ofRight(i);
+            results.add(BatchingTopicController.pair("topic-" + i, either));
+        }
+    }
+
+    @Benchmark
+    public Collection<AlterConfigOp> buildAlterConfigOps() {
+        return BatchingTopicController.buildAlterConfigOps(reconciliation, kafkaTopic, kafkaConfigs);
+    }
+
+    @Benchmark
+    public Map<String, String> buildConfigsMap() {
+        return BatchingTopicController.buildConfigsMap(kafkaTopic);
+    }
+
+    @Benchmark
+    public String configValueAsString() {
+        return BatchingTopicController.configValueAsString(listValue);
+    }
+
+    @Benchmark
+    public long partitionedByError() {
+        var partitioned = BatchingTopicController.partitionedByError(results.stream());
+        return partitioned.ok().count() + partitioned.errors().count();
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the path by which a {@link BatchingLoop.LoopRunnable} fills a batch: polling events from the
+ * {@link TopicEventQueue} (which coalesces them and tracks the KafkaTopics in flight) while the informer thread
+ * offers more, and then completing them.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TopicEventQueueBenchmark {
+
+    @Param({"1000", "10000", "50000"})
+    int numTopics;
+
+    @Param({"100"})
+    int maxBatchSize;
+
+    @Param({"0.9"})
+    double resyncFraction;
+
+    TopicEventQueue queue;
+    String[] names;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        queue = new TopicEventQueue(numTopics);
+        names = new String[numTopics];
+        for (int i = 0; i < numTopics; i++) {
+            names[i] = "topic-" + i;
+        }
+        // start with a full queue, as after a resync
+        for (String name : names) {
+            queue.offer(new TopicUpsert(System.nanoTime(), "ns", name, "1", true));
+        }
+    }
+
+    /**
+     * The informer thread offering events for random KafkaTopics, most of them resyncs.
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void offer() {
+        var random = ThreadLocalRandom.current();
+        String name = names[random.nextInt(numTopics)];
+        queue.offer(new TopicUpsert(System.nanoTime(), "ns", name, "2", random.nextDouble() < resyncFraction));
+    }
+
+    /**
+     * A loop thread filling a batch without lingering, then completing it as if it had been reconciled.
+     * @param blackhole The blackhole
+     * @throws InterruptedException Never
+     */
+    @Benchmark
+    @Group("contended")
+    @GroupThreads(1)
+    public void fillBatch(Blackhole blackhole) throws InterruptedException {
+        List<TopicEvent> batch = new ArrayList<>(maxBatchSize);
+        TopicEvent event;
+        while (batch.size() < maxBatchSize && (event = queue.poll(0, TimeUnit.NANOSECONDS)) != null) {
+            batch.add(event);
+        }
+        for (var e : batch) {
+            blackhole.consume(e.ageNs());
+            queue.complete(e.toRef());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+/**
+ * Chooses the size of, and the time to linger for, the next batch filled by a {@link BatchingLoop.LoopRunnable},
+ * from the number of events ready in the queue, the rate at which events are arriving and the recent latency of
+ * reconciling a batch.
+ *
+ * <p>The aim is that an isolated change gets reconciled straight away, while a burst of events
+ * (such as a resync) gets reconciled in batches which are as large as possible:</p>
+ * <ul>
+ *     <li>When a full batch is ready there is nothing to wait for, so the minimum linger is used.</li>
+ *     <li>Otherwise, lingering for up to half the recent batch latency is cheap relative to reconciling
+ *     another batch, so the batch size is the number of events which are ready plus the number expected to
+ *     arrive during that linger.</li>
+ *     <li>When no more events are expected to arrive the batch is just the events which are ready,
+ *     so a lone event doesn't wait at all.</li>
+ * </ul>
+ *
+ * <p>Each {@link BatchingLoop.LoopRunnable} has its own instance. This class is thread-safe, because when
+ * several batches are in flight their latencies are recorded by the threads reconciling them.</p>
+ */
+class AdaptiveBatchSizer {
+
+    /** The weight given to the latest sample in the moving average of batch latency. */
+    static final double LATENCY_SMOOTHING = 0.2;
+
+    /**
+     * The size and linger chosen for a batch.
+     * @param batchSize The number of events to wait for.
+     * @param lingerMs The maximum time to wait for them.
+     */
+    record Decision(int batchSize, long lingerMs) { }
+
+    private final int maxBatchSize;
+    private final long minLingerMs;
+    private final long maxLingerMs;
+    private double batchLatencyMs; // guarded by this
+
+    /**
+     * @param maxBatchSize The maximum batch size
+     * @param minLingerMs The minimum linger
+     * @param maxLingerMs The maximum linger
+     */
+    AdaptiveBatchSizer(int maxBatchSize, long minLingerMs, long maxLingerMs) {
+        this.maxBatchSize = maxBatchSize;
+        this.minLingerMs = Math.min(minLingerMs, maxLingerMs);
+        this.maxLingerMs = maxLingerMs;
+        // until we've measured anything, assume batches take as long as the maximum linger
+        this.batchLatencyMs = maxLingerMs;
+    }
+
+    /**
+     * Records how long it took to reconcile a batch.
+     * @param latencyMs The latency
+     */
+    synchronized void recordBatchLatency(double latencyMs) {
+        batchLatencyMs = LATENCY_SMOOTHING * latencyMs + (1 - LATENCY_SMOOTHING) * batchLatencyMs;
+    }
+
+    /**
+     * @param readyEvents The number of events ready to be polled from the queue.
+     * @param arrivalsPerMs The recent rate at which events have been added to the queue.
+     * @return The size and linger to use for the next batch.
+     */
+    synchronized Decision decide(int readyEvents, double arrivalsPerMs) {
+        if (readyEvents >= maxBatchSize) {
+            return new Decision(maxBatchSize, minLingerMs);
+        }
+        long lingerMs = clamp(Math.round(batchLatencyMs / 2), minLingerMs, maxLingerMs);
+        long expected = readyEvents + (long) Math.floor(arrivalsPerMs * lingerMs);
+        int batchSize = (int) clamp(expected, 1, maxBatchSize);
+        return new Decision(batchSize, lingerMs);
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+}
@@ -9,60 +9,80 @@ import io.fabric8.kubernetes.client.informers.cache.ItemStore;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
- * Encapsulates a queue (actually a deque) of {@link TopicEvent}s and a pool of threads (see {@link LoopRunnable}) servicing
+ * Encapsulates a keyed queue of {@link TopicEvent}s (see {@link TopicEventQueue}) and a pool of threads (see {@link LoopRunnable}) servicing
  * the reconciliation of those events using a {@link BatchingTopicController}.
  * Any given KafkaTopic is only being reconciled by a single thread at any one time.
+ *
+ * <p>Each {@link LoopRunnable} can have up to {@code maxInFlightBatches} batches being reconciled at once.
+ * When this is more than 1 the batches are reconciled on a pool of worker threads, and the {@link LoopRunnable}
+ * goes straight on to filling the next batch, so that the time spent waiting for the Admin calls of one batch
+ * overlaps with the reconciliation of the others. The batches have disjoint KafkaTopics because the queue
+ * never hands out an event for a KafkaTopic which is in flight.</p>
  */
 class BatchingLoop {
 
     static final ReconciliationLogger LOGGER = ReconciliationLogger.create(BatchingLoop.class);
 
     private final BatchingTopicController controller;
-    private final BlockingDeque<TopicEvent> queue;
-
     /**
-     * The set of topics currently being reconciled by a controller.
-     * Guarded by the monitor of the BatchingLoop.
-     * This functions as mechanism for preventing concurrent reconciliation of the same topic.
+     * The queue of events.
+     * This also tracks the set of topics currently being reconciled by a controller,
+     * which functions as mechanism for preventing concurrent reconciliation of the same topic.
      */
-    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by this
+    private final TopicEventQueue queue;
     private final LoopRunnable[] threads;
+    private final int maxInFlightBatches;
     private final int maxBatchSize;
     private final long maxBatchLingerMs;
+    private final boolean adaptiveBatching;
+    private final long minBatchLingerMs;
+    /** The number of events offered to the queue, used to estimate the rate at which events are arriving. */
+    private final AtomicLong offered = new AtomicLong();
     private final ItemStore<KafkaTopic> itemStore;
-    private final Runnable stop;
-    private final int maxQueueSize;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
 
     public BatchingLoop(
             int maxQueueSize,
             BatchingTopicController controller,
             int maxThreads,
+            int maxInFlightBatches,
             int maxBatchSize,
             long maxBatchLingerMs,
+            boolean adaptiveBatching,
+            long minBatchLingerMs,
             ItemStore<KafkaTopic> itemStore,
-            Runnable stop) {
-        this.maxQueueSize = maxQueueSize;
-        this.queue = new LinkedBlockingDeque<>(maxQueueSize);
+            TopicOperatorMetricsHolder metrics,
+            String namespace) {
+        this.queue = new TopicEventQueue(maxQueueSize);
         this.controller = controller;
+        this.maxInFlightBatches = maxInFlightBatches;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchLingerMs = maxBatchLingerMs;
+        this.adaptiveBatching = adaptiveBatching;
+        this.minBatchLingerMs = minBatchLingerMs;
         this.threads = new LoopRunnable[maxThreads];
         for (int i = 0; i < maxThreads; i++) {
             threads[i] = new LoopRunnable("LoopRunnable-" + i);
         }
-        this.maxBatchSize = maxBatchSize;
-        this.maxBatchLingerMs = maxBatchLingerMs;
         this.itemStore = itemStore;
-        this.stop = stop;
+        this.metrics = metrics;
+        this.namespace = namespace;
     }
 
     /**
@@ -85,21 +105,22 @@ class BatchingLoop {
         for (var thread : threads) {
             thread.join();
         }
+        for (var thread : threads) {
+            thread.awaitBatches();
+        }
     }
 
     /**
-     * Add an event to be reconciled to the tail of the {@link #queue}.
+     * Add an event to be reconciled to the tail of the {@link #queue},
+     * or coalesce it with the events already queued for the same KafkaTopic.
      * @param event The event
      */
     public void offer(TopicEvent event) {
-        if (queue.offerFirst(event)) {
-            LOGGER.debugOp("Item {} push onto the deque tail", event);
-        } else {
-            LOGGER.errorOp("Queue length {} exceeded, stopping operator. Please increase {} environment variable.",
-                    maxQueueSize,
-                    TopicOperatorConfig.MAX_QUEUE_SIZE.key());
-            this.stop.run();
-        }
+        offered.incrementAndGet();
+        queue.offer(event);
+        LOGGER.debugOp("Item {} added to the queue", event);
+        metrics.queueSize(namespace).set(queue.size());
+        metrics.resyncQueueSize(namespace).set(queue.resyncSize());
     }
 
     /**
@@ -143,10 +164,31 @@ class BatchingLoop {
     class LoopRunnable extends Thread {
 
         private volatile boolean stopRequested = false;
+        /** Chooses the size and linger of each batch, or null if the configured maximums are always used. */
+        private final AdaptiveBatchSizer sizer;
+        /** Limits the number of batches in flight, or null if each batch is reconciled on this thread. */
+        private final Semaphore batchPermits;
+        /** Reconciles the batches, or null if each batch is reconciled on this thread. */
+        private final ExecutorService batchExecutor;
+        private long lastDecisionNanos = System.nanoTime();
+        private long lastDecisionOffered = 0;
 
         LoopRunnable(String name) {
             super(name);
             setDaemon(false);
+            this.sizer = adaptiveBatching ? new AdaptiveBatchSizer(maxBatchSize, minBatchLingerMs, maxBatchLingerMs) : null;
+            if (maxInFlightBatches > 1) {
+                this.batchPermits = new Semaphore(maxInFlightBatches);
+                var workerId = new AtomicInteger();
+                this.batchExecutor = Executors.newFixedThreadPool(maxInFlightBatches, runnable -> {
+                    var thread = new Thread(runnable, name + "-batch-" + workerId.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            } else {
+                this.batchPermits = null;
+                this.batchExecutor = null;
+            }
         }
 
         static final ReconciliationLogger LOGGER = ReconciliationLogger.create(LoopRunnable.class);
@@ -159,10 +201,9 @@ class BatchingLoop {
         @Override
         public void run() {
             LOGGER.debugOp("Entering run()");
-            Batch batch = new Batch(maxBatchSize);
             int batchId = 0;
             lastLoop = System.nanoTime();
-            while (!runOnce(batchId, batch)) {
+            while (!runOnce(batchId)) {
                 batchId++;
                 lastLoop = System.nanoTime();
             }
@@ -179,28 +220,43 @@ class BatchingLoop {
             this.interrupt();
         }
 
-        private boolean runOnce(int batchId, Batch batch) {
+        /**
+         * Waits for the batches which are still being reconciled to complete.
+         * @throws InterruptedException If interrupted while waiting.
+         */
+        void awaitBatches() throws InterruptedException {
+            if (batchExecutor != null) {
+                batchExecutor.shutdown();
+                if (!batchExecutor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    LOGGER.warnOp("Batches still in flight after 30s, interrupting them");
+                    batchExecutor.shutdownNow();
+                }
+            }
+        }
+
+        private boolean runOnce(int batchId) {
+            Batch batch = new Batch(maxBatchSize);
+            boolean permitAcquired = false;
+            boolean handedOff = false;
             try {
-                synchronized (BatchingLoop.this) {
-                    // remove the old batch from the inflight set and reset the batch
-                    LOGGER.debugOp("[Batch #{}] Removing batch from inflight", batchId - 1);
-                    batch.toUpdate.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.toDelete.stream().map(TopicEvent::toRef).forEach(inFlight::remove);
-                    batch.clear();
-                    // fill a new batch
-                    fillBatch(batchId, batch);
+                if (batchPermits != null) {
+                    // wait until there's room for another batch in flight
+                    batchPermits.acquire();
+                    permitAcquired = true;
                 }
+                // fill a new batch
+                fillBatch(batchId, batch);
+                metrics.inFlightSize(namespace).set(queue.inFlightSize());
+                metrics.queueSize(namespace).set(queue.size());
+                metrics.resyncQueueSize(namespace).set(queue.resyncSize());
 
                 if (batch.size() > 0) {
-                    LOGGER.debugOp("[Batch #{}] Reconciling {} topics", batchId, batch.size());
-                    // perform reconciliation on new batch
-                    if (!batch.toUpdate.isEmpty()) {
-                        controller.onUpdate(batch.toUpdate.stream().map(upsert -> lookup(batchId, upsert)).filter(Objects::nonNull).toList());
-                    }
-                    if (!batch.toDelete.isEmpty()) {
-                        controller.onDelete(batch.toDelete.stream().map(td -> new ReconcilableTopic(new Reconciliation("delete", "KafkaTopic", td.namespace(), td.name()), td.topic(), BatchingTopicController.topicName(td.topic()))).toList());
+                    handedOff = true;
+                    if (batchExecutor != null) {
+                        batchExecutor.execute(() -> reconcile(batchId, batch));
+                    } else {
+                        reconcile(batchId, batch);
                     }
-                    LOGGER.debugOp("[Batch #{}] Reconciled batch", batchId);
                 } else {
                     LOGGER.debugOp("[Batch #{}] Empty batch", batchId);
                 }
@@ -209,8 +265,61 @@ class BatchingLoop {
                 return true;
             } catch (Exception e) {
                 LOGGER.errorOp("[Batch #{}] Unexpected exception", batchId, e);
+            } finally {
+                if (!handedOff) {
+                    if (permitAcquired) {
+                        batchPermits.release();
+                    }
+                    // Don't leave the topics of a partially filled batch in flight
+                    completeWhenDone(batchId, batch.toUpdate, batch.toDelete, CompletableFuture.completedFuture(null));
+                }
             }
-            return stopRequested;
+            return stopRequested || Thread.currentThread().isInterrupted();
+        }
+
+        private void reconcile(int batchId, Batch batch) {
+            CompletableFuture<Void> statusUpdates = CompletableFuture.completedFuture(null);
+            try {
+                LOGGER.debugOp("[Batch #{}] Reconciling {} topics", batchId, batch.size());
+                long reconcileStartNanos = System.nanoTime();
+                // perform reconciliation on new batch
+                if (!batch.toUpdate.isEmpty()) {
+                    statusUpdates = controller.onUpdate(batch.toUpdate.stream().map(upsert -> lookup(batchId, upsert)).filter(Objects::nonNull).toList());
+                }
+                if (!batch.toDelete.isEmpty()) {
+                    statusUpdates = CompletableFuture.allOf(statusUpdates,
+                            controller.onDelete(batch.toDelete.stream().map(td -> new ReconcilableTopic(new Reconciliation("delete", "KafkaTopic", td.namespace(), td.name()), td.topic(), BatchingTopicController.topicName(td.topic()))).toList()));
+                }
+                if (sizer != null) {
+                    sizer.recordBatchLatency((System.nanoTime() - reconcileStartNanos) / 1_000_000.0);
+                }
+                LOGGER.debugOp("[Batch #{}] Reconciled batch, status updates may still be in progress", batchId);
+            } catch (InterruptedException e) {
+                LOGGER.infoOp("[Batch #{}] Interrupted", batchId);
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                LOGGER.errorOp("[Batch #{}] Unexpected exception", batchId, e);
+            } finally {
+                if (batchPermits != null) {
+                    batchPermits.release();
+                }
+                // The topics of this batch remain in flight until their status updates have completed,
+                // so that the next event for a topic can't be reconciled concurrently with its status update.
+                // In the meantime this thread can get on with the next batch.
+                completeWhenDone(batchId, batch.toUpdate, batch.toDelete, statusUpdates);
+            }
+        }
+
+        private void completeWhenDone(int batchId, List<TopicUpsert> toUpdate, List<TopicDelete> toDelete, CompletableFuture<Void> statusUpdates) {
+            statusUpdates.whenComplete((ignored, error) -> {
+                // Errors updating the status have already been logged by the KafkaTopicStatusWriter
+                LOGGER.debugOp("[Batch #{}] Removing batch from inflight", batchId);
+                Stream.concat(toUpdate.stream(), toDelete.stream()).forEach(event -> {
+                    queue.complete(event.toRef());
+                    metrics.eventTimer(namespace).record(event.ageNs(), TimeUnit.NANOSECONDS);
+                });
+                metrics.inFlightSize(namespace).set(queue.inFlightSize());
+            });
         }
 
         private ReconcilableTopic lookup(int batchId, TopicUpsert topicUpsert) {
@@ -231,63 +340,71 @@ class BatchingLoop {
             }
         }
 
+        private AdaptiveBatchSizer.Decision decideBatch(int batchId) {
+            long now = System.nanoTime();
+            long offeredNow = offered.get();
+            double elapsedMs = Math.max(1.0, (now - lastDecisionNanos) / 1_000_000.0);
+            double arrivalsPerMs = (offeredNow - lastDecisionOffered) / elapsedMs;
+            lastDecisionNanos = now;
+            lastDecisionOffered = offeredNow;
+            int readyEvents = queue.readySize();
+            var decision = sizer.decide(readyEvents, arrivalsPerMs);
+            LOGGER.traceOp("[Batch #{}] {} events ready, {} arrivals/ms, chose {}", batchId, readyEvents, arrivalsPerMs, decision);
+            metrics.batchSizeTarget(namespace).set(decision.batchSize());
+            metrics.batchLingerTarget(namespace).set((int) decision.lingerMs());
+            return decision;
+        }
+
         private void fillBatch(int batchId, Batch batch) throws InterruptedException {
             LOGGER.traceOp("[Batch #{}] Filling", batchId);
-            List<TopicEvent> rejected = new ArrayList<>();
 
-            final long deadlineNanoTime = System.nanoTime() + maxBatchLingerMs * 1_000_000;
+            int batchSize = maxBatchSize;
+            long lingerMs = maxBatchLingerMs;
+            if (sizer != null) {
+                var decision = decideBatch(batchId);
+                batchSize = decision.batchSize();
+                lingerMs = decision.lingerMs();
+            }
+            final long startNanoTime = System.nanoTime();
+            final long deadlineNanoTime = startNanoTime + lingerMs * 1_000_000;
             while (true) {
-                if (batch.size() >= maxBatchSize) {
-                    LOGGER.traceOp("[Batch #{}] reached maxBatchSize, batch complete", batchId, maxBatchSize);
+                if (batch.size() >= batchSize) {
+                    LOGGER.traceOp("[Batch #{}] reached batch size {}, batch complete", batchId, batchSize);
                     break;
                 }
 
                 long timeoutNs = deadlineNanoTime - System.nanoTime();
                 if (timeoutNs <= 0) {
-                    LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, maxBatchLingerMs);
+                    LOGGER.traceOp("[Batch #{}] {}ms linger expired", batchId, lingerMs);
                     break;
                 }
-                LOGGER.traceOp("[Batch #{}] Taking next item from deque head with timeout {}ns", batchId, timeoutNs);
-                TopicEvent topicEvent = queue.pollFirst(timeoutNs, TimeUnit.NANOSECONDS);
+                LOGGER.traceOp("[Batch #{}] Taking next item from queue head with timeout {}ns", batchId, timeoutNs);
+                TopicEvent topicEvent = queue.poll(timeoutNs, TimeUnit.NANOSECONDS);
 
                 if (topicEvent == null) {
                     LOGGER.traceOp("[Batch #{}] linger expired, batch complete", batchId);
                     break;
                 }
-                addToBatch(batchId, batch, rejected, topicEvent);
+                (topicEvent.resync() ? metrics.resyncQueueTimer(namespace) : metrics.changeQueueTimer(namespace))
+                        .record(topicEvent.ageNs(), TimeUnit.NANOSECONDS);
+                addToBatch(batchId, batch, topicEvent);
             }
             LOGGER.traceOp("[Batch #{}] Filled with {} topics", batchId, batch.size());
-
-            // here we need a deque and can push `rejected` back on the front of the queue
-            //      where they can be taken by the next thread.
-            for (int i = rejected.size() - 1; i >= 0; i--) {
-                TopicEvent item = rejected.get(i);
-                if (queue.offerFirst(item)) {
-                    LOGGER.traceOp("[Batch #{}] Item {} returned to deque head", batchId, item);
-                } else {
-                    LOGGER.warnOp("[Batch #{}] Item {} couldn't be pushed onto the deque head after rejection from batch", batchId, item);
-                }
+            if (batch.size() > 0) {
+                metrics.batchSize(namespace).record(batch.size());
+                metrics.batchLingerTimer(namespace).record(System.nanoTime() - startNanoTime, TimeUnit.NANOSECONDS);
             }
         }
 
-        private void addToBatch(int batchId, Batch batch, List<TopicEvent> rejected, TopicEvent topicEvent) {
-            // We could add logic here to cope properly with interleaved upserts and deletes
-            // of the same topic in the same batch.
-            // E.g. upset then delete is equivalent to just a delete
-            // It's actually a bit tricky since you have to process the events in reverse order to correctly
-            // simplify them, so `Batch` would have to be something like a `Map<Ref, List<TopicEvent>>`.
-            KubeRef ref = topicEvent.toRef();
-            if (inFlight.add(ref)) {
-                // wasn't already inflight
-                LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
-                if (topicEvent instanceof TopicUpsert) {
-                    batch.toUpdate.add((TopicUpsert) topicEvent);
-                } else {
-                    batch.toDelete.add((TopicDelete) topicEvent);
-                }
+        private void addToBatch(int batchId, Batch batch, TopicEvent topicEvent) {
+            // The queue has already coalesced the events for each KafkaTopic (e.g. upsert then delete
+            // is equivalent to just a delete), and it never hands out an event for a KafkaTopic which is
+            // already in flight, so there can be no conflicting events within a batch.
+            LOGGER.debugOp("[Batch #{}] Adding {}", batchId, topicEvent);
+            if (topicEvent instanceof TopicUpsert) {
+                batch.toUpdate.add((TopicUpsert) topicEvent);
             } else {
-                LOGGER.debugOp("[Batch #{}] Rejecting item {}, already inflight", batchId, topicEvent);
-                rejected.add(topicEvent);
+                batch.toDelete.add((TopicDelete) topicEvent);
             }
         }
     }
@@ -297,11 +414,6 @@ class BatchingLoop {
             this(new ArrayList<>(maxBatchSize), new ArrayList<>(maxBatchSize));
         }
 
-        public void clear() {
-            toUpdate.clear();
-            toDelete.clear();
-        }
-
         public int size() {
             return toUpdate.size() + toDelete.size();
         }
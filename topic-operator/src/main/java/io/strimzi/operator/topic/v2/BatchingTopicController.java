@@ -9,11 +9,11 @@ import io.fabric8.kubernetes.client.KubernetesClientException;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
-import io.strimzi.api.kafka.model.status.Condition;
-import io.strimzi.api.kafka.model.status.ConditionBuilder;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ShardOwnership;
 import io.strimzi.operator.common.model.StatusUtils;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterConfigOp;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
@@ -40,6 +40,7 @@ import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
 
 import java.io.InterruptedIOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -48,7 +49,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -71,17 +75,37 @@ public class BatchingTopicController {
 
     private final KubernetesClient kubeClient;
 
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+    private final ReconciledStateCache reconciledStateCache;
+    private final KafkaTopicStatusWriter statusWriter;
+    private final ShardOwnership shardOwnership;
+    private final ReassignmentSnapshot reassignmentSnapshot;
+
     // Key: topic name, Value: The KafkaTopics known to manage that topic
-    /* test */ final Map<String, Set<KubeRef>> topics = new HashMap<>();
+    // Concurrent because several batches can be reconciled at once (see BatchingLoop)
+    /* test */ final Map<String, Set<KubeRef>> topics = new ConcurrentHashMap<>();
 
 
     BatchingTopicController(Map<String, String> selector,
                             Admin admin,
                             KubernetesClient kubeClient,
-                            boolean useFinalizer) throws ExecutionException, InterruptedException {
+                            boolean useFinalizer,
+                            TopicOperatorMetricsHolder metrics,
+                            String namespace,
+                            ReconciledStateCache reconciledStateCache,
+                            KafkaTopicStatusWriter statusWriter,
+                            ShardOwnership shardOwnership,
+                            ReassignmentSnapshot reassignmentSnapshot) throws ExecutionException, InterruptedException {
         this.selector = Objects.requireNonNull(selector);
         this.useFinalizer = useFinalizer;
         this.admin = admin;
+        this.metrics = metrics;
+        this.namespace = namespace;
+        this.reconciledStateCache = reconciledStateCache;
+        this.statusWriter = statusWriter;
+        this.shardOwnership = shardOwnership;
+        this.reassignmentSnapshot = reassignmentSnapshot;
         DescribeClusterResult describeClusterResult = admin.describeCluster();
         // Get the config of some broker and check whether auto topic creation is enabled
         boolean hasAutoCreateTopics = false;
@@ -105,14 +129,14 @@ public class BatchingTopicController {
 
     }
 
-    /* test */ static boolean isManaged(KafkaTopic kt) {
+    static boolean isManaged(KafkaTopic kt) {
         return kt.getMetadata() == null
                 || kt.getMetadata().getAnnotations() == null
                 || kt.getMetadata().getAnnotations().get(MANAGED) == null
                 || !"false".equals(kt.getMetadata().getAnnotations().get(MANAGED));
     }
 
-    private static boolean isForDeletion(KafkaTopic kt) {
+    static boolean isForDeletion(KafkaTopic kt) {
         if (kt.getMetadata().getDeletionTimestamp() != null) {
             var deletionTimestamp = StatusUtils.isoUtcDatetime(kt.getMetadata().getDeletionTimestamp());
             var now = Instant.now();
@@ -122,6 +146,10 @@ public class BatchingTopicController {
         }
     }
 
+    private boolean isOwned(ReconcilableTopic reconcilableTopic) {
+        return shardOwnership == null || shardOwnership.owns(reconcilableTopic.topicName());
+    }
+
     static String topicName(KafkaTopic kt) {
         String tn = null;
         if (kt.getSpec() != null) {
@@ -147,8 +175,13 @@ public class BatchingTopicController {
         return collect;
     }
 
+    private static boolean hasFinalizer(KafkaTopic kt) {
+        var finalizers = kt.getMetadata().getFinalizers();
+        return finalizers != null && finalizers.contains(FINALIZER);
+    }
+
     private KafkaTopic addFinalizer(ReconcilableTopic reconcilableTopic) {
-        if (!reconcilableTopic.kt().getMetadata().getFinalizers().contains(FINALIZER)) {
+        if (!hasFinalizer(reconcilableTopic.kt())) {
             LOGGER.debugCr(reconcilableTopic.reconciliation(), "Adding finalizer {}", FINALIZER);
             long t0 = System.nanoTime();
             KafkaTopic edit = Crds.topicOperation(kubeClient).resource(reconcilableTopic.kt()).edit(old ->
@@ -161,7 +194,7 @@ public class BatchingTopicController {
     }
 
     private KafkaTopic removeFinalizer(ReconcilableTopic reconcilableTopic) {
-        if (reconcilableTopic.kt().getMetadata().getFinalizers().contains(FINALIZER)) {
+        if (hasFinalizer(reconcilableTopic.kt())) {
             LOGGER.debugCr(reconcilableTopic.reconciliation(), "Removing finalizer {}", FINALIZER);
             long t0 = System.nanoTime();
             var result = Crds.topicOperation(kubeClient).resource(reconcilableTopic.kt()).edit(old ->
@@ -183,9 +216,13 @@ public class BatchingTopicController {
 
     private boolean rememberTopic(ReconcilableTopic reconcilableTopic) {
         String tn = reconcilableTopic.topicName();
-        var existing = topics.computeIfAbsent(tn, k -> new HashSet<>());
         KubeRef thisRef = new KubeRef(reconcilableTopic.kt());
-        existing.add(thisRef);
+        // add within compute(), so that a concurrent forgetTopic() can't remove the set we're adding to
+        topics.compute(tn, (k, v) -> {
+            var refs = v != null ? v : ConcurrentHashMap.<KubeRef>newKeySet();
+            refs.add(thisRef);
+            return refs;
+        });
         return true;
     }
 
@@ -193,7 +230,7 @@ public class BatchingTopicController {
         String tn = reconcilableTopic.topicName();
         var existing = topics.get(tn);
         KubeRef thisRef = new KubeRef(reconcilableTopic.kt());
-        if (existing.size() != 1) {
+        if (existing != null && existing.size() != 1) {
             var byCreationTime = existing.stream().sorted(Comparator.comparing(KubeRef::creationTime)).toList();
 
             var oldest = byCreationTime.get(0);
@@ -220,7 +257,10 @@ public class BatchingTopicController {
         return Either.ofRight(true);
     }
 
-    /* test */ static boolean matchesSelector(Map<String, String> selector, Map<String, String> resourceLabels) {
+    static boolean matchesSelector(Map<String, String> selector, Map<String, String> resourceLabels) {
+        if (resourceLabels == null) {
+            return selector.isEmpty();
+        }
         if (!selector.isEmpty()) {
             for (var selectorEntry : selector.entrySet()) {
                 String resourceValue = resourceLabels.get(selectorEntry.getKey());
@@ -252,16 +292,14 @@ public class BatchingTopicController {
         LOGGER.debugOp("Admin.createTopics({})", newTopics);
         long t0 = System.nanoTime();
         CreateTopicsResult ctr = admin.createTopics(newTopics);
-        if (LOGGER.isTraceEnabled()) {
-            ctr.all().whenComplete((i, e) -> {
-                if (e != null) {
-                    LOGGER.traceOp("Admin.createTopics({}) took {}ns to fail with {}", newTopics, System.nanoTime() - t0, String.valueOf(e));
-                } else {
-                    LOGGER.traceOp("Admin.createTopics({}) took {}ns", newTopics, System.nanoTime() - t0);
-                }
-
-            });
-        }
+        ctr.all().whenComplete((i, e) -> {
+            metrics.createTopicsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                LOGGER.traceOp("Admin.createTopics({}) took {}ns to fail with {}", newTopics, System.nanoTime() - t0, String.valueOf(e));
+            } else {
+                LOGGER.traceOp("Admin.createTopics({}) took {}ns", newTopics, System.nanoTime() - t0);
+            }
+        });
         Map<String, KafkaFuture<Void>> values = ctr.values();
         return partitionedByError(kts.stream().map(reconcilableTopic -> {
             try {
@@ -293,7 +331,7 @@ public class BatchingTopicController {
             .configs(buildConfigsMap(kt));
     }
 
-    private static Map<String, String> buildConfigsMap(KafkaTopic kt) {
+    static Map<String, String> buildConfigsMap(KafkaTopic kt) {
         Map<String, String> configs = new HashMap<>();
         if (hasConfig(kt)) {
             for (var entry : kt.getSpec().getConfig().entrySet()) {
@@ -303,7 +341,7 @@ public class BatchingTopicController {
         return configs;
     }
 
-    private static String configValueAsString(Object value) {
+    static String configValueAsString(Object value) {
         String valueStr;
         if (value instanceof String
                 || value instanceof Boolean) {
@@ -365,7 +403,7 @@ public class BatchingTopicController {
 
     }
 
-    private static <K, X> PartitionedByError<K, X> partitionedByError(Stream<Pair<K, Either<TopicOperatorException, X>>> stream) {
+    static <K, X> PartitionedByError<K, X> partitionedByError(Stream<Pair<K, Either<TopicOperatorException, X>>> stream) {
         var collect = stream.collect(Collectors.partitioningBy(x -> x.getValue().isRight()));
         return new PartitionedByError<>(
                 collect.get(true),
@@ -374,11 +412,14 @@ public class BatchingTopicController {
 
     /**
      * @param topics The topics to reconcile
+     * @return A future which completes when the status updates of the topics have completed.
      * @throws InterruptedException If the thread was interrupted while blocking
      */
-    void onUpdate(List<ReconcilableTopic> topics) throws InterruptedException {
+    CompletableFuture<Void> onUpdate(List<ReconcilableTopic> topics) throws InterruptedException {
         try {
-            updateInternal(topics);
+            List<CompletableFuture<Void>> statusUpdates = new ArrayList<>();
+            updateInternal(topics, statusUpdates);
+            return allStatusUpdates(statusUpdates);
         } catch (UncheckedInterruptedException e) {
             throw e.getCause();
         } catch (KubernetesClientException e) {
@@ -390,7 +431,7 @@ public class BatchingTopicController {
         }
     }
 
-    private void updateInternal(List<ReconcilableTopic> topics) {
+    private void updateInternal(List<ReconcilableTopic> topics, List<CompletableFuture<Void>> statusUpdates) {
         long t3 = System.nanoTime();
         LOGGER.debugOp("Reconciling batch {}", topics);
         var partitionedByDeletion = topics.stream().filter(reconcilableTopic -> {
@@ -401,6 +442,11 @@ public class BatchingTopicController {
                         kt.getMetadata().getLabels(), selector);
                 return false;
             }
+            if (!isOwned(reconcilableTopic)) {
+                forgetTopic(reconcilableTopic);
+                LOGGER.debugCr(reconcilableTopic.reconciliation(), "Ignoring KafkaTopic for topic owned by another replica");
+                return false;
+            }
             return true;
         }).collect(Collectors.partitioningBy(reconcilableTopic -> {
             boolean forDeletion = isForDeletion(reconcilableTopic.kt());
@@ -413,7 +459,7 @@ public class BatchingTopicController {
 
         var toBeDeleted = partitionedByDeletion.get(true);
         if (!toBeDeleted.isEmpty()) {
-            deleteInternal(toBeDeleted, false);
+            deleteInternal(toBeDeleted, false, statusUpdates);
         }
 
         Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results = new HashMap<>();
@@ -422,11 +468,11 @@ public class BatchingTopicController {
         var unmanaged = partitionedByManaged.get(false);
         addOrRemoveFinalizer(useFinalizer, unmanaged).forEach(rt -> putResult(results, rt, Either.ofRight(null)));
 
-        List<ReconcilableTopic> mayNeedUpdate = validateManagedTopics(partitionedByManaged);
+        List<ReconcilableTopic> mayNeedUpdate = validateManagedTopics(partitionedByManaged, statusUpdates);
 
         var addedFinalizer = addOrRemoveFinalizer(useFinalizer, mayNeedUpdate);
 
-        var currentStatesOrError = describeTopic(addedFinalizer);
+        var currentStatesOrError = describeTopic(skipUnchanged(results, addedFinalizer));
 
         createMissingTopics(results, currentStatesOrError);
 
@@ -440,12 +486,15 @@ public class BatchingTopicController {
 
         accumulateResults(results, currentStatesOrError, alterConfigsResults, createPartitionsResults);
 
-        updateStatuses(results);
+        rememberReconciledState(results, currentStatesOrError, someAlterConfigs, someCreatePartitions);
+
+        updateStatuses(results, statusUpdates);
 
         LOGGER.traceOp("Total time reconciling batch of {} KafkaTopics: {}ns", results.size(), System.nanoTime() - t3);
     }
 
-    private List<ReconcilableTopic> validateManagedTopics(Map<Boolean, List<ReconcilableTopic>> partitionedByManaged) {
+    private List<ReconcilableTopic> validateManagedTopics(Map<Boolean, List<ReconcilableTopic>> partitionedByManaged,
+                                                          List<CompletableFuture<Void>> statusUpdates) {
         var mayNeedUpdate = partitionedByManaged.get(true).stream().filter(reconcilableTopic -> {
             var e = validate(reconcilableTopic);
             if (e.isRightEqual(false)) {
@@ -454,7 +503,7 @@ public class BatchingTopicController {
             } else if (e.isRightEqual(true)) {
                 return true;
             } else {
-                updateStatusForException(reconcilableTopic, e.left());
+                statusUpdates.add(updateStatusForException(reconcilableTopic, e.left()));
                 return false;
             }
         }).filter(reconcilableTopic -> {
@@ -465,13 +514,62 @@ public class BatchingTopicController {
             } else if (e.isRightEqual(true)) {
                 return true;
             } else {
-                updateStatusForException(reconcilableTopic, e.left());
+                statusUpdates.add(updateStatusForException(reconcilableTopic, e.left()));
                 return false;
             }
         }).toList();
         return mayNeedUpdate;
     }
 
+    /**
+     * Filters out the topics which are unchanged since they were last reconciled (according to the
+     * {@link #reconciledStateCache}), adding successful results for them.
+     * @param results The results
+     * @param topics The topics
+     * @return The topics which need to be described.
+     */
+    private List<ReconcilableTopic> skipUnchanged(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, List<ReconcilableTopic> topics) {
+        if (reconciledStateCache == null) {
+            return topics;
+        }
+        return topics.stream().filter(reconcilableTopic -> {
+            if (reconciledStateCache.isUnchanged(reconcilableTopic)) {
+                LOGGER.debugCr(reconcilableTopic.reconciliation(), "Unchanged since last reconciliation, skipping describe");
+                putResult(results, reconcilableTopic, Either.ofRight(null));
+                return false;
+            }
+            return true;
+        }).toList();
+    }
+
+    /**
+     * Updates the {@link #reconciledStateCache}.
+     * Only topics which were reconciled without needing any change in Kafka are cached, because for them
+     * the described state is also the current state.
+     */
+    private void rememberReconciledState(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                                         PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError,
+                                         List<Pair<ReconcilableTopic, Collection<AlterConfigOp>>> someAlterConfigs,
+                                         List<Pair<ReconcilableTopic, NewPartitions>> someCreatePartitions) {
+        if (reconciledStateCache == null) {
+            return;
+        }
+        Set<ReconcilableTopic> changed = new HashSet<>();
+        someAlterConfigs.forEach(pair -> changed.add(pair.getKey()));
+        someCreatePartitions.forEach(pair -> changed.add(pair.getKey()));
+        currentStatesOrError.ok().forEach(pair -> {
+            var reconcilableTopic = pair.getKey();
+            var result = results.get(reconcilableTopic);
+            if (result != null && result.isRight() && !changed.contains(reconcilableTopic)) {
+                reconciledStateCache.put(reconcilableTopic.topicName(), reconcilableTopic.kt(),
+                        pair.getValue().topicDescription(), pair.getValue().configs());
+            } else {
+                reconciledStateCache.invalidate(reconcilableTopic.topicName());
+            }
+        });
+        currentStatesOrError.errors().forEach(pair -> reconciledStateCache.invalidate(pair.getKey().topicName()));
+    }
+
     private static void putResult(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, ReconcilableTopic key, Either<TopicOperatorException, Object> result) {
         results.compute(key, (k, v) -> {
             if (v == null) {
@@ -499,19 +597,23 @@ public class BatchingTopicController {
         }
     }
 
-    private void updateStatuses(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results) {
+    private void updateStatuses(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results,
+                                List<CompletableFuture<Void>> statusUpdates) {
         // Update statues with the overall results.
         var t0 = System.nanoTime();
         results.entrySet().stream().forEach(entry -> {
             var reconcilableTopic = entry.getKey();
             var either = entry.getValue();
+            metrics.reconciliationsCounter(namespace).increment();
             if (either.isRight()) {
-                updateStatusOk(reconcilableTopic);
+                metrics.successfulReconciliationsCounter(namespace).increment();
+                statusUpdates.add(updateStatusOk(reconcilableTopic));
             } else {
-                updateStatusForException(reconcilableTopic, either.left());
+                metrics.failedReconciliationsCounter(namespace).increment();
+                statusUpdates.add(updateStatusForException(reconcilableTopic, either.left()));
             }
         });
-        LOGGER.traceOp("Updated status of {} KafkaTopics in {}ns", results.size(), System.nanoTime() - t0);
+        LOGGER.traceOp("Submitted status updates of {} KafkaTopics in {}ns", results.size(), System.nanoTime() - t0);
     }
 
     private void accumulateResults(Map<ReconcilableTopic, Either<TopicOperatorException, Object>> results, PartitionedByError<ReconcilableTopic, CurrentState> currentStatesOrError, PartitionedByError<ReconcilableTopic, Void> alterConfigsResults, PartitionedByError<ReconcilableTopic, Void> createPartitionsResults) {
@@ -588,30 +690,20 @@ public class BatchingTopicController {
         }).collect(Collectors.toSet());
 
         Map<TopicPartition, PartitionReassignment> reassignments;
-        LOGGER.traceOp("Admin.listPartitionReassignments({})", apparentDifferentRfPartitions);
-        long t0 = System.nanoTime();
         try {
-            reassignments = admin.listPartitionReassignments(apparentDifferentRfPartitions).reassignments().get();
-            LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns", apparentDifferentRfPartitions, System.nanoTime() - t0);
+            reassignments = reassignmentSnapshot != null
+                    ? reassignmentSnapshot.reassignments()
+                    : listPartitionReassignments(apparentDifferentRfPartitions);
         } catch (ExecutionException e) {
-            LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns to fail with {}", apparentDifferentRfPartitions, System.nanoTime() - t0, e);
             return apparentlyDifferentRfTopics.stream().map(pair ->
                     pair(pair.getKey, Either.<TopicOperatorException, CurrentState>ofLeft(handleAdminException(e)))).toList();
         } catch (InterruptedException e) {
             throw new UncheckedInterruptedException(e);
         }
 
-        var partitionToTargetRf = reassignments.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, entry -> {
-            var tp = entry.getKey();
-            var partitionReassignment = entry.getValue();
-            // See https://cwiki.apache.org/confluence/display/KAFKA/KIP-455%3A+Create+an+Administrative+API+for+Replica+Reassignment#KIP455:CreateanAdministrativeAPIforReplicaReassignment-Algorithm
-            // for a full description of the algorithm
-            // but in essence replicas() will include addingReplicas() from the beginning
-            // so the target rf will be the replicas minus the removing
-            var target = new HashSet<>(partitionReassignment.replicas());
-            target.removeAll(partitionReassignment.removingReplicas());
-            return target.size();
-        }));
+        // the reassignments can cover the whole cluster (when they come from the snapshot), so only look at the partitions of this batch
+        var partitionToTargetRf = apparentDifferentRfPartitions.stream().filter(reassignments::containsKey).collect(Collectors.toMap(tp -> tp,
+                tp -> targetReplicationFactor(reassignments.get(tp))));
 
         return apparentlyDifferentRfTopics.stream().filter(pair -> {
             boolean b = pair.getValue.topicDescription.partitions().stream().anyMatch(pi -> {
@@ -624,6 +716,35 @@ public class BatchingTopicController {
         }).map(pair -> pair(pair.getKey, Either.<TopicOperatorException, CurrentState>ofRight(pair.getValue))).toList();
     }
 
+    /**
+     * @param partitionReassignment The reassignment of a partition
+     * @return The replication factor of the partition once the reassignment has completed.
+     */
+    static int targetReplicationFactor(PartitionReassignment partitionReassignment) {
+        // See https://cwiki.apache.org/confluence/display/KAFKA/KIP-455%3A+Create+an+Administrative+API+for+Replica+Reassignment#KIP455:CreateanAdministrativeAPIforReplicaReassignment-Algorithm
+        // for a full description of the algorithm
+        // but in essence replicas() will include addingReplicas() from the beginning
+        // so the target rf will be the replicas minus the removing
+        var target = new HashSet<>(partitionReassignment.replicas());
+        target.removeAll(partitionReassignment.removingReplicas());
+        return target.size();
+    }
+
+    private Map<TopicPartition, PartitionReassignment> listPartitionReassignments(Set<TopicPartition> partitions) throws ExecutionException, InterruptedException {
+        LOGGER.traceOp("Admin.listPartitionReassignments({})", partitions);
+        long t0 = System.nanoTime();
+        try {
+            var reassignments = admin.listPartitionReassignments(partitions).reassignments().get();
+            metrics.listReassignmentsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns", partitions, System.nanoTime() - t0);
+            return reassignments;
+        } catch (ExecutionException e) {
+            metrics.listReassignmentsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            LOGGER.traceOp("Admin.listPartitionReassignments({}) took {}ns to fail with {}", partitions, System.nanoTime() - t0, e);
+            throw e;
+        }
+    }
+
     // A pair of values. We can't use Map.entry because it forbids null values, which we want to allow.
     record Pair<K, V>(K getKey, V getValue) { }
 
@@ -639,15 +760,14 @@ public class BatchingTopicController {
         LOGGER.debugOp("Admin.incrementalAlterConfigs({})", alteredConfigs);
         long t0 = System.nanoTime();
         AlterConfigsResult acr = admin.incrementalAlterConfigs(alteredConfigs);
-        if (LOGGER.isTraceEnabled()) {
-            acr.all().whenComplete((i, e) -> {
-                if (e != null) {
-                    LOGGER.traceOp("Admin.incrementalAlterConfigs({}) took {}ns to fail with {}", alteredConfigs, System.nanoTime() - t0, String.valueOf(e));
-                } else {
-                    LOGGER.traceOp("Admin.incrementalAlterConfigs({}) took {}ns", alteredConfigs, System.nanoTime() - t0);
-                }
-            });
-        }
+        acr.all().whenComplete((i, e) -> {
+            metrics.alterConfigsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                LOGGER.traceOp("Admin.incrementalAlterConfigs({}) took {}ns to fail with {}", alteredConfigs, System.nanoTime() - t0, String.valueOf(e));
+            } else {
+                LOGGER.traceOp("Admin.incrementalAlterConfigs({}) took {}ns", alteredConfigs, System.nanoTime() - t0);
+            }
+        });
         var alterConfigsResult = acr.values();
         Stream<Pair<ReconcilableTopic, Either<TopicOperatorException, Void>>> entryStream = someAlterConfigs.stream().map(entry -> {
             try {
@@ -669,15 +789,14 @@ public class BatchingTopicController {
         LOGGER.debugOp("Admin.createPartitions({})", newPartitions);
         long t0 = System.nanoTime();
         CreatePartitionsResult cpr = admin.createPartitions(newPartitions);
-        if (LOGGER.isTraceEnabled()) {
-            cpr.all().whenComplete((i, e) -> {
-                if (e != null) {
-                    LOGGER.traceOp("Admin.createPartitions({}) took {}ns to fail with {}", newPartitions, System.nanoTime() - t0, String.valueOf(e));
-                } else {
-                    LOGGER.traceOp("Admin.createPartitions({}) took {}ns", newPartitions, System.nanoTime() - t0);
-                }
-            });
-        }
+        cpr.all().whenComplete((i, e) -> {
+            metrics.createPartitionsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                LOGGER.traceOp("Admin.createPartitions({}) took {}ns to fail with {}", newPartitions, System.nanoTime() - t0, String.valueOf(e));
+            } else {
+                LOGGER.traceOp("Admin.createPartitions({}) took {}ns", newPartitions, System.nanoTime() - t0);
+            }
+        });
         var createPartitionsResult = cpr.values();
         var entryStream = someCreatePartitions.stream().map(entry -> {
             try {
@@ -710,32 +829,28 @@ public class BatchingTopicController {
             LOGGER.debugOp("Admin.describeTopics({})", tns);
             long t0 = System.nanoTime();
             describeTopicsResult = admin.describeTopics(tns);
-            if (LOGGER.isTraceEnabled()) {
-                describeTopicsResult.allTopicNames().whenComplete((i, e) -> {
-                    if (e != null) {
-                        LOGGER.traceOp("Admin.describeTopics({}) took {}ns to fail with {}", tns, System.nanoTime() - t0, String.valueOf(e));
-                    } else {
-                        LOGGER.traceOp("Admin.describeTopics({}) took {}ns", tns, System.nanoTime() - t0);
-                    }
-
-                });
-            }
+            describeTopicsResult.allTopicNames().whenComplete((i, e) -> {
+                metrics.describeTopicsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+                if (e != null) {
+                    LOGGER.traceOp("Admin.describeTopics({}) took {}ns to fail with {}", tns, System.nanoTime() - t0, String.valueOf(e));
+                } else {
+                    LOGGER.traceOp("Admin.describeTopics({}) took {}ns", tns, System.nanoTime() - t0);
+                }
+            });
         }
         DescribeConfigsResult describeConfigsResult;
         {
             LOGGER.debugOp("Admin.describeConfigs({})", configResources);
             long t0 = System.nanoTime();
             describeConfigsResult = admin.describeConfigs(configResources);
-            if (LOGGER.isTraceEnabled()) {
-                describeConfigsResult.all().whenComplete((i, e) -> {
-                    if (e != null) {
-                        LOGGER.traceOp("Admin.describeConfigs({}) took {}ns to fail with {}", configResources, System.nanoTime() - t0, String.valueOf(e));
-                    } else {
-                        LOGGER.traceOp("Admin.describeConfigs({}) took {}ns", configResources, System.nanoTime() - t0);
-                    }
-
-                });
-            }
+            describeConfigsResult.all().whenComplete((i, e) -> {
+                metrics.describeConfigsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+                if (e != null) {
+                    LOGGER.traceOp("Admin.describeConfigs({}) took {}ns to fail with {}", configResources, System.nanoTime() - t0, String.valueOf(e));
+                } else {
+                    LOGGER.traceOp("Admin.describeConfigs({}) took {}ns", configResources, System.nanoTime() - t0);
+                }
+            });
         }
 
         var cs1 = describeTopicsResult.topicNameValues();
@@ -767,9 +882,16 @@ public class BatchingTopicController {
         }));
     }
 
-    void onDelete(List<ReconcilableTopic> batch) throws InterruptedException {
+    /**
+     * @param batch The topics to delete
+     * @return A future which completes when the status updates of the topics have completed.
+     * @throws InterruptedException If the thread was interrupted while blocking
+     */
+    CompletableFuture<Void> onDelete(List<ReconcilableTopic> batch) throws InterruptedException {
         try {
-            deleteInternal(batch, true);
+            List<CompletableFuture<Void>> statusUpdates = new ArrayList<>();
+            deleteInternal(batch, true, statusUpdates);
+            return allStatusUpdates(statusUpdates);
         } catch (UncheckedInterruptedException e) {
             throw e.getCause();
         } catch (KubernetesClientException e) {
@@ -781,8 +903,13 @@ public class BatchingTopicController {
         }
     }
 
-    private void deleteInternal(List<ReconcilableTopic> batch, boolean onDeletePath) {
+    private void deleteInternal(List<ReconcilableTopic> batch, boolean onDeletePath, List<CompletableFuture<Void>> statusUpdates) {
         var partitionedByManaged = batch.stream().filter(reconcilableTopic -> {
+            if (!isOwned(reconcilableTopic)) {
+                // the replica which owns the topic will delete it and remove the finalizer
+                forgetTopic(reconcilableTopic);
+                return false;
+            }
             if (isManaged(reconcilableTopic.kt())) {
                 var e = validate(reconcilableTopic);
                 if (e.isRightEqual(true)) {
@@ -792,7 +919,7 @@ public class BatchingTopicController {
                     // do nothing
                     return false;
                 } else {
-                    updateStatusForException(reconcilableTopic, e.left());
+                    statusUpdates.add(updateStatusForException(reconcilableTopic, e.left()));
                     return false;
                 }
             } else {
@@ -838,7 +965,7 @@ public class BatchingTopicController {
                             entry.getValue());
                 }
             } else {
-                updateStatusForException(entry.getKey(), entry.getValue());
+                statusUpdates.add(updateStatusForException(entry.getKey(), entry.getValue()));
             }
         });
 
@@ -855,16 +982,14 @@ public class BatchingTopicController {
 
         // Admin delete
         DeleteTopicsResult dtr = admin.deleteTopics(someDeleteTopics);
-        if (LOGGER.isTraceEnabled()) {
-            dtr.all().whenComplete((i, e) -> {
-                if (e != null) {
-                    LOGGER.traceOp("Admin.deleteTopics({}) took {}ns to fail with {}", someDeleteTopics.topicNames(), System.nanoTime() - t0, String.valueOf(e));
-                } else {
-                    LOGGER.traceOp("Admin.deleteTopics({}) took {}ns", someDeleteTopics.topicNames(), System.nanoTime() - t0);
-                }
-
-            });
-        }
+        dtr.all().whenComplete((i, e) -> {
+            metrics.deleteTopicsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            if (e != null) {
+                LOGGER.traceOp("Admin.deleteTopics({}) took {}ns to fail with {}", someDeleteTopics.topicNames(), System.nanoTime() - t0, String.valueOf(e));
+            } else {
+                LOGGER.traceOp("Admin.deleteTopics({}) took {}ns", someDeleteTopics.topicNames(), System.nanoTime() - t0);
+            }
+        });
         var futuresMap = dtr.topicNameValues();
         var deleteResult = partitionedByError(batch.stream().map(reconcilableTopic -> {
             try {
@@ -884,6 +1009,9 @@ public class BatchingTopicController {
     }
 
     private void forgetTopic(ReconcilableTopic reconcilableTopic) {
+        if (reconciledStateCache != null) {
+            reconciledStateCache.invalidate(reconcilableTopic.topicName());
+        }
         topics.compute(reconcilableTopic.topicName(), (k, v) -> {
             if (v != null) {
                 v.remove(new KubeRef(reconcilableTopic.kt()));
@@ -912,7 +1040,7 @@ public class BatchingTopicController {
         }
     }
 
-    private static Collection<AlterConfigOp> buildAlterConfigOps(Reconciliation reconciliation, KafkaTopic kt, Config configs) {
+    static Collection<AlterConfigOp> buildAlterConfigOps(Reconciliation reconciliation, KafkaTopic kt, Config configs) {
         Set<AlterConfigOp> alterConfigOps = new HashSet<>();
         if (hasConfig(kt)) {
             for (var specConfigEntry : kt.getSpec().getConfig().entrySet()) {
@@ -951,7 +1079,7 @@ public class BatchingTopicController {
                 && kt.getSpec().getConfig() != null;
     }
 
-    private void updateStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
+    private CompletableFuture<Void> updateStatusForException(ReconcilableTopic reconcilableTopic, Exception e) {
         String message = e.getMessage();
         String reason;
         if (e instanceof TopicOperatorException) {
@@ -961,63 +1089,26 @@ public class BatchingTopicController {
             LOGGER.warnCr(reconcilableTopic.reconciliation(), "Updating status for unexpected exception", e);
             reason = e.getClass().getSimpleName();
         }
-        updateStatus(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), reason, message);
-    }
-
-    private void updateStatusOk(ReconcilableTopic reconcilableTopic) {
-        updateStatus(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), null, null);
-    }
-
-    private void updateStatus(Reconciliation reconciliation,
-                              KafkaTopic kt,
-                              String newReason,
-                              String newMessage) {
-        var oldStatus = kt.getStatus();
-        Condition oldReadyCondition = oldStatus == null || oldStatus.getConditions() == null ? null : oldStatus.getConditions().stream().findFirst().orElse(null);
-        String newStatus = newReason != null || newMessage != null ? "False" : "True";
-        if (oldStatus == null
-                || oldStatus.getObservedGeneration() != kt.getMetadata().getGeneration()
-                || oldStatus.getTopicName() == null
-                || oldReadyCondition == null
-                || isDifferentCondition(oldReadyCondition, newReason, newMessage, newStatus)) {
-            String newTopicName = !isManaged(kt) ? null
-                    : oldStatus != null && oldStatus.getTopicName() != null ? oldStatus.getTopicName()
-                    : topicName(kt);
-            var updatedTopic = new KafkaTopicBuilder(kt)
-                    .editOrNewMetadata()
-                        .withResourceVersion(null)
-                    .endMetadata()
-                    .editOrNewStatus()
-                        .withObservedGeneration(kt.getMetadata().getGeneration())
-                        .withTopicName(newTopicName)
-                        .withConditions(new ConditionBuilder()
-                                .withType("Ready")
-                                .withStatus(newStatus)
-                                .withReason(newReason)
-                                .withMessage(newMessage)
-                                .withLastTransitionTime(StatusUtils.iso8601Now())
-                                .build())
-                    .endStatus().build();
-            LOGGER.debugCr(reconciliation, "Updating status with {}", updatedTopic.getStatus());
-            long t0 = System.nanoTime();
-            var got = Crds.topicOperation(kubeClient)
-                    .resource(updatedTopic)
-                    .updateStatus();
-            LOGGER.traceCr(reconciliation, "Updated status to observedGeneration {}, resourceVersion now {}, took {}ns",
-                    got.getStatus().getObservedGeneration(),
-                    resourceVersion(got), System.nanoTime() - t0);
-        } else {
-            LOGGER.traceCr(reconciliation, "Unchanged status of {}", kt.getStatus());
-        }
+        return updateStatus(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), reason, message);
     }
 
-    private static boolean isDifferentCondition(Condition oldReadyCondition,
-                                                String newReason,
-                                                String newMessage,
-                                                String newStatus) {
-        return !Objects.equals(oldReadyCondition.getType(), "Ready")
-                || !Objects.equals(oldReadyCondition.getStatus(), newStatus)
-                || !Objects.equals(oldReadyCondition.getReason(), newReason)
-                || !Objects.equals(oldReadyCondition.getMessage(), newMessage);
+    private CompletableFuture<Void> updateStatusOk(ReconcilableTopic reconcilableTopic) {
+        return updateStatus(reconcilableTopic.reconciliation(), reconcilableTopic.kt(), null, null);
+    }
+
+    private CompletableFuture<Void> updateStatus(Reconciliation reconciliation, KafkaTopic kt, String newReason, String newMessage) {
+        return statusWriter.update(reconciliation, kt, newReason, newMessage);
+    }
+
+    /**
+     * @param statusUpdates The status updates of a batch
+     * @return A future which completes when all the status updates have completed, recording how long
+     * they took to complete after the rest of the batch had been reconciled.
+     */
+    private CompletableFuture<Void> allStatusUpdates(List<CompletableFuture<Void>> statusUpdates) {
+        long t0 = System.nanoTime();
+        return CompletableFuture.allOf(statusUpdates.toArray(new CompletableFuture[0]))
+                .whenComplete((ignored, error) ->
+                        metrics.statusUpdateBatchTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS));
     }
 }
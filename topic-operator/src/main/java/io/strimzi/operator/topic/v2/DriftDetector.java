@@ -0,0 +1,268 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.ItemStore;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ShardOwnership;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Detects topics which have been changed directly in Kafka (for example using {@code kafka-configs.sh}),
+ * so that they no longer match their KafkaTopic, and queues the KafkaTopics of those topics for reconciliation.
+ *
+ * <p>Each {@linkplain #sweep() sweep} lists the topics in Kafka and describes them (and their configs) in
+ * chunks of {@code chunkSize} topics, comparing the result with the spec of the KafkaTopics in the
+ * {@link ItemStore}. This costs a few large Admin requests per sweep, rather than the describe per topic
+ * of a reconciliation, so it allows informer resyncs to be much less frequent.</p>
+ *
+ * <p>Only KafkaTopics which are selected, owned by this replica, managed, not being deleted and Ready are considered:
+ * other KafkaTopics either don't need to be in sync with Kafka, or are already known to have a problem.</p>
+ *
+ * <p>Partitions which are being reassigned (for example by a Cruise Control rebalance) are compared using the replicas
+ * they will have once the reassignment has completed, like the controller does, so that a rebalance doesn't make
+ * every reassigning topic look drifted. The reassignments are listed once per sweep, using the
+ * {@link ReassignmentSnapshot} when it's enabled.</p>
+ *
+ * <p>When the {@link ReconciledStateCache} is enabled, the descriptions are also used to validate its entries,
+ * so that the cache does not need its own sweeps of the same topics.</p>
+ */
+class DriftDetector {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(DriftDetector.class);
+
+    private final Admin admin;
+    private final ItemStore<KafkaTopic> itemStore;
+    private final BatchingLoop queue;
+    private final ReconciledStateCache reconciledStateCache;
+    private final ReassignmentSnapshot reassignmentSnapshot;
+    private final ShardOwnership shardOwnership;
+    private final Map<String, String> selector;
+    private final int chunkSize;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+
+    /**
+     * @param admin The Admin client
+     * @param itemStore The informer's item store
+     * @param queue The queue to add the KafkaTopics of drifted topics to
+     * @param reconciledStateCache The reconciled state cache, or null if it is disabled.
+     * @param reassignmentSnapshot The snapshot of the partition reassignments, or null if it is disabled.
+     * @param shardOwnership The ownership of topics by this replica, or null if sharding is disabled.
+     * @param selector The label selector of the operator
+     * @param chunkSize The number of topics to describe in each request
+     * @param metrics The metrics holder
+     * @param namespace The namespace of the operator
+     */
+    DriftDetector(Admin admin,
+                  ItemStore<KafkaTopic> itemStore,
+                  BatchingLoop queue,
+                  ReconciledStateCache reconciledStateCache,
+                  ReassignmentSnapshot reassignmentSnapshot,
+                  ShardOwnership shardOwnership,
+                  Map<String, String> selector,
+                  int chunkSize,
+                  TopicOperatorMetricsHolder metrics,
+                  String namespace) {
+        this.admin = admin;
+        this.itemStore = itemStore;
+        this.queue = queue;
+        this.reconciledStateCache = reconciledStateCache;
+        this.reassignmentSnapshot = reassignmentSnapshot;
+        this.shardOwnership = shardOwnership;
+        this.selector = selector;
+        this.chunkSize = chunkSize;
+        this.metrics = metrics;
+        this.namespace = namespace;
+    }
+
+    /**
+     * Compares the topics in Kafka with their KafkaTopics, queueing the KafkaTopics of those which differ.
+     */
+    void sweep() {
+        long t0 = System.nanoTime();
+        try {
+            Map<String, KafkaTopic> desired = desiredState();
+            // internal topics are listed too, so that their KafkaTopics are not reported as deleted
+            Set<String> existing = admin.listTopics(new ListTopicsOptions().listInternal(true)).names().get();
+            List<String> toDescribe = new ArrayList<>(desired.size());
+            Set<String> unchanged = new HashSet<>(desired.size());
+            for (var entry : desired.entrySet()) {
+                if (existing.contains(entry.getKey())) {
+                    toDescribe.add(entry.getKey());
+                } else {
+                    // deleted in Kafka, so it needs recreating
+                    drifted(entry.getValue(), "topic does not exist");
+                }
+            }
+            var reassignments = toDescribe.isEmpty() ? Map.<TopicPartition, PartitionReassignment>of() : reassignments();
+            for (int from = 0; from < toDescribe.size(); from += chunkSize) {
+                sweep(toDescribe.subList(from, Math.min(from + chunkSize, toDescribe.size())), desired, reassignments, unchanged);
+            }
+            if (reconciledStateCache != null) {
+                // the entries of topics which were not checked, or which have drifted, cannot be trusted
+                reconciledStateCache.retainAll(unchanged);
+            }
+            LOGGER.debugOp("Checked {} KafkaTopics for drift in {}ms", desired.size(), (System.nanoTime() - t0) / 1_000_000);
+        } catch (InterruptedException e) {
+            LOGGER.infoOp("Interrupted while checking for drift");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | RuntimeException e) {
+            // Don't let the exception propagate, because that would cancel future sweeps
+            LOGGER.warnOp("Checking for drift failed", e);
+        } finally {
+            metrics.driftDetectionSweepTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @return The KafkaTopics which should be in sync with Kafka, keyed by topic name.
+     * Topics managed by more than one KafkaTopic are omitted.
+     */
+    private Map<String, KafkaTopic> desiredState() {
+        Map<String, KafkaTopic> desired = new HashMap<>();
+        Set<String> conflicting = new HashSet<>();
+        itemStore.values().filter(kt -> BatchingTopicController.matchesSelector(selector, kt.getMetadata().getLabels())
+                    && BatchingTopicController.isManaged(kt)
+                    && !BatchingTopicController.isForDeletion(kt)
+                    && isReady(kt)
+        ).forEach(kt -> {
+            String topicName = BatchingTopicController.topicName(kt);
+            if (shardOwnership != null && !shardOwnership.owns(topicName)) {
+                return;
+            }
+            if (desired.putIfAbsent(topicName, kt) != null) {
+                conflicting.add(topicName);
+            }
+        });
+        desired.keySet().removeAll(conflicting);
+        return desired;
+    }
+
+    private Map<TopicPartition, PartitionReassignment> reassignments() throws ExecutionException, InterruptedException {
+        if (reassignmentSnapshot != null) {
+            return reassignmentSnapshot.reassignments();
+        }
+        LOGGER.traceOp("Admin.listPartitionReassignments()");
+        long t0 = System.nanoTime();
+        try {
+            return admin.listPartitionReassignments().reassignments().get();
+        } finally {
+            metrics.listReassignmentsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static boolean isReady(KafkaTopic kt) {
+        var status = kt.getStatus();
+        if (status == null
+                || status.getConditions() == null
+                || !Objects.equals(status.getObservedGeneration(), kt.getMetadata().getGeneration())) {
+            return false;
+        }
+        for (Condition condition : status.getConditions()) {
+            if ("Ready".equals(condition.getType())) {
+                return "True".equals(condition.getStatus());
+            }
+        }
+        return false;
+    }
+
+    private void sweep(List<String> topicNames,
+                       Map<String, KafkaTopic> desired,
+                       Map<TopicPartition, PartitionReassignment> reassignments,
+                       Set<String> unchanged) throws InterruptedException {
+        var topicFutures = admin.describeTopics(topicNames).topicNameValues();
+        var configFutures = admin.describeConfigs(topicNames.stream()
+                .map(tn -> new ConfigResource(ConfigResource.Type.TOPIC, tn)).toList()).values();
+        for (String tn : topicNames) {
+            var kt = desired.get(tn);
+            try {
+                var description = topicFutures.get(tn).get();
+                var configs = configFutures.get(new ConfigResource(ConfigResource.Type.TOPIC, tn)).get();
+                String difference = difference(kt, description, configs, reassignments);
+                if (difference != null) {
+                    drifted(kt, difference);
+                } else {
+                    unchanged.add(tn);
+                    if (reconciledStateCache != null) {
+                        reconciledStateCache.validate(tn, description, configs);
+                    }
+                }
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                    // deleted since it was listed
+                    drifted(kt, "topic does not exist");
+                } else {
+                    LOGGER.debugOp("Unable to describe topic {} while checking for drift", tn, e.getCause());
+                }
+            }
+        }
+    }
+
+    /**
+     * @param kt The KafkaTopic
+     * @param description The description of the topic in Kafka
+     * @param configs The configs of the topic in Kafka
+     * @param reassignments The partition reassignments in progress
+     * @return A description of the difference between the KafkaTopic and the topic in Kafka, or null if they match.
+     */
+    /* test */ static String difference(KafkaTopic kt, TopicDescription description, Config configs,
+                                        Map<TopicPartition, PartitionReassignment> reassignments) {
+        var spec = kt.getSpec();
+        if (spec != null && spec.getPartitions() != null
+                && spec.getPartitions() != description.partitions().size()) {
+            return "partitions";
+        }
+        if (spec != null && spec.getReplicas() != null
+                && description.partitions().stream().anyMatch(partition -> {
+                    // while a partition is being reassigned its replicas include those being added, so use the target replicas
+                    var reassignment = reassignments.get(new TopicPartition(description.name(), partition.partition()));
+                    int replicas = reassignment != null
+                            ? BatchingTopicController.targetReplicationFactor(reassignment)
+                            : partition.replicas().size();
+                    return replicas != spec.getReplicas();
+                })) {
+            return "replicas";
+        }
+        var reconciliation = new Reconciliation("drift", KafkaTopic.RESOURCE_KIND, kt.getMetadata().getNamespace(), kt.getMetadata().getName());
+        if (!BatchingTopicController.buildAlterConfigOps(reconciliation, kt, configs).isEmpty()) {
+            return "configs";
+        }
+        return null;
+    }
+
+    private void drifted(KafkaTopic kt, String difference) {
+        LOGGER.infoOp("Topic {} has drifted from KafkaTopic {}/{} ({}), queueing it for reconciliation",
+                BatchingTopicController.topicName(kt), kt.getMetadata().getNamespace(), kt.getMetadata().getName(), difference);
+        metrics.driftedTopicsCounter(namespace).increment();
+        if (reconciledStateCache != null) {
+            // otherwise the upsert would be treated as a resync of an unchanged KafkaTopic
+            reconciledStateCache.invalidate(BatchingTopicController.topicName(kt));
+        }
+        queue.offer(new TopicUpsert(System.nanoTime(), kt.getMetadata().getNamespace(), kt.getMetadata().getName(),
+                kt.getMetadata().getResourceVersion(), false));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.Condition;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.model.StatusUtils;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Writes the status of KafkaTopics to Kubernetes using a bounded number of concurrent requests,
+ * so that the status updates for a batch of KafkaTopics don't have to be made one after another.
+ */
+class KafkaTopicStatusWriter {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(KafkaTopicStatusWriter.class);
+
+    private final KubernetesClient kubeClient;
+    private final ExecutorService executor;
+
+    /**
+     * @param kubeClient The Kubernetes client
+     * @param maxConcurrency The maximum number of status updates in progress at any one time.
+     */
+    KafkaTopicStatusWriter(KubernetesClient kubeClient, int maxConcurrency) {
+        this.kubeClient = kubeClient;
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(maxConcurrency, r -> {
+            var thread = new Thread(r, "TopicOperator-status-writer-" + threadId.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Compares the new status with the status of the given KafkaTopic (the informer's copy) and,
+     * only if it has changed, submits it to be written.
+     * @param reconciliation The reconciliation
+     * @param kt The KafkaTopic
+     * @param newReason The reason of the Ready condition, or null if the KafkaTopic is ready.
+     * @param newMessage The message of the Ready condition, or null if the KafkaTopic is ready.
+     * @return A future which completes when the status has been updated,
+     * or completes exceptionally if the update failed.
+     */
+    CompletableFuture<Void> update(Reconciliation reconciliation,
+                                   KafkaTopic kt,
+                                   String newReason,
+                                   String newMessage) {
+        var oldStatus = kt.getStatus();
+        Condition oldReadyCondition = oldStatus == null || oldStatus.getConditions() == null ? null : oldStatus.getConditions().stream().findFirst().orElse(null);
+        String newStatus = newReason != null || newMessage != null ? "False" : "True";
+        if (oldStatus == null
+                || oldStatus.getObservedGeneration() != kt.getMetadata().getGeneration()
+                || oldStatus.getTopicName() == null
+                || oldReadyCondition == null
+                || isDifferentCondition(oldReadyCondition, newReason, newMessage, newStatus)) {
+            String newTopicName = !BatchingTopicController.isManaged(kt) ? null
+                    : oldStatus != null && oldStatus.getTopicName() != null ? oldStatus.getTopicName()
+                    : BatchingTopicController.topicName(kt);
+            var updatedTopic = new KafkaTopicBuilder(kt)
+                    .editOrNewMetadata()
+                        .withResourceVersion(null)
+                    .endMetadata()
+                    .editOrNewStatus()
+                        .withObservedGeneration(kt.getMetadata().getGeneration())
+                        .withTopicName(newTopicName)
+                        .withConditions(new ConditionBuilder()
+                                .withType("Ready")
+                                .withStatus(newStatus)
+                                .withReason(newReason)
+                                .withMessage(newMessage)
+                                .withLastTransitionTime(StatusUtils.iso8601Now())
+                                .build())
+                    .endStatus().build();
+            LOGGER.debugCr(reconciliation, "Updating status with {}", updatedTopic.getStatus());
+            return write(reconciliation, updatedTopic);
+        } else {
+            LOGGER.traceCr(reconciliation, "Unchanged status of {}", kt.getStatus());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    /**
+     * Asynchronously updates the status of the given KafkaTopic.
+     * @param reconciliation The reconciliation
+     * @param updatedTopic The KafkaTopic with the new status.
+     * @return A future which completes when the status has been updated,
+     * or completes exceptionally if the update failed.
+     */
+    private CompletableFuture<Void> write(Reconciliation reconciliation, KafkaTopic updatedTopic) {
+        return CompletableFuture.runAsync(() -> {
+            long t0 = System.nanoTime();
+            try {
+                var got = Crds.topicOperation(kubeClient)
+                        .resource(updatedTopic)
+                        .updateStatus();
+                LOGGER.traceCr(reconciliation, "Updated status to observedGeneration {}, resourceVersion now {}, took {}ns",
+                        got.getStatus().getObservedGeneration(),
+                        BatchingTopicController.resourceVersion(got), System.nanoTime() - t0);
+            } catch (RuntimeException e) {
+                LOGGER.warnCr(reconciliation, "Failed to update status", e);
+                throw e;
+            }
+        }, executor);
+    }
+
+    /**
+     * Stops accepting new status updates and waits for those already submitted to complete.
+     * @param timeoutMs The maximum time to wait.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    void stop(long timeoutMs) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS)) {
+            LOGGER.warnOp("Status updates still in progress after {}ms, abandoning them", timeoutMs);
+            executor.shutdownNow();
+        }
+    }
+
+    private static boolean isDifferentCondition(Condition oldReadyCondition,
+                                                String newReason,
+                                                String newMessage,
+                                                String newStatus) {
+        return !Objects.equals(oldReadyCondition.getType(), "Ready")
+                || !Objects.equals(oldReadyCondition.getStatus(), newStatus)
+                || !Objects.equals(oldReadyCondition.getReason(), newReason)
+                || !Objects.equals(oldReadyCondition.getMessage(), newMessage);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A short-lived snapshot of all the partition reassignments in progress in the cluster, shared by all the batches
+ * which need to know whether an apparent replication factor change is actually a reassignment.
+ *
+ * <p>During a large rebalance many batches find topics whose replication factor differs from their KafkaTopic.
+ * Rather than each of them calling {@link Admin#listPartitionReassignments()} for its own partitions, the
+ * reassignments of the whole cluster are listed at most once every {@code maxAgeMs}, and the result is reused
+ * until then. If the snapshot has expired, the first caller refreshes it and any concurrent callers wait for,
+ * and then use, that refresh. A failed refresh is not cached.</p>
+ *
+ * <p>The cost is that a reassignment which started or finished within the last {@code maxAgeMs} might not be
+ * reflected in the snapshot. This only affects whether a replication factor mismatch is reported in the status,
+ * and that is corrected by the next reconciliation of the KafkaTopic.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+class ReassignmentSnapshot {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReassignmentSnapshot.class);
+
+    private final Admin admin;
+    private final long maxAgeNs;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+
+    private Map<TopicPartition, PartitionReassignment> reassignments; // guarded by this
+    private long takenNanos; // guarded by this
+
+    /**
+     * @param admin The Admin client
+     * @param maxAgeMs The maximum age of a snapshot before it's refreshed
+     * @param metrics The metrics holder
+     * @param namespace The namespace
+     */
+    ReassignmentSnapshot(Admin admin, long maxAgeMs, TopicOperatorMetricsHolder metrics, String namespace) {
+        this.admin = admin;
+        this.maxAgeNs = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        this.metrics = metrics;
+        this.namespace = namespace;
+    }
+
+    /**
+     * @return The reassignments in progress in the cluster, as of at most {@code maxAgeMs} ago.
+     * @throws ExecutionException If the snapshot had to be refreshed and listing the reassignments failed.
+     * @throws InterruptedException If interrupted while listing the reassignments.
+     */
+    synchronized Map<TopicPartition, PartitionReassignment> reassignments() throws ExecutionException, InterruptedException {
+        long now = System.nanoTime();
+        if (reassignments == null || now - takenNanos > maxAgeNs) {
+            LOGGER.traceOp("Admin.listPartitionReassignments()");
+            long t0 = System.nanoTime();
+            try {
+                reassignments = admin.listPartitionReassignments().reassignments().get();
+            } finally {
+                metrics.listReassignmentsTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+            }
+            takenNanos = t0;
+            LOGGER.debugOp("Admin.listPartitionReassignments() found {} reassigning partitions in {}ns",
+                    reassignments.size(), System.nanoTime() - t0);
+        }
+        metrics.reassignmentSnapshotAge(namespace).set((int) TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - takenNanos));
+        return reassignments;
+    }
+}
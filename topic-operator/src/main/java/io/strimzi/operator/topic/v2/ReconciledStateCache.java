@@ -0,0 +1,236 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A cache of the state of topics which the {@link BatchingTopicController} has successfully reconciled
+ * without having to change anything in Kafka, keyed by topic name.
+ *
+ * <p>Each entry records the {@code metadata.resourceVersion} and {@code metadata.generation} of the KafkaTopic
+ * together with a fingerprint of the state of the topic in Kafka (partitions, replication factor and non-default
+ * configs). The resourceVersion of a KafkaTopic only changes when the KafkaTopic itself changes, so an upsert
+ * for the same resourceVersion is a resync, and when it hits the cache the controller can skip the Admin
+ * round trips.</p>
+ *
+ * <p>Changes made to topics directly in Kafka would go unnoticed by such resyncs, so the cache is periodically
+ * {@linkplain #sweep() swept}: the cached topics are described in large batches and the entries whose fingerprint
+ * no longer matches are invalidated, so that the next resync of the KafkaTopic reconciles it fully.
+ * When the {@link DriftDetector} is enabled, it already describes the topics periodically, so rather than the cache
+ * doing its own sweeps, the drift detector {@linkplain #validate(String, TopicDescription, Config) validates} the
+ * entries using its descriptions and {@linkplain #retainAll(Set) invalidates} those of the topics it did not check.</p>
+ */
+class ReconciledStateCache {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(ReconciledStateCache.class);
+
+    /** The number of topics described by each request during a sweep */
+    static final int SWEEP_BATCH_SIZE = 1000;
+
+    record Entry(String resourceVersion, Long generation, long fingerprint) { }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Admin admin;
+    private final TopicOperatorMetricsHolder metrics;
+    private final String namespace;
+
+    ReconciledStateCache(Admin admin, TopicOperatorMetricsHolder metrics, String namespace) {
+        this.admin = admin;
+        this.metrics = metrics;
+        this.namespace = namespace;
+    }
+
+    /**
+     * @param reconcilableTopic The topic
+     * @return true if the topic was last reconciled from the same KafkaTopic (resourceVersion and generation)
+     * and hasn't been found to have changed in Kafka since.
+     */
+    boolean isUnchanged(ReconcilableTopic reconcilableTopic) {
+        var entry = entries.get(reconcilableTopic.topicName());
+        var kt = reconcilableTopic.kt();
+        boolean unchanged = entry != null
+                && Objects.equals(entry.resourceVersion(), kt.getMetadata().getResourceVersion())
+                && Objects.equals(entry.generation(), kt.getMetadata().getGeneration());
+        if (unchanged) {
+            metrics.reconciledStateCacheHitsCounter(namespace).increment();
+        }
+        return unchanged;
+    }
+
+    /**
+     * Records that the given KafkaTopic has been successfully reconciled, without any change being required in Kafka.
+     * @param topicName The name of the topic
+     * @param kt The KafkaTopic
+     * @param topicDescription The description of the topic in Kafka
+     * @param configs The configs of the topic in Kafka
+     */
+    void put(String topicName, KafkaTopic kt, TopicDescription topicDescription, Config configs) {
+        entries.put(topicName, new Entry(kt.getMetadata().getResourceVersion(), kt.getMetadata().getGeneration(),
+                fingerprint(topicDescription, configs)));
+        metrics.reconciledStateCacheSize(namespace).set(entries.size());
+    }
+
+    /**
+     * Removes any entry for the given topic.
+     * @param topicName The name of the topic
+     */
+    void invalidate(String topicName) {
+        if (entries.remove(topicName) != null) {
+            metrics.reconciledStateCacheSize(namespace).set(entries.size());
+        }
+    }
+
+    /**
+     * Invalidates the entry of the given topic if it no longer matches the given state of the topic in Kafka.
+     * @param topicName The name of the topic
+     * @param topicDescription The description of the topic in Kafka
+     * @param configs The configs of the topic in Kafka
+     */
+    void validate(String topicName, TopicDescription topicDescription, Config configs) {
+        var entry = entries.get(topicName);
+        // only remove the entry we compared with, not one put concurrently by the controller
+        if (entry != null
+                && fingerprint(topicDescription, configs) != entry.fingerprint()
+                && entries.remove(topicName, entry)) {
+            invalidated(topicName);
+        }
+    }
+
+    /**
+     * Invalidates the entries of all the topics except the given ones.
+     * @param topicNames The names of the topics whose entries should be kept
+     */
+    void retainAll(Set<String> topicNames) {
+        for (var entry : entries.entrySet()) {
+            if (!topicNames.contains(entry.getKey()) && entries.remove(entry.getKey(), entry.getValue())) {
+                invalidated(entry.getKey());
+            }
+        }
+    }
+
+    private void invalidated(String topicName) {
+        LOGGER.debugOp("Topic {} might have changed in Kafka, invalidating cached state", topicName);
+        metrics.reconciledStateCacheInvalidationsCounter(namespace).increment();
+        metrics.reconciledStateCacheSize(namespace).set(entries.size());
+    }
+
+    /* test */ int size() {
+        return entries.size();
+    }
+
+    /**
+     * Describes the cached topics in Kafka and invalidates the entries of those topics whose fingerprint
+     * has changed, or which no longer exist.
+     */
+    void sweep() {
+        long t0 = System.nanoTime();
+        List<String> topicNames = new ArrayList<>(entries.keySet());
+        LOGGER.debugOp("Sweeping {} cached topics", topicNames.size());
+        int invalidated = 0;
+        try {
+            for (int from = 0; from < topicNames.size(); from += SWEEP_BATCH_SIZE) {
+                invalidated += sweep(topicNames.subList(from, Math.min(from + SWEEP_BATCH_SIZE, topicNames.size())));
+            }
+        } catch (InterruptedException e) {
+            LOGGER.infoOp("Interrupted while sweeping cached topics");
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException e) {
+            // Don't let the exception propagate, because that would cancel future sweeps
+            LOGGER.warnOp("Sweep of cached topics failed", e);
+            return;
+        } finally {
+            metrics.reconciledStateCacheSweepTimer(namespace).record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        }
+        LOGGER.infoOp("Swept {} cached topics in {}ms, invalidating {} which changed in Kafka",
+                topicNames.size(), (System.nanoTime() - t0) / 1_000_000, invalidated);
+    }
+
+    private int sweep(List<String> topicNames) throws InterruptedException {
+        var snapshot = topicNames.stream()
+                .filter(entries::containsKey)
+                .collect(Collectors.toMap(tn -> tn, entries::get));
+        var topicFutures = admin.describeTopics(snapshot.keySet()).topicNameValues();
+        var configFutures = admin.describeConfigs(snapshot.keySet().stream()
+                .map(tn -> new ConfigResource(ConfigResource.Type.TOPIC, tn)).toList()).values();
+        int invalidated = 0;
+        for (var cached : snapshot.entrySet()) {
+            String tn = cached.getKey();
+            boolean changed;
+            try {
+                var description = topicFutures.get(tn).get();
+                var configs = configFutures.get(new ConfigResource(ConfigResource.Type.TOPIC, tn)).get();
+                changed = fingerprint(description, configs) != cached.getValue().fingerprint();
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof UnknownTopicOrPartitionException)) {
+                    LOGGER.debugOp("Unable to describe topic {} during sweep, invalidating", tn, e.getCause());
+                }
+                changed = true;
+            }
+            // only remove the entry we compared with, not one put concurrently by the controller
+            if (changed && entries.remove(tn, cached.getValue())) {
+                LOGGER.debugOp("Topic {} has changed in Kafka, invalidating cached state", tn);
+                metrics.reconciledStateCacheInvalidationsCounter(namespace).increment();
+                invalidated++;
+            }
+        }
+        metrics.reconciledStateCacheSize(namespace).set(entries.size());
+        return invalidated;
+    }
+
+    /**
+     * @param topicDescription The description of a topic
+     * @param configs The configs of a topic
+     * @return A fingerprint of the number of partitions, the replication factors of the partitions and the
+     * non-default configs of the topic.
+     */
+    static long fingerprint(TopicDescription topicDescription, Config configs) {
+        var sb = new StringBuilder();
+        for (var partition : topicDescription.partitions()) {
+            sb.append(partition.partition()).append(':').append(partition.replicas().size()).append(',');
+        }
+        sb.append('\n');
+        var dynamicConfigs = new TreeMap<String, String>();
+        for (var entry : configs.entries()) {
+            if (entry.source() == ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG) {
+                dynamicConfigs.put(entry.name(), entry.value());
+            }
+        }
+        for (var entry : dynamicConfigs.entrySet()) {
+            sb.append(entry.getKey()).append('=').append(entry.getValue()).append('\n');
+        }
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return ByteBuffer.wrap(digest).getLong();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every Java platform
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatus;
+import io.strimzi.api.kafka.model.status.KafkaTopicStatusBuilder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An informer item store which keeps a slim projection of each KafkaTopic, rather than the KafkaTopic as received
+ * from the API server.
+ *
+ * <p>The projection keeps only what the operator reads:</p>
+ * <ul>
+ *     <li>the identity of the KafkaTopic (apiVersion, kind, namespace, name, uid and creationTimestamp),</li>
+ *     <li>the generation, resourceVersion, deletionTimestamp and finalizers,</li>
+ *     <li>the labels (which the selector is matched against) and the {@code strimzi.io/} annotations,</li>
+ *     <li>the spec,</li>
+ *     <li>the observedGeneration, topicName and conditions of the status.</li>
+ * </ul>
+ * <p>In particular the managedFields, owner references and other annotations (such as
+ * {@code kubectl.kubernetes.io/last-applied-configuration}, which repeats the whole spec) are dropped.
+ * This is enough for {@link BatchingLoop} and {@link BatchingTopicController}, which only update the status
+ * subresource and edit the finalizers using the cached copy.</p>
+ */
+class SlimKafkaTopicItemStore extends BasicItemStore<KafkaTopic> {
+
+    /** The prefix of the annotations which are kept. */
+    static final String ANNOTATION_PREFIX = "strimzi.io/";
+
+    SlimKafkaTopicItemStore() {
+        super(Cache::metaNamespaceKeyFunc);
+    }
+
+    @Override
+    public KafkaTopic put(String key, KafkaTopic obj) {
+        return super.put(key, slim(obj));
+    }
+
+    /**
+     * @param kt A KafkaTopic
+     * @return The slim projection of the given KafkaTopic.
+     */
+    static KafkaTopic slim(KafkaTopic kt) {
+        var slim = new KafkaTopic();
+        slim.setApiVersion(kt.getApiVersion());
+        slim.setKind(kt.getKind());
+        slim.setMetadata(slim(kt.getMetadata()));
+        slim.setSpec(kt.getSpec());
+        slim.setStatus(slim(kt.getStatus()));
+        return slim;
+    }
+
+    private static ObjectMeta slim(ObjectMeta metadata) {
+        if (metadata == null) {
+            return null;
+        }
+        return new ObjectMetaBuilder()
+                .withNamespace(metadata.getNamespace())
+                .withName(metadata.getName())
+                .withUid(metadata.getUid())
+                .withCreationTimestamp(metadata.getCreationTimestamp())
+                .withGeneration(metadata.getGeneration())
+                .withResourceVersion(metadata.getResourceVersion())
+                .withDeletionTimestamp(metadata.getDeletionTimestamp())
+                // empty finalizers and labels are kept as they are: the controller adds to and matches against them
+                .withFinalizers(metadata.getFinalizers())
+                .withLabels(metadata.getLabels())
+                .withAnnotations(strimziAnnotations(metadata.getAnnotations()))
+                .build();
+    }
+
+    private static Map<String, String> strimziAnnotations(Map<String, String> annotations) {
+        if (annotations == null || annotations.isEmpty()) {
+            return null;
+        }
+        Map<String, String> result = null;
+        for (var entry : annotations.entrySet()) {
+            if (entry.getKey().startsWith(ANNOTATION_PREFIX)) {
+                if (result == null) {
+                    result = new HashMap<>(2);
+                }
+                result.put(entry.getKey(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    private static KafkaTopicStatus slim(KafkaTopicStatus status) {
+        if (status == null) {
+            return null;
+        }
+        return new KafkaTopicStatusBuilder()
+                .withObservedGeneration(status.getObservedGeneration())
+                .withTopicName(status.getTopicName())
+                .withConditions(status.getConditions())
+                .build();
+    }
+}
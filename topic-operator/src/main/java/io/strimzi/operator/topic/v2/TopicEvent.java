@@ -17,6 +17,12 @@ sealed interface TopicEvent permits TopicUpsert, TopicDelete {
     String name();
     String resourceVersion();
 
+    /**
+     * @return true if this event is a periodic resync of a KafkaTopic which hasn't changed,
+     * rather than a genuine change.
+     */
+    boolean resync();
+
     default KubeRef toRef() {
         return new KubeRef(namespace(), name(), 0);
     }
@@ -28,8 +34,9 @@ sealed interface TopicEvent permits TopicUpsert, TopicDelete {
  * @param namespace The namespace of the KafkaTopic
  * @param name The name of the KafkaTopic
  * @param resourceVersion The resourceVersion of the KafkaTopic
+ * @param resync Whether this event is a periodic resync, rather than a genuine change
  */
-record TopicUpsert(long nanosStartOffset, String namespace, String name, String resourceVersion) implements TopicEvent {
+record TopicUpsert(long nanosStartOffset, String namespace, String name, String resourceVersion, boolean resync) implements TopicEvent {
     @Override
     public long ageNs() {
         return System.nanoTime() - nanosStartOffset;
@@ -54,6 +61,7 @@ record TopicUpsert(long nanosStartOffset, String namespace, String name, String
                 "namespace='" + namespace + '\'' +
                 ", name='" + name + '\'' +
                 ", resourceVersion='" + resourceVersion + '\'' +
+                ", resync=" + resync +
                 ", ageNs='" + ageNs() + '\'' +
                 '}';
     }
@@ -84,6 +92,11 @@ record TopicDelete(long nanosStartOffset, KafkaTopic topic) implements TopicEven
         return System.nanoTime() - nanosStartOffset;
     }
 
+    @Override
+    public boolean resync() {
+        return false;
+    }
+
     @Override
     public String toString() {
         return "TopicDelete{" +
@@ -0,0 +1,268 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.operator.common.ReconciliationLogger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A queue of {@link TopicEvent}s keyed by the {@link KubeRef} of the KafkaTopic they relate to.
+ *
+ * <p>Events for a KafkaTopic which is already queued are coalesced with the queued events:</p>
+ * <ul>
+ *     <li>An upsert replaces a queued upsert (the item store will be consulted for the latest
+ *     state of the KafkaTopic anyway).</li>
+ *     <li>A delete replaces any queued events.</li>
+ *     <li>An upsert following a queued delete is queued after the delete (the KafkaTopic was recreated).</li>
+ * </ul>
+ * <p>So there are at most two events queued for any KafkaTopic, and the size of the queue is bounded
+ * by the number of distinct KafkaTopics rather than by the rate of events. For this reason events are never rejected:
+ * the configured queue size is only the expected capacity, and a warning is logged when the queue grows beyond it.
+ * A coalesced upsert keeps the time at which the earliest of the coalesced upserts was received,
+ * so that {@link TopicEvent#ageNs()} reflects how long the change has been waiting.</p>
+ *
+ * <p>KafkaTopics are queued in one of two lanes. Genuine changes (additions, updates and deletions) go in the
+ * high priority lane and {@linkplain TopicEvent#resync() periodic resyncs} go in the low priority lane, so that
+ * a user's change isn't stuck behind the resync of every KafkaTopic in the namespace. A KafkaTopic in the low
+ * priority lane moves to the high priority lane when a change is queued for it, while a resync for a KafkaTopic
+ * which is already queued is redundant and is dropped. To stop resyncs being starved by a steady stream of changes,
+ * at least one in every {@link #RESYNC_SHARE} polls is served from the low priority lane when both lanes are
+ * non-empty. Within each lane the queue is FIFO.</p>
+ *
+ * <p>The queue also tracks which KafkaTopics are currently being reconciled ("in flight").
+ * A KafkaTopic is in flight from the point when one of its events is {@linkplain #poll(long, TimeUnit) polled}
+ * until the point when it is {@linkplain #complete(KubeRef) completed}. Events which arrive while a KafkaTopic is in
+ * flight are held back until it is completed, so {@link #poll(long, TimeUnit)} never returns an event for a KafkaTopic
+ * which is in flight.</p>
+ *
+ * <p>This class is thread-safe.</p>
+ */
+class TopicEventQueue {
+
+    static final ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicEventQueue.class);
+
+    /** When both lanes are non-empty, one in every {@code RESYNC_SHARE} polls is served from the resync lane. */
+    static final int RESYNC_SHARE = 8;
+
+    private final int maxQueueSize;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+
+    /**
+     * Events for KafkaTopics which are not in flight and have at least one genuine change queued,
+     * in the order in which the KafkaTopics were queued.
+     */
+    private final LinkedHashMap<KubeRef, List<TopicEvent>> changes = new LinkedHashMap<>(); // guarded by lock
+    /**
+     * Events for KafkaTopics which are not in flight and have only resyncs queued,
+     * in the order in which the KafkaTopics were queued.
+     */
+    private final LinkedHashMap<KubeRef, List<TopicEvent>> resyncs = new LinkedHashMap<>(); // guarded by lock
+    /** Events for KafkaTopics which are in flight. */
+    private final Map<KubeRef, List<TopicEvent>> parked = new HashMap<>(); // guarded by lock
+    private final Set<KubeRef> inFlight = new HashSet<>(); // guarded by lock
+    /** The number of polls served from the changes lane since one was last served from the resyncs lane. */
+    private int changesSinceResync = 0; // guarded by lock
+    /** Whether the queue has grown beyond {@link #maxQueueSize} since it was last below it. */
+    private boolean overSize = false; // guarded by lock
+
+    /**
+     * @param maxQueueSize The expected number of distinct KafkaTopics which can be queued. The queue grows beyond it
+     *                     when needed, but logs a warning when it does.
+     */
+    TopicEventQueue(int maxQueueSize) {
+        this.maxQueueSize = maxQueueSize;
+    }
+
+    /**
+     * Adds the given event to the queue, coalescing it with any events already queued for the same KafkaTopic.
+     * @param event The event.
+     */
+    void offer(TopicEvent event) {
+        KubeRef ref = event.toRef();
+        lock.lock();
+        try {
+            if (inFlight.contains(ref)) {
+                var events = parked.get(ref);
+                if (events == null) {
+                    events = new ArrayList<>(2);
+                    parked.put(ref, events);
+                    checkSize();
+                }
+                coalesce(events, event);
+                return;
+            }
+            var events = changes.get(ref);
+            if (events == null) {
+                events = resyncs.get(ref);
+                if (events == null) {
+                    events = new ArrayList<>(2);
+                    (event.resync() ? resyncs : changes).put(ref, events);
+                    checkSize();
+                } else if (!event.resync()) {
+                    // promote the KafkaTopic to the changes lane
+                    resyncs.remove(ref);
+                    changes.put(ref, events);
+                }
+            }
+            coalesce(events, event);
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void checkSize() {
+        if (size() > maxQueueSize && !overSize) {
+            overSize = true;
+            LOGGER.warnOp("The queue has more than {} KafkaTopics queued. Consider increasing the {} environment variable.",
+                    maxQueueSize, TopicOperatorConfig.MAX_QUEUE_SIZE.key());
+        }
+    }
+
+    private static void coalesce(List<TopicEvent> events, TopicEvent event) {
+        if (event instanceof TopicDelete) {
+            // the deletion supersedes any queued events
+            events.clear();
+        } else if (!events.isEmpty() && events.get(events.size() - 1) instanceof TopicUpsert queued) {
+            if (event.resync()) {
+                // the queued upsert will reconcile the latest state anyway
+                return;
+            }
+            // the latest upsert supersedes the queued one, but the change has been waiting since the queued one
+            events.remove(events.size() - 1);
+            event = new TopicUpsert(queued.nanosStartOffset(), event.namespace(), event.name(), event.resourceVersion(), false);
+        }
+        events.add(event);
+    }
+
+    /**
+     * Removes the first event for the KafkaTopic at the head of the queue, marking that KafkaTopic as in flight,
+     * and waiting up to the given timeout for an event to become available.
+     * The head of the changes lane is preferred over the head of the resyncs lane, subject to {@link #RESYNC_SHARE}.
+     * @param timeout The timeout
+     * @param unit The unit of the timeout
+     * @return The event, or null if the timeout elapsed before an event became available.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    TopicEvent poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (changes.isEmpty() && resyncs.isEmpty()) {
+                if (nanos <= 0L) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            LinkedHashMap<KubeRef, List<TopicEvent>> lane;
+            if (resyncs.isEmpty() || !changes.isEmpty() && changesSinceResync < RESYNC_SHARE - 1) {
+                lane = changes;
+                if (!resyncs.isEmpty()) {
+                    changesSinceResync++;
+                }
+            } else {
+                lane = resyncs;
+                changesSinceResync = 0;
+            }
+            Iterator<Map.Entry<KubeRef, List<TopicEvent>>> iterator = lane.entrySet().iterator();
+            var head = iterator.next();
+            iterator.remove();
+            var events = head.getValue();
+            var event = events.remove(0);
+            inFlight.add(head.getKey());
+            if (!events.isEmpty()) {
+                // the remaining event can only be processed once this one has been completed
+                parked.put(head.getKey(), events);
+            }
+            if (size() < maxQueueSize) {
+                overSize = false;
+            }
+            return event;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the given KafkaTopic as no longer being in flight, making any events received for it in
+     * the meantime available at the tail of the queue.
+     * @param ref The KafkaTopic.
+     */
+    void complete(KubeRef ref) {
+        lock.lock();
+        try {
+            if (inFlight.remove(ref)) {
+                var events = parked.remove(ref);
+                if (events != null) {
+                    (events.stream().allMatch(TopicEvent::resync) ? resyncs : changes).put(ref, events);
+                    notEmpty.signal();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of distinct KafkaTopics with queued events (whether or not they're in flight).
+     */
+    int size() {
+        lock.lock();
+        try {
+            return changes.size() + resyncs.size() + parked.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of distinct KafkaTopics with events which could be polled now.
+     */
+    int readySize() {
+        lock.lock();
+        try {
+            return changes.size() + resyncs.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of distinct KafkaTopics with only resyncs queued which could be polled now.
+     */
+    int resyncSize() {
+        lock.lock();
+        try {
+            return resyncs.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of KafkaTopics currently in flight.
+     */
+    int inFlightSize() {
+        lock.lock();
+        try {
+            return inFlight.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
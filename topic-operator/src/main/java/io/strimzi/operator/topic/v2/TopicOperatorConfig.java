@@ -46,9 +46,26 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
  * @param saslPassword,                 The SASL password for the Admin client
  * @param securityProtocol              The security protocol for the Admin client
  * @param useFinalizer                  Whether to use finalizers
- * @param maxQueueSize                  The capacity of the queue
+ * @param maxQueueSize                  The expected capacity of the queue (a warning is logged when it grows beyond this)
  * @param maxBatchSize                  The maximum size of a reconciliation batch
  * @param maxBatchLingerMs              The maximum time to wait for a reconciliation batch to contain {@code maxBatchSize} items.
+ * @param reconciledStateCacheEnabled   Whether resyncs of KafkaTopics which are unchanged since their last reconciliation should skip the Admin calls
+ * @param reconciledStateCacheSweepIntervalMs The interval, in ms, at which cached topics are checked for changes made directly in Kafka
+ *                                      (not used when drift detection is enabled, because the drift detector checks them)
+ * @param maxStatusUpdateConcurrency    The maximum number of concurrent KafkaTopic status updates
+ * @param driftDetectionEnabled         Whether to periodically check for topics which have been changed directly in Kafka
+ * @param driftDetectionIntervalMs      The interval, in ms, between checks for topics which have been changed directly in Kafka
+ * @param driftDetectionChunkSize       The number of topics described by each Admin request when checking for drift
+ * @param shardingEnabled               Whether the topics should be divided between the replicas of the operator
+ * @param shardGroup                    The name of the group of replicas which divide the topics between them
+ * @param shardIdentity                 The identity of this replica within the group (e.g. the pod name)
+ * @param shardLeaseDurationMs          The duration, in ms, of the Leases used to track the replicas of the group
+ * @param adaptiveBatchingEnabled       Whether the batch size and linger should adapt to the load, within {@code maxBatchSize} and {@code maxBatchLingerMs}
+ * @param minBatchLingerMs              The minimum linger, in ms, when adaptive batching is enabled
+ * @param slimInformerCacheEnabled      Whether the informer caches a slim projection of each KafkaTopic.
+ * @param reassignmentSnapshotEnabled   Whether the partition reassignments are listed from a snapshot shared between batches.
+ * @param reassignmentSnapshotMaxAgeMs  The maximum age of the partition reassignment snapshot.
+ * @param maxInFlightBatches            The maximum number of batches each loop thread can have in flight.
  */
 record TopicOperatorConfig(
         String namespace,
@@ -70,7 +87,23 @@ record TopicOperatorConfig(
         boolean useFinalizer,
         int maxQueueSize,
         int maxBatchSize,
-        long maxBatchLingerMs
+        long maxBatchLingerMs,
+        boolean reconciledStateCacheEnabled,
+        long reconciledStateCacheSweepIntervalMs,
+        int maxStatusUpdateConcurrency,
+        boolean driftDetectionEnabled,
+        long driftDetectionIntervalMs,
+        int driftDetectionChunkSize,
+        boolean shardingEnabled,
+        String shardGroup,
+        String shardIdentity,
+        long shardLeaseDurationMs,
+        boolean adaptiveBatchingEnabled,
+        long minBatchLingerMs,
+        boolean slimInformerCacheEnabled,
+        boolean reassignmentSnapshotEnabled,
+        long reassignmentSnapshotMaxAgeMs,
+        int maxInFlightBatches
 ) {
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorConfig.class);
 
@@ -96,6 +129,22 @@ record TopicOperatorConfig(
     static final ConfigParameter<Integer> MAX_QUEUE_SIZE = new ConfigParameter<>("STRIMZI_MAX_QUEUE_SIZE", strictlyPositive(INTEGER), "1024", CONFIG_VALUES);
     static final ConfigParameter<Integer> MAX_BATCH_SIZE = new ConfigParameter<>("STRIMZI_MAX_BATCH_SIZE", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
     static final ConfigParameter<Long> MAX_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MAX_BATCH_LINGER_MS", strictlyPositive(LONG), "100", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> RECONCILED_STATE_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_RECONCILED_STATE_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> RECONCILED_STATE_CACHE_SWEEP_INTERVAL_MS = new ConfigParameter<>("STRIMZI_RECONCILED_STATE_CACHE_SWEEP_INTERVAL_MS", strictlyPositive(LONG), "120000", CONFIG_VALUES);
+    static final ConfigParameter<Integer> MAX_STATUS_UPDATE_CONCURRENCY = new ConfigParameter<>("STRIMZI_MAX_STATUS_UPDATE_CONCURRENCY", strictlyPositive(INTEGER), "10", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> DRIFT_DETECTION_ENABLED = new ConfigParameter<>("STRIMZI_DRIFT_DETECTION_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> DRIFT_DETECTION_INTERVAL_MS = new ConfigParameter<>("STRIMZI_DRIFT_DETECTION_INTERVAL_MS", strictlyPositive(LONG), "300000", CONFIG_VALUES);
+    static final ConfigParameter<Integer> DRIFT_DETECTION_CHUNK_SIZE = new ConfigParameter<>("STRIMZI_DRIFT_DETECTION_CHUNK_SIZE", strictlyPositive(INTEGER), "1000", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> SHARDING_ENABLED = new ConfigParameter<>("STRIMZI_SHARDING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<String> SHARD_GROUP = new ConfigParameter<>("STRIMZI_SHARD_GROUP", NON_EMPTY_STRING, "strimzi-topic-operator", CONFIG_VALUES);
+    static final ConfigParameter<String> SHARD_IDENTITY = new ConfigParameter<>("STRIMZI_SHARD_IDENTITY", STRING, "", CONFIG_VALUES);
+    static final ConfigParameter<Long> SHARD_LEASE_DURATION_MS = new ConfigParameter<>("STRIMZI_SHARD_LEASE_DURATION_MS", strictlyPositive(LONG), "15000", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> ADAPTIVE_BATCHING_ENABLED = new ConfigParameter<>("STRIMZI_ADAPTIVE_BATCHING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> MIN_BATCH_LINGER_MS = new ConfigParameter<>("STRIMZI_MIN_BATCH_LINGER_MS", strictlyPositive(LONG), "1", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> SLIM_INFORMER_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_SLIM_INFORMER_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Boolean> REASSIGNMENT_SNAPSHOT_ENABLED = new ConfigParameter<>("STRIMZI_REASSIGNMENT_SNAPSHOT_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    static final ConfigParameter<Long> REASSIGNMENT_SNAPSHOT_MAX_AGE_MS = new ConfigParameter<>("STRIMZI_REASSIGNMENT_SNAPSHOT_MAX_AGE_MS", strictlyPositive(LONG), "5000", CONFIG_VALUES);
+    static final ConfigParameter<Integer> MAX_INFLIGHT_BATCHES = new ConfigParameter<>("STRIMZI_MAX_INFLIGHT_BATCHES", strictlyPositive(INTEGER), "1", CONFIG_VALUES);
 
     @SuppressWarnings("unchecked")
     private static <T> T get(Map<String, Object> map, ConfigParameter<T> value) {
@@ -138,7 +187,23 @@ record TopicOperatorConfig(
                 get(map, USE_FINALIZERS),
                 get(map, MAX_QUEUE_SIZE),
                 get(map, MAX_BATCH_SIZE),
-                get(map, MAX_BATCH_LINGER_MS)
+                get(map, MAX_BATCH_LINGER_MS),
+                get(map, RECONCILED_STATE_CACHE_ENABLED),
+                get(map, RECONCILED_STATE_CACHE_SWEEP_INTERVAL_MS),
+                get(map, MAX_STATUS_UPDATE_CONCURRENCY),
+                get(map, DRIFT_DETECTION_ENABLED),
+                get(map, DRIFT_DETECTION_INTERVAL_MS),
+                get(map, DRIFT_DETECTION_CHUNK_SIZE),
+                get(map, SHARDING_ENABLED),
+                get(map, SHARD_GROUP),
+                get(map, SHARD_IDENTITY),
+                get(map, SHARD_LEASE_DURATION_MS),
+                get(map, ADAPTIVE_BATCHING_ENABLED),
+                get(map, MIN_BATCH_LINGER_MS),
+                get(map, SLIM_INFORMER_CACHE_ENABLED),
+                get(map, REASSIGNMENT_SNAPSHOT_ENABLED),
+                get(map, REASSIGNMENT_SNAPSHOT_MAX_AGE_MS),
+                get(map, MAX_INFLIGHT_BATCHES)
         );
     }
 
@@ -242,6 +307,22 @@ record TopicOperatorConfig(
                 "\n\tmaxQueueSize=" + maxQueueSize +
                 "\n\tmaxBatchSize=" + maxBatchSize +
                 "\n\tmaxBatchLingerMs=" + maxBatchLingerMs +
+                "\n\treconciledStateCacheEnabled=" + reconciledStateCacheEnabled +
+                "\n\treconciledStateCacheSweepIntervalMs=" + reconciledStateCacheSweepIntervalMs +
+                "\n\tmaxStatusUpdateConcurrency=" + maxStatusUpdateConcurrency +
+                "\n\tdriftDetectionEnabled=" + driftDetectionEnabled +
+                "\n\tdriftDetectionIntervalMs=" + driftDetectionIntervalMs +
+                "\n\tdriftDetectionChunkSize=" + driftDetectionChunkSize +
+                "\n\tshardingEnabled=" + shardingEnabled +
+                "\n\tshardGroup=" + shardGroup +
+                "\n\tshardIdentity=" + shardIdentity +
+                "\n\tshardLeaseDurationMs=" + shardLeaseDurationMs +
+                "\n\tadaptiveBatchingEnabled=" + adaptiveBatchingEnabled +
+                "\n\tminBatchLingerMs=" + minBatchLingerMs +
+                "\n\tslimInformerCacheEnabled=" + slimInformerCacheEnabled +
+                "\n\treassignmentSnapshotEnabled=" + reassignmentSnapshotEnabled +
+                "\n\treassignmentSnapshotMaxAgeMs=" + reassignmentSnapshotMaxAgeMs +
+                "\n\tmaxInFlightBatches=" + maxInFlightBatches +
                 '}';
     }
 }
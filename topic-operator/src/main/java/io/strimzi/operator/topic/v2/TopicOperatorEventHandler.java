@@ -25,16 +25,18 @@ class TopicOperatorEventHandler implements ResourceEventHandler<KafkaTopic> {
         LOGGER.debugOp("Informed of add {}", obj);
         queue.offer(new TopicUpsert(System.nanoTime(), obj.getMetadata().getNamespace(),
                 obj.getMetadata().getName(),
-                obj.getMetadata().getResourceVersion()));
+                obj.getMetadata().getResourceVersion(),
+                false));
     }
 
     @Override
     public void onUpdate(KafkaTopic oldObj, KafkaTopic newObj) {
-        String trigger = oldObj.equals(newObj) ? "resync" : "update";
-        LOGGER.debugOp("Informed of {} {}", trigger, newObj);
+        boolean resync = oldObj.equals(newObj);
+        LOGGER.debugOp("Informed of {} {}", resync ? "resync" : "update", newObj);
         queue.offer(new TopicUpsert(System.nanoTime(), newObj.getMetadata().getNamespace(),
                 newObj.getMetadata().getName(),
-                newObj.getMetadata().getResourceVersion()));
+                newObj.getMetadata().getResourceVersion(),
+                resync));
 
     }
 
@@ -9,25 +9,46 @@ import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
 import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
+import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ShardOwnership;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
 import io.strimzi.operator.common.http.Liveness;
 import io.strimzi.operator.common.http.Readiness;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Entrypoint for unidirectional TO.
  */
+@SuppressWarnings("checkstyle:ClassDataAbstractionCoupling")
 public class TopicOperatorMain implements Liveness, Readiness {
 
     private final static ReconciliationLogger LOGGER = ReconciliationLogger.create(TopicOperatorMain.class);
 
+    /** The label used to find the Leases of the members of a shard group. */
+    static final String SHARD_GROUP_LABEL = "strimzi.io/topic-operator-shard-group";
+
     private final ResourceEventHandler<KafkaTopic> handler;
     private final String namespace;
     private final KubernetesClient client;
@@ -36,6 +57,18 @@ public class TopicOperatorMain implements Liveness, Readiness {
     private final BasicItemStore<KafkaTopic> itemStore;
     /* test */ final BatchingTopicController controller;
     private final Admin admin;
+    /* test */ final TopicOperatorMetricsHolder metrics;
+    private final ReconciledStateCache reconciledStateCache;
+    private final KafkaTopicStatusWriter statusWriter;
+    private final long reconciledStateCacheSweepIntervalMs;
+    private final DriftDetector driftDetector;
+    private final long driftDetectionIntervalMs;
+    private final ShardOwnership shardOwnership;
+    private final long shardRenewIntervalMs;
+    /** Queues the KafkaTopics gained by this replica, so that the thread renewing the Lease is not blocked. */
+    private final ScheduledExecutorService shardChangeExecutor;
+    private ScheduledExecutorService scheduledExecutor; // guarded by this
+    private ScheduledExecutorService leaseRenewalExecutor; // guarded by this
     private SharedIndexInformer<KafkaTopic> informer; // guarded by this
     Thread shutdownHook; // guarded by this
 
@@ -51,11 +84,45 @@ public class TopicOperatorMain implements Liveness, Readiness {
         this.client = client;
         this.resyncIntervalMs = config.fullReconciliationIntervalMs();
         this.admin = admin;
-        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer());
-        this.itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
-        this.queue = new BatchingLoop(config.maxQueueSize(),  controller, 1, config.maxBatchSize(), config.maxBatchLingerMs(), itemStore, this::stop);
+        MetricsProvider metricsProvider = createMetricsProvider();
+        this.metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, config.labelSelector(), metricsProvider);
+        this.reconciledStateCache = config.reconciledStateCacheEnabled() ? new ReconciledStateCache(admin, metrics, namespace) : null;
+        this.reconciledStateCacheSweepIntervalMs = config.reconciledStateCacheSweepIntervalMs();
+        this.statusWriter = new KafkaTopicStatusWriter(client, config.maxStatusUpdateConcurrency());
+        if (config.shardingEnabled()) {
+            if (config.shardIdentity().isEmpty()) {
+                throw new InvalidConfigurationException(TopicOperatorConfig.SHARD_IDENTITY.key() + " must be set when sharding is enabled");
+            }
+            this.shardOwnership = new ShardOwnership(client, namespace, SHARD_GROUP_LABEL, config.shardGroup(), config.shardIdentity(),
+                    config.shardLeaseDurationMs());
+            this.shardOwnership.addListener(this::onShardsChanged);
+            this.shardChangeExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+                var thread = new Thread(r, "TopicOperator-shard-change");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.shardOwnership = null;
+            this.shardChangeExecutor = null;
+        }
+        // renew well within the lease duration, so that a single failed renewal doesn't cost us our topics.
+        this.shardRenewIntervalMs = Math.max(1, config.shardLeaseDurationMs() / 3);
+        var reassignmentSnapshot = config.reassignmentSnapshotEnabled()
+                ? new ReassignmentSnapshot(admin, config.reassignmentSnapshotMaxAgeMs(), metrics, namespace)
+                : null;
+        this.controller = new BatchingTopicController(selector, admin, client, config.useFinalizer(), metrics, namespace,
+                reconciledStateCache, statusWriter, shardOwnership, reassignmentSnapshot);
+        this.itemStore = config.slimInformerCacheEnabled()
+                ? new SlimKafkaTopicItemStore()
+                : new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        this.queue = new BatchingLoop(config.maxQueueSize(),  controller, 1, config.maxInFlightBatches(), config.maxBatchSize(), config.maxBatchLingerMs(),
+                config.adaptiveBatchingEnabled(), config.minBatchLingerMs(), itemStore, metrics, namespace);
         this.handler = new TopicOperatorEventHandler(queue, config.useFinalizer());
-        this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, null);
+        this.driftDetector = config.driftDetectionEnabled()
+                ? new DriftDetector(admin, itemStore, queue, reconciledStateCache, reassignmentSnapshot, shardOwnership, selector, config.driftDetectionChunkSize(), metrics, namespace)
+                : null;
+        this.driftDetectionIntervalMs = config.driftDetectionIntervalMs();
+        this.healthAndMetricsServer = new HealthCheckAndMetricsServer(8080, this, this, metricsProvider);
     }
 
     synchronized void start() {
@@ -71,6 +138,10 @@ public class TopicOperatorMain implements Liveness, Readiness {
         healthAndMetricsServer.start();
         LOGGER.infoOp("Starting queue");
         queue.start();
+        if (shardOwnership != null) {
+            LOGGER.infoOp("Joining shard group as {}", shardOwnership.identity());
+            shardOwnership.renew();
+        }
         informer = Crds.topicOperation(client)
                 .inNamespace(namespace)
                 // Do NOT use withLabels to filter the informer, since the controller is stateful
@@ -81,6 +152,25 @@ public class TopicOperatorMain implements Liveness, Readiness {
                 .itemStore(itemStore);
         LOGGER.infoOp("Starting informer");
         informer.run();
+        if (reconciledStateCache != null || driftDetector != null) {
+            scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "TopicOperator-scheduled-executor"));
+        }
+        if (shardOwnership != null) {
+            // The renewals have their own thread so that a long sweep can't delay them until the Lease expires.
+            leaseRenewalExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "TopicOperator-lease-renewal"));
+            leaseRenewalExecutor.scheduleWithFixedDelay(shardOwnership::renew, shardRenewIntervalMs, shardRenewIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        if (reconciledStateCache != null && driftDetector == null) {
+            // when the drift detector is enabled, its sweeps validate the cache too
+            LOGGER.infoOp("Scheduling sweeps of the reconciled state cache");
+            scheduledExecutor.scheduleWithFixedDelay(reconciledStateCache::sweep,
+                    reconciledStateCacheSweepIntervalMs, reconciledStateCacheSweepIntervalMs, TimeUnit.MILLISECONDS);
+        }
+        if (driftDetector != null) {
+            LOGGER.infoOp("Scheduling drift detection");
+            scheduledExecutor.scheduleWithFixedDelay(driftDetector::sweep,
+                    driftDetectionIntervalMs, driftDetectionIntervalMs, TimeUnit.MILLISECONDS);
+        }
     }
 
     synchronized void stop() {
@@ -106,11 +196,26 @@ public class TopicOperatorMain implements Liveness, Readiness {
         LOGGER.infoOp("Shutdown initiated");
         try {
             shutdownHook = null;
+            if (scheduledExecutor != null) {
+                scheduledExecutor.shutdownNow(); // We do not wait for termination
+                scheduledExecutor = null;
+            }
+            if (leaseRenewalExecutor != null) {
+                leaseRenewalExecutor.shutdownNow();
+                leaseRenewalExecutor = null;
+            }
+            if (shardChangeExecutor != null) {
+                shardChangeExecutor.shutdownNow();
+            }
             if (informer != null) {
                 informer.stop();
                 informer = null;
             }
             this.queue.stop();
+            this.statusWriter.stop(10_000);
+            if (this.shardOwnership != null) {
+                this.shardOwnership.release();
+            }
             this.admin.close();
             this.healthAndMetricsServer.stop();
             LOGGER.infoOp("Shutdown completed normally");
@@ -120,6 +225,38 @@ public class TopicOperatorMain implements Liveness, Readiness {
         }
     }
 
+    /**
+     * Called on the thread renewing the Lease when the members of the shard group change.
+     * Schedules the queueing of the KafkaTopics whose topics this replica has gained, so that they get reconciled
+     * without waiting for the next resync.
+     * This is delayed by one renewal interval, by which time the replica which used to own the topics has
+     * noticed the change and stopped reconciling them (unless it has gone), so that the bulk of the gained
+     * topics isn't reconciled by both replicas at once.
+     * The topics which this replica has lost are forgotten by the controller when it next sees their KafkaTopics.
+     */
+    private void onShardsChanged(ShardOwnership.Ring oldRing, ShardOwnership.Ring newRing) {
+        shardChangeExecutor.schedule(() -> queueGainedTopics(oldRing), shardRenewIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void queueGainedTopics(ShardOwnership.Ring oldRing) {
+        String identity = shardOwnership.identity();
+        var gained = new AtomicInteger();
+        itemStore.values().forEach(kt -> {
+            String topicName = BatchingTopicController.topicName(kt);
+            // the ring might have changed again in the meantime, so check the current ownership
+            if (shardOwnership.owns(topicName) && !oldRing.owns(identity, topicName)) {
+                if (reconciledStateCache != null) {
+                    // another replica might have reconciled it in the meantime
+                    reconciledStateCache.invalidate(topicName);
+                }
+                queue.offer(new TopicUpsert(System.nanoTime(), kt.getMetadata().getNamespace(), kt.getMetadata().getName(),
+                        kt.getMetadata().getResourceVersion(), true));
+                gained.incrementAndGet();
+            }
+        });
+        LOGGER.infoOp("Shard group changed and {} KafkaTopics moved to this replica", gained.get());
+    }
+
     /**
      * Entrypoint for unidirectional TO.
      * @param args Command line args
@@ -136,6 +273,24 @@ public class TopicOperatorMain implements Liveness, Readiness {
         return new TopicOperatorMain(topicOperatorConfig.namespace(), topicOperatorConfig.labelSelector().toMap(), admin, client, topicOperatorConfig);
     }
 
+    /**
+     * Creates the MetricsProvider instance based on a PrometheusMeterRegistry and binds the JVM metrics to it
+     *
+     * @return  MetricsProvider instance
+     */
+    private static MetricsProvider createMetricsProvider()  {
+        MeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+
+        // Bind JVM metrics
+        new ClassLoaderMetrics().bindTo(registry);
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmGcMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+
+        return new TopicOperatorMetricsProvider(registry);
+    }
+
     static KubernetesClient kubeClient() {
         return new OperatorKubernetesClientBuilder(
                     "strimzi-topic-operator",
@@ -0,0 +1,385 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.metrics.MetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metrics holder for the unidirectional Topic Operator.
+ * On top of the common reconciliation metrics it covers the batching pipeline (queue, batches, in-flight topics)
+ * and the latency of the individual Admin client calls.
+ */
+public class TopicOperatorMetricsHolder extends MetricsHolder {
+    private final Map<String, AtomicInteger> queueSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> resyncQueueSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> inFlightSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, DistributionSummary> batchSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> batchLingerTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchSizeTargetMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> batchLingerTargetMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> changeQueueTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> resyncQueueTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> eventTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> describeTopicsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> describeConfigsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> alterConfigsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> createPartitionsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> createTopicsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> deleteTopicsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> listReassignmentsTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> statusUpdateBatchTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> driftedTopicsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> driftDetectionSweepTimerMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> reassignmentSnapshotAgeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, AtomicInteger> reconciledStateCacheSizeMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> reconciledStateCacheHitsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Counter> reconciledStateCacheInvalidationsCounterMap = new ConcurrentHashMap<>(1);
+    private final Map<String, Timer> reconciledStateCacheSweepTimerMap = new ConcurrentHashMap<>(1);
+
+    /**
+     * Constructs the Topic Operator metrics holder
+     *
+     * @param kind              Kind of the resources for which these metrics apply
+     * @param selectorLabels    Selector labels to select the controller resources
+     * @param metricsProvider   Metrics provider
+     */
+    public TopicOperatorMetricsHolder(String kind, Labels selectorLabels, MetricsProvider metricsProvider) {
+        super(kind, selectorLabels, metricsProvider);
+    }
+
+    ////////////////////
+    // Batching loop metrics
+    ////////////////////
+
+    /**
+     * Gauge metric for the number of events waiting in the queue of the batching loop.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger queueSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batching.loop.queue.size", metricsProvider, selectorLabels, queueSizeMap,
+                "Number of events waiting in the queue of the batching loop");
+    }
+
+    /**
+     * Gauge which tracks the number of periodic resyncs waiting in the low priority lane of the queue.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger resyncQueueSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batching.loop.queue.resyncs.size", metricsProvider, selectorLabels, resyncQueueSizeMap,
+                "Number of periodic resyncs waiting in the queue of the batching loop");
+    }
+
+    /**
+     * Gauge metric for the number of resources which are currently being reconciled.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger inFlightSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batching.loop.inflight.size", metricsProvider, selectorLabels, inFlightSizeMap,
+                "Number of resources which are currently being reconciled by the batching loop");
+    }
+
+    /**
+     * Distribution of the number of events in each (non-empty) batch.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics distribution summary
+     */
+    public DistributionSummary batchSize(String namespace) {
+        return getDistributionSummary(namespace, kind, METRICS_PREFIX + "batching.loop.batch.size", metricsProvider, selectorLabels, batchSizeMap,
+                "Number of events in each reconciliation batch");
+    }
+
+    /**
+     * Timer which measures how long the batching loop waited for each (non-empty) batch to fill up.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer batchLingerTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "batching.loop.batch.linger", metricsProvider, selectorLabels, batchLingerTimerMap,
+                "The time spent filling a reconciliation batch");
+    }
+
+    /**
+     * Gauge metric for the batch size chosen for the latest batch when adaptive batching is enabled.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchSizeTarget(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batching.loop.batch.size.target", metricsProvider, selectorLabels, batchSizeTargetMap,
+                "The batch size chosen for the latest batch when adaptive batching is enabled");
+    }
+
+    /**
+     * Gauge metric for the linger, in milliseconds, chosen for the latest batch when adaptive batching is enabled.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger batchLingerTarget(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "batching.loop.batch.linger.target.ms", metricsProvider, selectorLabels, batchLingerTargetMap,
+                "The linger, in milliseconds, chosen for the latest batch when adaptive batching is enabled");
+    }
+
+    /**
+     * Timer which measures the time genuine changes (additions, updates and deletions of KafkaTopics)
+     * spend in the queue before being polled.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer changeQueueTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "batching.loop.queue.changes.duration", metricsProvider, selectorLabels, changeQueueTimerMap,
+                "The time genuine changes to resources spend waiting in the queue of the batching loop");
+    }
+
+    /**
+     * Timer which measures the time periodic resyncs spend in the queue before being polled.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer resyncQueueTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "batching.loop.queue.resyncs.duration", metricsProvider, selectorLabels, resyncQueueTimerMap,
+                "The time periodic resyncs spend waiting in the queue of the batching loop");
+    }
+
+    /**
+     * Timer which measures the time from an event being received from Kubernetes until the reconciliation of the
+     * resource, including the update of its status, has completed.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer eventTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciliations.event.duration", metricsProvider, selectorLabels, eventTimerMap,
+                "The time from receiving an event until the reconciliation of the resource has completed");
+    }
+
+    ////////////////////
+    // Admin client metrics
+    ////////////////////
+
+    /**
+     * Timer which measures the latency of Admin.describeTopics() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer describeTopicsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "describe.topics.duration", metricsProvider, selectorLabels, describeTopicsTimerMap,
+                "The time the describeTopics Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures the latency of Admin.describeConfigs() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer describeConfigsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "describe.configs.duration", metricsProvider, selectorLabels, describeConfigsTimerMap,
+                "The time the describeConfigs Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures the latency of Admin.incrementalAlterConfigs() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer alterConfigsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "alter.configs.duration", metricsProvider, selectorLabels, alterConfigsTimerMap,
+                "The time the incrementalAlterConfigs Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures the latency of Admin.createPartitions() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer createPartitionsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "create.partitions.duration", metricsProvider, selectorLabels, createPartitionsTimerMap,
+                "The time the createPartitions Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures the latency of Admin.createTopics() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer createTopicsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "create.topics.duration", metricsProvider, selectorLabels, createTopicsTimerMap,
+                "The time the createTopics Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures the latency of Admin.deleteTopics() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer deleteTopicsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "delete.topics.duration", metricsProvider, selectorLabels, deleteTopicsTimerMap,
+                "The time the deleteTopics Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures the latency of Admin.listPartitionReassignments() calls.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer listReassignmentsTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "list.reassignments.duration", metricsProvider, selectorLabels, listReassignmentsTimerMap,
+                "The time the listPartitionReassignments Admin call takes to complete");
+    }
+
+    /**
+     * Timer which measures how long the KafkaTopic status updates of a batch take to complete,
+     * after the rest of the batch has been reconciled.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer statusUpdateBatchTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "status.update.batch.duration", metricsProvider, selectorLabels, statusUpdateBatchTimerMap,
+                "The time the KafkaTopic status updates of a batch take to complete");
+    }
+
+    ////////////////////
+    // Reconciled state cache metrics
+    ////////////////////
+
+    /**
+     * Gauge metric for the number of topics in the reconciled state cache.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger reconciledStateCacheSize(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reconciled.state.cache.size", metricsProvider, selectorLabels, reconciledStateCacheSizeMap,
+                "Number of topics in the reconciled state cache");
+    }
+
+    /**
+     * Counter metric for the number of reconciliations which skipped the Admin calls because the reconciled state
+     * cache showed that nothing had changed.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter reconciledStateCacheHitsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciled.state.cache.hits", metricsProvider, selectorLabels, reconciledStateCacheHitsCounterMap,
+                "Number of reconciliations which skipped the Admin calls because nothing had changed since the last reconciliation");
+    }
+
+    /**
+     * Counter metric for the number of reconciled state cache entries which were invalidated by a sweep because the
+     * topic had changed in Kafka.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter reconciledStateCacheInvalidationsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "reconciled.state.cache.invalidations", metricsProvider, selectorLabels, reconciledStateCacheInvalidationsCounterMap,
+                "Number of reconciled state cache entries invalidated because the topic changed in Kafka");
+    }
+
+    /**
+     * Timer which measures how long the sweeps of the reconciled state cache take.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer reconciledStateCacheSweepTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "reconciled.state.cache.sweep.duration", metricsProvider, selectorLabels, reconciledStateCacheSweepTimerMap,
+                "The time a sweep of the reconciled state cache takes to complete");
+    }
+
+    ////////////////////
+    // Drift detection metrics
+    ////////////////////
+
+    /**
+     * Counter metric for the number of topics found to have been changed directly in Kafka.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics counter
+     */
+    public Counter driftedTopicsCounter(String namespace) {
+        return getCounter(namespace, kind, METRICS_PREFIX + "drift.detection.drifted.topics", metricsProvider, selectorLabels, driftedTopicsCounterMap,
+                "Number of topics found to differ from their KafkaTopic because they were changed directly in Kafka");
+    }
+
+    /**
+     * Timer which measures how long a check for topics which have been changed directly in Kafka takes.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics timer
+     */
+    public Timer driftDetectionSweepTimer(String namespace) {
+        return getTimer(namespace, kind, METRICS_PREFIX + "drift.detection.sweep.duration", metricsProvider, selectorLabels, driftDetectionSweepTimerMap,
+                "The time a check for topics which were changed directly in Kafka takes to complete");
+    }
+
+    ////////////////////
+    // Reassignment snapshot metrics
+    ////////////////////
+
+    /**
+     * Gauge which tracks the age, in milliseconds, of the partition reassignment snapshot when it was last used.
+     *
+     * @param namespace     Namespace of the resources being reconciled
+     *
+     * @return  Metrics gauge
+     */
+    public AtomicInteger reassignmentSnapshotAge(String namespace) {
+        return getGauge(namespace, kind, METRICS_PREFIX + "reassignment.snapshot.age.ms", metricsProvider, selectorLabels, reassignmentSnapshotAgeMap,
+                "The age, in milliseconds, of the partition reassignment snapshot when it was last used");
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+
+import java.time.Duration;
+
+/**
+ * Metrics provider for the unidirectional Topic Operator.
+ * The timers of the Topic Operator mostly measure individual Admin and Kubernetes API calls, or the time an event
+ * spends in the operator, so they use finer grained buckets than the {@link MicrometerMetricsProvider}.
+ */
+public class TopicOperatorMetricsProvider extends MicrometerMetricsProvider {
+    /**
+     * Constructor of the Topic Operator metrics provider.
+     *
+     * @param metrics   Meter registry
+     */
+    public TopicOperatorMetricsProvider(MeterRegistry metrics) {
+        super(metrics);
+    }
+
+    /**
+     * Creates new Timer type metric
+     *
+     * @param name          Name of the metric
+     * @param description   Description of the metric
+     * @param tags          Tags used for the metric
+     * @return              Timer metric
+     */
+    @Override
+    public Timer timer(String name, String description, Tags tags) {
+        return Timer.builder(name)
+                .description(description)
+                .sla(Duration.ofMillis(10), Duration.ofMillis(20), Duration.ofMillis(50), Duration.ofMillis(100), Duration.ofMillis(500),
+                        Duration.ofMillis(1000), Duration.ofMillis(5000), Duration.ofMillis(10000), Duration.ofMillis(30000), Duration.ofMillis(60000))
+                .tags(tags)
+                .register(meterRegistry());
+    }
+}
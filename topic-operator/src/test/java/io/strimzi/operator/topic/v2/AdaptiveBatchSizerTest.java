@@ -0,0 +1,50 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AdaptiveBatchSizerTest {
+
+    @Test
+    void shouldNotWaitForMoreThanALoneEvent() {
+        var sizer = new AdaptiveBatchSizer(100, 1, 100);
+        var decision = sizer.decide(1, 0.0);
+        assertEquals(1, decision.batchSize());
+    }
+
+    @Test
+    void shouldUseFullBatchesWhenQueueIsDeep() {
+        var sizer = new AdaptiveBatchSizer(100, 1, 100);
+        assertEquals(new AdaptiveBatchSizer.Decision(100, 1), sizer.decide(5_000, 0.0));
+    }
+
+    @Test
+    void shouldWaitForEventsExpectedToArrive() {
+        var sizer = new AdaptiveBatchSizer(100, 1, 100);
+        for (int i = 0; i < 50; i++) {
+            sizer.recordBatchLatency(40);
+        }
+        // linger is half the batch latency, and 1 event/ms is expected to arrive during it
+        assertEquals(new AdaptiveBatchSizer.Decision(30, 20), sizer.decide(10, 1.0));
+        // but never more than a full batch
+        assertEquals(new AdaptiveBatchSizer.Decision(100, 20), sizer.decide(10, 100.0));
+    }
+
+    @Test
+    void shouldKeepLingerWithinBounds() {
+        var sizer = new AdaptiveBatchSizer(100, 5, 100);
+        for (int i = 0; i < 50; i++) {
+            sizer.recordBatchLatency(0);
+        }
+        assertEquals(5, sizer.decide(0, 0.0).lingerMs());
+        for (int i = 0; i < 50; i++) {
+            sizer.recordBatchLatency(10_000);
+        }
+        assertEquals(100, sizer.decide(0, 0.0).lingerMs());
+    }
+}
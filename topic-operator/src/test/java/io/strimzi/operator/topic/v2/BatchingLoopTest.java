@@ -0,0 +1,177 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+class BatchingLoopTest {
+
+    private static final String NAMESPACE = "ns";
+
+    private static BasicItemStore<KafkaTopic> itemStore(int numTopics) {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        for (int i = 0; i < numTopics; i++) {
+            var kt = new KafkaTopicBuilder()
+                    .withNewMetadata()
+                        .withNamespace(NAMESPACE)
+                        .withName("topic-" + i)
+                        .withResourceVersion("1")
+                    .endMetadata()
+                    .build();
+            itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt);
+        }
+        return itemStore;
+    }
+
+    private static BatchingLoop batchingLoop(BatchingTopicController controller, int maxInFlightBatches, BasicItemStore<KafkaTopic> itemStore) {
+        return batchingLoop(100, controller, maxInFlightBatches, itemStore);
+    }
+
+    private static BatchingLoop batchingLoop(int maxQueueSize, BatchingTopicController controller, int maxInFlightBatches, BasicItemStore<KafkaTopic> itemStore) {
+        var metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        return new BatchingLoop(maxQueueSize, controller, 1, maxInFlightBatches, 1, 1, false, 1, itemStore, metrics, NAMESPACE);
+    }
+
+    @Test
+    void shouldKeepRunningWhenMoreTopicsThanMaxQueueSizeAreQueued() throws InterruptedException {
+        int numTopics = 50;
+        var controller = Mockito.mock(BatchingTopicController.class);
+        var reconciled = new CountDownLatch(numTopics);
+        Mockito.doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            batch.forEach(ignored -> reconciled.countDown());
+            return CompletableFuture.completedFuture(null);
+        }).when(controller).onUpdate(any());
+
+        var loop = batchingLoop(10, controller, 1, itemStore(numTopics));
+        loop.start();
+        try {
+            // like the informer's periodic resync, which queues every KafkaTopic at once
+            for (int i = 0; i < numTopics; i++) {
+                loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-" + i, "1", true));
+            }
+            assertTrue(reconciled.await(10, TimeUnit.SECONDS));
+            assertTrue(loop.isAlive());
+            assertTrue(loop.isReady());
+        } finally {
+            loop.stop();
+        }
+    }
+
+    @Test
+    void shouldReconcileBatchesConcurrently() throws InterruptedException {
+        int maxInFlightBatches = 3;
+        var controller = Mockito.mock(BatchingTopicController.class);
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        var allInFlight = new CountDownLatch(maxInFlightBatches);
+        var release = new CountDownLatch(1);
+        var reconciled = new CountDownLatch(5);
+        Mockito.doAnswer(invocation -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            allInFlight.countDown();
+            release.await();
+            concurrent.decrementAndGet();
+            reconciled.countDown();
+            return CompletableFuture.completedFuture(null);
+        }).when(controller).onUpdate(any());
+
+        var loop = batchingLoop(controller, maxInFlightBatches, itemStore(5));
+        loop.start();
+        try {
+            for (int i = 0; i < 5; i++) {
+                loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-" + i, "1", false));
+            }
+            assertTrue(allInFlight.await(10, TimeUnit.SECONDS));
+            // no more than the maximum number of batches is in flight
+            Thread.sleep(100);
+            assertEquals(maxInFlightBatches, concurrent.get());
+            release.countDown();
+            assertTrue(reconciled.await(10, TimeUnit.SECONDS));
+        } finally {
+            loop.stop();
+        }
+        assertEquals(maxInFlightBatches, maxConcurrent.get());
+        Mockito.verify(controller, Mockito.times(5)).onUpdate(any());
+    }
+
+    @Test
+    void shouldNotReconcileTopicInTwoBatchesAtOnce() throws InterruptedException {
+        var controller = Mockito.mock(BatchingTopicController.class);
+        var inFlight = new AtomicInteger();
+        var overlapped = new AtomicInteger();
+        var reconciled = new CountDownLatch(2);
+        Mockito.doAnswer(invocation -> {
+            List<ReconcilableTopic> batch = invocation.getArgument(0);
+            assertEquals(1, batch.size());
+            if (inFlight.incrementAndGet() > 1) {
+                overlapped.incrementAndGet();
+            }
+            Thread.sleep(200);
+            inFlight.decrementAndGet();
+            reconciled.countDown();
+            return CompletableFuture.completedFuture(null);
+        }).when(controller).onUpdate(any());
+
+        var loop = batchingLoop(controller, 2, itemStore(1));
+        loop.start();
+        try {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-0", "1", false));
+            Thread.sleep(50);
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-0", "2", false));
+            assertTrue(reconciled.await(10, TimeUnit.SECONDS));
+        } finally {
+            loop.stop();
+        }
+        assertEquals(0, overlapped.get());
+    }
+
+    @Test
+    void shouldKeepTopicInFlightUntilStatusUpdated() throws InterruptedException {
+        var controller = Mockito.mock(BatchingTopicController.class);
+        var statusUpdate = new CompletableFuture<Void>();
+        var reconciled = new CountDownLatch(2);
+        Mockito.doAnswer(invocation -> {
+            reconciled.countDown();
+            // the first reconciliation's status update is still in progress
+            return reconciled.getCount() == 1 ? statusUpdate : CompletableFuture.completedFuture(null);
+        }).when(controller).onUpdate(any());
+
+        var loop = batchingLoop(controller, 2, itemStore(1));
+        loop.start();
+        try {
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-0", "1", false));
+            Mockito.verify(controller, Mockito.timeout(10_000)).onUpdate(any());
+            loop.offer(new TopicUpsert(System.nanoTime(), NAMESPACE, "topic-0", "2", false));
+            // the batch has been reconciled, but the topic is in flight until its status has been updated
+            assertFalse(reconciled.await(500, TimeUnit.MILLISECONDS));
+            assertEquals(1, reconciled.getCount());
+
+            statusUpdate.complete(null);
+            assertTrue(reconciled.await(10, TimeUnit.SECONDS));
+        } finally {
+            loop.stop();
+        }
+    }
+}
@@ -9,10 +9,13 @@ import io.fabric8.kubernetes.client.KubernetesClientBuilder;
 import io.kroxylicious.testing.kafka.api.KafkaCluster;
 import io.kroxylicious.testing.kafka.common.BrokerCluster;
 import io.kroxylicious.testing.kafka.junit5ext.KafkaClusterExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.strimzi.api.kafka.Crds;
 import io.strimzi.api.kafka.model.KafkaTopic;
 import io.strimzi.api.kafka.model.KafkaTopicBuilder;
 import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AdminClientConfig;
 import org.apache.kafka.clients.admin.AlterConfigsResult;
@@ -45,6 +48,7 @@ import java.util.Set;
 import java.util.concurrent.ExecutionException;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
@@ -120,7 +124,8 @@ class BatchingTopicControllerTest {
     }
 
     private void assertOnUpdateThrowsInterruptedException(KubernetesClient client, Admin admin, KafkaTopic kt) throws ExecutionException, InterruptedException {
-        controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true);
+        var metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        controller = new BatchingTopicController(Map.of("key", "VALUE"), admin, client, true, metrics, NAMESPACE, null, new KafkaTopicStatusWriter(client, 1), null, null);
         List<ReconcilableTopic> batch = List.of(new ReconcilableTopic(new Reconciliation("test", "KafkaTopic", NAMESPACE, NAME), kt, BatchingTopicController.topicName(kt)));
         assertThrows(InterruptedException.class, () -> controller.onUpdate(batch));
     }
@@ -230,6 +235,29 @@ class BatchingTopicControllerTest {
         assertOnUpdateThrowsInterruptedException(client, adminSpy, withDeletionTimestamp);
     }
 
+    @Test
+    public void shouldAddFinalizerToSlimKafkaTopicWithoutFinalizersOrLabels(KafkaCluster cluster) throws ExecutionException, InterruptedException {
+        admin[0] = Admin.create(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, cluster.getBootstrapServers()));
+        var kt = Crds.topicOperation(client).resource(new KafkaTopicBuilder().withNewMetadata()
+                .withName(NAME)
+                .withNamespace(namespace(NAMESPACE))
+                .endMetadata()
+                .withNewSpec()
+                .withPartitions(2)
+                .withReplicas(1)
+                .endSpec().build()).create();
+        // as cached by the informer when STRIMZI_SLIM_INFORMER_CACHE_ENABLED=true
+        var slim = SlimKafkaTopicItemStore.slim(kt);
+
+        var metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        controller = new BatchingTopicController(Map.of(), admin[0], client, true, metrics, NAMESPACE, null, new KafkaTopicStatusWriter(client, 1), null, null);
+        controller.onUpdate(List.of(new ReconcilableTopic(new Reconciliation("test", "KafkaTopic", NAMESPACE, NAME), slim, BatchingTopicController.topicName(slim)))).get();
+
+        var reconciled = Crds.topicOperation(client).inNamespace(NAMESPACE).withName(NAME).get();
+        assertTrue(reconciled.getMetadata().getFinalizers().contains(BatchingTopicController.FINALIZER));
+        assertTrue(admin[0].listTopics().names().get().contains(NAME));
+    }
+
     // TODO kube client interrupted exceptions
 
 
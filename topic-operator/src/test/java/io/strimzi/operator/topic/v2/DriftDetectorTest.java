@@ -0,0 +1,202 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
+import org.apache.kafka.clients.admin.ListTopicsOptions;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+class DriftDetectorTest {
+
+    private static final String NAMESPACE = "ns";
+    private static final Node NODE = new Node(0, "localhost", 9092);
+
+    private static KafkaTopic kafkaTopic(String name, int partitions, int replicas, Map<String, Object> config, String ready) {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion("1")
+                    .withGeneration(1L)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(partitions)
+                    .withReplicas(replicas)
+                    .withConfig(config)
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(1L)
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus(ready)
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    private static TopicDescription description(String name, int partitions, int replicas) {
+        List<Node> nodes = Collections.nCopies(replicas, NODE);
+        return new TopicDescription(name, false, IntStream.range(0, partitions)
+                .mapToObj(p -> new TopicPartitionInfo(p, NODE, nodes, nodes)).toList());
+    }
+
+    private static Config config(String retentionMs) {
+        return new Config(List.of(
+                new ConfigEntry("retention.ms", retentionMs, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), null, null)));
+    }
+
+    @Test
+    void shouldFindDifferences() {
+        var kt = kafkaTopic("t", 2, 3, Map.of("retention.ms", 1000), "True");
+        assertNull(DriftDetector.difference(kt, description("t", 2, 3), config("1000"), Map.of()));
+        assertEquals("partitions", DriftDetector.difference(kt, description("t", 4, 3), config("1000"), Map.of()));
+        assertEquals("replicas", DriftDetector.difference(kt, description("t", 2, 1), config("1000"), Map.of()));
+        assertEquals("configs", DriftDetector.difference(kt, description("t", 2, 3), config("2000"), Map.of()));
+    }
+
+    @Test
+    void shouldCompareReassigningPartitionsWithTargetReplicas() {
+        var kt = kafkaTopic("t", 2, 3, Map.of("retention.ms", 1000), "True");
+        // moving a replica from broker 0 to broker 3, so the replicas include both while the reassignment is in progress
+        var moving = new PartitionReassignment(List.of(0, 1, 2, 3), List.of(3), List.of(0));
+        assertNull(DriftDetector.difference(kt, description("t", 2, 4), config("1000"), Map.of(
+                new TopicPartition("t", 0), moving,
+                new TopicPartition("t", 1), moving)));
+        // only one of the partitions is being reassigned
+        assertEquals("replicas", DriftDetector.difference(kt, description("t", 2, 4), config("1000"), Map.of(
+                new TopicPartition("t", 0), moving)));
+        // adding a replica changes the replication factor
+        assertEquals("replicas", DriftDetector.difference(kt, description("t", 2, 4), config("1000"), Map.of(
+                new TopicPartition("t", 0), new PartitionReassignment(List.of(0, 1, 2, 3), List.of(3), List.of()),
+                new TopicPartition("t", 1), moving)));
+        // reassignments of other topics are ignored
+        assertEquals("replicas", DriftDetector.difference(kt, description("t", 2, 4), config("1000"), Map.of(
+                new TopicPartition("other", 0), moving,
+                new TopicPartition("other", 1), moving)));
+    }
+
+    private static BasicItemStore<KafkaTopic> itemStore() {
+        var itemStore = new BasicItemStore<KafkaTopic>(Cache::metaNamespaceKeyFunc);
+        for (var kt : List.of(
+                kafkaTopic("same", 2, 3, Map.of("retention.ms", 1000), "True"),
+                kafkaTopic("changed", 2, 3, Map.of("retention.ms", 1000), "True"),
+                kafkaTopic("missing", 2, 3, Map.of("retention.ms", 1000), "True"),
+                kafkaTopic("not-ready", 2, 3, Map.of("retention.ms", 1000), "False"))) {
+            itemStore.put(Cache.metaNamespaceKeyFunc(kt), kt);
+        }
+        return itemStore;
+    }
+
+    private static Admin admin() {
+        var admin = Mockito.mock(Admin.class);
+        Mockito.doAnswer(invocation -> {
+            var listTopicsResult = Mockito.mock(ListTopicsResult.class);
+            Set<String> names = invocation.getArgument(0, ListTopicsOptions.class).shouldListInternal()
+                    ? Set.of("same", "changed", "not-ready", "unmanaged", "__consumer_offsets")
+                    : Set.of("same", "changed", "not-ready", "unmanaged");
+            Mockito.doReturn(KafkaFuture.completedFuture(names)).when(listTopicsResult).names();
+            return listTopicsResult;
+        }).when(admin).listTopics(any(ListTopicsOptions.class));
+        var describeTopicsResult = Mockito.mock(DescribeTopicsResult.class);
+        Mockito.doReturn(Map.of(
+                "same", KafkaFuture.completedFuture(description("same", 2, 3)),
+                "changed", KafkaFuture.completedFuture(description("changed", 2, 3)),
+                "__consumer_offsets", KafkaFuture.completedFuture(description("__consumer_offsets", 2, 3))))
+                .when(describeTopicsResult).topicNameValues();
+        Mockito.doReturn(describeTopicsResult).when(admin).describeTopics(any(Collection.class));
+        var describeConfigsResult = Mockito.mock(DescribeConfigsResult.class);
+        Mockito.doReturn(Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, "same"), KafkaFuture.completedFuture(config("1000")),
+                new ConfigResource(ConfigResource.Type.TOPIC, "changed"), KafkaFuture.completedFuture(config("2000")),
+                new ConfigResource(ConfigResource.Type.TOPIC, "__consumer_offsets"), KafkaFuture.completedFuture(config("1000"))))
+                .when(describeConfigsResult).values();
+        Mockito.doReturn(describeConfigsResult).when(admin).describeConfigs(any());
+        var listPartitionReassignmentsResult = Mockito.mock(ListPartitionReassignmentsResult.class);
+        Mockito.doReturn(KafkaFuture.completedFuture(Map.of())).when(listPartitionReassignmentsResult).reassignments();
+        Mockito.doReturn(listPartitionReassignmentsResult).when(admin).listPartitionReassignments();
+        return admin;
+    }
+
+    @Test
+    void shouldQueueOnlyDriftedReadyTopics() {
+        var queue = Mockito.mock(BatchingLoop.class);
+        var metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        new DriftDetector(admin(), itemStore(), queue, null, null, null, Map.of(), 1, metrics, NAMESPACE).sweep();
+
+        var captor = ArgumentCaptor.forClass(TopicEvent.class);
+        Mockito.verify(queue, Mockito.times(2)).offer(captor.capture());
+        assertEquals(Set.of("changed", "missing"), captor.getAllValues().stream().map(TopicEvent::name).collect(Collectors.toSet()));
+        assertEquals(2.0, metrics.driftedTopicsCounter(NAMESPACE).count());
+    }
+
+    @Test
+    void shouldNotReportInternalTopicsAsDrifted() {
+        var itemStore = itemStore();
+        var internal = kafkaTopic("__consumer_offsets", 2, 3, Map.of("retention.ms", 1000), "True");
+        itemStore.put(Cache.metaNamespaceKeyFunc(internal), internal);
+        var queue = Mockito.mock(BatchingLoop.class);
+        var metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        new DriftDetector(admin(), itemStore, queue, null, null, null, Map.of(), 1, metrics, NAMESPACE).sweep();
+
+        var captor = ArgumentCaptor.forClass(TopicEvent.class);
+        Mockito.verify(queue, Mockito.times(2)).offer(captor.capture());
+        assertEquals(Set.of("changed", "missing"), captor.getAllValues().stream().map(TopicEvent::name).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shouldValidateReconciledStateCache() {
+        var itemStore = itemStore();
+        var admin = admin();
+        var metrics = new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+        var cache = new ReconciledStateCache(admin, metrics, NAMESPACE);
+        for (String tn : List.of("same", "changed", "not-ready")) {
+            cache.put(tn, itemStore.get(NAMESPACE + "/" + tn), description(tn, 2, 3), config("1000"));
+        }
+
+        new DriftDetector(admin, itemStore, Mockito.mock(BatchingLoop.class), cache, null, null, Map.of(), 1, metrics, NAMESPACE).sweep();
+
+        // drifted and unchecked topics are invalidated, without the cache describing the topics itself
+        assertEquals(1, cache.size());
+        assertTrue(cache.isUnchanged(new ReconcilableTopic(null, itemStore.get(NAMESPACE + "/same"), "same")));
+        // the drifted topic was already invalidated when it was queued, only the unchecked one counts
+        assertEquals(1.0, metrics.reconciledStateCacheInvalidationsCounter(NAMESPACE).count());
+        Mockito.verify(admin, Mockito.times(2)).describeTopics(any(Collection.class));
+    }
+}
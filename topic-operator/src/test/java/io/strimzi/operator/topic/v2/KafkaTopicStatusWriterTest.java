@@ -0,0 +1,136 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.KubernetesClientException;
+import io.fabric8.kubernetes.client.dsl.MixedOperation;
+import io.fabric8.kubernetes.client.dsl.Resource;
+import io.strimzi.api.kafka.KafkaTopicList;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.api.kafka.model.status.ConditionBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+class KafkaTopicStatusWriterTest {
+
+    private static final String NAMESPACE = "ns";
+
+    private static KafkaTopic kafkaTopic(String name, boolean withReadyStatus) {
+        var builder = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withGeneration(1L)
+                .endMetadata();
+        if (withReadyStatus) {
+            builder.withNewStatus()
+                    .withObservedGeneration(1L)
+                    .withTopicName(name)
+                    .withConditions(new ConditionBuilder().withType("Ready").withStatus("True").build())
+                .endStatus();
+        }
+        return builder.build();
+    }
+
+    private static Reconciliation reconciliation(String name) {
+        return new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, name);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static KubernetesClient client(Answer<KafkaTopic> updateStatus) {
+        var client = Mockito.mock(KubernetesClient.class);
+        MixedOperation<KafkaTopic, KafkaTopicList, Resource<KafkaTopic>> operation = Mockito.mock(MixedOperation.class);
+        Mockito.doReturn(operation).when(client).resources(KafkaTopic.class, KafkaTopicList.class);
+        Mockito.doAnswer(invocation -> {
+            Resource<KafkaTopic> resource = Mockito.mock(Resource.class);
+            Mockito.doAnswer(ignored -> updateStatus.answer(invocation)).when(resource).updateStatus();
+            return resource;
+        }).when(operation).resource(any());
+        return client;
+    }
+
+    @Test
+    void shouldSkipUnchangedStatus() throws Exception {
+        var client = client(invocation -> invocation.getArgument(0));
+        var writer = new KafkaTopicStatusWriter(client, 1);
+        try {
+            var future = writer.update(reconciliation("t"), kafkaTopic("t", true), null, null);
+            assertTrue(future.isDone());
+            Mockito.verifyNoInteractions(client);
+
+            // a different condition is written
+            writer.update(reconciliation("t"), kafkaTopic("t", true), "Reason", "message").get(10, TimeUnit.SECONDS);
+            Mockito.verify(client, Mockito.times(1)).resources(KafkaTopic.class, KafkaTopicList.class);
+        } finally {
+            writer.stop(1_000);
+        }
+    }
+
+    @Test
+    void shouldBoundConcurrentWrites() throws Exception {
+        int maxConcurrency = 2;
+        var concurrent = new AtomicInteger();
+        var maxConcurrent = new AtomicInteger();
+        var allStarted = new CountDownLatch(maxConcurrency);
+        var release = new CountDownLatch(1);
+        var writer = new KafkaTopicStatusWriter(client(invocation -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            allStarted.countDown();
+            release.await();
+            concurrent.decrementAndGet();
+            return invocation.getArgument(0);
+        }), maxConcurrency);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                futures.add(writer.update(reconciliation("t" + i), kafkaTopic("t" + i, false), null, null));
+            }
+            assertTrue(allStarted.await(10, TimeUnit.SECONDS));
+            // the remaining writes wait for a free thread
+            Thread.sleep(100);
+            assertEquals(maxConcurrency, concurrent.get());
+            assertFalse(futures.stream().anyMatch(CompletableFuture::isDone));
+
+            release.countDown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        } finally {
+            writer.stop(1_000);
+        }
+        assertEquals(maxConcurrency, maxConcurrent.get());
+    }
+
+    @Test
+    void shouldPropagateFailure() throws Exception {
+        var writer = new KafkaTopicStatusWriter(client(invocation -> {
+            throw new KubernetesClientException("conflict");
+        }), 1);
+        try {
+            var future = writer.update(reconciliation("t"), kafkaTopic("t", false), null, null);
+            var e = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+            assertInstanceOf(KubernetesClientException.class, e.getCause());
+        } finally {
+            writer.stop(1_000);
+        }
+    }
+}
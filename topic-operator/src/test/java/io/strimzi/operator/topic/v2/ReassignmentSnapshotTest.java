@@ -0,0 +1,78 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ReassignmentSnapshotTest {
+
+    private static final String NAMESPACE = "ns";
+    private static final Map<TopicPartition, PartitionReassignment> REASSIGNMENTS =
+            Map.of(new TopicPartition("topic", 0), new PartitionReassignment(List.of(0, 1, 2), List.of(2), List.of()));
+
+    private static TopicOperatorMetricsHolder metrics() {
+        return new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    private static ListPartitionReassignmentsResult result(KafkaFuture<Map<TopicPartition, PartitionReassignment>> future) {
+        var result = Mockito.mock(ListPartitionReassignmentsResult.class);
+        Mockito.doReturn(future).when(result).reassignments();
+        return result;
+    }
+
+    @Test
+    void shouldReuseSnapshotUntilItExpires() throws ExecutionException, InterruptedException {
+        var admin = Mockito.mock(Admin.class);
+        var ok = result(KafkaFuture.completedFuture(REASSIGNMENTS));
+        Mockito.doReturn(ok).when(admin).listPartitionReassignments();
+
+        var snapshot = new ReassignmentSnapshot(admin, 60_000, metrics(), NAMESPACE);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(REASSIGNMENTS, snapshot.reassignments());
+        }
+        Mockito.verify(admin, Mockito.times(1)).listPartitionReassignments();
+
+        var expiring = new ReassignmentSnapshot(admin, 1, metrics(), NAMESPACE);
+        expiring.reassignments();
+        Thread.sleep(10);
+        expiring.reassignments();
+        Mockito.verify(admin, Mockito.times(3)).listPartitionReassignments();
+    }
+
+    @Test
+    void shouldNotCacheFailure() throws ExecutionException, InterruptedException {
+        var admin = Mockito.mock(Admin.class);
+        var failed = new KafkaFutureImpl<Map<TopicPartition, PartitionReassignment>>();
+        failed.completeExceptionally(new TimeoutException());
+        var ok = result(KafkaFuture.completedFuture(REASSIGNMENTS));
+        Mockito.doReturn(result(failed)).doReturn(ok).when(admin).listPartitionReassignments();
+
+        var metrics = metrics();
+        var snapshot = new ReassignmentSnapshot(admin, 60_000, metrics, NAMESPACE);
+        assertThrows(ExecutionException.class, snapshot::reassignments);
+        assertEquals(REASSIGNMENTS, snapshot.reassignments());
+        Mockito.verify(admin, Mockito.times(2)).listPartitionReassignments();
+        assertEquals(2, metrics.listReassignmentsTimer(NAMESPACE).count());
+    }
+}
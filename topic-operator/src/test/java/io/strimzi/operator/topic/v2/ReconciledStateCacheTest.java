@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsHolder;
+import io.strimzi.operator.topic.v2.metrics.TopicOperatorMetricsProvider;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+
+class ReconciledStateCacheTest {
+
+    private static final String NAMESPACE = "ns";
+    private static final Node NODE = new Node(0, "localhost", 9092);
+
+    private static TopicOperatorMetricsHolder metrics() {
+        return new TopicOperatorMetricsHolder(KafkaTopic.RESOURCE_KIND, null, new TopicOperatorMetricsProvider(new SimpleMeterRegistry()));
+    }
+
+    private static ReconcilableTopic reconcilableTopic(String name, String resourceVersion, long generation) {
+        KafkaTopic kt = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(NAMESPACE)
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                    .withGeneration(generation)
+                .endMetadata()
+                .build();
+        return new ReconcilableTopic(new Reconciliation("test", KafkaTopic.RESOURCE_KIND, NAMESPACE, name), kt, name);
+    }
+
+    private static TopicDescription description(String name, int partitions, int replicas) {
+        List<Node> nodes = Collections.nCopies(replicas, NODE);
+        return new TopicDescription(name, false, IntStream.range(0, partitions)
+                .mapToObj(p -> new TopicPartitionInfo(p, NODE, nodes, nodes)).toList());
+    }
+
+    private static Config config(String retentionMs) {
+        return new Config(List.of(
+                new ConfigEntry("retention.ms", retentionMs, ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), null, null),
+                new ConfigEntry("cleanup.policy", "delete", ConfigEntry.ConfigSource.DEFAULT_CONFIG, false, false, List.of(), null, null)));
+    }
+
+    @Test
+    void shouldFingerprintPartitionsReplicasAndDynamicConfigs() {
+        long fingerprint = ReconciledStateCache.fingerprint(description("t", 2, 3), config("1000"));
+        assertEquals(fingerprint, ReconciledStateCache.fingerprint(description("t", 2, 3), config("1000")));
+        assertNotEquals(fingerprint, ReconciledStateCache.fingerprint(description("t", 3, 3), config("1000")));
+        assertNotEquals(fingerprint, ReconciledStateCache.fingerprint(description("t", 2, 1), config("1000")));
+        assertNotEquals(fingerprint, ReconciledStateCache.fingerprint(description("t", 2, 3), config("2000")));
+    }
+
+    @Test
+    void shouldOnlyHitForSameResourceVersionAndGeneration() {
+        var cache = new ReconciledStateCache(Mockito.mock(Admin.class), metrics(), NAMESPACE);
+        var rt = reconcilableTopic("t", "1", 1);
+        assertFalse(cache.isUnchanged(rt));
+
+        cache.put("t", rt.kt(), description("t", 2, 3), config("1000"));
+        assertTrue(cache.isUnchanged(rt));
+        assertFalse(cache.isUnchanged(reconcilableTopic("t", "2", 1)));
+        assertFalse(cache.isUnchanged(reconcilableTopic("t", "1", 2)));
+
+        cache.invalidate("t");
+        assertFalse(cache.isUnchanged(rt));
+    }
+
+    @Test
+    void shouldInvalidateTopicsChangedInKafkaWhenSweeping() {
+        var admin = Mockito.mock(Admin.class);
+        var describeTopicsResult = Mockito.mock(DescribeTopicsResult.class);
+        Mockito.doReturn(Map.of(
+                "same", KafkaFuture.completedFuture(description("same", 2, 3)),
+                "changed", KafkaFuture.completedFuture(description("changed", 4, 3))))
+                .when(describeTopicsResult).topicNameValues();
+        Mockito.doReturn(describeTopicsResult).when(admin).describeTopics(any(Collection.class));
+        var describeConfigsResult = Mockito.mock(DescribeConfigsResult.class);
+        Mockito.doReturn(Map.of(
+                new ConfigResource(ConfigResource.Type.TOPIC, "same"), KafkaFuture.completedFuture(config("1000")),
+                new ConfigResource(ConfigResource.Type.TOPIC, "changed"), KafkaFuture.completedFuture(config("1000"))))
+                .when(describeConfigsResult).values();
+        Mockito.doReturn(describeConfigsResult).when(admin).describeConfigs(any());
+
+        var cache = new ReconciledStateCache(admin, metrics(), NAMESPACE);
+        var same = reconcilableTopic("same", "1", 1);
+        var changed = reconcilableTopic("changed", "1", 1);
+        cache.put("same", same.kt(), description("same", 2, 3), config("1000"));
+        cache.put("changed", changed.kt(), description("changed", 2, 3), config("1000"));
+
+        cache.sweep();
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isUnchanged(same));
+        assertFalse(cache.isUnchanged(changed));
+    }
+
+    @Test
+    void shouldInvalidateTopicsChangedInKafkaWhenValidated() {
+        var admin = Mockito.mock(Admin.class);
+        var cache = new ReconciledStateCache(admin, metrics(), NAMESPACE);
+        var same = reconcilableTopic("same", "1", 1);
+        var changed = reconcilableTopic("changed", "1", 1);
+        var unchecked = reconcilableTopic("unchecked", "1", 1);
+        cache.put("same", same.kt(), description("same", 2, 3), config("1000"));
+        cache.put("changed", changed.kt(), description("changed", 2, 3), config("1000"));
+        cache.put("unchecked", unchecked.kt(), description("unchecked", 2, 3), config("1000"));
+
+        cache.validate("same", description("same", 2, 3), config("1000"));
+        cache.validate("changed", description("changed", 2, 3), config("2000"));
+        cache.retainAll(Set.of("same"));
+
+        assertEquals(1, cache.size());
+        assertTrue(cache.isUnchanged(same));
+        assertFalse(cache.isUnchanged(changed));
+        assertFalse(cache.isUnchanged(unchecked));
+        Mockito.verifyNoInteractions(admin);
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AlterConfigOp;
+import org.apache.kafka.clients.admin.AlterConfigsResult;
+import org.apache.kafka.clients.admin.Config;
+import org.apache.kafka.clients.admin.ConfigEntry;
+import org.apache.kafka.clients.admin.CreatePartitionsResult;
+import org.apache.kafka.clients.admin.CreateTopicsResult;
+import org.apache.kafka.clients.admin.DeleteTopicsResult;
+import org.apache.kafka.clients.admin.DescribeClusterResult;
+import org.apache.kafka.clients.admin.DescribeConfigsResult;
+import org.apache.kafka.clients.admin.DescribeTopicsResult;
+import org.apache.kafka.clients.admin.ListPartitionReassignmentsResult;
+import org.apache.kafka.clients.admin.ListTopicsResult;
+import org.apache.kafka.clients.admin.NewPartitions;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.PartitionReassignment;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.Node;
+import org.apache.kafka.common.TopicCollection;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.TopicPartitionInfo;
+import org.apache.kafka.common.config.ConfigResource;
+import org.apache.kafka.common.errors.InvalidPartitionsException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * An in-memory stand-in for a Kafka cluster's {@link Admin} client, for driving the Topic Operator at scale without
+ * a real cluster. Only the Admin methods used by the Topic Operator are implemented; any other call fails.
+ * Each call completes after a configurable latency and each topic (or config resource) within a call fails
+ * with a configurable probability (the startup calls describing the cluster never fail). The number of calls of each method is counted.
+ */
+class SimulatedAdmin {
+
+    private static final String AUTO_CREATE_TOPICS_ENABLE = "auto.create.topics.enable";
+
+    record SimulatedTopic(int numPartitions, short replicationFactor, Map<String, String> configs) { }
+
+    private final List<Node> nodes;
+    private final long latencyMs;
+    private final double failureRate;
+    private final ScheduledExecutorService executor;
+    private final Map<String, SimulatedTopic> topics = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> calls = new ConcurrentHashMap<>();
+    private final Admin admin;
+
+    /**
+     * @param numBrokers The number of brokers in the simulated cluster.
+     * @param latencyMs The time after which each call completes.
+     * @param failureRate The probability, between 0 and 1, with which each topic within a call fails with a
+     *                    (retriable) {@link TimeoutException}.
+     */
+    SimulatedAdmin(int numBrokers, long latencyMs, double failureRate) {
+        this.nodes = new ArrayList<>(numBrokers);
+        for (int i = 0; i < numBrokers; i++) {
+            nodes.add(new Node(i, "broker-" + i, 9092));
+        }
+        this.latencyMs = latencyMs;
+        this.failureRate = failureRate;
+        this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            var thread = new Thread(r, "simulated-admin");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.admin = mockAdmin();
+    }
+
+    /**
+     * @return The Admin client.
+     */
+    Admin admin() {
+        return admin;
+    }
+
+    /**
+     * @return The topics which exist in the simulated cluster.
+     */
+    Map<String, SimulatedTopic> topics() {
+        return topics;
+    }
+
+    /**
+     * @return The number of calls made so far of each Admin method.
+     */
+    Map<String, Long> calls() {
+        return calls.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().get()));
+    }
+
+    /**
+     * @return The total number of Admin calls made so far.
+     */
+    long totalCalls() {
+        return calls.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * Stops completing calls.
+     */
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void count(String method) {
+        calls.computeIfAbsent(method, k -> new AtomicLong()).incrementAndGet();
+    }
+
+    /**
+     * Completes a future with the result of the given operation after the latency, or fails it.
+     */
+    private <T> KafkaFutureImpl<T> later(boolean mayFail, Supplier<T> operation) {
+        var future = new KafkaFutureImpl<T>();
+        executor.schedule(() -> {
+            if (mayFail && failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+                future.completeExceptionally(new TimeoutException("Simulated timeout"));
+                return;
+            }
+            try {
+                future.complete(operation.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        }, latencyMs, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private <K, T> Map<K, KafkaFuture<T>> each(Collection<K> keys, Function<K, T> operation) {
+        Map<K, KafkaFuture<T>> result = new HashMap<>(keys.size());
+        for (K key : keys) {
+            // the operator cannot start without the broker configs, so only fail the calls for topics
+            boolean mayFail = !(key instanceof ConfigResource resource) || resource.type() == ConfigResource.Type.TOPIC;
+            result.put(key, later(mayFail, () -> operation.apply(key)));
+        }
+        return result;
+    }
+
+    private static <K, T> KafkaFuture<Void> all(Map<K, KafkaFuture<T>> futures) {
+        return KafkaFuture.allOf(futures.values().toArray(new KafkaFuture<?>[0]));
+    }
+
+    private static <K, T> KafkaFuture<Map<K, T>> allValues(Map<K, KafkaFuture<T>> futures) {
+        return all(futures).thenApply(v -> futures.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> {
+            try {
+                return e.getValue().get();
+            } catch (Exception ex) {
+                throw new RuntimeException(ex);
+            }
+        })));
+    }
+
+    private SimulatedTopic topic(String name) {
+        var topic = topics.get(name);
+        if (topic == null) {
+            throw new UnknownTopicOrPartitionException("Topic " + name + " does not exist");
+        }
+        return topic;
+    }
+
+    private TopicDescription describeTopic(String name) {
+        var topic = topic(name);
+        List<TopicPartitionInfo> partitions = new ArrayList<>(topic.numPartitions());
+        for (int p = 0; p < topic.numPartitions(); p++) {
+            List<Node> replicas = new ArrayList<>(topic.replicationFactor());
+            for (int r = 0; r < topic.replicationFactor(); r++) {
+                replicas.add(nodes.get((p + r) % nodes.size()));
+            }
+            partitions.add(new TopicPartitionInfo(p, replicas.get(0), replicas, replicas));
+        }
+        return new TopicDescription(name, false, partitions);
+    }
+
+    private Config describeConfig(ConfigResource resource) {
+        if (resource.type() == ConfigResource.Type.BROKER) {
+            return new Config(List.of(new ConfigEntry(AUTO_CREATE_TOPICS_ENABLE, "false")));
+        }
+        return new Config(topic(resource.name()).configs().entrySet().stream()
+                .map(e -> new ConfigEntry(e.getKey(), e.getValue(), ConfigEntry.ConfigSource.DYNAMIC_TOPIC_CONFIG, false, false, List.of(), null, null))
+                .toList());
+    }
+
+    private Void create(NewTopic newTopic) {
+        var topic = new SimulatedTopic(newTopic.numPartitions() < 0 ? 1 : newTopic.numPartitions(),
+                newTopic.replicationFactor() < 0 ? (short) Math.min(3, nodes.size()) : newTopic.replicationFactor(),
+                new HashMap<>(newTopic.configs() == null ? Map.of() : newTopic.configs()));
+        if (topics.putIfAbsent(newTopic.name(), topic) != null) {
+            throw new TopicExistsException("Topic " + newTopic.name() + " already exists");
+        }
+        return null;
+    }
+
+    private Void alter(ConfigResource resource, Collection<AlterConfigOp> ops) {
+        topics.compute(resource.name(), (name, topic) -> {
+            if (topic == null) {
+                throw new UnknownTopicOrPartitionException("Topic " + name + " does not exist");
+            }
+            Map<String, String> configs = new HashMap<>(topic.configs());
+            for (var op : ops) {
+                if (op.opType() == AlterConfigOp.OpType.DELETE) {
+                    configs.remove(op.configEntry().name());
+                } else {
+                    configs.put(op.configEntry().name(), op.configEntry().value());
+                }
+            }
+            return new SimulatedTopic(topic.numPartitions(), topic.replicationFactor(), configs);
+        });
+        return null;
+    }
+
+    private Void createPartitions(String name, NewPartitions newPartitions) {
+        topics.compute(name, (n, topic) -> {
+            if (topic == null) {
+                throw new UnknownTopicOrPartitionException("Topic " + n + " does not exist");
+            }
+            if (newPartitions.totalCount() <= topic.numPartitions()) {
+                throw new InvalidPartitionsException("Topic " + n + " already has " + topic.numPartitions() + " partitions");
+            }
+            return new SimulatedTopic(newPartitions.totalCount(), topic.replicationFactor(), topic.configs());
+        });
+        return null;
+    }
+
+    private Void delete(String name) {
+        if (topics.remove(name) == null) {
+            throw new UnknownTopicOrPartitionException("Topic " + name + " does not exist");
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Admin mockAdmin() {
+        var admin = Mockito.mock(Admin.class, invocation -> {
+            throw new UnsupportedOperationException("Not simulated: Admin." + invocation.getMethod().getName());
+        });
+
+        Mockito.doAnswer(invocation -> {
+            count("describeCluster");
+            var result = Mockito.mock(DescribeClusterResult.class);
+            Mockito.doReturn(later(false, () -> (Collection<Node>) nodes)).when(result).nodes();
+            return result;
+        }).when(admin).describeCluster();
+
+        Mockito.doAnswer(invocation -> {
+            count("describeConfigs");
+            Collection<ConfigResource> resources = invocation.getArgument(0);
+            Map<ConfigResource, KafkaFuture<Config>> futures = each(resources, this::describeConfig);
+            var result = Mockito.mock(DescribeConfigsResult.class);
+            Mockito.doReturn(futures).when(result).values();
+            Mockito.doReturn(allValues(futures)).when(result).all();
+            return result;
+        }).when(admin).describeConfigs(ArgumentMatchers.anyCollection());
+
+        Mockito.doAnswer(invocation -> {
+            count("describeTopics");
+            Collection<String> names = invocation.getArgument(0);
+            Map<String, KafkaFuture<TopicDescription>> futures = each(names, this::describeTopic);
+            var result = Mockito.mock(DescribeTopicsResult.class);
+            Mockito.doReturn(futures).when(result).topicNameValues();
+            Mockito.doReturn(allValues(futures)).when(result).allTopicNames();
+            return result;
+        }).when(admin).describeTopics(ArgumentMatchers.anyCollection());
+
+        Mockito.doAnswer(invocation -> {
+            count("createTopics");
+            Collection<NewTopic> newTopics = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> futures = each(newTopics, this::create).entrySet().stream()
+                    .collect(Collectors.toMap(e -> e.getKey().name(), Map.Entry::getValue));
+            var result = Mockito.mock(CreateTopicsResult.class);
+            Mockito.doReturn(futures).when(result).values();
+            Mockito.doReturn(all(futures)).when(result).all();
+            return result;
+        }).when(admin).createTopics(ArgumentMatchers.anyCollection());
+
+        Mockito.doAnswer(invocation -> {
+            count("incrementalAlterConfigs");
+            Map<ConfigResource, Collection<AlterConfigOp>> ops = invocation.getArgument(0);
+            Map<ConfigResource, KafkaFuture<Void>> futures = each(ops.keySet(), resource -> alter(resource, ops.get(resource)));
+            var result = Mockito.mock(AlterConfigsResult.class);
+            Mockito.doReturn(futures).when(result).values();
+            Mockito.doReturn(all(futures)).when(result).all();
+            return result;
+        }).when(admin).incrementalAlterConfigs(ArgumentMatchers.anyMap());
+
+        Mockito.doAnswer(invocation -> {
+            count("createPartitions");
+            Map<String, NewPartitions> newPartitions = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> futures = each(newPartitions.keySet(), name -> createPartitions(name, newPartitions.get(name)));
+            var result = Mockito.mock(CreatePartitionsResult.class);
+            Mockito.doReturn(futures).when(result).values();
+            Mockito.doReturn(all(futures)).when(result).all();
+            return result;
+        }).when(admin).createPartitions(ArgumentMatchers.anyMap());
+
+        Mockito.doAnswer(invocation -> {
+            count("deleteTopics");
+            TopicCollection.TopicNameCollection names = invocation.getArgument(0);
+            Map<String, KafkaFuture<Void>> futures = each(names.topicNames(), this::delete);
+            var result = Mockito.mock(DeleteTopicsResult.class);
+            Mockito.doReturn(futures).when(result).topicNameValues();
+            Mockito.doReturn(all(futures)).when(result).all();
+            return result;
+        }).when(admin).deleteTopics(ArgumentMatchers.any(TopicCollection.class));
+
+        Mockito.doAnswer(invocation -> {
+            count("listPartitionReassignments");
+            var result = Mockito.mock(ListPartitionReassignmentsResult.class);
+            Mockito.doReturn(later(false, () -> Map.<TopicPartition, PartitionReassignment>of())).when(result).reassignments();
+            return result;
+        }).when(admin).listPartitionReassignments(ArgumentMatchers.<Set<TopicPartition>>any());
+
+        Mockito.doAnswer(invocation -> {
+            count("listPartitionReassignments");
+            var result = Mockito.mock(ListPartitionReassignmentsResult.class);
+            Mockito.doReturn(later(false, () -> Map.<TopicPartition, PartitionReassignment>of())).when(result).reassignments();
+            return result;
+        }).when(admin).listPartitionReassignments();
+
+        Mockito.doAnswer(invocation -> {
+            count("listTopics");
+            var result = Mockito.mock(ListTopicsResult.class);
+            Mockito.doReturn(later(false, () -> Set.copyOf(topics.keySet()))).when(result).names();
+            return result;
+        }).when(admin).listTopics();
+
+        Mockito.doNothing().when(admin).close();
+        return admin;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlimKafkaTopicItemStoreTest {
+
+    private static KafkaTopic kafkaTopic() {
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-topic")
+                    .withUid("0000-1111")
+                    .withCreationTimestamp("2023-01-01T00:00:00Z")
+                    .withGeneration(3L)
+                    .withResourceVersion("1234")
+                    .withDeletionTimestamp("2023-01-02T00:00:00Z")
+                    .withFinalizers(BatchingTopicController.FINALIZER)
+                    .withLabels(Map.of("strimzi.io/cluster", "my-cluster"))
+                    .withAnnotations(Map.of(
+                            BatchingTopicController.MANAGED, "false",
+                            "kubectl.kubernetes.io/last-applied-configuration", "{\"spec\":{\"partitions\":3}}"))
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("kubectl").withOperation("Apply").build())
+                .endMetadata()
+                .withNewSpec()
+                    .withTopicName("my.topic")
+                    .withPartitions(3)
+                    .withReplicas(2)
+                    .withConfig(Map.of("retention.ms", 1000))
+                .endSpec()
+                .withNewStatus()
+                    .withObservedGeneration(2L)
+                    .withTopicName("my.topic")
+                    .addNewCondition()
+                        .withType("Ready")
+                        .withStatus("True")
+                    .endCondition()
+                .endStatus()
+                .build();
+    }
+
+    @Test
+    void shouldKeepWhatTheOperatorReads() {
+        var kt = kafkaTopic();
+        var slim = SlimKafkaTopicItemStore.slim(kt);
+
+        assertEquals(kt.getApiVersion(), slim.getApiVersion());
+        assertEquals(kt.getKind(), slim.getKind());
+        assertEquals(new KubeRef(kt), new KubeRef(slim));
+        assertEquals(Cache.metaNamespaceKeyFunc(kt), Cache.metaNamespaceKeyFunc(slim));
+        assertEquals(kt.getMetadata().getUid(), slim.getMetadata().getUid());
+        assertEquals(kt.getMetadata().getGeneration(), slim.getMetadata().getGeneration());
+        assertEquals(kt.getMetadata().getResourceVersion(), slim.getMetadata().getResourceVersion());
+        assertEquals(kt.getMetadata().getFinalizers(), slim.getMetadata().getFinalizers());
+        assertEquals(kt.getMetadata().getLabels(), slim.getMetadata().getLabels());
+        assertEquals(kt.getSpec(), slim.getSpec());
+        assertEquals(kt.getStatus().getObservedGeneration(), slim.getStatus().getObservedGeneration());
+        assertEquals(kt.getStatus().getTopicName(), slim.getStatus().getTopicName());
+        assertEquals(kt.getStatus().getConditions(), slim.getStatus().getConditions());
+
+        assertEquals(BatchingTopicController.isManaged(kt), BatchingTopicController.isManaged(slim));
+        assertEquals(BatchingTopicController.isForDeletion(kt), BatchingTopicController.isForDeletion(slim));
+        assertEquals(BatchingTopicController.topicName(kt), BatchingTopicController.topicName(slim));
+        assertTrue(BatchingTopicController.matchesSelector(Map.of("strimzi.io/cluster", "my-cluster"), slim.getMetadata().getLabels()));
+    }
+
+    @Test
+    void shouldKeepEmptyFinalizersAndLabels() {
+        var kt = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName("my-topic")
+                    .withFinalizers(List.of())
+                    .withLabels(Map.of())
+                .endMetadata()
+                .build();
+        var slim = SlimKafkaTopicItemStore.slim(kt);
+
+        assertEquals(List.of(), slim.getMetadata().getFinalizers());
+        assertEquals(Map.of(), slim.getMetadata().getLabels());
+        assertTrue(BatchingTopicController.matchesSelector(Map.of(), slim.getMetadata().getLabels()));
+        assertFalse(BatchingTopicController.matchesSelector(Map.of("strimzi.io/cluster", "my-cluster"), slim.getMetadata().getLabels()));
+        assertEquals(slim, SlimKafkaTopicItemStore.slim(slim));
+    }
+
+    @Test
+    void shouldMatchSelectorWithoutLabels() {
+        assertTrue(BatchingTopicController.matchesSelector(Map.of(), null));
+        assertFalse(BatchingTopicController.matchesSelector(Map.of("strimzi.io/cluster", "my-cluster"), null));
+    }
+
+    @Test
+    void shouldDropWhatTheOperatorDoesNotRead() {
+        var slim = SlimKafkaTopicItemStore.slim(kafkaTopic());
+
+        assertEquals(Map.of(BatchingTopicController.MANAGED, "false"), slim.getMetadata().getAnnotations());
+        assertTrue(slim.getMetadata().getManagedFields() == null || slim.getMetadata().getManagedFields().isEmpty());
+    }
+
+    @Test
+    void shouldProjectOnPut() {
+        var store = new SlimKafkaTopicItemStore();
+        var kt = kafkaTopic();
+        String key = store.getKey(kt);
+        assertNull(store.put(key, kt));
+
+        var cached = store.get(key);
+        assertFalse(cached.getMetadata().getAnnotations().containsKey("kubectl.kubernetes.io/last-applied-configuration"));
+        assertEquals(List.of(cached), store.values().toList());
+        // resyncs of the cached copy are still recognised as such
+        assertEquals(cached, SlimKafkaTopicItemStore.slim(cached));
+    }
+}
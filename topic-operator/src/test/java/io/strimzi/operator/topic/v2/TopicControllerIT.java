@@ -1141,7 +1141,8 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 useFinalizer,
-                100, 100, 10);
+                100, 100, 10,
+                false, 120_000, 10, false, 300_000, 1000, false, "strimzi-topic-operator", "", 15_000, false, 1, false, false, 5_000, 1);
     }
 
     @ParameterizedTest
@@ -1850,7 +1851,7 @@ class TopicControllerIT {
     }
 
     @Test
-    public void shouldTerminateIfQueueFull(
+    public void shouldNotTerminateIfQueueFull(
             @BrokerConfig(name = "auto.create.topics.enable", value = "false")
             @BrokerConfig(name = "num.partitions", value = "4")
             @BrokerConfig(name = "default.replication.factor", value = "1")
@@ -1865,7 +1866,8 @@ class TopicControllerIT {
                 false, "", "", "", "", "",
                 false, "", "", "", "",
                 true,
-                1, 100, 5_0000);
+                1, 100, 5_0000,
+                false, 120_000, 10, false, 300_000, 1000, false, "strimzi-topic-operator", "", 15_000, false, 1, false, false, 5_000, 1);
 
         maybeStartOperator(config);
 
@@ -1884,9 +1886,9 @@ class TopicControllerIT {
         // We stop the loop thread, so nothing it taking from the queue, so that the queue length will be exceeded
         operator.queue.stop();
 
-        try (var logCaptor = LogCaptor.logMessageMatches(BatchingLoop.LOGGER,
-                Level.ERROR,
-                "Queue length 1 exceeded, stopping operator. Please increase STRIMZI_MAX_QUEUE_SIZE environment variable",
+        try (var logCaptor = LogCaptor.logMessageMatches(TopicEventQueue.LOGGER,
+                Level.WARN,
+                "The queue has more than 1 KafkaTopics queued. Consider increasing the STRIMZI_MAX_QUEUE_SIZE environment variable",
                 5L,
                 TimeUnit.SECONDS)) {
 
@@ -1895,11 +1897,11 @@ class TopicControllerIT {
         }
 
         // then
-        assertNull(operator.shutdownHook, "Expect the operator to shutdown");
+        assertNotNull(operator.shutdownHook, "Expect the operator to keep running");
 
-        // finally, because the @After method of this class asserts that the operator is running
+        // finally, because the @After method of this class asserts that the loop is running
         // we start a new operator
-        admin = null;
+        operator.stop();
         operatorAdmin = null;
         operator = null;
         maybeStartOperator(topicOperatorConfig("ns", kafkaCluster));
@@ -0,0 +1,216 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TopicEventQueueTest {
+
+    private static TopicUpsert upsert(String name, String resourceVersion) {
+        return new TopicUpsert(System.nanoTime(), "ns", name, resourceVersion, false);
+    }
+
+    private static TopicUpsert resync(String name, String resourceVersion) {
+        return new TopicUpsert(System.nanoTime(), "ns", name, resourceVersion, true);
+    }
+
+    private static TopicDelete delete(String name, String resourceVersion) {
+        KafkaTopic kt = new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace("ns")
+                    .withName(name)
+                    .withResourceVersion(resourceVersion)
+                .endMetadata()
+                .build();
+        return new TopicDelete(System.nanoTime(), kt);
+    }
+
+    private static TopicEvent pollNow(TopicEventQueue queue) throws InterruptedException {
+        return queue.poll(0, TimeUnit.MILLISECONDS);
+    }
+
+    @Test
+    void shouldBeFifoAcrossTopics() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert("a", "1"));
+        queue.offer(upsert("b", "2"));
+        queue.offer(upsert("c", "3"));
+
+        assertEquals("a", pollNow(queue).name());
+        assertEquals("b", pollNow(queue).name());
+        assertEquals("c", pollNow(queue).name());
+        assertNull(pollNow(queue));
+        assertEquals(3, queue.inFlightSize());
+    }
+
+    @Test
+    void shouldCoalesceUpserts() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert("a", "1"));
+        queue.offer(upsert("b", "2"));
+        queue.offer(upsert("a", "3"));
+        assertEquals(2, queue.size());
+
+        var first = pollNow(queue);
+        assertEquals("a", first.name());
+        assertEquals("3", first.resourceVersion());
+        assertEquals("b", pollNow(queue).name());
+        assertNull(pollNow(queue));
+    }
+
+    @Test
+    void shouldCollapseUpsertThenDeleteToDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert("a", "1"));
+        queue.offer(delete("a", "2"));
+        assertEquals(1, queue.size());
+
+        var event = pollNow(queue);
+        assertInstanceOf(TopicDelete.class, event);
+        assertEquals("2", event.resourceVersion());
+        assertNull(pollNow(queue));
+    }
+
+    @Test
+    void shouldQueueUpsertAfterDelete() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(delete("a", "1"));
+        queue.offer(upsert("a", "2"));
+        queue.offer(upsert("a", "3"));
+        assertEquals(1, queue.size());
+
+        assertInstanceOf(TopicDelete.class, pollNow(queue));
+        // the upsert is held back while the delete is in flight
+        assertNull(pollNow(queue));
+        queue.complete(new KubeRef("ns", "a", 0));
+        var event = pollNow(queue);
+        assertInstanceOf(TopicUpsert.class, event);
+        assertEquals("3", event.resourceVersion());
+    }
+
+    @Test
+    void shouldHoldBackEventsForInFlightTopics() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(upsert("a", "1"));
+        assertEquals("a", pollNow(queue).name());
+
+        queue.offer(upsert("a", "2"));
+        queue.offer(upsert("b", "3"));
+        assertEquals("b", pollNow(queue).name());
+        assertNull(pollNow(queue));
+
+        queue.complete(new KubeRef("ns", "a", 0));
+        assertEquals(1, queue.inFlightSize());
+        var event = pollNow(queue);
+        assertEquals("a", event.name());
+        assertEquals("2", event.resourceVersion());
+    }
+
+    @Test
+    void shouldBoundByDistinctTopics() {
+        var queue = new TopicEventQueue(2);
+        queue.offer(upsert("a", "1"));
+        queue.offer(upsert("b", "2"));
+        for (int i = 0; i < 100; i++) {
+            queue.offer(upsert("a", Integer.toString(i)));
+        }
+        assertEquals(2, queue.size());
+    }
+
+    @Test
+    void shouldGrowBeyondExpectedCapacity() throws InterruptedException {
+        var queue = new TopicEventQueue(2);
+        for (int i = 0; i < 10; i++) {
+            queue.offer(resync("topic-" + i, "1"));
+        }
+        assertEquals(10, queue.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("topic-" + i, pollNow(queue).name());
+        }
+    }
+
+    @Test
+    void shouldPreferChangesOverResyncs() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        queue.offer(resync("a", "1"));
+        queue.offer(resync("b", "1"));
+        queue.offer(upsert("c", "1"));
+        queue.offer(delete("d", "1"));
+        // a change to a KafkaTopic queued for a resync promotes it
+        queue.offer(upsert("b", "2"));
+        assertEquals(1, queue.resyncSize());
+
+        assertEquals("c", pollNow(queue).name());
+        assertEquals("d", pollNow(queue).name());
+        var event = pollNow(queue);
+        assertEquals("b", event.name());
+        assertFalse(event.resync());
+        assertEquals("a", pollNow(queue).name());
+        assertNull(pollNow(queue));
+    }
+
+    @Test
+    void shouldDropResyncOfQueuedTopic() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var change = upsert("a", "1");
+        queue.offer(change);
+        queue.offer(resync("a", "1"));
+        assertEquals(0, queue.resyncSize());
+        var event = pollNow(queue);
+        assertFalse(event.resync());
+        assertNull(pollNow(queue));
+    }
+
+    @Test
+    void shouldKeepAgeOfCoalescedUpserts() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var first = new TopicUpsert(System.nanoTime() - 1_000_000_000L, "ns", "a", "1", false);
+        queue.offer(first);
+        queue.offer(upsert("a", "2"));
+        var event = (TopicUpsert) pollNow(queue);
+        assertEquals("2", event.resourceVersion());
+        assertEquals(first.nanosStartOffset(), event.nanosStartOffset());
+    }
+
+    @Test
+    void shouldNotStarveResyncs() throws InterruptedException {
+        var queue = new TopicEventQueue(100);
+        queue.offer(resync("resync", "1"));
+        for (int i = 0; i < TopicEventQueue.RESYNC_SHARE * 2; i++) {
+            queue.offer(upsert("change-" + i, "1"));
+        }
+        for (int i = 0; i < TopicEventQueue.RESYNC_SHARE - 1; i++) {
+            assertTrue(pollNow(queue).name().startsWith("change-"));
+        }
+        assertEquals("resync", pollNow(queue).name());
+    }
+
+    @Test
+    void shouldWakeUpWaitingPoller() throws InterruptedException {
+        var queue = new TopicEventQueue(10);
+        var thread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            queue.offer(upsert("a", "1"));
+        });
+        thread.start();
+        var event = queue.poll(10, TimeUnit.SECONDS);
+        assertEquals("a", event.name());
+        thread.join();
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.WatcherException;
+import io.strimzi.api.kafka.Crds;
+import io.strimzi.api.kafka.model.KafkaTopic;
+import io.strimzi.api.kafka.model.KafkaTopicBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the unidirectional Topic Operator in-process, against a mock Kubernetes API server and a
+ * {@link SimulatedAdmin}, to measure how it behaves with a large number of KafkaTopics without needing
+ * a Kubernetes or Kafka cluster.
+ * The simulator creates {@link Params#numTopics()} KafkaTopics, waits for them all to become Ready and then
+ * lets the operator run through {@link Params#resyncCycles()} resyncs, reporting the throughput,
+ * the time to Ready, the number of Admin calls and the heap used.
+ */
+class TopicOperatorScaleSimulator {
+
+    private static final Logger LOGGER = LogManager.getLogger(TopicOperatorScaleSimulator.class);
+
+    /**
+     * The parameters of a simulation.
+     *
+     * @param numTopics         The number of KafkaTopics to create.
+     * @param numPartitions     The number of partitions of each topic.
+     * @param numConfigs        The number of configs in the spec of each KafkaTopic.
+     * @param numBrokers        The number of brokers of the simulated Kafka cluster.
+     * @param adminLatencyMs    The latency of each Admin call.
+     * @param adminFailureRate  The probability with which each topic within an Admin call fails.
+     * @param resyncIntervalMs  The full reconciliation interval of the operator.
+     * @param resyncCycles      The number of resyncs to measure once all the KafkaTopics are Ready.
+     * @param readyTimeoutMs    How long to wait for all the KafkaTopics to become Ready.
+     * @param operatorConfig    Any further environment variables used to configure the operator.
+     */
+    record Params(int numTopics,
+                  int numPartitions,
+                  int numConfigs,
+                  int numBrokers,
+                  long adminLatencyMs,
+                  double adminFailureRate,
+                  long resyncIntervalMs,
+                  int resyncCycles,
+                  long readyTimeoutMs,
+                  Map<String, String> operatorConfig) {
+
+        /**
+         * @param defaults The parameters to use where no system property is set.
+         * @return The parameters given by the {@code simulator.*} system properties, if set.
+         */
+        static Params fromSystemProperties(Params defaults) {
+            Map<String, String> operatorConfig = new HashMap<>(defaults.operatorConfig());
+            System.getProperties().stringPropertyNames().stream()
+                    .filter(name -> name.startsWith("simulator.config."))
+                    .forEach(name -> operatorConfig.put(name.substring("simulator.config.".length()), System.getProperty(name)));
+            return new Params(
+                    Integer.getInteger("simulator.topics", defaults.numTopics()),
+                    Integer.getInteger("simulator.partitions", defaults.numPartitions()),
+                    Integer.getInteger("simulator.configs", defaults.numConfigs()),
+                    Integer.getInteger("simulator.brokers", defaults.numBrokers()),
+                    Long.getLong("simulator.admin.latency.ms", defaults.adminLatencyMs()),
+                    Double.parseDouble(System.getProperty("simulator.admin.failure.rate", String.valueOf(defaults.adminFailureRate()))),
+                    Long.getLong("simulator.resync.interval.ms", defaults.resyncIntervalMs()),
+                    Integer.getInteger("simulator.resync.cycles", defaults.resyncCycles()),
+                    Long.getLong("simulator.ready.timeout.ms", defaults.readyTimeoutMs()),
+                    operatorConfig);
+        }
+    }
+
+    /**
+     * The results of a simulation.
+     *
+     * @param numTopics             The number of KafkaTopics created.
+     * @param numReady              The number of those which became Ready within the timeout.
+     * @param createEventsPerSec    The rate at which events were reconciled while creating the KafkaTopics.
+     * @param resyncEventsPerSec    The rate at which events were reconciled during the resyncs.
+     * @param timeToReadyMs         The 50th, 95th, 99th and 100th percentiles of the time from creating a KafkaTopic until it was Ready.
+     * @param createAdminCallsPerTopic The number of Admin calls per KafkaTopic while creating the KafkaTopics.
+     * @param resyncAdminCallsPerTopic The number of Admin calls per KafkaTopic per resync.
+     * @param adminCalls            The total number of calls of each Admin method.
+     * @param heapUsedBytes         The growth in heap use, after GC, between starting the operator and all the KafkaTopics being Ready.
+     *                              This includes the mock API server's copy of the KafkaTopics.
+     */
+    record Report(int numTopics,
+                  int numReady,
+                  double createEventsPerSec,
+                  double resyncEventsPerSec,
+                  long[] timeToReadyMs,
+                  double createAdminCallsPerTopic,
+                  double resyncAdminCallsPerTopic,
+                  Map<String, Long> adminCalls,
+                  long heapUsedBytes) {
+        @Override
+        public String toString() {
+            return "Report(" +
+                    "\n\ttopics=" + numTopics +
+                    "\n\tready=" + numReady +
+                    "\n\tcreateEventsPerSec=" + String.format("%.1f", createEventsPerSec) +
+                    "\n\tresyncEventsPerSec=" + String.format("%.1f", resyncEventsPerSec) +
+                    "\n\ttimeToReadyMs(p50,p95,p99,max)=" + Arrays.toString(timeToReadyMs) +
+                    "\n\tcreateAdminCallsPerTopic=" + String.format("%.3f", createAdminCallsPerTopic) +
+                    "\n\tresyncAdminCallsPerTopic=" + String.format("%.3f", resyncAdminCallsPerTopic) +
+                    "\n\tadminCalls=" + new TreeMap<>(adminCalls) +
+                    "\n\theapUsedMiB=" + heapUsedBytes / (1024 * 1024) +
+                    ")";
+        }
+    }
+
+    private final KubernetesClient client;
+    private final String namespace;
+    private final Params params;
+
+    /**
+     * @param client The client for the mock Kubernetes API server, which must have the KafkaTopic CRD installed.
+     * @param namespace The namespace in which to create the KafkaTopics.
+     * @param params The parameters of the simulation.
+     */
+    TopicOperatorScaleSimulator(KubernetesClient client, String namespace, Params params) {
+        this.client = client;
+        this.namespace = namespace;
+        this.params = params;
+    }
+
+    /**
+     * Runs the simulation.
+     * @return The results.
+     * @throws Exception If the operator could not be started.
+     */
+    Report run() throws Exception {
+        var simulatedAdmin = new SimulatedAdmin(params.numBrokers(), params.adminLatencyMs(), params.adminFailureRate());
+        Map<String, String> env = new HashMap<>(params.operatorConfig());
+        env.put(TopicOperatorConfig.NAMESPACE.key(), namespace);
+        env.put(TopicOperatorConfig.BOOTSTRAP_SERVERS.key(), "simulated:9092");
+        env.put(TopicOperatorConfig.FULL_RECONCILIATION_INTERVAL_MS.key(), String.valueOf(params.resyncIntervalMs()));
+        var config = TopicOperatorConfig.buildFromMap(env);
+        LOGGER.info("Simulating {} with {}", params, config);
+
+        Map<String, Long> createdNs = new ConcurrentHashMap<>(params.numTopics());
+        Map<String, Long> readyNs = new ConcurrentHashMap<>(params.numTopics());
+        var watch = Crds.topicOperation(client).inNamespace(namespace).watch(new Watcher<>() {
+            @Override
+            public void eventReceived(Action action, KafkaTopic kt) {
+                String name = kt.getMetadata().getName();
+                if (isReady(kt) && createdNs.containsKey(name)) {
+                    readyNs.putIfAbsent(name, System.nanoTime());
+                }
+            }
+
+            @Override
+            public void onClose(WatcherException cause) {
+            }
+        });
+
+        long heapBefore = usedHeap();
+        var operator = TopicOperatorMain.operator(config, client, simulatedAdmin.admin());
+        var eventTimer = operator.metrics.eventTimer(namespace);
+        try {
+            operator.start();
+
+            // Create the KafkaTopics and wait for them to become Ready
+            long createStart = System.nanoTime();
+            for (int i = 0; i < params.numTopics(); i++) {
+                var kt = kafkaTopic("topic-" + i);
+                createdNs.put(kt.getMetadata().getName(), System.nanoTime());
+                Crds.topicOperation(client).resource(kt).create();
+            }
+            long deadline = createStart + TimeUnit.MILLISECONDS.toNanos(params.readyTimeoutMs());
+            while (readyNs.size() < params.numTopics() && System.nanoTime() < deadline) {
+                Thread.sleep(100);
+            }
+            double createSecs = (System.nanoTime() - createStart) / 1e9;
+            double createEvents = eventTimer.count();
+            long createCalls = simulatedAdmin.totalCalls();
+            long heapUsed = usedHeap() - heapBefore;
+            LOGGER.info("{} of {} KafkaTopics Ready after {}s", readyNs.size(), params.numTopics(), createSecs);
+
+            // Let the operator resync them
+            long resyncStart = System.nanoTime();
+            Thread.sleep(params.resyncIntervalMs() * params.resyncCycles());
+            double resyncSecs = (System.nanoTime() - resyncStart) / 1e9;
+            double resyncEvents = eventTimer.count() - createEvents;
+            long resyncCalls = simulatedAdmin.totalCalls() - createCalls;
+
+            long[] timeToReadyMs = readyNs.entrySet().stream()
+                    .mapToLong(e -> TimeUnit.NANOSECONDS.toMillis(e.getValue() - createdNs.get(e.getKey())))
+                    .sorted()
+                    .toArray();
+            return new Report(params.numTopics(),
+                    readyNs.size(),
+                    createEvents / createSecs,
+                    resyncEvents / resyncSecs,
+                    new long[] {percentile(timeToReadyMs, 50), percentile(timeToReadyMs, 95), percentile(timeToReadyMs, 99), percentile(timeToReadyMs, 100)},
+                    (double) createCalls / params.numTopics(),
+                    (double) resyncCalls / params.numTopics() / Math.max(1, params.resyncCycles()),
+                    simulatedAdmin.calls(),
+                    heapUsed);
+        } finally {
+            watch.close();
+            operator.stop();
+            simulatedAdmin.shutdown();
+        }
+    }
+
+    private KafkaTopic kafkaTopic(String name) {
+        Map<String, Object> configs = new HashMap<>(params.numConfigs());
+        for (int i = 0; i < params.numConfigs(); i++) {
+            configs.put("config." + i, "value-" + i);
+        }
+        return new KafkaTopicBuilder()
+                .withNewMetadata()
+                    .withNamespace(namespace)
+                    .withName(name)
+                .endMetadata()
+                .withNewSpec()
+                    .withPartitions(params.numPartitions())
+                    .withReplicas(Math.min(3, params.numBrokers()))
+                    .withConfig(configs)
+                .endSpec()
+                .build();
+    }
+
+    private static boolean isReady(KafkaTopic kt) {
+        return kt.getStatus() != null
+                && kt.getStatus().getConditions() != null
+                && kt.getStatus().getConditions().stream().anyMatch(c -> "Ready".equals(c.getType()) && "True".equals(c.getStatus()));
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return -1;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
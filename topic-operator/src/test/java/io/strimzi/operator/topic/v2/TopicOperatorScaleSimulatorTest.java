@@ -0,0 +1,69 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.topic.v2;
+
+import io.fabric8.kubernetes.client.KubernetesClient;
+import io.fabric8.kubernetes.client.server.mock.EnableKubernetesMockClient;
+import io.strimzi.test.mockkube2.MockKube2;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the {@link TopicOperatorScaleSimulator} at a small scale by default.
+ * It is slow, so it is left out of the default build and runs only with the {@code simulator} profile.
+ * Use the {@code simulator.*} system properties to run it at a larger scale, for example
+ * {@code mvn test -pl topic-operator -Psimulator -Dsimulator.topics=10000 -Dsimulator.admin.latency.ms=20}.
+ * Operator configuration can be passed using {@code -Dsimulator.config.<ENV_VAR>=<value>},
+ * for example {@code -Dsimulator.config.STRIMZI_MAX_BATCH_SIZE=500}.
+ */
+@Tag("simulator")
+@EnableKubernetesMockClient(crud = true)
+class TopicOperatorScaleSimulatorTest {
+
+    private static final Logger LOGGER = LogManager.getLogger(TopicOperatorScaleSimulatorTest.class);
+    private static final String NAMESPACE = "simulation";
+
+    // Injected by Fabric8 Mock Kubernetes Server
+    @SuppressWarnings("unused")
+    private KubernetesClient client;
+    private MockKube2 mockKube;
+
+    @BeforeEach
+    void beforeEach() {
+        mockKube = new MockKube2.MockKube2Builder(client)
+                .withKafkaTopicCrd()
+                .build();
+        mockKube.start();
+    }
+
+    @AfterEach
+    void afterEach() {
+        mockKube.stop();
+    }
+
+    @Test
+    void shouldReconcileAllTopicsAtScale() throws Exception {
+        var params = TopicOperatorScaleSimulator.Params.fromSystemProperties(new TopicOperatorScaleSimulator.Params(
+                200, 3, 5, 3, 5, 0.0, 2_000, 2, 60_000, Map.of()));
+
+        var report = new TopicOperatorScaleSimulator(client, NAMESPACE, params).run();
+        LOGGER.info("Simulation of {} finished with {}", params, report);
+
+        assertEquals(params.numTopics(), report.numReady());
+        if (params.adminFailureRate() == 0.0) {
+            assertTrue(report.adminCalls().getOrDefault("createTopics", 0L) > 0);
+            assertTrue(report.resyncEventsPerSec() > 0);
+        }
+    }
+}
@@ -14,9 +14,9 @@ class TopicUpsertTest {
     @Test
     void testEquals() {
         // We don't want the nanosStartOffset parameter to be considered for equality
-        var up1 = new TopicUpsert(0, "ns", "n", "100100");
-        var up2 = new TopicUpsert(1, "ns", "n", "100100");
-        var up3 = new TopicUpsert(1, "ns", "different", "100100");
+        var up1 = new TopicUpsert(0, "ns", "n", "100100", false);
+        var up2 = new TopicUpsert(1, "ns", "n", "100100", false);
+        var up3 = new TopicUpsert(1, "ns", "different", "100100", false);
         assertEquals(up1, up2);
         assertNotEquals(up1, up3);
         assertNotEquals(up2, up3);
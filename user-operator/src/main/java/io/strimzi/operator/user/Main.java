@@ -16,14 +16,17 @@ import io.micrometer.prometheus.PrometheusConfig;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
-import io.strimzi.certs.OpenSslCertManager;
+import io.strimzi.certs.KeyPairPool;
 import io.strimzi.operator.common.AdminClientProvider;
 import io.strimzi.operator.common.DefaultAdminClientProvider;
+import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.MicrometerMetricsProvider;
 import io.strimzi.operator.common.OperatorKubernetesClientBuilder;
+import io.strimzi.operator.common.ShardOwnership;
 import io.strimzi.operator.common.Util;
 import io.strimzi.operator.common.http.HealthCheckAndMetricsServer;
+import io.strimzi.operator.common.metrics.KeyPairPoolMetrics;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.operator.DisabledSimpleAclOperator;
@@ -53,6 +56,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 public class Main {
     private static final Logger LOGGER = LogManager.getLogger(Main.class);
 
+    /**
+     * Label used to find the Leases of the members of a shard group
+     */
+    private static final String SHARD_GROUP_LABEL = "strimzi.io/user-operator-shard-group";
+
     /**
      * Main method which starts the webserver with healthchecks and metrics and the UserController which is responsible
      * for handling users
@@ -80,9 +88,13 @@ public class Main {
         Admin adminClient = createAdminClient(config, secretOperator, new DefaultAdminClientProvider());
         var kafkaUserCrdOperator = new CrdOperator<>(kafkaUserOperatorExecutor, client, KafkaUser.class, KafkaUserList.class, "KafkaUser");
 
+        MetricsProvider metricsProvider = createMetricsProvider();
+        KeyPairPool keyPairPool = createKeyPairPool(config, metricsProvider);
+        ShardOwnership shardOwnership = createShardOwnership(config, client);
+
         KafkaUserOperator kafkaUserOperator = new KafkaUserOperator(
                 config,
-                new OpenSslCertManager(),
+                config.getCertManagerType().create(keyPairPool),
                 secretOperator,
                 kafkaUserCrdOperator,
                 new ScramCredentialsOperator(adminClient, config, kafkaUserOperatorExecutor),
@@ -90,15 +102,14 @@ public class Main {
                 config.isAclsAdminApiSupported() ? new SimpleAclOperator(adminClient, config, kafkaUserOperatorExecutor) : new DisabledSimpleAclOperator()
         );
 
-        MetricsProvider metricsProvider = createMetricsProvider();
-
         // Create the User controller
         UserController controller = new UserController(
                 config,
                 secretOperator,
                 kafkaUserCrdOperator,
                 kafkaUserOperator,
-                metricsProvider
+                metricsProvider,
+                shardOwnership
         );
 
         // Create the health check and metrics server
@@ -119,6 +130,11 @@ public class Main {
             kafkaUserOperator.stop();
             kafkaUserOperatorExecutor.shutdownNow(); // We do not wait for termination
 
+            if (keyPairPool != null) {
+                LOGGER.info("Requesting key pair pool to stop");
+                keyPairPool.stop();
+            }
+
             LOGGER.info("Requesting controller to stop");
             healthCheckAndMetricsServer.stop();
 
@@ -169,6 +185,51 @@ public class Main {
         return null;
     }
 
+    /**
+     * Creates and starts the pool of pre-generated key pairs if it is enabled
+     *
+     * @param config            User Operator configuration
+     * @param metricsProvider   Metrics provider
+     *
+     * @return  The key pair pool or null if it is disabled
+     */
+    private static KeyPairPool createKeyPairPool(UserOperatorConfig config, MetricsProvider metricsProvider)  {
+        if (config.getKeyPairPoolSize() > 0) {
+            KeyPairPool keyPairPool = new KeyPairPool(config.getKeyPairPoolSize(), config.getKeyPairPoolKeySize());
+            KeyPairPoolMetrics.register(metricsProvider, keyPairPool);
+            keyPairPool.start();
+
+            return keyPairPool;
+        } else {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the shard ownership and joins the shard group if sharding is enabled. The group is joined before the
+     * caches are loaded, so that they load only the users owned by this replica.
+     *
+     * @param config    User Operator configuration
+     * @param client    Kubernetes client
+     *
+     * @return  The shard ownership or null if sharding is disabled
+     */
+    private static ShardOwnership createShardOwnership(UserOperatorConfig config, KubernetesClient client)  {
+        if (config.isShardingEnabled()) {
+            if (config.getShardIdentity() == null || config.getShardIdentity().isEmpty()) {
+                throw new InvalidConfigurationException(UserOperatorConfig.SHARD_IDENTITY.key() + " must be set when sharding is enabled");
+            }
+
+            ShardOwnership shardOwnership = new ShardOwnership(client, config.getNamespace(), SHARD_GROUP_LABEL, config.getShardGroup(), config.getShardIdentity(), config.getShardLeaseDurationMs());
+            LOGGER.info("Joining shard group {} as {}", config.getShardGroup(), shardOwnership.identity());
+            shardOwnership.renew();
+
+            return shardOwnership;
+        } else {
+            return null;
+        }
+    }
+
     /**
      * Creates the MetricsProvider instance based on a PrometheusMeterRegistry and binds the JVM metrics to it
      *
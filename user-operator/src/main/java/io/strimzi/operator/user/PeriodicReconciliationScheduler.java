@@ -0,0 +1,133 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.controller.SimplifiedReconciliation;
+import io.strimzi.operator.common.model.NamespaceAndName;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Spreads the periodic reconciliations of the users over the reconciliation interval. Instead of enqueueing all users
+ * at once at the beginning of each interval, every user gets a stable offset within the interval based on the hash of
+ * its namespace and name, and it is enqueued only once its offset is reached. This keeps the load on the Kafka brokers
+ * and on the Kubernetes API server flat instead of having a spike at the beginning of each interval. Optionally, the
+ * rate at which the periodic reconciliations are enqueued can be limited. The reconciliations triggered by the
+ * Kubernetes events are enqueued directly into the work queue and are not affected by this scheduler.
+ */
+class PeriodicReconciliationScheduler {
+    private final String kind;
+    private final ControllerQueue workQueue;
+    private final long intervalMs;
+    private final boolean spread;
+    private final int maxRatePerSecond;
+
+    // The users waiting to be enqueued, ordered by the time at which they are due
+    private final PriorityQueue<ScheduledUser> pending = new PriorityQueue<>(Comparator.comparingLong(ScheduledUser::dueMs)); // guarded by this
+    private final Set<NamespaceAndName> pendingUsers = new HashSet<>(); // guarded by this
+    private double permits = 0; // guarded by this
+    private long lastTickMs = -1; // guarded by this
+
+    /**
+     * Constructs the periodic reconciliation scheduler
+     *
+     * @param kind              Kind of the reconciled resources
+     * @param workQueue         Work queue into which the reconciliations should be enqueued
+     * @param intervalMs        Interval of the periodic reconciliations
+     * @param spread            Whether the reconciliations should be spread over the interval or enqueued right away
+     * @param maxRatePerSecond  Maximal number of periodic reconciliations enqueued per second. 0 means no limit.
+     */
+    PeriodicReconciliationScheduler(String kind, ControllerQueue workQueue, long intervalMs, boolean spread, int maxRatePerSecond) {
+        this.kind = kind;
+        this.workQueue = workQueue;
+        this.intervalMs = intervalMs;
+        this.spread = spread;
+        this.maxRatePerSecond = maxRatePerSecond;
+    }
+
+    /**
+     * Schedules the periodic reconciliation of the users for the interval starting at the given time. Users which are
+     * still waiting from the previous interval (for example because of the rate limit) keep their place.
+     *
+     * @param users             Users which should be reconciled
+     * @param intervalStartMs   The time at which the interval starts
+     */
+    synchronized void schedule(Set<NamespaceAndName> users, long intervalStartMs) {
+        for (NamespaceAndName user : users) {
+            if (pendingUsers.add(user)) {
+                pending.add(new ScheduledUser(user, intervalStartMs + (spread ? offsetMs(user, intervalMs) : 0)));
+            }
+        }
+    }
+
+    /**
+     * Enqueues the users whose time has come, as far as the rate limit allows. This method is expected to be called
+     * regularly.
+     *
+     * @param nowMs     The current time
+     *
+     * @return  The number of enqueued users
+     */
+    synchronized int tick(long nowMs) {
+        if (maxRatePerSecond > 0) {
+            // Token bucket which allows to enqueue up to one second worth of reconciliations at once
+            permits = lastTickMs < 0 ? maxRatePerSecond : Math.min(maxRatePerSecond, permits + (nowMs - lastTickMs) * maxRatePerSecond / 1_000.0);
+            lastTickMs = nowMs;
+        }
+
+        int enqueued = 0;
+
+        while (!pending.isEmpty() && pending.peek().dueMs() <= nowMs) {
+            if (maxRatePerSecond > 0) {
+                if (permits < 1) {
+                    break;
+                }
+
+                permits--;
+            }
+
+            ScheduledUser next = pending.poll();
+            pendingUsers.remove(next.user());
+            workQueue.enqueue(new SimplifiedReconciliation(kind, next.user().getNamespace(), next.user().getName(), "timer"));
+            enqueued++;
+        }
+
+        return enqueued;
+    }
+
+    /**
+     * @return  The number of users waiting to be enqueued
+     */
+    synchronized int pendingSize() {
+        return pending.size();
+    }
+
+    /**
+     * Calculates the stable offset of the user within the interval. The hash of the user is mixed using Fibonacci
+     * hashing, so that users with similar names (e.g. user-1 and user-2) are spread evenly as well.
+     *
+     * @param user          The user
+     * @param intervalMs    The length of the interval
+     *
+     * @return  The offset of the user within the interval
+     */
+    /*test*/ static long offsetMs(NamespaceAndName user, long intervalMs) {
+        long mixed = (user.toString().hashCode() & 0xFFFFFFFFL) * 0x9E3779B97F4A7C15L;
+        double fraction = (mixed >>> 11) * 0x1.0p-53;
+        return (long) (fraction * intervalMs);
+    }
+
+    /**
+     * User waiting to be enqueued
+     *
+     * @param user  The user
+     * @param dueMs The time at which it should be enqueued
+     */
+    private record ScheduledUser(NamespaceAndName user, long dueMs) { }
+}
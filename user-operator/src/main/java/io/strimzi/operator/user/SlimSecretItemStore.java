@@ -0,0 +1,144 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.api.model.ObjectMeta;
+import io.fabric8.kubernetes.api.model.ObjectMetaBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.cache.BasicItemStore;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import io.strimzi.operator.common.Util;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An informer item store which keeps a slim projection of each user Secret, rather than the Secret as received from
+ * the API server.
+ *
+ * <p>The user Secrets contain the certificate, the private key, the PKCS#12 keystore and its password or the SCRAM-SHA
+ * password. Most of their size is this data, which the informer does not need. The projection keeps only:</p>
+ * <ul>
+ *     <li>the identity of the Secret (apiVersion, kind, namespace, name, uid and creationTimestamp),</li>
+ *     <li>the resourceVersion and deletionTimestamp,</li>
+ *     <li>the labels, annotations and owner references,</li>
+ *     <li>the type,</li>
+ *     <li>a hash of the data stored in the {@code strimzi.io/content-hash} annotation.</li>
+ * </ul>
+ * <p>The managedFields and the {@code kubectl.kubernetes.io/last-applied-configuration} annotation (which repeats the
+ * whole data) are dropped. The {@link UserControllerLoop} gets the full Secret from the API server only when it
+ * reconciles a user whose Secret exists.</p>
+ */
+class SlimSecretItemStore extends BasicItemStore<Secret> {
+    /**
+     * Annotation with the hash of the data of the Secret. It is set only on the slim projection in the informer cache.
+     */
+    /*test*/ static final String CONTENT_HASH_ANNOTATION = "strimzi.io/content-hash";
+    private static final String LAST_APPLIED_ANNOTATION = "kubectl.kubernetes.io/last-applied-configuration";
+
+    SlimSecretItemStore() {
+        super(Cache::metaNamespaceKeyFunc);
+    }
+
+    @Override
+    public Secret put(String key, Secret obj) {
+        return super.put(key, slim(obj));
+    }
+
+    /**
+     * @param secret    A Secret
+     *
+     * @return  The slim projection of the given Secret
+     */
+    /*test*/ static Secret slim(Secret secret) {
+        return new SecretBuilder()
+                .withApiVersion(secret.getApiVersion())
+                .withKind(secret.getKind())
+                .withMetadata(slim(secret.getMetadata(), contentHash(secret)))
+                .withType(secret.getType())
+                .build();
+    }
+
+    /**
+     * Checks whether two versions of a Secret differ only in the fields which are not part of the slim projection or
+     * in their resourceVersion. This is the case for example for the resync events of the informer. Both full Secrets
+     * and their slim projections can be compared.
+     *
+     * @param oldSecret     Old version of the Secret
+     * @param newSecret     New version of the Secret
+     *
+     * @return  True if the Secrets have the same content. False otherwise.
+     */
+    /*test*/ static boolean sameContent(Secret oldSecret, Secret newSecret) {
+        return withoutResourceVersion(slim(oldSecret)).equals(withoutResourceVersion(slim(newSecret)));
+    }
+
+    /**
+     * Returns the hash of the data of the Secret. For the slim projection, which has no data, the hash is taken from
+     * the annotation.
+     *
+     * @param secret    A Secret or its slim projection
+     *
+     * @return  The hash of the data
+     */
+    /*test*/ static String contentHash(Secret secret) {
+        if ((secret.getData() == null || secret.getData().isEmpty())
+                && secret.getMetadata() != null
+                && secret.getMetadata().getAnnotations() != null
+                && secret.getMetadata().getAnnotations().containsKey(CONTENT_HASH_ANNOTATION)) {
+            return secret.getMetadata().getAnnotations().get(CONTENT_HASH_ANNOTATION);
+        }
+
+        // The keys are sorted to make the hash independent of the order of the data
+        StringBuilder content = new StringBuilder();
+        new TreeMap<>(secret.getData() != null ? secret.getData() : Map.of())
+                .forEach((key, value) -> content.append(key).append('=').append(value).append('\n'));
+
+        return String.format("%040x", new BigInteger(1, Util.sha1Digest(content.toString().getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static ObjectMeta slim(ObjectMeta metadata, String contentHash) {
+        if (metadata == null) {
+            return null;
+        }
+
+        Map<String, String> annotations = new HashMap<>(metadata.getAnnotations() != null ? metadata.getAnnotations() : Map.of());
+        annotations.remove(LAST_APPLIED_ANNOTATION);
+        annotations.put(CONTENT_HASH_ANNOTATION, contentHash);
+
+        return new ObjectMetaBuilder()
+                .withNamespace(metadata.getNamespace())
+                .withName(metadata.getName())
+                .withUid(metadata.getUid())
+                .withCreationTimestamp(metadata.getCreationTimestamp())
+                .withResourceVersion(metadata.getResourceVersion())
+                .withDeletionTimestamp(metadata.getDeletionTimestamp())
+                .withLabels(emptyToNull(metadata.getLabels()))
+                .withAnnotations(annotations)
+                .withOwnerReferences(emptyToNull(metadata.getOwnerReferences()))
+                .build();
+    }
+
+    private static Secret withoutResourceVersion(Secret secret) {
+        if (secret.getMetadata() != null) {
+            secret.getMetadata().setResourceVersion(null);
+        }
+
+        return secret;
+    }
+
+    private static <T> List<T> emptyToNull(List<T> list) {
+        return list == null || list.isEmpty() ? null : list;
+    }
+
+    private static <K, V> Map<K, V> emptyToNull(Map<K, V> map) {
+        return map == null || map.isEmpty() ? null : map;
+    }
+}
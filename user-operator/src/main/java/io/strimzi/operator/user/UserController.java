@@ -9,12 +9,14 @@ import io.fabric8.kubernetes.client.KubernetesClient;
 import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
 import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
 import io.fabric8.kubernetes.client.informers.cache.Lister;
+import io.micrometer.core.instrument.Timer;
 import io.strimzi.api.kafka.KafkaUserList;
 import io.strimzi.api.kafka.model.KafkaUser;
 import io.strimzi.operator.common.Annotations;
 import io.strimzi.operator.common.InformerUtils;
 import io.strimzi.operator.common.MetricsProvider;
 import io.strimzi.operator.common.ReconciliationLogger;
+import io.strimzi.operator.common.ShardOwnership;
 import io.strimzi.operator.common.controller.AbstractControllerLoop;
 import io.strimzi.operator.common.controller.ControllerQueue;
 import io.strimzi.operator.common.controller.ReconciliationLockManager;
@@ -26,7 +28,12 @@ import io.strimzi.operator.common.model.Labels;
 import io.strimzi.operator.common.model.NamespaceAndName;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
 import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
+import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
+import io.strimzi.operator.user.operator.cache.AbstractCache;
+import io.strimzi.operator.user.operator.cache.CacheListener;
+import io.strimzi.operator.user.operator.cache.CacheMetricsListener;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -39,6 +46,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
 
 /**
  * User controller is responsible for queueing the reconciliations of the Kafka Users. It does so by watching for the
@@ -53,17 +61,21 @@ public class UserController implements Liveness, Readiness {
     private final KafkaUserOperator userOperator;
     private final ControllerMetricsHolder metrics;
     private final ControllerQueue workQueue;
+    private final PeriodicReconciliationScheduler periodicReconciliationScheduler;
     private final List<UserControllerLoop> threadPool;
 
     private final String watchedNamespace;
     private final String secretPrefix;
     private final long reconcileIntervalMs;
     private final long operationTimeoutMs;
+    private final boolean slimSecretCache;
 
     private final SharedIndexInformer<Secret> secretInformer;
     private final SharedIndexInformer<KafkaUser> userInformer;
 
     private final ScheduledExecutorService scheduledExecutor;
+    private final ShardOwnership shardOwnership;
+    private final ScheduledExecutorService leaseRenewalExecutor;
 
     /**
      * Creates the User controller responsible for controlling users in a single
@@ -82,12 +94,35 @@ public class UserController implements Liveness, Readiness {
             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> userCrdOperator,
             KafkaUserOperator userOperator,
             MetricsProvider metricsProvider) {
+        this(config, secretOperator, userCrdOperator, userOperator, metricsProvider, null);
+    }
+
+    /**
+     * Creates the User controller responsible for controlling a slice of the users in a single namespace
+     *
+     * @param config          User Operator configuration
+     * @param secretOperator  For operating on secrets
+     * @param userCrdOperator For operating on KafkaUser resources
+     * @param userOperator    The User Operator which encapsulates the logic for
+     *                        updating the users
+     * @param metricsProvider Metrics provider for handling metrics
+     * @param shardOwnership  Decides which users are reconciled by this replica or null when sharding is disabled
+     */
+    public UserController(
+            UserOperatorConfig config,
+            SecretOperator secretOperator,
+            CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> userCrdOperator,
+            KafkaUserOperator userOperator,
+            MetricsProvider metricsProvider,
+            ShardOwnership shardOwnership) {
 
         this.userOperator = userOperator;
+        this.shardOwnership = shardOwnership;
 
         // Store some useful settings into local fields
         this.watchedNamespace = config.getNamespace();
         this.secretPrefix = config.getSecretPrefix();
+        this.slimSecretCache = config.isSlimSecretCacheEnabled();
         this.reconcileIntervalMs = config.getReconciliationIntervalMs();
         this.operationTimeoutMs = config.getOperationTimeoutMs();
 
@@ -104,9 +139,27 @@ public class UserController implements Liveness, Readiness {
 
         // Set up the work queue
         this.workQueue = new ControllerQueue(config.getWorkQueueSize(), this.metrics);
+        this.periodicReconciliationScheduler = new PeriodicReconciliationScheduler(RESOURCE_KIND, workQueue, reconcileIntervalMs, config.isReconciliationSpread(), config.getReconciliationMaxRate());
+
+        // Export the cache metrics and reconcile the users which changed in Kafka without waiting for the periodic reconciliation
+        userOperator.addCacheListener(new CacheMetricsListener(metricsProvider, watchedNamespace));
+        userOperator.addCacheListener(new CacheChangeListener());
+
+        // Export the metrics of the micro-batching reconcilers
+        userOperator.addBatchListener(new BatchMetricsListener());
+
+        // Keep only the users owned by this replica in the caches and take over the users gained from other replicas
+        if (shardOwnership != null) {
+            userOperator.setCacheFilter(key -> shardOwnership.owns(KafkaUserModel.decodeUsername(key)));
+            shardOwnership.addListener(this::onShardsChanged);
+        }
 
         // Secret informer and lister is used to get events about Secrets and get Secrets quickly
         this.secretInformer = secretOperator.informer(watchedNamespace, secretSelector, DEFAULT_RESYNC_PERIOD_MS);
+        if (slimSecretCache) {
+            // Keep only the slim Secrets without the credentials in the informer cache. The loops get the full Secrets when needed.
+            secretInformer.itemStore(new SlimSecretItemStore());
+        }
         Lister<Secret> secretLister = new Lister<>(secretInformer.getIndexer());
 
         // KafkaUser informer and lister is used to get events about Users and get Users quickly
@@ -115,6 +168,11 @@ public class UserController implements Liveness, Readiness {
 
         // Creates the scheduled executor service used for periodical reconciliations and progress warnings
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerScheduledExecutor"));
+        // The Lease is renewed in its own thread, so that the periodic reconciliation (which waits for all users to be
+        // listed) cannot delay the renewal until the Lease expires
+        this.leaseRenewalExecutor = shardOwnership != null
+                ? Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "UserControllerLeaseRenewal"))
+                : null;
 
         // Create the reconciliation lock manager
         ReconciliationLockManager lockManager = new ReconciliationLockManager();
@@ -122,7 +180,7 @@ public class UserController implements Liveness, Readiness {
         // Create a thread pool for the reconciliation loops and add the reconciliation loops
         this.threadPool = new ArrayList<>(config.getControllerThreadPoolSize());
         for (int i = 0; i < config.getControllerThreadPoolSize(); i++)  {
-            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, userLister, secretLister, userCrdOperator, userOperator, metrics, config));
+            threadPool.add(new UserControllerLoop(RESOURCE_KIND + "-ControllerLoop-" + i, workQueue, lockManager, scheduledExecutor, userLister, secretLister, secretOperator, userCrdOperator, userOperator, metrics, config));
         }
     }
 
@@ -134,6 +192,11 @@ public class UserController implements Liveness, Readiness {
      */
 
     private void enqueueKafkaUser(KafkaUser user, String action) {
+        if (!owns(user.getMetadata().getName())) {
+            LOGGER.debugOp("{} {} in namespace {} was {}, but it is owned by another replica", RESOURCE_KIND, user.getMetadata().getName(), user.getMetadata().getNamespace(), action);
+            return;
+        }
+
         LOGGER.infoOp("{} {} in namespace {} was {}", RESOURCE_KIND, user.getMetadata().getName(), user.getMetadata().getNamespace(), action);
         workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), user.getMetadata().getName()));
     }
@@ -151,13 +214,60 @@ public class UserController implements Liveness, Readiness {
         // When prefix is configured and the Secret starts with it, we remove the prefix and use it as username
         // When prefix is configured and the Secret name does not start with it, we ignore it
         if (secretPrefix == null || secretPrefix.isEmpty()) {
-            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), userSecret.getMetadata().getName()));
+            if (owns(userSecret.getMetadata().getName())) {
+                workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), userSecret.getMetadata().getName()));
+            }
         } else if (userSecret.getMetadata().getName().startsWith(secretPrefix)) {
             String kafkaUser = userSecret.getMetadata().getName().substring(secretPrefix.length());
-            workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), kafkaUser));
+
+            if (owns(kafkaUser)) {
+                workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, userSecret.getMetadata().getNamespace(), kafkaUser));
+            }
         }
     }
 
+    /**
+     * Checks whether this replica should reconcile the user. When sharding is disabled, it reconciles all users.
+     *
+     * @param username  Name of the KafkaUser
+     *
+     * @return  True if this replica reconciles the user. False otherwise.
+     */
+    private boolean owns(String username) {
+        return shardOwnership == null || shardOwnership.owns(username);
+    }
+
+    /**
+     * Called when the members of the shard group change. It refreshes the caches to load the Kafka state of the users
+     * gained from other replicas and to drop the users which moved to other replicas. Once the caches are refreshed,
+     * it queues the reconciliation of the gained users. The users which moved to other replicas are not queued by this
+     * replica anymore.
+     *
+     * @param oldRing   Previous hash ring
+     * @param newRing   New hash ring
+     */
+    private void onShardsChanged(ShardOwnership.Ring oldRing, ShardOwnership.Ring newRing) {
+        String identity = shardOwnership.identity();
+
+        userOperator.refreshCaches().whenComplete((r, e) -> {
+            if (e != null) {
+                LOGGER.warnOp("Failed to refresh the caches after the shard group changed", e);
+            }
+
+            int gained = 0;
+            for (KafkaUser user : userInformer.getIndexer().list()) {
+                String username = user.getMetadata().getName();
+
+                if (newRing.owns(identity, username) && !oldRing.owns(identity, username)) {
+                    workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getMetadata().getNamespace(), username, "sharding"));
+                    gained++;
+                }
+            }
+
+            LOGGER.infoOp("Shard group changed and {} {} resources moved to this replica", gained, RESOURCE_KIND);
+        });
+    }
+
     /**
      * Indicates that the informers have been synced and are up-to-date.
      *
@@ -174,6 +284,12 @@ public class UserController implements Liveness, Readiness {
         LOGGER.infoOp("Stopping scheduled executor service");
         scheduledExecutor.shutdownNow(); // We do not wait for termination
 
+        if (shardOwnership != null) {
+            LOGGER.infoOp("Leaving the shard group");
+            leaseRenewalExecutor.shutdownNow();
+            shardOwnership.release();
+        }
+
         LOGGER.infoOp("Stopping User Controller loops");
         threadPool.forEach(t -> {
             try {
@@ -219,6 +335,12 @@ public class UserController implements Liveness, Readiness {
         LOGGER.infoOp("Starting User Controller loops");
         threadPool.forEach(AbstractControllerLoop::start);
 
+        // Renew the Lease well within its duration, so that a single failed renewal does not cost us the users
+        if (shardOwnership != null) {
+            long renewIntervalMs = Math.max(1, shardOwnership.leaseDurationMs() / 3);
+            leaseRenewalExecutor.scheduleWithFixedDelay(shardOwnership::renew, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+        }
+
         // Configure the periodic reconciliation
         schedulePeriodicReconciliations();
     }
@@ -260,15 +382,19 @@ public class UserController implements Liveness, Readiness {
     }
 
     /**
-     * Schedules the periodic reconciliation triggers
+     * Schedules the periodic reconciliation triggers. The users are listed once per reconciliation interval and
+     * enqueued by the periodic reconciliation scheduler, which is checked in a shorter interval.
      */
     private void schedulePeriodicReconciliations()  {
+        long tickMs = Math.min(1_000L, Math.max(10L, reconcileIntervalMs / 100));
+
         scheduledExecutor.scheduleAtFixedRate(new PeriodicReconciliation(), reconcileIntervalMs, reconcileIntervalMs, TimeUnit.MILLISECONDS);
+        scheduledExecutor.scheduleWithFixedDelay(() -> periodicReconciliationScheduler.tick(System.currentTimeMillis()), tickMs, tickMs, TimeUnit.MILLISECONDS);
     }
 
     /**
      * Internal timer tasks which gets the list of all usernames based on the custom resources, ACLs, Quotas or SCRAM
-     * credentials and queues them for reconciliation.
+     * credentials and schedules them for reconciliation.
      */
     class PeriodicReconciliation implements Runnable  {
         @Override
@@ -279,8 +405,16 @@ public class UserController implements Liveness, Readiness {
             CompletionStage<Set<NamespaceAndName>> allUsersFuture = userOperator.getAllUsers(watchedNamespace);
 
             try {
+                long intervalStartMs = System.currentTimeMillis();
                 Set<NamespaceAndName> allUsers = allUsersFuture.toCompletableFuture().get(operationTimeoutMs, TimeUnit.MILLISECONDS);
-                allUsers.forEach(user -> workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, user.getNamespace(), user.getName(), "timer")));
+
+                if (shardOwnership != null) {
+                    // Only the users owned by this replica are reconciled periodically
+                    allUsers = allUsers.stream().filter(user -> owns(user.getName())).collect(Collectors.toSet());
+                }
+
+                periodicReconciliationScheduler.schedule(allUsers, intervalStartMs);
+                periodicReconciliationScheduler.tick(System.currentTimeMillis());
             } catch (TimeoutException e)    {
                 LOGGER.errorOp("Periodic reconciliation of {} resources for namespace {} timed out", RESOURCE_KIND, watchedNamespace, e);
                 allUsersFuture.toCompletableFuture().cancel(true);
@@ -290,6 +424,63 @@ public class UserController implements Liveness, Readiness {
         }
     }
 
+    /**
+     * Cache listener which queues the reconciliation of users whose ACLs, Quotas or SCRAM-SHA credentials changed in
+     * Kafka since the previous refresh of the cache.
+     */
+    class CacheChangeListener implements CacheListener {
+        @Override
+        public void onRefresh(AbstractCache<?> cache, long durationNanos, Set<String> changedKeys) {
+            if (!changedKeys.isEmpty()) {
+                LOGGER.infoOp("{} cache found {} changed users in namespace {}", cache.name(), changedKeys.size(), watchedNamespace);
+
+                for (String key : changedKeys) {
+                    String username = KafkaUserModel.decodeUsername(key);
+
+                    if (owns(username)) {
+                        workQueue.enqueue(new SimplifiedReconciliation(RESOURCE_KIND, watchedNamespace, username, "cache"));
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onRefreshFailure(AbstractCache<?> cache) {
+            // Nothing to do => the cache logs the failure and the users are reconciled periodically anyway
+        }
+    }
+
+    /**
+     * Batch reconciler listener which records the batch size, queue wait, request latency and failures of the
+     * micro-batching reconcilers in the controller metrics.
+     */
+    class BatchMetricsListener implements BatchReconcilerListener {
+        @Override
+        public void onBatchSent(String reconciler, long[] queueWaitNanos) {
+            metrics.batchSize(watchedNamespace, reconciler).record(queueWaitNanos.length);
+
+            Timer queueWaitTimer = metrics.batchQueueWaitTimer(watchedNamespace, reconciler);
+            for (long queueWait : queueWaitNanos) {
+                queueWaitTimer.record(queueWait, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onBatchCompleted(String reconciler, long durationNanos, int failedItems) {
+            metrics.batchRequestTimer(watchedNamespace, reconciler).record(durationNanos, TimeUnit.NANOSECONDS);
+
+            if (failedItems > 0) {
+                metrics.batchPartialFailuresCounter(watchedNamespace, reconciler).increment(failedItems);
+            }
+        }
+
+        @Override
+        public void onBatchFailed(String reconciler, long durationNanos) {
+            metrics.batchRequestTimer(watchedNamespace, reconciler).record(durationNanos, TimeUnit.NANOSECONDS);
+            metrics.batchFailuresCounter(watchedNamespace, reconciler).increment();
+        }
+    }
+
     /**
      * Event handler used in the KafkaUser informer which decides what to do with the incoming events.
      */
@@ -343,7 +534,13 @@ public class UserController implements Liveness, Readiness {
 
         @Override
         public void onUpdate(Secret oldSecret, Secret newSecret) {
-            enqueueUserSecret(newSecret, "MODIFIED");
+            if (slimSecretCache && SlimSecretItemStore.sameContent(oldSecret, newSecret)) {
+                // The old Secret is the slim copy from the cache. When nothing what it keeps has changed (e.g. in
+                // resyncs), there is no need to reconcile the user.
+                LOGGER.debugOp("Secret {} in namespace {} was updated without changing its content", newSecret.getMetadata().getName(), newSecret.getMetadata().getNamespace());
+            } else {
+                enqueueUserSecret(newSecret, "MODIFIED");
+            }
         }
 
         @Override
@@ -24,6 +24,7 @@ import io.strimzi.operator.common.controller.ReconciliationLockManager;
 import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
 import io.strimzi.operator.common.model.StatusUtils;
 import io.strimzi.operator.common.operator.resource.concurrent.CrdOperator;
+import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.operator.KafkaUserOperator;
 
@@ -44,11 +45,13 @@ public class UserControllerLoop extends AbstractControllerLoop {
 
     private final Lister<KafkaUser> userLister;
     private final Lister<Secret> secretLister;
+    private final SecretOperator secretOperator;
     private final CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> userCrdOperator;
     private final KafkaUserOperator userOperator;
     private final ControllerMetricsHolder metrics;
 
     private final String secretPrefix;
+    private final boolean slimSecretCache;
     private final long operationTimeoutMs;
 
     /**
@@ -63,6 +66,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
      *                              used to run the progress warnings
      * @param userLister            The KafkaUser resource lister for getting the resources
      * @param secretLister          The Secret lister for getting the secrets
+     * @param secretOperator        For getting the full secrets when the Secret informer caches only their slim projection
      * @param userCrdOperator       For operating on KafkaUser resources
      * @param userOperator          The KafkaUserOperator which has the logic for updating the Kubernetes or Kafka resources
      * @param metrics               The metrics holder for providing metrics about the reconciliation
@@ -75,6 +79,7 @@ public class UserControllerLoop extends AbstractControllerLoop {
             ScheduledExecutorService scheduledExecutor,
             Lister<KafkaUser> userLister,
             Lister<Secret> secretLister,
+            SecretOperator secretOperator,
             CrdOperator<KubernetesClient, KafkaUser, KafkaUserList> userCrdOperator,
             KafkaUserOperator userOperator,
             ControllerMetricsHolder metrics,
@@ -84,11 +89,13 @@ public class UserControllerLoop extends AbstractControllerLoop {
 
         this.userLister = userLister;
         this.secretLister = secretLister;
+        this.secretOperator = secretOperator;
         this.userCrdOperator = userCrdOperator;
         this.userOperator = userOperator;
         this.metrics = metrics;
 
         this.secretPrefix = config.getSecretPrefix();
+        this.slimSecretCache = config.isSlimSecretCacheEnabled();
         this.operationTimeoutMs = config.getOperationTimeoutMs();
     }
 
@@ -111,8 +118,17 @@ public class UserControllerLoop extends AbstractControllerLoop {
             maybeUpdateStatus(reconciliation, user, status);
         } else {
             // Resource is not paused or is null (and we should trigger deletion) => we should proceed with reconciliation
-            CompletionStage<KafkaUserStatus> reconciliationResult = userOperator
-                    .reconcile(reconciliation, user, secretLister.namespace(reconciliation.namespace()).get(KafkaUserModel.getSecretName(secretPrefix, reconciliation.name())));
+            String secretName = KafkaUserModel.getSecretName(secretPrefix, reconciliation.name());
+            Secret secret = secretLister.namespace(reconciliation.namespace()).get(secretName);
+            CompletionStage<KafkaUserStatus> reconciliationResult;
+
+            if (slimSecretCache && user != null && secret != null) {
+                // The informer has only the slim Secret without the credentials => we get the full Secret first
+                reconciliationResult = secretOperator.getAsync(reconciliation.namespace(), secretName)
+                        .thenCompose(fullSecret -> userOperator.reconcile(reconciliation, user, fullSecret));
+            } else {
+                reconciliationResult = userOperator.reconcile(reconciliation, user, secret);
+            }
 
             try {
                 KafkaUserStatus status = new KafkaUserStatus();
@@ -4,7 +4,9 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.operator.resource.ConfigParameter;
+import io.strimzi.operator.common.operator.resource.ConfigParameterParser;
 import io.strimzi.operator.common.model.Labels;
 
 import java.util.HashMap;
@@ -22,6 +24,7 @@ import static io.strimzi.operator.common.operator.resource.ConfigParameterParser
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.STRING;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.LABEL_PREDICATE;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.BOOLEAN;
+import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.nonNegative;
 import static io.strimzi.operator.common.operator.resource.ConfigParameterParser.strictlyPositive;
 
 /**
@@ -63,6 +66,15 @@ public class UserOperatorConfig {
      * How many milliseconds between reconciliation runs.
      */
     public static final ConfigParameter<Long> RECONCILIATION_INTERVAL_MS = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_INTERVAL_MS", LONG, "120000", CONFIG_VALUES);
+    /**
+     * Indicates whether the periodic reconciliations of the users should be spread over the reconciliation interval
+     * instead of being triggered for all users at once
+     */
+    public static final ConfigParameter<Boolean> RECONCILIATION_SPREAD = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_SPREAD", BOOLEAN, "true", CONFIG_VALUES);
+    /**
+     * Maximal number of periodic reconciliations which are enqueued per second. 0 means no limit.
+     */
+    public static final ConfigParameter<Integer> RECONCILIATION_MAX_RATE = new ConfigParameter<>("STRIMZI_FULL_RECONCILIATION_MAX_RATE", nonNegative(INTEGER), "0", CONFIG_VALUES);
     /**
      * Kafka bootstrap servers list
      */
@@ -83,10 +95,38 @@ public class UserOperatorConfig {
      * Length used for the Scram-Sha Password
      */
     public static final ConfigParameter<Integer> SCRAM_SHA_PASSWORD_LENGTH = new ConfigParameter<>("STRIMZI_SCRAM_SHA_PASSWORD_LENGTH", strictlyPositive(INTEGER), "32",  CONFIG_VALUES);
+    /**
+     * Indicates whether the SCRAM-SHA credentials of a user should only be upserted when its password changed since it
+     * was last applied by this operator (or when the credentials do not exist)
+     */
+    public static final ConfigParameter<Boolean> SCRAM_SHA_SKIP_UNCHANGED_UPSERTS = new ConfigParameter<>("STRIMZI_SCRAM_SHA_SKIP_UNCHANGED_UPSERTS", BOOLEAN, "true", CONFIG_VALUES);
     /**
      * Indicates whether the Admin APi can be used to manage ACLs. Defaults to true for backwards compatibility reasons.
      */
     public static final ConfigParameter<Boolean> ACLS_ADMIN_API_SUPPORTED = new ConfigParameter<>("STRIMZI_ACLS_ADMIN_API_SUPPORTED", BOOLEAN, "true", CONFIG_VALUES);
+    /**
+     * Indicates whether the ACL cache should be loaded with one Admin API query per resource type and pattern type
+     * instead of a single query for all ACLs
+     */
+    public static final ConfigParameter<Boolean> ACLS_CACHE_SHARDED_LOADING = new ConfigParameter<>("STRIMZI_ACLS_CACHE_SHARDED_LOADING", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Maximal number of Admin API queries running at the same time when loading the ACL cache in shards
+     */
+    public static final ConfigParameter<Integer> ACLS_CACHE_LOADING_CONCURRENCY = new ConfigParameter<>("STRIMZI_ACLS_CACHE_LOADING_CONCURRENCY", strictlyPositive(INTEGER), "4", CONFIG_VALUES);
+    /**
+     * Implementation used to generate the user certificates: openssl (forks the openssl binary) or java (generates
+     * them in memory using the Java Cryptography Architecture)
+     */
+    public static final ConfigParameter<CertManagerType> CERT_MANAGER_TYPE = new ConfigParameter<>("STRIMZI_CERT_MANAGER", ConfigParameterParser.CERT_MANAGER_TYPE, "openssl", CONFIG_VALUES);
+    /**
+     * Number of pre-generated key pairs used for the user certificates. 0 disables the pool and the keys are generated
+     * when the certificate is issued.
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_SIZE", INTEGER, "0", CONFIG_VALUES);
+    /**
+     * Size in bits of the pre-generated RSA keys
+     */
+    public static final ConfigParameter<Integer> KEY_PAIR_POOL_KEY_SIZE = new ConfigParameter<>("STRIMZI_KEY_PAIR_POOL_KEY_SIZE", strictlyPositive(INTEGER), "2048", CONFIG_VALUES);
     /**
      * Timeout for internal operations specified in milliseconds
      */
@@ -115,6 +155,11 @@ public class UserOperatorConfig {
      * Maximal batch time for micro-batching the Kafka Admin API requests
      */
     public static final ConfigParameter<Integer> BATCH_MAXIMUM_BLOCK_TIME_MS = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_BLOCK_TIME_MS", strictlyPositive(INTEGER), "100", CONFIG_VALUES);
+    /**
+     * Maximal number of batches of Kafka Admin API requests which each micro-batching reconciler sends at the same time.
+     * Not limited by default.
+     */
+    public static final ConfigParameter<Integer> BATCH_MAXIMUM_IN_FLIGHT = new ConfigParameter<>("STRIMZI_BATCH_MAXIMUM_IN_FLIGHT", strictlyPositive(INTEGER), String.valueOf(Integer.MAX_VALUE), CONFIG_VALUES);
     /**
      * Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -127,6 +172,26 @@ public class UserOperatorConfig {
      * Lit of maintenance windows
      */
     public static final ConfigParameter<List<String>> MAINTENANCE_TIME_WINDOWS = new ConfigParameter<>("STRIMZI_MAINTENANCE_TIME_WINDOWS", SEMICOLON_SEPARATED_LIST, "", CONFIG_VALUES);
+    /**
+     * Indicates whether the users should be divided between several replicas of the User Operator
+     */
+    public static final ConfigParameter<Boolean> SHARDING_ENABLED = new ConfigParameter<>("STRIMZI_SHARDING_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
+    /**
+     * Name of the group of User Operator replicas which divide the users between them
+     */
+    public static final ConfigParameter<String> SHARD_GROUP = new ConfigParameter<>("STRIMZI_SHARD_GROUP", NON_EMPTY_STRING, "strimzi-user-operator", CONFIG_VALUES);
+    /**
+     * Identity of this replica within the shard group (e.g. the Pod name)
+     */
+    public static final ConfigParameter<String> SHARD_IDENTITY = new ConfigParameter<>("STRIMZI_SHARD_IDENTITY", STRING, "", CONFIG_VALUES);
+    /**
+     * Duration of the Leases used to track the replicas of the shard group
+     */
+    public static final ConfigParameter<Long> SHARD_LEASE_DURATION_MS = new ConfigParameter<>("STRIMZI_SHARD_LEASE_DURATION_MS", strictlyPositive(LONG), "15000", CONFIG_VALUES);
+    /**
+     * Enables caching only a slim projection of the user Secrets without their data in the Secret informer
+     */
+    public static final ConfigParameter<Boolean> SLIM_SECRET_CACHE_ENABLED = new ConfigParameter<>("STRIMZI_SLIM_SECRET_CACHE_ENABLED", BOOLEAN, "false", CONFIG_VALUES);
 
     private final Map<String, Object> map;
 
@@ -208,6 +273,20 @@ public class UserOperatorConfig {
         return get(RECONCILIATION_INTERVAL_MS);
     }
 
+    /**
+     * @return Indicates whether the periodic reconciliations should be spread over the reconciliation interval
+     */
+    public boolean isReconciliationSpread() {
+        return get(RECONCILIATION_SPREAD);
+    }
+
+    /**
+     * @return Maximal number of periodic reconciliations enqueued per second. 0 means no limit.
+     */
+    public int getReconciliationMaxRate() {
+        return get(RECONCILIATION_MAX_RATE);
+    }
+
     /**
      * @return The labels which should be used as selector
      */
@@ -275,6 +354,13 @@ public class UserOperatorConfig {
         return get(SCRAM_SHA_PASSWORD_LENGTH);
     }
 
+    /**
+     * @return Indicates whether upserts of unchanged SCRAM-SHA credentials should be skipped
+     */
+    public boolean isScramShaSkipUnchangedUpserts() {
+        return get(SCRAM_SHA_SKIP_UNCHANGED_UPSERTS);
+    }
+
     /**
      * @return Indicates whether the Kafka Admin API for managing ACLs is supported by the Kafka cluster or not
      */
@@ -282,6 +368,41 @@ public class UserOperatorConfig {
         return get(ACLS_ADMIN_API_SUPPORTED);
     }
 
+    /**
+     * @return Indicates whether the ACL cache should be loaded in shards
+     */
+    public boolean isAclsCacheShardedLoading() {
+        return get(ACLS_CACHE_SHARDED_LOADING);
+    }
+
+    /**
+     * @return Maximal number of Admin API queries running at the same time when loading the ACL cache in shards
+     */
+    public int getAclsCacheLoadingConcurrency() {
+        return get(ACLS_CACHE_LOADING_CONCURRENCY);
+    }
+
+    /**
+     * @return  The type of the certificate manager used to generate the user certificates
+     */
+    public CertManagerType getCertManagerType() {
+        return get(CERT_MANAGER_TYPE);
+    }
+
+    /**
+     * @return  The number of pre-generated key pairs used for the user certificates. 0 means no pool is used.
+     */
+    public int getKeyPairPoolSize() {
+        return get(KEY_PAIR_POOL_SIZE);
+    }
+
+    /**
+     * @return  The size in bits of the pre-generated RSA keys
+     */
+    public int getKeyPairPoolKeySize() {
+        return get(KEY_PAIR_POOL_KEY_SIZE);
+    }
+
     /**
      * @return List of maintenance windows. Null if no maintenance windows were specified.
      */
@@ -345,6 +466,13 @@ public class UserOperatorConfig {
         return get(BATCH_MAXIMUM_BLOCK_TIME_MS);
     }
 
+    /**
+     * @return  Maximal number of in-flight batches for micro-batching the Kafka Admin API requests
+     */
+    public int getBatchMaxInFlight() {
+        return get(BATCH_MAXIMUM_IN_FLIGHT);
+    }
+
     /**
      * @return Size of the thread pool for user operations done by KafkaUserOperator and the classes used by it
      */
@@ -366,12 +494,49 @@ public class UserOperatorConfig {
         return get(CERTS_RENEWAL_DAYS);
     }
 
+    /**
+     * @return  Indicates whether the users are divided between several replicas of the User Operator
+     */
+    public boolean isShardingEnabled() {
+        return get(SHARDING_ENABLED);
+    }
+
+    /**
+     * @return  Name of the group of User Operator replicas which divide the users between them
+     */
+    public String getShardGroup() {
+        return get(SHARD_GROUP);
+    }
+
+    /**
+     * @return  Identity of this replica within the shard group
+     */
+    public String getShardIdentity() {
+        return get(SHARD_IDENTITY);
+    }
+
+    /**
+     * @return  Duration of the Leases used to track the replicas of the shard group in milliseconds
+     */
+    public long getShardLeaseDurationMs() {
+        return get(SHARD_LEASE_DURATION_MS);
+    }
+
+    /**
+     * @return  Indicates whether the Secret informer caches only a slim projection of the user Secrets
+     */
+    public boolean isSlimSecretCacheEnabled() {
+        return get(SLIM_SECRET_CACHE_ENABLED);
+    }
+
 
     @Override
     public String toString() {
         return "UserOperatorBuilderConfig{" +
                 "\n\tnamespace='" + getNamespace() + '\'' +
                 "\n\treconciliationIntervalMs=" + getReconciliationIntervalMs() +
+                "\n\treconciliationSpread=" + isReconciliationSpread() +
+                "\n\treconciliationMaxRate=" + getReconciliationMaxRate() +
                 "\n\tkafkaBootstrapServers='" + getKafkaBootstrapServers() + '\'' +
                 "\n\tlabels=`" + getLabels() + '\'' +
                 "\n\tcaCertSecretName='" + getCaCertSecretName() + '\'' +
@@ -383,7 +548,13 @@ public class UserOperatorConfig {
                 "\n\tclientsCaValidityDays=" + getClientsCaValidityDays() +
                 "\n\tclientsCaRenewalDays=" + getClientsCaRenewalDays() +
                 "\n\taclsAdminApiSupported=" + isAclsAdminApiSupported() +
+                "\n\taclsCacheShardedLoading=" + isAclsCacheShardedLoading() +
+                "\n\taclsCacheLoadingConcurrency=" + getAclsCacheLoadingConcurrency() +
+                "\n\tcertManagerType=" + getCertManagerType() +
+                "\n\tkeyPairPoolSize=" + getKeyPairPoolSize() +
+                "\n\tkeyPairPoolKeySize=" + getKeyPairPoolKeySize() +
                 "\n\tscramPasswordLength=" + getScramPasswordLength() +
+                "\n\tscramShaSkipUnchangedUpserts=" + isScramShaSkipUnchangedUpserts() +
                 "\n\tmaintenanceWindows=`" + getMaintenanceWindows() + '\'' +
                 "\n\tkafkaAdminClientConfiguration=`" + getKafkaAdminClientConfiguration() + '\'' +
                 "\n\toperationTimeoutMs=" + getOperationTimeoutMs() +
@@ -393,7 +564,13 @@ public class UserOperatorConfig {
                 "\n\tbatchQueueSize=" + getBatchQueueSize() +
                 "\n\tbatchMaxBlockSize=" + getBatchMaxBlockSize() +
                 "\n\tbatchMaxBlockTime=" + getBatchMaxBlockTime() +
+                "\n\tbatchMaxInFlight=" + getBatchMaxInFlight() +
                 "\n\tuserOperationsThreadPoolSize=" + getUserOperationsThreadPoolSize() +
+                "\n\tshardingEnabled=" + isShardingEnabled() +
+                "\n\tshardGroup=" + getShardGroup() +
+                "\n\tshardIdentity=" + getShardIdentity() +
+                "\n\tshardLeaseDurationMs=" + getShardLeaseDurationMs() +
+                "\n\tslimSecretCacheEnabled=" + isSlimSecretCacheEnabled() +
                 '}';
     }
 }
@@ -6,10 +6,13 @@ package io.strimzi.operator.user.operator;
 
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
+import io.strimzi.operator.user.operator.cache.CacheListener;
 
 import java.util.Collection;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
 
 /**
  * Interface for operators using the Kafka Admin API
@@ -42,6 +45,38 @@ public interface AdminApiOperator<T, S extends Collection<String>> {
      */
     void stop();
 
+    /**
+     * Adds a listener which is notified when the cache used by this operator is refreshed. The keys passed to the
+     * listener are the usernames in the Kafka format, e.g. CN=my-user. This should be called before the operator is
+     * started.
+     *
+     * @param listener  Listener which should be added
+     */
+    void addCacheListener(CacheListener listener);
+
+    /**
+     * Adds a listener which is notified about the batches sent by the batch reconcilers used by this operator. This
+     * should be called before the operator is started.
+     *
+     * @param listener  Listener which should be added
+     */
+    void addBatchListener(BatchReconcilerListener listener);
+
+    /**
+     * Limits the users kept in the cache used by this operator. The filter is passed the usernames in the Kafka
+     * format, e.g. CN=my-user. This should be called before the operator is started.
+     *
+     * @param filter    Filter for the usernames
+     */
+    void setCacheFilter(Predicate<String> filter);
+
+    /**
+     * Refreshes the cache used by this operator outside its regular refresh interval
+     *
+     * @return  Completion stage which completes when the cache is refreshed
+     */
+    CompletionStage<Void> refreshCache();
+
     /**
      * Class used to pass the reconciliation results
      *
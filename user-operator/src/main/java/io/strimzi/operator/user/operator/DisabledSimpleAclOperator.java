@@ -7,10 +7,13 @@ package io.strimzi.operator.user.operator;
 import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
+import io.strimzi.operator.user.operator.cache.CacheListener;
 
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.function.Predicate;
 
 /**
  * DisabledSimpleAclOperator is used when the management of ACL rules is not allowed. It does not provide any
@@ -46,4 +49,24 @@ public class DisabledSimpleAclOperator implements AdminApiOperator<Set<SimpleAcl
     public void stop() {
         // Nothing to do
     }
+
+    @Override
+    public void addCacheListener(CacheListener listener) {
+        // Nothing to do
+    }
+
+    @Override
+    public void addBatchListener(BatchReconcilerListener listener) {
+        // Nothing to do
+    }
+
+    @Override
+    public void setCacheFilter(Predicate<String> filter) {
+        // Nothing to do
+    }
+
+    @Override
+    public CompletionStage<Void> refreshCache() {
+        return CompletableFuture.completedFuture(null);
+    }
 }
@@ -28,6 +28,8 @@ import io.strimzi.operator.common.operator.resource.concurrent.SecretOperator;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
+import io.strimzi.operator.user.operator.cache.CacheListener;
 
 import java.time.Clock;
 import java.util.Collection;
@@ -38,6 +40,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -97,6 +100,54 @@ public class KafkaUserOperator {
         scramCredentialsOperator.start();
     }
 
+    /**
+     * Adds a listener which is notified when the caches used by the Kafka Admin API operators are refreshed. This
+     * should be called before the operator is started.
+     *
+     * @param listener  Listener which should be added
+     */
+    public void addCacheListener(CacheListener listener) {
+        quotasOperator.addCacheListener(listener);
+        aclOperator.addCacheListener(listener);
+        scramCredentialsOperator.addCacheListener(listener);
+    }
+
+    /**
+     * Adds a listener which is notified about the batches sent by the batch reconcilers of the Kafka Admin API
+     * operators. This should be called before the operator is started.
+     *
+     * @param listener  Listener which should be added
+     */
+    public void addBatchListener(BatchReconcilerListener listener) {
+        quotasOperator.addBatchListener(listener);
+        aclOperator.addBatchListener(listener);
+        scramCredentialsOperator.addBatchListener(listener);
+    }
+
+    /**
+     * Limits the users kept in the caches used by the Kafka Admin API operators. The filter is passed the usernames in
+     * the Kafka format, e.g. CN=my-user. This should be called before the operator is started.
+     *
+     * @param filter    Filter for the usernames
+     */
+    public void setCacheFilter(Predicate<String> filter) {
+        quotasOperator.setCacheFilter(filter);
+        aclOperator.setCacheFilter(filter);
+        scramCredentialsOperator.setCacheFilter(filter);
+    }
+
+    /**
+     * Refreshes the caches used by the Kafka Admin API operators outside their regular refresh interval
+     *
+     * @return  Completion stage which completes when all caches are refreshed
+     */
+    public CompletionStage<Void> refreshCaches() {
+        return CompletableFuture.allOf(
+                quotasOperator.refreshCache().toCompletableFuture(),
+                aclOperator.refreshCache().toCompletableFuture(),
+                scramCredentialsOperator.refreshCache().toCompletableFuture());
+    }
+
     /**
      * Stops the KafkaUserOperator and the Kafka Admin API operators
      */
@@ -11,7 +11,9 @@ import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.QuotaUtils;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
 import io.strimzi.operator.user.operator.batching.QuotasBatchReconciler;
+import io.strimzi.operator.user.operator.cache.CacheListener;
 import io.strimzi.operator.user.operator.cache.QuotasCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
@@ -25,6 +27,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 
 /**
  * KafkaUserQuotasOperator is responsible for managing quotas in Apache Kafka
@@ -50,7 +53,7 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
         this.cache = new QuotasCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconcilers for managing the quotas
-        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new QuotasBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlight());
     }
 
     /**
@@ -97,6 +100,46 @@ public class QuotasOperator implements AdminApiOperator<KafkaUserQuotas, Set<Str
         patchReconciler.start();
     }
 
+    /**
+     * Adds a listener which is notified when the cache is refreshed
+     *
+     * @param listener  Listener which should be added
+     */
+    @Override
+    public void addCacheListener(CacheListener listener) {
+        cache.addListener(listener);
+    }
+
+    /**
+     * Limits the users kept in the cache
+     *
+     * @param filter    Filter for the usernames in the Kafka format
+     */
+    @Override
+    public void setCacheFilter(Predicate<String> filter) {
+        cache.setKeyFilter(filter);
+    }
+
+    /**
+     * Refreshes the cache outside its regular refresh interval
+     *
+     * @return  Completion stage which completes when the cache is refreshed
+     */
+    @Override
+    public CompletionStage<Void> refreshCache() {
+        return cache.refresh();
+    }
+
+    /**
+     * Adds a listener which is notified about the batches sent by the patch reconciler
+     *
+     * @param listener  Listener which should be added
+     */
+    @Override
+    public void addBatchListener(BatchReconcilerListener listener) {
+        patchReconciler.addListener(listener);
+    }
+
     /**
      * Stops the Cache and the patch reconciler
      */
@@ -8,7 +8,9 @@ import io.strimzi.operator.common.Reconciliation;
 import io.strimzi.operator.common.ReconciliationLogger;
 import io.strimzi.operator.common.operator.resource.ReconcileResult;
 import io.strimzi.operator.user.UserOperatorConfig;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
 import io.strimzi.operator.user.operator.batching.ScramShaCredentialsBatchReconciler;
+import io.strimzi.operator.user.operator.cache.CacheListener;
 import io.strimzi.operator.user.operator.cache.ScramShaCredentialsCache;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.ScramCredentialInfo;
@@ -17,15 +19,23 @@ import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.SecureRandom;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 
 /**
  * ScramCredentialsOperator is responsible for managing the SCRAM-SHA credentials in Apache Kafka.
@@ -37,10 +47,17 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     // Not generating new salt in every reconcile loop reduce the amount of changes (otherwise everything changes every loop)
     // This salt uses the same algorithm as Kafka
     private final static byte[] SALT =  (new BigInteger(130, new SecureRandom())).toString(36).getBytes(StandardCharsets.UTF_8);
+    private final static String FINGERPRINT_ALGORITHM = "HmacSHA256";
 
     private final ScramShaCredentialsBatchReconciler patchReconciler;
     private final ScramShaCredentialsCache cache;
     private final ExecutorService executor;
+    private final boolean skipUnchangedUpserts;
+    // Fingerprints of the passwords last applied by this operator, so that unchanged credentials are not upserted (and
+    // rehashed by the brokers) in every reconciliation. They are HMACs with a key which exists only in the memory of this
+    // operator, so they cannot be used to recover or guess the passwords.
+    private final SecretKeySpec fingerprintKey;
+    private final Map<String, byte[]> appliedFingerprints = new ConcurrentHashMap<>();
 
     /**
      * Constructor
@@ -56,7 +73,12 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
         this.cache = new ScramShaCredentialsCache(adminClient, config.getCacheRefresh());
 
         // Create micro-batching reconciler for updating the SCRAM-SHA credentials
-        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.patchReconciler = new ScramShaCredentialsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlight());
+
+        this.skipUnchangedUpserts = config.isScramShaSkipUnchangedUpserts();
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.fingerprintKey = new SecretKeySpec(key, FINGERPRINT_ALGORITHM);
     }
 
     /**
@@ -72,9 +94,15 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     public CompletionStage<ReconcileResult<String>> reconcile(Reconciliation reconciliation, String username, String desired) {
         boolean exists = userExists(username);
 
+        byte[] fingerprint = desired != null && skipUnchangedUpserts ? fingerprint(desired) : null;
+
         if (desired == null && !exists) {
             // Username is not found in cache so the credentials should not exist => we can ignore it.
             return CompletableFuture.completedFuture(ReconcileResult.noop(null));
+        } else if (exists && fingerprint != null && MessageDigest.isEqual(fingerprint, appliedFingerprints.get(username))) {
+            // The credentials exist and were last set by us to the same password => nothing to do
+            LOGGER.debugCr(reconciliation, "SCRAM-SHA credentials for user {} are unchanged", username);
+            return CompletableFuture.completedFuture(ReconcileResult.noop(desired));
         } else {
             // Username either does not exist yet and should be created or does not exist and should be deleted
             UserScramCredentialAlteration alteration;
@@ -98,6 +126,9 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
 
             return future.handleAsync((r, e) -> {
                 if (e != null) {
+                    // We do not know what the credentials are now
+                    appliedFingerprints.remove(username);
+
                     if (desired != null) {
                         LOGGER.warnCr(reconciliation, "Failed to upsert SCRAM-SHA credentials of user {}", username, e);
                     } else {
@@ -109,8 +140,13 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
                     if (desired != null) {
                         LOGGER.debugCr(reconciliation, "Updated SCRAM credentials for user {}", username);
                         cache.put(username, true); // Update the cache
+                        if (fingerprint != null) {
+                            appliedFingerprints.put(username, fingerprint);
+                        }
                         return ReconcileResult.patched(desired);
                     } else {
+                        appliedFingerprints.remove(username);
+
                         if (r instanceof ReconcileResult.Noop) {
                             LOGGER.debugCr(reconciliation, "SCRAM credentials for user {} did not exist anymore", username);
                             cache.remove(username); // Update the cache
@@ -127,6 +163,26 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
     }
 
 
+    /**
+     * Calculates the fingerprint of a password as it would be applied by this operator
+     *
+     * @param password  The password
+     *
+     * @return  The keyed HMAC of the SCRAM mechanism, the number of iterations and the password
+     */
+    private byte[] fingerprint(String password) {
+        try {
+            Mac mac = Mac.getInstance(FINGERPRINT_ALGORITHM);
+            mac.init(fingerprintKey);
+            mac.update(SCRAM_MECHANISM.mechanismName().getBytes(StandardCharsets.UTF_8));
+            mac.update(ByteBuffer.allocate(Integer.BYTES).putInt(ITERATIONS).array());
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            // HmacSHA256 has to be supported by every Java platform
+            throw new RuntimeException("Failed to fingerprint the SCRAM-SHA password", e);
+        }
+    }
+
     /**
      * Starts the Cache and the patch reconciler
      */
@@ -136,6 +192,46 @@ public class ScramCredentialsOperator implements AdminApiOperator<String, List<S
         patchReconciler.start();
     }
 
+    /**
+     * Adds a listener which is notified when the cache is refreshed
+     *
+     * @param listener  Listener which should be added
+     */
+    @Override
+    public void addCacheListener(CacheListener listener) {
+        cache.addListener(listener);
+    }
+
+    /**
+     * Limits the users kept in the cache
+     *
+     * @param filter    Filter for the usernames in the Kafka format
+     */
+    @Override
+    public void setCacheFilter(Predicate<String> filter) {
+        cache.setKeyFilter(filter);
+    }
+
+    /**
+     * Refreshes the cache outside its regular refresh interval
+     *
+     * @return  Completion stage which completes when the cache is refreshed
+     */
+    @Override
+    public CompletionStage<Void> refreshCache() {
+        return cache.refresh();
+    }
+
+    /**
+     * Adds a listener which is notified about the batches sent by the patch reconciler
+     *
+     * @param listener  Listener which should be added
+     */
+    @Override
+    public void addBatchListener(BatchReconcilerListener listener) {
+        patchReconciler.addListener(listener);
+    }
+
     /**
      * Stops the Cache and the patch reconciler
      */
@@ -11,8 +11,11 @@ import io.strimzi.operator.user.UserOperatorConfig;
 import io.strimzi.operator.user.model.KafkaUserModel;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import io.strimzi.operator.user.operator.batching.AddAclsBatchReconciler;
+import io.strimzi.operator.user.operator.batching.BatchReconcilerListener;
 import io.strimzi.operator.user.operator.batching.DeleteAclsBatchReconciler;
+import io.strimzi.operator.user.operator.cache.AbstractCache;
 import io.strimzi.operator.user.operator.cache.AclCache;
+import io.strimzi.operator.user.operator.cache.CacheListener;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
@@ -29,6 +32,8 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * SimpleAclOperator is responsible for managing the authorization rules in Apache Kafka.
@@ -53,11 +58,11 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
         this.executor = executor;
 
         // Create cache for querying the ACLs locally
-        this.cache = new AclCache(adminClient, config.getCacheRefresh());
+        this.cache = new AclCache(adminClient, config.getCacheRefresh(), config.isAclsCacheShardedLoading(), config.getAclsCacheLoadingConcurrency());
 
         // Create micro-batching reconcilers for managing the ACLs
-        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
-        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime());
+        this.addReconciler = new AddAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlight());
+        this.deleteReconciler = new DeleteAclsBatchReconciler(adminClient, config.getBatchQueueSize(), config.getBatchMaxBlockSize(), config.getBatchMaxBlockTime(), config.getBatchMaxInFlight());
     }
 
     /**
@@ -102,6 +107,61 @@ public class SimpleAclOperator implements AdminApiOperator<Set<SimpleAclRule>, S
         deleteReconciler.start();
     }
 
+    /**
+     * Limits the users kept in the cache
+     *
+     * @param filter    Filter for the usernames in the Kafka format
+     */
+    @Override
+    public void setCacheFilter(Predicate<String> filter) {
+        cache.setKeyFilter(filter);
+    }
+
+    /**
+     * Refreshes the cache outside its regular refresh interval
+     *
+     * @return  Completion stage which completes when the cache is refreshed
+     */
+    @Override
+    public CompletionStage<Void> refreshCache() {
+        return cache.refresh();
+    }
+
+    /**
+     * Adds a listener which is notified about the batches sent by the reconcilers adding and deleting the ACLs
+     *
+     * @param listener  Listener which should be added
+     */
+    @Override
+    public void addBatchListener(BatchReconcilerListener listener) {
+        addReconciler.addListener(listener);
+        deleteReconciler.addListener(listener);
+    }
+
+    /**
+     * Adds a listener which is notified when the cache is refreshed. The users whose ACLs are ignored are not passed to
+     * the listener as changed.
+     *
+     * @param listener  Listener which should be added
+     */
+    @Override
+    public void addCacheListener(CacheListener listener) {
+        cache.addListener(new CacheListener() {
+            @Override
+            public void onRefresh(AbstractCache<?> refreshedCache, long durationNanos, Set<String> changedKeys) {
+                Set<String> changed = changedKeys.stream()
+                        .filter(key -> !IGNORED_USERS.contains(KafkaUserModel.decodeUsername(key)))
+                        .collect(Collectors.toSet());
+                listener.onRefresh(refreshedCache, durationNanos, changed);
+            }
+
+            @Override
+            public void onRefreshFailure(AbstractCache<?> refreshedCache) {
+                listener.onRefreshFailure(refreshedCache);
+            }
+        });
+    }
+
     /**
      * Stops the Cache and the patch reconciler
      */
@@ -4,28 +4,40 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import org.apache.kafka.common.KafkaFuture;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Abstract class for collecting Kafka Admin API requests and sending them to Kafka in batches. The batches are sent
- * when we collect some (configurable) amount of requests or after some (configurable) time interval
+ * when we collect some (configurable) amount of requests or after some (configurable) time interval. Up to a
+ * (configurable) number of batches can be in-flight at the same time. The time for which the requests are collected
+ * adapts to the depth of the queue and to the observed latency of the Kafka Admin API requests.
  */
 public abstract class AbstractBatchReconciler<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractBatchReconciler.class);
 
-    private final BlockingQueue<T> queue;
+    private final BlockingQueue<QueuedItem<T>> queue;
     private final int maxBatchSize;
-    private final int maxBatchTime;
+    private final long maxBatchTimeNanos;
+    private final Semaphore inFlightBatches;
     private final Thread batchHandlerThread;
+    private final List<BatchReconcilerListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong requestLatencyNanos = new AtomicLong(0);
 
     private volatile CountDownLatch batchSize;
     private volatile boolean stop = false;
@@ -33,20 +45,26 @@ public abstract class AbstractBatchReconciler<T> {
     /**
      * Creates the BatchReconciler
      *
-     * @param name          Name of the reconciler
-     * @param queueSize     Size of the queue for queueing the reconciliation requests
-     * @param maxBatchSize  Maximal size of the batch
-     * @param maxBatchTime  Maximal time to wait before batch is executed
+     * @param name                  Name of the reconciler
+     * @param queueSize             Size of the queue for queueing the reconciliation requests
+     * @param maxBatchSize          Maximal size of the batch
+     * @param maxBatchTime          Maximal time to wait before batch is executed
+     * @param maxInFlightBatches    Maximal number of batches which are sent to Kafka at the same time
      */
-    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime) {
+    public AbstractBatchReconciler(String name, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches) {
         if (maxBatchSize > queueSize)   {
             throw new IllegalArgumentException("Maximum batch size cannot be bigger than queue size");
         }
 
+        if (maxInFlightBatches <= 0)   {
+            throw new IllegalArgumentException("Maximum number of in-flight batches has to be positive");
+        }
+
         this.queue = new ArrayBlockingQueue<>(queueSize);
         this.batchSize = new CountDownLatch(0);
         this.maxBatchSize = maxBatchSize;
-        this.maxBatchTime = maxBatchTime;
+        this.maxBatchTimeNanos = TimeUnit.MILLISECONDS.toNanos(maxBatchTime);
+        this.inFlightBatches = new Semaphore(maxInFlightBatches);
         this.batchHandlerThread = new Thread(new Runner(), name);
     }
 
@@ -54,8 +72,54 @@ public abstract class AbstractBatchReconciler<T> {
      * Method responsible for sending the batch of requests to Apache Kafka and handling the result
      *
      * @param items Items which should be reconciled
+     *
+     * @return  Completion stage which completes once the results of the batch are handled. It completes with the number
+     *          of requests which failed while the rest of the batch succeeded. It completes exceptionally when the whole
+     *          batch failed.
+     */
+    protected abstract CompletionStage<Integer> reconcile(Collection<T> items);
+
+    /**
+     * Waits for the per-item results of a Kafka Admin API request. Unlike the all() methods of the Admin API results,
+     * which fail as soon as any of the items fails, the returned completion stage completes only once all items are
+     * done. So the results of the items which succeeded can be used also when some other items in the batch failed.
+     *
+     * @param perItemResults    Map with the per-item futures of the Kafka Admin API request
+     *
+     * @return  Completion stage which completes once all the per-item futures are done. It completes exceptionally with
+     *          the error of one of the failed items when any item failed.
+     */
+    protected static CompletionStage<Void> allItems(Map<?, ? extends KafkaFuture<?>> perItemResults) {
+        return KafkaFuture.allOf(perItemResults.values().toArray(new KafkaFuture<?>[0])).toCompletionStage();
+    }
+
+    /**
+     * Gets the reason why a per-item future of the Kafka Admin API request failed
+     *
+     * @param itemResult    Failed per-item future
+     *
+     * @return  The exception with which the future failed
      */
-    protected abstract void reconcile(Collection<T> items);
+    protected static Throwable failureReason(KafkaFuture<?> itemResult) {
+        try {
+            itemResult.getNow(null);
+            return new RuntimeException("The KafkaFuture failed without an exception");
+        } catch (ExecutionException e) {
+            return e.getCause() != null ? e.getCause() : e;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    /**
+     * Adds a listener which will be notified about the batches sent by this reconciler. The listeners should be added
+     * before the reconciler is started.
+     *
+     * @param listener  Listener which should be added
+     */
+    public void addListener(BatchReconcilerListener listener) {
+        listeners.add(listener);
+    }
 
     /**
      * Enqueues a reconciliation request
@@ -65,32 +129,99 @@ public abstract class AbstractBatchReconciler<T> {
      * @throws InterruptedException Thrown when interrupted while enqueuing the resource
      */
     public void enqueue(T item) throws InterruptedException {
-        queue.put(item);
+        queue.put(new QueuedItem<>(item, System.nanoTime()));
 
         if (queue.size() >= maxBatchSize)   {
             batchSize.countDown();
         }
     }
 
+    /**
+     * Calculates for how long should the reconciler wait for more requests before sending the next batch. While the
+     * queue is less than half full, the reconciler waits for the maximal batch time, so that the requests coming
+     * shortly after each other are still sent in the same batch. Otherwise, the wait is capped by the observed latency
+     * of the Kafka Admin API requests: collecting the requests for longer than a round-trip to Kafka does not help much
+     * when the next batch can be sent while the previous one is still in-flight. The wait is further shortened the
+     * fuller the queue is.
+     *
+     * @param queueDepth    Number of requests waiting in the queue
+     *
+     * @return  Time to wait in nanoseconds
+     */
+    /*test*/ long blockTimeNanos(int queueDepth)  {
+        if (queueDepth < Math.max(1, maxBatchSize / 2))    {
+            return maxBatchTimeNanos;
+        }
+
+        long latency = requestLatencyNanos.get();
+        long blockTime = latency > 0 ? Math.min(maxBatchTimeNanos, latency) : maxBatchTimeNanos;
+
+        return blockTime * Math.max(0, maxBatchSize - queueDepth) / maxBatchSize;
+    }
+
+    /**
+     * Updates the exponentially weighted moving average of the Kafka Admin API request latency
+     *
+     * @param durationNanos     Duration of the last request
+     */
+    /*test*/ void recordRequestLatency(long durationNanos)   {
+        requestLatencyNanos.updateAndGet(average -> average == 0 ? Math.max(1, durationNanos) : Math.max(1, average + (durationNanos - average) / 4));
+    }
+
     /**
      * Starts a new batch of requests. It drains the queue and passes the batch of requests to the reconcile method.
      *
      * @param batchSizeReached  Indicates whether the batch is triggered because we reached the maximal batch size
      *                          (true) or the time limit (false)
+     *
+     * @throws InterruptedException Thrown when interrupted while waiting for a free in-flight slot
      */
-    private void handleBatch(boolean batchSizeReached)  {
+    private void handleBatch(boolean batchSizeReached) throws InterruptedException {
         if (batchSizeReached) {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch size was reached", batchHandlerThread.getName());
         } else {
             LOGGER.trace("{}: Running the next batch of the BatchReconciler because maximum batch time was reached", batchHandlerThread.getName());
         }
 
-        List<T> batch = new ArrayList<>();
-        int batchSize = queue.drainTo(batch, maxBatchSize);
+        // Waits until one of the in-flight batches completes. The requests keep collecting in the queue meanwhile.
+        inFlightBatches.acquire();
+
+        List<QueuedItem<T>> queued = new ArrayList<>();
+        int batchSize = queue.drainTo(queued, maxBatchSize);
 
         if (batchSize > 0)  {
             LOGGER.debug("{}: Processing batch of {} records in the BatchReconciler", batchHandlerThread.getName(), batchSize);
-            reconcile(batch);
+
+            long startTime = System.nanoTime();
+            List<T> batch = new ArrayList<>(batchSize);
+            long[] queueWaitNanos = new long[batchSize];
+
+            for (int i = 0; i < batchSize; i++) {
+                batch.add(queued.get(i).item());
+                queueWaitNanos[i] = startTime - queued.get(i).enqueuedNanos();
+            }
+
+            listeners.forEach(listener -> listener.onBatchSent(batchHandlerThread.getName(), queueWaitNanos));
+
+            try {
+                reconcile(batch).whenComplete((failedItems, error) -> {
+                    inFlightBatches.release();
+
+                    long duration = System.nanoTime() - startTime;
+                    recordRequestLatency(duration);
+
+                    if (error != null)  {
+                        listeners.forEach(listener -> listener.onBatchFailed(batchHandlerThread.getName(), duration));
+                    } else {
+                        listeners.forEach(listener -> listener.onBatchCompleted(batchHandlerThread.getName(), duration, failedItems));
+                    }
+                });
+            } catch (RuntimeException e)    {
+                inFlightBatches.release();
+                throw e;
+            }
+        } else {
+            inFlightBatches.release();
         }
     }
 
@@ -114,6 +245,16 @@ public abstract class AbstractBatchReconciler<T> {
         batchHandlerThread.join();
     }
 
+    /**
+     * Request waiting in the queue
+     *
+     * @param item              The request
+     * @param enqueuedNanos     Time when the request was enqueued
+     *
+     * @param <T>   Type of the request
+     */
+    private record QueuedItem<T>(T item, long enqueuedNanos) { }
+
     /**
      * Runner class which is used to run the controller loop. This is implemented as a private inner class to not expose
      * it as a public method.
@@ -130,7 +271,7 @@ public abstract class AbstractBatchReconciler<T> {
             while (!stop)    {
                 try {
                     LOGGER.trace("{}: Waiting for the next batch of the BatchReconciler", batchHandlerThread.getName());
-                    boolean batchSizeReached = batchSize.await(maxBatchTime, TimeUnit.MILLISECONDS);
+                    boolean batchSizeReached = batchSize.await(blockTimeNanos(queue.size()), TimeUnit.NANOSECONDS);
 
                     if (batchSizeReached) {
                         batchSize = new CountDownLatch(1);
@@ -139,6 +280,8 @@ public abstract class AbstractBatchReconciler<T> {
                     handleBatch(batchSizeReached);
                 } catch (InterruptedException e) {
                     LOGGER.debug("{}: BatchReconciler was interrupted", batchHandlerThread.getName(), e);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("{}: Failed to send the batch", batchHandlerThread.getName(), e);
                 }
             }
 
@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -33,9 +35,10 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
      * @param queueSize     Maximal size of the batching queue
      * @param maxBatchSize  Maximal size of the batch
      * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which are sent to Kafka at the same time
      */
-    public AddAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("AddAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public AddAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches) {
+        super("AddAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches);
         this.adminClient = adminClient;
     }
 
@@ -43,62 +46,56 @@ public class AddAclsBatchReconciler extends AbstractBatchReconciler<AdminApiOper
      * Reconciles batch of requests to create new ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  Completion stage with the number of requests which failed
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> items) {
+    protected CompletionStage<Integer> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBinding>, ReconcileResult<Collection<AclBinding>>>> items) {
         List<AclBinding> aclBindings = new ArrayList<>();
         items.forEach(req -> aclBindings.addAll(req.desired()));
 
         CreateAclsResult result = adminClient.createAcls(aclBindings);
+        Map<AclBinding, KafkaFuture<Void>> perItemResults = result.values();
 
-        result.all()
-                .toCompletionStage()
+        return allItems(perItemResults)
                 .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("ACL reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<AclBinding, KafkaFuture<Void>> perItemResults = result.values();
+                    items.forEach(req -> {
+                        final String principal = "User:" + req.username();
+                        AtomicBoolean failed = new AtomicBoolean(false);
 
-                        items.forEach(req -> {
-                            final String principal = "User:" + req.username();
-                            AtomicBoolean failed = new AtomicBoolean(false);
-
-                            perItemResults.forEach((binding, fut) -> {
-                                // We have to loop through the results to find results affecting our principal => these are the results related to our batch
-                                if (principal.equals(binding.entry().principal())) {
-                                    if (fut.isCompletedExceptionally()) {
-                                        Exception reason = null;
-                                        try {
-                                            fut.getNow(null);
-                                            reason = new RuntimeException("The KafkaFuture failed without an exception");
-                                        } catch (Exception completionException) {
-                                            reason = completionException;
-                                        } finally {
-                                            LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} failed", req.username(), binding, reason);
-                                            failed.set(true);
-                                        }
-                                    } else if (fut.isCancelled()) {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} was canceled", req.username(), binding);
-                                        failed.set(true);
-                                    } else if (fut.isDone()) {
-                                        LOGGER.debugCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} succeeded", req.username(), binding);
-                                    } else {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} ended in unknown state", req.username(), binding);
-                                        failed.set(true);
-                                    }
+                        perItemResults.forEach((binding, fut) -> {
+                            // We have to loop through the results to find results affecting our principal => these are the results related to our batch
+                            if (principal.equals(binding.entry().principal())) {
+                                if (fut.isCompletedExceptionally()) {
+                                    LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} failed", req.username(), binding, failureReason(fut));
+                                    failed.set(true);
+                                } else if (fut.isCancelled()) {
+                                    LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} was canceled", req.username(), binding);
+                                    failed.set(true);
+                                } else if (fut.isDone()) {
+                                    LOGGER.debugCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} succeeded", req.username(), binding);
+                                } else {
+                                    LOGGER.warnCr(req.reconciliation(), "ACL creation for user {} and ACL binding {} ended in unknown state", req.username(), binding);
+                                    failed.set(true);
                                 }
-                            });
-
-                            if (failed.get()) {
-                                req.result().completeExceptionally(new RuntimeException("ACL creation failed"));
-                            } else {
-                                req.result().complete(ReconcileResult.created(req.desired()));
                             }
                         });
+
+                        if (failed.get()) {
+                            req.result().completeExceptionally(new RuntimeException("ACL creation failed"));
+                        } else {
+                            req.result().complete(ReconcileResult.created(req.desired()));
+                        }
+                    });
+
+                    int failedItems = (int) items.stream().filter(req -> req.result().isCompletedExceptionally()).count();
+
+                    if (e != null && failedItems == items.size())  {
+                        LOGGER.warnOp("ACL reconciliation failed", e);
+                        throw new CompletionException(e);
                     }
 
-                    return null;
+                    return failedItems;
                 });
     }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.batching;
+
+/**
+ * Listener which is notified about the batches sent by a batch reconciler. It is called from the batch reconciler
+ * thread and from the threads handling the Kafka Admin API responses, so it should not block.
+ */
+public interface BatchReconcilerListener {
+    /**
+     * Called when a batch is taken from the queue and sent to Kafka
+     *
+     * @param reconciler        Name of the batch reconciler
+     * @param queueWaitNanos    How long each request of the batch waited in the queue in nanoseconds. The length of
+     *                          the array is the size of the batch.
+     */
+    void onBatchSent(String reconciler, long[] queueWaitNanos);
+
+    /**
+     * Called when the Kafka Admin API request of a batch completed and its results were handled
+     *
+     * @param reconciler        Name of the batch reconciler
+     * @param durationNanos     How long the Kafka Admin API request took in nanoseconds
+     * @param failedItems       Number of requests of the batch which failed while the rest of the batch succeeded
+     */
+    void onBatchCompleted(String reconciler, long durationNanos, int failedItems);
+
+    /**
+     * Called when the Kafka Admin API request of a batch failed as a whole
+     *
+     * @param reconciler        Name of the batch reconciler
+     * @param durationNanos     How long the Kafka Admin API request took in nanoseconds
+     */
+    void onBatchFailed(String reconciler, long durationNanos);
+}
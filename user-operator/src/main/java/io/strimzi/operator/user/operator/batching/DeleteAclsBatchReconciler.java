@@ -16,6 +16,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
@@ -33,9 +35,10 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
      * @param queueSize     Maximal size of the batching queue
      * @param maxBatchSize  Maximal size of the batch
      * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which are sent to Kafka at the same time
      */
-    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public DeleteAclsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches) {
+        super("DeleteAclsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches);
         this.adminClient = adminClient;
     }
 
@@ -43,66 +46,68 @@ public class DeleteAclsBatchReconciler extends AbstractBatchReconciler<AdminApiO
      * Reconciles batch of requests to delete ACL rules in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  Completion stage with the number of requests which failed
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
+    protected CompletionStage<Integer> reconcile(Collection<AdminApiOperator.ReconcileRequest<Collection<AclBindingFilter>, ReconcileResult<Collection<AclBindingFilter>>>> items) {
         List<AclBindingFilter> aclFilters = new ArrayList<>();
         items.forEach(req -> aclFilters.addAll(req.desired()));
 
         DeleteAclsResult result = adminClient.deleteAcls(aclFilters);
+        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> perItemResults = result.values();
 
-        result.all()
-                .toCompletionStage()
+        return allItems(perItemResults)
                 .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("ACL reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<AclBindingFilter, KafkaFuture<DeleteAclsResult.FilterResults>> perItemResults = result.values();
-
-                        items.forEach(req -> {
-                            final String principal = "User:" + req.username();
-                            AtomicBoolean failed = new AtomicBoolean(false);
+                    items.forEach(req -> {
+                        final String principal = "User:" + req.username();
+                        AtomicBoolean failed = new AtomicBoolean(false);
 
-                            perItemResults.forEach((filter, fut) -> {
-                                // We have to loop through the results to find results affecting our principal => these are the results related to our batch
-                                if (principal.equals(filter.entryFilter().principal())) {
-                                    if (fut.isCompletedExceptionally() || fut.isDone()) {
-                                        try {
-                                            DeleteAclsResult.FilterResults futRes = fut.getNow(null);
+                        perItemResults.forEach((filter, fut) -> {
+                            // We have to loop through the results to find results affecting our principal => these are the results related to our batch
+                            if (principal.equals(filter.entryFilter().principal())) {
+                                if (fut.isCompletedExceptionally() || fut.isDone()) {
+                                    try {
+                                        DeleteAclsResult.FilterResults futRes = fut.getNow(null);
 
-                                            if (futRes != null) {
-                                                futRes.values().forEach(filterResult -> {
-                                                    if (filterResult.exception() != null)   {
-                                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, filterResult.exception());
-                                                        failed.set(true);
-                                                    }
-                                                });
-                                            }
-                                        } catch (Throwable completionException) {
-                                            LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, completionException);
-                                            failed.set(true);
+                                        if (futRes != null) {
+                                            futRes.values().forEach(filterResult -> {
+                                                if (filterResult.exception() != null)   {
+                                                    LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, filterResult.exception());
+                                                    failed.set(true);
+                                                }
+                                            });
                                         }
-                                    } else if (fut.isCancelled()) {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} was canceled", req.username(), filter);
-                                        failed.set(true);
-                                    } else {
-                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} ended in unknown state", filter, req.username());
+                                    } catch (Throwable completionException) {
+                                        LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} failed", req.username(), filter, completionException);
                                         failed.set(true);
                                     }
+                                } else if (fut.isCancelled()) {
+                                    LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} was canceled", req.username(), filter);
+                                    failed.set(true);
+                                } else {
+                                    LOGGER.warnCr(req.reconciliation(), "ACL deletion for user {} and ACL filter {} ended in unknown state", filter, req.username());
+                                    failed.set(true);
                                 }
-                            });
-
-                            if (failed.get()) {
-                                req.result().completeExceptionally(new RuntimeException("ACL deletion failed"));
-                            } else {
-                                LOGGER.debugCr(req.reconciliation(), "ACL deletion for user {} succeeded", req.username());
-                                req.result().complete(ReconcileResult.deleted());
                             }
                         });
+
+                        if (failed.get()) {
+                            req.result().completeExceptionally(new RuntimeException("ACL deletion failed"));
+                        } else {
+                            LOGGER.debugCr(req.reconciliation(), "ACL deletion for user {} succeeded", req.username());
+                            req.result().complete(ReconcileResult.deleted());
+                        }
+                    });
+
+                    int failedItems = (int) items.stream().filter(req -> req.result().isCompletedExceptionally()).count();
+
+                    if (e != null && failedItems == items.size())  {
+                        LOGGER.warnOp("ACL reconciliation failed", e);
+                        throw new CompletionException(e);
                     }
 
-                    return null;
+                    return failedItems;
                 });
     }
 }
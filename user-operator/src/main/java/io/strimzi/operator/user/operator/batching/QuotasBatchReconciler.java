@@ -17,6 +17,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching Kafka quotas using the Kafka Admin API.
@@ -33,9 +35,10 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
      * @param queueSize     Maximal size of the batching queue
      * @param maxBatchSize  Maximal size of the batch
      * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which are sent to Kafka at the same time
      */
-    public QuotasBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("QuotasBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public QuotasBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches) {
+        super("QuotasBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches);
         this.adminClient = adminClient;
     }
 
@@ -43,51 +46,46 @@ public class QuotasBatchReconciler extends AbstractBatchReconciler<AdminApiOpera
      * Reconciles batch of requests to Patch quotas in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  Completion stage with the number of requests which failed
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
+    protected CompletionStage<Integer> reconcile(Collection<AdminApiOperator.ReconcileRequest<ClientQuotaAlteration, ReconcileResult<ClientQuotaAlteration>>> items) {
         List<ClientQuotaAlteration> quotas = new ArrayList<>();
         items.forEach(req -> quotas.add(req.desired()));
 
         AlterClientQuotasResult result = adminClient.alterClientQuotas(quotas);
+        Map<ClientQuotaEntity, KafkaFuture<Void>> perItemResults = result.values();
 
-        result.all()
-                .toCompletionStage()
+        return allItems(perItemResults)
                 .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("Quotas reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<ClientQuotaEntity, KafkaFuture<Void>> perItemResults = result.values();
+                    items.forEach(req -> {
+                        KafkaFuture<Void> itemResult = perItemResults.get(new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, req.username())));
 
-                        items.forEach(req -> {
-                            KafkaFuture<Void> itemResult = perItemResults.get(new ClientQuotaEntity(Map.of(ClientQuotaEntity.USER, req.username())));
+                        if (itemResult.isCompletedExceptionally()) {
+                            Throwable reason = failureReason(itemResult);
+                            LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} failed", req.username(), reason);
+                            req.result().completeExceptionally(reason);
+                        } else if (itemResult.isCancelled()) {
+                            LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} was canceled", req.username());
+                            req.result().completeExceptionally(new RuntimeException("Quotas reconciliation was canceled"));
+                        } else if (itemResult.isDone()) {
+                            LOGGER.debugCr(req.reconciliation(), "Quotas reconciliation for user {} succeeded", req.username());
+                            req.result().complete(ReconcileResult.patched(req.desired()));
+                        } else {
+                            LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} ended in unknown state", req.username());
+                            req.result().completeExceptionally(new RuntimeException("Quotas reconciliation ended in unknown state"));
+                        }
+                    });
 
-                            if (itemResult.isCompletedExceptionally()) {
-                                Exception reason = null;
-                                try {
-                                    itemResult.getNow(null);
-                                    reason = new RuntimeException("The KafkaFuture failed without an exception");
-                                } catch (Exception completionException) {
-                                    reason = completionException;
-                                } finally {
-                                    LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} failed", req.username(), reason);
-                                    req.result().completeExceptionally(reason);
-                                }
-                            } else if (itemResult.isCancelled()) {
-                                LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} was canceled", req.username());
-                                req.result().completeExceptionally(new RuntimeException("Quotas reconciliation was canceled"));
-                            } else if (itemResult.isDone()) {
-                                LOGGER.debugCr(req.reconciliation(), "Quotas reconciliation for user {} succeeded", req.username());
-                                req.result().complete(ReconcileResult.patched(req.desired()));
-                            } else {
-                                LOGGER.warnCr(req.reconciliation(), "Quotas reconciliation for user {} ended in unknown state", req.username());
-                                req.result().completeExceptionally(new RuntimeException("Quotas reconciliation ended in unknown state"));
-                            }
-                        });
+                    int failedItems = (int) items.stream().filter(req -> req.result().isCompletedExceptionally()).count();
+
+                    if (e != null && failedItems == items.size())  {
+                        LOGGER.warnOp("Quotas reconciliation failed", e);
+                        throw new CompletionException(e);
                     }
 
-                    return null;
+                    return failedItems;
                 });
     }
 }
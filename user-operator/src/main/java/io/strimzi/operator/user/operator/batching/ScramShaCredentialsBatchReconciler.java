@@ -18,6 +18,8 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Micro-batching reconciler for patching SCRAM-SHA credentials using the Kafka Admin API.
@@ -34,9 +36,10 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
      * @param queueSize     Maximal size of the batching queue
      * @param maxBatchSize  Maximal size of the batch
      * @param maxBatchTime  Maximal time for which the requests should be collected before a batch is sent
+     * @param maxInFlightBatches    Maximal number of batches which are sent to Kafka at the same time
      */
-    public ScramShaCredentialsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime) {
-        super("ScramShaCredentialsBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    public ScramShaCredentialsBatchReconciler(Admin adminClient, int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches) {
+        super("ScramShaCredentialsBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches);
         this.adminClient = adminClient;
     }
 
@@ -44,57 +47,53 @@ public class ScramShaCredentialsBatchReconciler extends AbstractBatchReconciler<
      * Reconciles batch of requests to patch SCRAM-SHA credentials in Apache Kafka
      *
      * @param items Batch of requests which should be executed
+     *
+     * @return  Completion stage with the number of requests which failed
      */
     @Override
-    protected void reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
+    protected CompletionStage<Integer> reconcile(Collection<AdminApiOperator.ReconcileRequest<UserScramCredentialAlteration, ReconcileResult<UserScramCredentialAlteration>>> items) {
         List<UserScramCredentialAlteration> alterations = new ArrayList<>();
         items.forEach(req -> alterations.add(req.desired()));
 
         AlterUserScramCredentialsResult result = adminClient.alterUserScramCredentials(alterations);
+        Map<String, KafkaFuture<Void>> perItemResults = result.values();
 
-        result.all()
-                .toCompletionStage()
+        return allItems(perItemResults)
                 .handleAsync((r, e) -> {
-                    if (e != null)  {
-                        LOGGER.warnOp("SCRAM-SHA credentials reconciliation failed", e);
-                        items.forEach(req -> req.result().completeExceptionally(e));
-                    } else {
-                        Map<String, KafkaFuture<Void>> perItemResults = result.values();
+                    items.forEach(req -> {
+                        KafkaFuture<Void> itemResult = perItemResults.get(req.username());
 
-                        items.forEach(req -> {
-                            KafkaFuture<Void> itemResult = perItemResults.get(req.username());
+                        if (itemResult.isCompletedExceptionally()) {
+                            Throwable reason = failureReason(itemResult);
 
-                            if (itemResult.isCompletedExceptionally()) {
-                                Exception reason = null;
-                                try {
-                                    itemResult.getNow(null);
-                                    reason = new RuntimeException("The KafkaFuture failed without an exception");
-                                } catch (Exception completionException) {
-                                    reason = completionException;
-                                } finally {
-                                    if (reason instanceof ResourceNotFoundException
-                                            && req.desired() instanceof UserScramCredentialDeletion) {
-                                        LOGGER.debugCr(req.reconciliation(), "SCRAM credentials for user {} do not exist anymore", req.username());
-                                        req.result().complete(ReconcileResult.noop(null));
-                                    } else {
-                                        LOGGER.warnCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} failed", req.username(), reason);
-                                        req.result().completeExceptionally(reason);
-                                    }
-                                }
-                            } else if (itemResult.isCancelled()) {
-                                LOGGER.warnCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} was canceled", req.username());
-                                req.result().completeExceptionally(new RuntimeException("SCRAM-SHA credentials reconciliation was canceled"));
-                            } else if (itemResult.isDone()) {
-                                LOGGER.debugCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} succeeded", req.username());
-                                req.result().complete(ReconcileResult.patched(req.desired()));
+                            if (reason instanceof ResourceNotFoundException
+                                    && req.desired() instanceof UserScramCredentialDeletion) {
+                                LOGGER.debugCr(req.reconciliation(), "SCRAM credentials for user {} do not exist anymore", req.username());
+                                req.result().complete(ReconcileResult.noop(null));
                             } else {
-                                LOGGER.warnCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} ended in unknown state", req.username());
-                                req.result().completeExceptionally(new RuntimeException("SCRAM-SHA credentials reconciliation ended in unknown state"));
+                                LOGGER.warnCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} failed", req.username(), reason);
+                                req.result().completeExceptionally(reason);
                             }
-                        });
+                        } else if (itemResult.isCancelled()) {
+                            LOGGER.warnCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} was canceled", req.username());
+                            req.result().completeExceptionally(new RuntimeException("SCRAM-SHA credentials reconciliation was canceled"));
+                        } else if (itemResult.isDone()) {
+                            LOGGER.debugCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} succeeded", req.username());
+                            req.result().complete(ReconcileResult.patched(req.desired()));
+                        } else {
+                            LOGGER.warnCr(req.reconciliation(), "SCRAM-SHA credentials reconciliation for user {} ended in unknown state", req.username());
+                            req.result().completeExceptionally(new RuntimeException("SCRAM-SHA credentials reconciliation ended in unknown state"));
+                        }
+                    });
+
+                    int failedItems = (int) items.stream().filter(req -> req.result().isCompletedExceptionally()).count();
+
+                    if (e != null && failedItems == items.size())  {
+                        LOGGER.warnOp("SCRAM-SHA credentials reconciliation failed", e);
+                        throw new CompletionException(e);
                     }
 
-                    return null;
+                    return failedItems;
                 });
     }
 }
@@ -8,22 +8,37 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 /**
  * Abstract cache provides a periodically refreshed cache. The cache is based around ConcurrentHashMap and a scheduled
- * periodical timer which regularly updates the cache. It also provides method to access the cache and its data.
+ * periodical timer which regularly updates the cache. It also provides method to access the cache and its data. When
+ * the refresh fails, the cache keeps serving the last successfully loaded data. After each refresh, the listeners are
+ * notified about the keys which changed since the previous refresh.
  */
 public abstract class AbstractCache<T> {
     private final static Logger LOGGER = LogManager.getLogger(AbstractCache.class);
 
+    private final String name;
     private final long refreshIntervalMs;
     private final ScheduledExecutorService scheduledExecutor;
+    private final List<CacheListener> listeners = new CopyOnWriteArrayList<>();
 
+    private volatile Predicate<String> keyFilter = null;
     private volatile ConcurrentHashMap<String, T> cache = null;
+    private volatile long lastRefreshMs = -1;
 
     /**
      * Constructs the abstract cache
@@ -32,6 +47,7 @@ public abstract class AbstractCache<T> {
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public AbstractCache(String name, long refreshIntervalMs) {
+        this.name = name;
         this.refreshIntervalMs = refreshIntervalMs;
         this.scheduledExecutor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, name + "-cache"));
     }
@@ -110,6 +126,62 @@ public abstract class AbstractCache<T> {
         }
     }
 
+    /**
+     * @return  Name of the cache
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the number of entries in the cache
+     *
+     * @return  Number of entries in the cache or 0 if the cache is not ready
+     */
+    public int size() {
+        ConcurrentHashMap<String, T> current = cache;
+        return current == null ? 0 : current.size();
+    }
+
+    /**
+     * Returns how old the data in the cache are. This grows beyond the refresh interval when the refreshes fail.
+     *
+     * @return  Milliseconds since the data in the cache were loaded or -1 if they were not loaded yet
+     */
+    public long snapshotAgeMs() {
+        return lastRefreshMs < 0 ? -1 : System.currentTimeMillis() - lastRefreshMs;
+    }
+
+    /**
+     * Adds a listener which will be notified about the cache refreshes. The listeners should be added before the cache
+     * is started.
+     *
+     * @param listener  Listener which should be added
+     */
+    public void addListener(CacheListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Limits the keys kept in the cache. The loaded entries whose keys do not match the filter are dropped on each
+     * refresh. The filter should be set before the cache is started.
+     *
+     * @param keyFilter     Filter for the keys or null to keep all keys
+     */
+    public void setKeyFilter(Predicate<String> keyFilter) {
+        this.keyFilter = keyFilter;
+    }
+
+    /**
+     * Refreshes the cache outside the regular refresh interval. This is used when the keys matching the key filter
+     * change.
+     *
+     * @return  Completion stage which completes when the cache is refreshed
+     */
+    public CompletionStage<Void> refresh() {
+        return CompletableFuture.runAsync(this::updateCache, scheduledExecutor);
+    }
+
     /**
      * Starts the cache: this method schedules a time which will periodically refresh the cache
      */
@@ -135,19 +207,70 @@ public abstract class AbstractCache<T> {
         LOGGER.info("Stopping {}", this.getClass().getSimpleName());
         scheduledExecutor.shutdownNow();
         cache = null;
+        lastRefreshMs = -1;
     }
 
     /**
      * Called periodically to update the cache
      */
     private void updateCache()  {
+        long startNanos = System.nanoTime();
+        ConcurrentHashMap<String, T> updated;
+
         try {
             LOGGER.debug("Starting update of {}", this.getClass().getSimpleName());
-            cache = loadCache();
-            LOGGER.debug("{} updated", this.getClass().getSimpleName());
+            updated = loadCache();
+
+            Predicate<String> filter = keyFilter;
+            if (filter != null) {
+                updated.keySet().removeIf(key -> !filter.test(key));
+            }
         } catch (Exception e)   {
-            LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
-            cache = null; // Reset the cache
+            if (cache != null) {
+                LOGGER.error("{} failed to update and will keep using data which are {}ms old", this.getClass().getSimpleName(), snapshotAgeMs(), e);
+            } else {
+                LOGGER.error("{} failed to update", this.getClass().getSimpleName(), e);
+            }
+
+            listeners.forEach(listener -> listener.onRefreshFailure(this));
+            return;
         }
+
+        ConcurrentHashMap<String, T> previous = cache;
+        cache = updated;
+        lastRefreshMs = System.currentTimeMillis();
+
+        // There is nothing to compare with on the first load
+        Set<String> changedKeys = previous != null ? changedKeys(previous, updated) : Set.of();
+        LOGGER.debug("{} updated with {} changed keys", this.getClass().getSimpleName(), changedKeys.size());
+
+        long durationNanos = System.nanoTime() - startNanos;
+        listeners.forEach(listener -> listener.onRefresh(this, durationNanos, changedKeys));
+    }
+
+    /**
+     * Finds the keys which were added, removed or changed between two versions of the cache data
+     *
+     * @param previous  Previous cache data
+     * @param updated   Updated cache data
+     *
+     * @return  Set with the changed keys
+     */
+    /*test*/ static <T> Set<String> changedKeys(Map<String, T> previous, Map<String, T> updated) {
+        Set<String> changed = new HashSet<>();
+
+        for (Map.Entry<String, T> entry : updated.entrySet()) {
+            if (!Objects.equals(entry.getValue(), previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+
+        for (String key : previous.keySet()) {
+            if (!updated.containsKey(key)) {
+                changed.add(key);
+            }
+        }
+
+        return changed;
     }
 }
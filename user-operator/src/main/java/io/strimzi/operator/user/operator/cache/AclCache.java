@@ -7,38 +7,77 @@ package io.strimzi.operator.user.operator.cache;
 import io.strimzi.operator.user.model.acl.SimpleAclRule;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.acl.AccessControlEntryFilter;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
+import org.apache.kafka.common.acl.AclOperation;
+import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.resource.PatternType;
+import org.apache.kafka.common.resource.ResourcePatternFilter;
+import org.apache.kafka.common.resource.ResourceType;
 import org.apache.kafka.common.security.auth.KafkaPrincipal;
 import org.apache.kafka.common.utils.SecurityUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 /**
- * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka
+ * A periodically updated ACL Cache for keeping the ACLs locally and avoid querying Kafka. The ACLs are loaded either
+ * with a single query for all ACLs, or in shards with one query per resource type and pattern type. The literal TOPIC
+ * and GROUP ACLs, which are most of the ACLs of a typical user, are split further by the operation. The sharded
+ * loading avoids having all ACLs in a single huge response in big clusters. The Admin API cannot filter the ACLs by
+ * a prefix of the principal or the resource name, so the largest response still contains all ACLs with the same
+ * resource type, pattern type and operation (for example the READ ACLs of all users for literal topic names).
  */
 public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
     private final static Logger LOGGER = LogManager.getLogger(AclCache.class);
 
+    /**
+     * Filters used for the sharded loading. Every ACL has exactly one concrete resource type, either the literal or
+     * the prefixed pattern type and one concrete operation, so together they match all ACLs and each ACL is matched
+     * only once.
+     */
+    /*test*/ static final List<AclBindingFilter> SHARDS = shards();
+
     private final Admin adminClient;
+    private final boolean sharded;
+    private final int maxConcurrentRequests;
 
     /**
-     * Constructs the ACL cache
+     * Constructs the ACL cache which loads all ACLs with a single query
      *
      * @param adminClient           Kafka Admin client
      * @param refreshIntervalMs     Interval in which the cache should be refreshed
      */
     public AclCache(Admin adminClient, long refreshIntervalMs) {
+        this(adminClient, refreshIntervalMs, false, 1);
+    }
+
+    /**
+     * Constructs the ACL cache
+     *
+     * @param adminClient           Kafka Admin client
+     * @param refreshIntervalMs     Interval in which the cache should be refreshed
+     * @param sharded               Indicates whether the ACLs should be loaded in shards
+     * @param maxConcurrentRequests Maximal number of shards loaded at the same time
+     */
+    public AclCache(Admin adminClient, long refreshIntervalMs, boolean sharded, int maxConcurrentRequests) {
         super("ACL", refreshIntervalMs);
         this.adminClient = adminClient;
+        this.sharded = sharded;
+        this.maxConcurrentRequests = maxConcurrentRequests;
     }
 
     /**
@@ -48,27 +87,103 @@ public class AclCache extends AbstractCache<Set<SimpleAclRule>> {
      */
     @Override
     protected ConcurrentHashMap<String, Set<SimpleAclRule>> loadCache() {
-        KafkaFuture<Collection<AclBinding>> futureAcls = adminClient.describeAcls(AclBindingFilter.ANY).values();
-
         try {
-            Collection<AclBinding> aclsBindings = futureAcls.get(1, TimeUnit.MINUTES);
-            // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
-            // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
-            // initial size than Java's default
-            ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+            return sharded ? loadSharded() : loadAll();
+        } catch (InterruptedException | ExecutionException | TimeoutException e) {
+            LOGGER.warn("Failed to load ACLs", e);
+            throw new RuntimeException("Failed to load ACLs", e);
+        }
+    }
 
-            for (AclBinding aclBinding : aclsBindings) {
-                KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+    /**
+     * Loads all ACL rules using a single query
+     *
+     * @return  ConcurrentHashMap with all users and their ACLs
+     */
+    private ConcurrentHashMap<String, Set<SimpleAclRule>> loadAll() throws InterruptedException, ExecutionException, TimeoutException {
+        Collection<AclBinding> aclsBindings = adminClient.describeAcls(AclBindingFilter.ANY).values().get(1, TimeUnit.MINUTES);
+        // Each user can have multiple ACL rules. So the size of the map will not directly correspond to the number
+        // of rules. But we size it for 3-5 rules per user to give us at least some start and have some better
+        // initial size than Java's default
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>(aclsBindings.size() / 3);
+        addAclBindings(map, aclsBindings);
 
-                if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
-                    map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
-                }
+        return map;
+    }
+
+    /**
+     * Loads all ACL rules in shards. At most maxConcurrentRequests shards are loaded at the same time and the ACL
+     * rules from each shard are added to the map as soon as the shard is loaded. That way, the responses for the
+     * different shards do not need to be kept in memory at the same time. The ACL rules are added to the map by the
+     * thread loading the cache, so that the network thread of the Admin client (which is shared with the reconciliation
+     * of the users) is not held up by it.
+     *
+     * @return  ConcurrentHashMap with all users and their ACLs
+     */
+    private ConcurrentHashMap<String, Set<SimpleAclRule>> loadSharded() throws InterruptedException, ExecutionException, TimeoutException {
+        ConcurrentHashMap<String, Set<SimpleAclRule>> map = new ConcurrentHashMap<>();
+        BlockingQueue<KafkaFuture<Collection<AclBinding>>> loaded = new LinkedBlockingQueue<>();
+        long deadline = System.nanoTime() + TimeUnit.MINUTES.toNanos(1);
+        int requested = 0;
+
+        for (int merged = 0; merged < SHARDS.size(); merged++) {
+            while (requested < SHARDS.size() && requested - merged < maxConcurrentRequests) {
+                KafkaFuture<Collection<AclBinding>> shardFuture = adminClient.describeAcls(SHARDS.get(requested++)).values();
+                shardFuture.whenComplete((ignored, error) -> loaded.add(shardFuture));
             }
 
-            return map;
-        } catch (InterruptedException | ExecutionException | TimeoutException e) {
-            LOGGER.warn("Failed to load ACLs", e);
-            throw new RuntimeException("Failed to load ACLs", e);
+            KafkaFuture<Collection<AclBinding>> shardFuture = loaded.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (shardFuture == null) {
+                throw new TimeoutException("Timed out while waiting to load the ACLs");
+            }
+
+            addAclBindings(map, shardFuture.get());
         }
+
+        return map;
+    }
+
+    /**
+     * Adds the ACL rules of the users to the map
+     *
+     * @param map           Map to which the ACL rules should be added
+     * @param aclBindings   ACL bindings which should be added
+     */
+    private static void addAclBindings(Map<String, Set<SimpleAclRule>> map, Collection<AclBinding> aclBindings) {
+        for (AclBinding aclBinding : aclBindings) {
+            KafkaPrincipal principal = SecurityUtils.parseKafkaPrincipal(aclBinding.entry().principal());
+
+            if (KafkaPrincipal.USER_TYPE.equals(principal.getPrincipalType())) {
+                map.computeIfAbsent(principal.getName(), k -> new HashSet<>()).add(SimpleAclRule.fromAclBinding(aclBinding));
+            }
+        }
+    }
+
+    /**
+     * @return  The filters for the sharded loading
+     */
+    private static List<AclBindingFilter> shards() {
+        List<AclBindingFilter> shards = new ArrayList<>();
+
+        for (ResourceType resourceType : ResourceType.values()) {
+            if (resourceType != ResourceType.ANY && resourceType != ResourceType.UNKNOWN) {
+                for (PatternType patternType : List.of(PatternType.LITERAL, PatternType.PREFIXED)) {
+                    ResourcePatternFilter patternFilter = new ResourcePatternFilter(resourceType, null, patternType);
+
+                    if (patternType == PatternType.LITERAL
+                            && (resourceType == ResourceType.TOPIC || resourceType == ResourceType.GROUP)) {
+                        for (AclOperation operation : AclOperation.values()) {
+                            if (operation != AclOperation.ANY && operation != AclOperation.UNKNOWN) {
+                                shards.add(new AclBindingFilter(patternFilter, new AccessControlEntryFilter(null, null, operation, AclPermissionType.ANY)));
+                            }
+                        }
+                    } else {
+                        shards.add(new AclBindingFilter(patternFilter, AccessControlEntryFilter.ANY));
+                    }
+                }
+            }
+        }
+
+        return List.copyOf(shards);
     }
 }
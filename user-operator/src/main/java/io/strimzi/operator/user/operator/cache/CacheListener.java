@@ -0,0 +1,30 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import java.util.Set;
+
+/**
+ * Listener which is notified about the refreshes of a cache. It is called from the thread refreshing the cache, so it
+ * should not block.
+ */
+public interface CacheListener {
+    /**
+     * Called when the cache was successfully refreshed
+     *
+     * @param cache         The refreshed cache
+     * @param durationNanos How long the refresh took in nanoseconds
+     * @param changedKeys   Keys which were added, removed or changed since the previous refresh. Empty on the first
+     *                      refresh.
+     */
+    void onRefresh(AbstractCache<?> cache, long durationNanos, Set<String> changedKeys);
+
+    /**
+     * Called when the refresh of the cache failed. The cache keeps serving the previously loaded data.
+     *
+     * @param cache     The cache which failed to refresh
+     */
+    void onRefreshFailure(AbstractCache<?> cache);
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.strimzi.operator.common.MetricsProvider;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache listener which exports the metrics about the cache refreshes: how long they take, how many entries the caches
+ * have, how many of them changed, how many refreshes failed and how old the cached data are.
+ */
+public class CacheMetricsListener implements CacheListener {
+    private static final String METRICS_PREFIX = "strimzi.user.cache.";
+
+    private final MetricsProvider metricsProvider;
+    private final String namespace;
+    private final Map<String, CacheMetrics> metrics = new ConcurrentHashMap<>(3);
+
+    /**
+     * Constructs the cache metrics listener
+     *
+     * @param metricsProvider   Metrics provider
+     * @param namespace         Namespace watched by the User Operator
+     */
+    public CacheMetricsListener(MetricsProvider metricsProvider, String namespace) {
+        this.metricsProvider = metricsProvider;
+        this.namespace = namespace;
+    }
+
+    @Override
+    public void onRefresh(AbstractCache<?> cache, long durationNanos, Set<String> changedKeys) {
+        CacheMetrics cacheMetrics = metrics(cache);
+        cacheMetrics.refreshTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        cacheMetrics.entries.set(cache.size());
+        cacheMetrics.changes.increment(changedKeys.size());
+    }
+
+    @Override
+    public void onRefreshFailure(AbstractCache<?> cache) {
+        metrics(cache).failedRefreshes.increment();
+    }
+
+    /**
+     * Gets or creates the metrics for given cache
+     *
+     * @param cache     The cache
+     *
+     * @return  Metrics for the cache
+     */
+    private CacheMetrics metrics(AbstractCache<?> cache) {
+        return metrics.computeIfAbsent(cache.name(), name -> {
+            Tags tags = Tags.of(Tag.of("kind", "KafkaUser"), Tag.of("namespace", namespace), Tag.of("cache", name));
+
+            metricsProvider.gauge(METRICS_PREFIX + "snapshot.age.seconds", "How old the data in the cache are", tags,
+                    cache, c -> c.snapshotAgeMs() < 0 ? Double.NaN : c.snapshotAgeMs() / 1_000.0);
+
+            return new CacheMetrics(
+                    metricsProvider.timer(METRICS_PREFIX + "refresh.duration", "The time the refresh of the cache takes", tags),
+                    metricsProvider.gauge(METRICS_PREFIX + "entries", "Number of entries in the cache", tags),
+                    metricsProvider.counter(METRICS_PREFIX + "changes", "Number of entries which changed between the cache refreshes", tags),
+                    metricsProvider.counter(METRICS_PREFIX + "refresh.failed", "Number of failed refreshes of the cache", tags));
+        });
+    }
+
+    /**
+     * Metrics of a single cache
+     *
+     * @param refreshTimer      Timer for the refresh duration
+     * @param entries           Gauge with the number of entries
+     * @param changes           Counter of changed entries
+     * @param failedRefreshes   Counter of failed refreshes
+     */
+    private record CacheMetrics(Timer refreshTimer, AtomicInteger entries, Counter changes, Counter failedRefreshes) { }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
+import io.strimzi.operator.common.controller.ControllerQueue;
+import io.strimzi.operator.common.metrics.ControllerMetricsHolder;
+import io.strimzi.operator.common.model.Labels;
+import io.strimzi.operator.common.model.NamespaceAndName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class PeriodicReconciliationSchedulerTest {
+    private static final long INTERVAL_MS = 120_000L;
+
+    private static ControllerQueue queue() {
+        return new ControllerQueue(1024, new ControllerMetricsHolder("KafkaUser", Labels.EMPTY, new MicrometerMetricsProvider(new SimpleMeterRegistry())));
+    }
+
+    private static Set<NamespaceAndName> users(int count) {
+        Set<NamespaceAndName> users = new HashSet<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(new NamespaceAndName("my-namespace", "user-" + i));
+        }
+
+        return users;
+    }
+
+    @Test
+    public void testOffsets() {
+        NamespaceAndName user = new NamespaceAndName("my-namespace", "my-user");
+
+        // The offset is stable and within the interval
+        assertThat(PeriodicReconciliationScheduler.offsetMs(user, INTERVAL_MS), is(PeriodicReconciliationScheduler.offsetMs(new NamespaceAndName("my-namespace", "my-user"), INTERVAL_MS)));
+
+        // Users with similar names are spread evenly over the interval
+        int[] buckets = new int[10];
+        for (NamespaceAndName u : users(10_000)) {
+            long offset = PeriodicReconciliationScheduler.offsetMs(u, INTERVAL_MS);
+            assertThat(offset, is(greaterThanOrEqualTo(0L)));
+            assertThat(offset, is(lessThan(INTERVAL_MS)));
+
+            buckets[(int) (offset * buckets.length / INTERVAL_MS)]++;
+        }
+
+        for (int bucket : buckets) {
+            assertThat(bucket, is(greaterThanOrEqualTo(900)));
+            assertThat(bucket, is(lessThanOrEqualTo(1_100)));
+        }
+    }
+
+    @Test
+    public void testSpreadOverInterval() {
+        ControllerQueue queue = queue();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler("KafkaUser", queue, INTERVAL_MS, true, 0);
+
+        scheduler.schedule(users(1_000), 0);
+
+        // Roughly half of the users should be enqueued in the first half of the interval
+        scheduler.tick(INTERVAL_MS / 2);
+        assertThat(queue.size(), is(greaterThanOrEqualTo(400)));
+        assertThat(queue.size(), is(lessThanOrEqualTo(600)));
+
+        // All users are enqueued by the end of the interval
+        scheduler.tick(INTERVAL_MS);
+        assertThat(queue.size(), is(1_000));
+        assertThat(scheduler.pendingSize(), is(0));
+    }
+
+    @Test
+    public void testWithoutSpread() {
+        ControllerQueue queue = queue();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler("KafkaUser", queue, INTERVAL_MS, false, 0);
+
+        scheduler.schedule(users(1_000), 0);
+        assertThat(scheduler.tick(0), is(1_000));
+        assertThat(queue.size(), is(1_000));
+    }
+
+    @Test
+    public void testRateLimit() {
+        ControllerQueue queue = queue();
+        PeriodicReconciliationScheduler scheduler = new PeriodicReconciliationScheduler("KafkaUser", queue, INTERVAL_MS, false, 100);
+
+        scheduler.schedule(users(1_000), 0);
+
+        // One second worth of reconciliations at once and then at most 100 per second
+        assertThat(scheduler.tick(0), is(100));
+        assertThat(scheduler.tick(500), is(50));
+        assertThat(scheduler.tick(1_500), is(100));
+        assertThat(scheduler.tick(60_000), is(100));
+        assertThat(queue.size(), is(350));
+
+        // Users which are still pending keep their place in the next interval and are not scheduled twice
+        scheduler.schedule(users(1_000), INTERVAL_MS);
+        assertThat(scheduler.pendingSize(), is(1_000));
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user;
+
+import io.fabric8.kubernetes.api.model.ManagedFieldsEntryBuilder;
+import io.fabric8.kubernetes.api.model.Secret;
+import io.fabric8.kubernetes.api.model.SecretBuilder;
+import io.fabric8.kubernetes.client.informers.cache.Cache;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class SlimSecretItemStoreTest {
+    private static Secret userSecret() {
+        return new SecretBuilder(ResourceUtils.createUserSecretTls())
+                .editMetadata()
+                    .withUid("0000-1111")
+                    .withResourceVersion("1234")
+                    .addToAnnotations("kubectl.kubernetes.io/last-applied-configuration", "{\"data\":{\"user.key\":\"...\"}}")
+                    .addToAnnotations("my-annotation", "my-value")
+                    .withManagedFields(new ManagedFieldsEntryBuilder().withManager("kubectl").withOperation("Apply").build())
+                .endMetadata()
+                .build();
+    }
+
+    @Test
+    public void testSlimKeepsWhatTheOperatorReads() {
+        Secret secret = userSecret();
+        Secret slim = SlimSecretItemStore.slim(secret);
+
+        assertThat(Cache.metaNamespaceKeyFunc(slim), is(Cache.metaNamespaceKeyFunc(secret)));
+        assertThat(slim.getMetadata().getUid(), is(secret.getMetadata().getUid()));
+        assertThat(slim.getMetadata().getResourceVersion(), is(secret.getMetadata().getResourceVersion()));
+        assertThat(slim.getMetadata().getLabels(), is(secret.getMetadata().getLabels()));
+        assertThat(slim.getMetadata().getAnnotations().get("my-annotation"), is("my-value"));
+        assertThat(SlimSecretItemStore.contentHash(slim), is(SlimSecretItemStore.contentHash(secret)));
+    }
+
+    @Test
+    public void testSlimDropsTheData() {
+        Secret slim = SlimSecretItemStore.slim(userSecret());
+
+        assertThat(slim.getData() == null || slim.getData().isEmpty(), is(true));
+        assertThat(slim.getMetadata().getAnnotations().containsKey("kubectl.kubernetes.io/last-applied-configuration"), is(false));
+        assertThat(slim.getMetadata().getManagedFields() == null || slim.getMetadata().getManagedFields().isEmpty(), is(true));
+    }
+
+    @Test
+    public void testSameContent() {
+        Secret secret = userSecret();
+        Secret slim = SlimSecretItemStore.slim(secret);
+
+        // Resync or update of only the resource version
+        assertThat(SlimSecretItemStore.sameContent(slim, slim), is(true));
+        assertThat(SlimSecretItemStore.sameContent(slim, new SecretBuilder(secret).editMetadata().withResourceVersion("1235").endMetadata().build()), is(true));
+
+        // Changed data
+        Secret changedData = new SecretBuilder(secret)
+                .addToData("user.password", Base64.getEncoder().encodeToString("changed-password".getBytes()))
+                .build();
+        assertThat(SlimSecretItemStore.contentHash(changedData), is(not(SlimSecretItemStore.contentHash(secret))));
+        assertThat(SlimSecretItemStore.sameContent(slim, changedData), is(false));
+
+        // Changed labels
+        Secret changedLabels = new SecretBuilder(secret).editMetadata().addToLabels("my-label", "my-value").endMetadata().build();
+        assertThat(SlimSecretItemStore.sameContent(slim, changedLabels), is(false));
+    }
+
+    @Test
+    public void testSlimOnPut() {
+        SlimSecretItemStore store = new SlimSecretItemStore();
+        Secret secret = userSecret();
+        String key = store.getKey(secret);
+        assertThat(store.put(key, secret), is(nullValue()));
+
+        Secret cached = store.get(key);
+        assertThat(cached.getData() == null || cached.getData().isEmpty(), is(true));
+        assertThat(store.values().toList(), is(List.of(cached)));
+        // Projecting the slim copy again does not change it
+        assertThat(SlimSecretItemStore.slim(cached), is(cached));
+    }
+}
@@ -34,6 +34,7 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
@@ -141,6 +142,50 @@ public class UserControllerMockTest {
         }
     }
 
+    @Test
+    public void testReconciliationWithSlimSecretCache() {
+        // Prepare metrics registry
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        // Mock the UserOperator and record the Secrets it gets
+        AtomicReference<Secret> reconciledSecret = new AtomicReference<>();
+        when(mockKafkaUserOperator.reconcile(any(), any(), any())).thenAnswer(i -> {
+            if (i.getArgument(2) != null) {
+                reconciledSecret.set(i.getArgument(2));
+            }
+
+            KafkaUserStatus status = new KafkaUserStatus();
+            StatusUtils.setStatusConditionAndObservedGeneration(i.getArgument(1), status, (Throwable) null);
+            return CompletableFuture.completedFuture(status);
+        });
+
+        // Create User Controller
+        UserController controller = new UserController(
+                new UserOperatorConfig.UserOperatorConfigBuilder(ResourceUtils.createUserOperatorConfigForUserControllerTesting(Map.of(), 120000, 10, 1, ""))
+                        .with(UserOperatorConfig.SLIM_SECRET_CACHE_ENABLED.key(), "true")
+                        .build(),
+                secretOperator,
+                kafkaUserOps,
+                mockKafkaUserOperator,
+                metrics
+        );
+
+        controller.start();
+
+        // Test
+        try {
+            secretOperator.resource(NAMESPACE, ResourceUtils.createUserSecretTls()).create();
+            kafkaUserOps.resource(NAMESPACE, ResourceUtils.createKafkaUserTls()).create();
+            kafkaUserOps.resource(NAMESPACE, NAME).waitUntilCondition(KafkaUser.isReady(), 10_000, TimeUnit.MILLISECONDS);
+
+            // The informer has only the slim Secret, but the reconciliation gets the full Secret
+            TestUtils.waitFor("Wait for reconciliation with the Secret", 100, 10_000, () -> reconciledSecret.get() != null);
+            assertThat(reconciledSecret.get().getData().get("user.key"), is(ResourceUtils.createUserSecretTls().getData().get("user.key")));
+        } finally {
+            controller.stop();
+        }
+    }
+
     @Test
     public void testReconciliationCrAndPrefixedSecret() {
         // Prepare metrics registry
@@ -4,6 +4,7 @@
  */
 package io.strimzi.operator.user;
 
+import io.strimzi.certs.CertManagerType;
 import io.strimzi.operator.common.InvalidConfigurationException;
 import io.strimzi.operator.common.model.Labels;
 import org.junit.jupiter.api.Test;
@@ -53,7 +54,13 @@ public class UserOperatorConfigTest {
         assertThat(config.getClientsCaValidityDays(), is(1000));
         assertThat(config.getClientsCaRenewalDays(), is(10));
         assertThat(config.isAclsAdminApiSupported(), is(false));
+        assertThat(config.isAclsCacheShardedLoading(), is(false));
+        assertThat(config.getAclsCacheLoadingConcurrency(), is(4));
+        assertThat(config.getCertManagerType(), is(CertManagerType.OPENSSL));
+        assertThat(config.getKeyPairPoolSize(), is(0));
+        assertThat(config.getKeyPairPoolKeySize(), is(2048));
         assertThat(config.getScramPasswordLength(), is(20));
+        assertThat(config.isScramShaSkipUnchangedUpserts(), is(true));
         assertThat(config.getMaintenanceWindows(), is(nullValue()));
         assertThat(config.getOperationTimeoutMs(), is(300_000L));
         assertThat(config.getWorkQueueSize(), is(1_024));
@@ -62,6 +69,12 @@ public class UserOperatorConfigTest {
         assertThat(config.getBatchQueueSize(), is(1_024));
         assertThat(config.getBatchMaxBlockSize(), is(100));
         assertThat(config.getBatchMaxBlockTime(), is(100));
+        assertThat(config.getBatchMaxInFlight(), is(Integer.MAX_VALUE));
+        assertThat(config.isShardingEnabled(), is(false));
+        assertThat(config.getShardGroup(), is("strimzi-user-operator"));
+        assertThat(config.getShardIdentity(), is(""));
+        assertThat(config.getShardLeaseDurationMs(), is(15_000L));
+        assertThat(config.isSlimSecretCacheEnabled(), is(false));
         assertThat(config.getUserOperationsThreadPoolSize(), is(4));
     }
 
@@ -88,6 +101,21 @@ public class UserOperatorConfigTest {
 
         UserOperatorConfig config = UserOperatorConfig.buildFromMap(envVars);
         assertThat(config.getReconciliationIntervalMs(), is(Long.parseLong(UserOperatorConfig.RECONCILIATION_INTERVAL_MS.defaultValue())));
+        assertThat(config.isReconciliationSpread(), is(true));
+        assertThat(config.getReconciliationMaxRate(), is(0));
+    }
+
+    @Test
+    public void testFromMapReconciliationMaxRate()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.RECONCILIATION_MAX_RATE.key(), "100");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getReconciliationMaxRate(), is(100));
+
+        envVars.put(UserOperatorConfig.RECONCILIATION_MAX_RATE.key(), "0");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getReconciliationMaxRate(), is(0));
+
+        envVars.put(UserOperatorConfig.RECONCILIATION_MAX_RATE.key(), "-1");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
     }
 
     @Test
@@ -125,6 +153,16 @@ public class UserOperatorConfigTest {
         assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
     }
 
+    @Test
+    public void testFromMapCertManagerType()  {
+        Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
+        envVars.put(UserOperatorConfig.CERT_MANAGER_TYPE.key(), "java");
+        assertThat(UserOperatorConfig.buildFromMap(envVars).getCertManagerType(), is(CertManagerType.JAVA));
+
+        envVars.put(UserOperatorConfig.CERT_MANAGER_TYPE.key(), "bouncycastle");
+        assertThrows(InvalidConfigurationException.class, () -> UserOperatorConfig.buildFromMap(envVars));
+    }
+
     @Test
     public void testFromMapInvalidScramPasswordLengthThrows()  {
         Map<String, String> envVars = new HashMap<>(UserOperatorConfigTest.ENV_VARS);
@@ -0,0 +1,146 @@
+/*
+ * Copyright Strimzi authors.
+ * License: Apache License 2.0 (see the file LICENSE or http://apache.org/licenses/LICENSE-2.0.html).
+ */
+package io.strimzi.operator.user.operator;
+
+import io.strimzi.operator.common.Reconciliation;
+import io.strimzi.operator.common.operator.resource.ReconcileResult;
+import io.strimzi.operator.user.ResourceUtils;
+import io.strimzi.operator.user.UserOperatorConfig;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AlterUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.DescribeUserScramCredentialsResult;
+import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
+import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
+import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
+import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ScramCredentialsOperatorTest {
+    private final static ExecutorService EXECUTOR = Executors.newSingleThreadExecutor();
+    private final static Reconciliation RECONCILIATION = new Reconciliation("test", "KafkaUser", ResourceUtils.NAMESPACE, "my-user");
+
+    /**
+     * Mocks the Admin client to have the credentials of the given users and to record the alterations
+     */
+    private static Admin mockAdminClient(List<String> existingUsers, List<UserScramCredentialAlteration> alterations, boolean failAlterations) {
+        Admin mockAdminClient = mock(AdminClient.class);
+
+        DescribeUserScramCredentialsResult describeResult = mock(DescribeUserScramCredentialsResult.class);
+        when(describeResult.users()).thenReturn(KafkaFuture.completedFuture(existingUsers));
+        when(mockAdminClient.describeUserScramCredentials()).thenReturn(describeResult);
+
+        when(mockAdminClient.alterUserScramCredentials(any())).thenAnswer(invocation -> {
+            List<UserScramCredentialAlteration> batch = invocation.getArgument(0);
+            alterations.addAll(batch);
+
+            Map<String, KafkaFuture<Void>> values = new HashMap<>();
+            for (UserScramCredentialAlteration alteration : batch) {
+                KafkaFutureImpl<Void> future = new KafkaFutureImpl<>();
+                if (failAlterations) {
+                    future.completeExceptionally(new TimeoutException());
+                } else {
+                    future.complete(null);
+                }
+                values.put(alteration.user(), future);
+            }
+
+            AlterUserScramCredentialsResult alterResult = mock(AlterUserScramCredentialsResult.class);
+            when(alterResult.values()).thenReturn(values);
+            when(alterResult.all()).thenReturn(KafkaFuture.allOf(values.values().toArray(new KafkaFuture<?>[0])));
+            return alterResult;
+        });
+
+        return mockAdminClient;
+    }
+
+    private static ScramCredentialsOperator operator(Admin mockAdminClient, boolean skipUnchangedUpserts) {
+        UserOperatorConfig config = UserOperatorConfig.buildFromMap(Map.of(
+                UserOperatorConfig.NAMESPACE.key(), ResourceUtils.NAMESPACE,
+                UserOperatorConfig.CA_CERT_SECRET_NAME.key(), ResourceUtils.CA_CERT_NAME,
+                UserOperatorConfig.CA_KEY_SECRET_NAME.key(), ResourceUtils.CA_KEY_NAME,
+                UserOperatorConfig.SCRAM_SHA_SKIP_UNCHANGED_UPSERTS.key(), String.valueOf(skipUnchangedUpserts)));
+        ScramCredentialsOperator scramOp = new ScramCredentialsOperator(mockAdminClient, config, EXECUTOR);
+        scramOp.start();
+        return scramOp;
+    }
+
+    @Test
+    public void testUnchangedPasswordIsNotUpsertedAgain() throws ExecutionException, InterruptedException {
+        List<UserScramCredentialAlteration> alterations = new CopyOnWriteArrayList<>();
+        ScramCredentialsOperator scramOp = operator(mockAdminClient(List.of("my-user"), alterations, false), true);
+
+        try {
+            // The credentials exist, but we do not know what they were set to => upsert
+            assertThat(scramOp.reconcile(RECONCILIATION, "my-user", "password").toCompletableFuture().get(), instanceOf(ReconcileResult.Patched.class));
+            assertThat(alterations.size(), is(1));
+
+            // Unchanged => skipped
+            assertThat(scramOp.reconcile(RECONCILIATION, "my-user", "password").toCompletableFuture().get(), instanceOf(ReconcileResult.Noop.class));
+            assertThat(alterations.size(), is(1));
+
+            // Changed => upsert
+            assertThat(scramOp.reconcile(RECONCILIATION, "my-user", "new-password").toCompletableFuture().get(), instanceOf(ReconcileResult.Patched.class));
+            assertThat(alterations.size(), is(2));
+            assertThat(alterations.get(1), instanceOf(UserScramCredentialUpsertion.class));
+
+            // Deleted and recreated with the same password => upsert
+            assertThat(scramOp.reconcile(RECONCILIATION, "my-user", null).toCompletableFuture().get(), is(ReconcileResult.deleted()));
+            assertThat(alterations.get(2), instanceOf(UserScramCredentialDeletion.class));
+            assertThat(scramOp.reconcile(RECONCILIATION, "my-user", "new-password").toCompletableFuture().get(), instanceOf(ReconcileResult.Patched.class));
+            assertThat(alterations.size(), is(4));
+        } finally {
+            scramOp.stop();
+        }
+    }
+
+    @Test
+    public void testFailedUpsertIsRetried() {
+        List<UserScramCredentialAlteration> alterations = new CopyOnWriteArrayList<>();
+        ScramCredentialsOperator scramOp = operator(mockAdminClient(List.of(), alterations, true), true);
+
+        try {
+            for (int i = 1; i <= 2; i++) {
+                assertThrows(ExecutionException.class, () -> scramOp.reconcile(RECONCILIATION, "my-user", "password").toCompletableFuture().get());
+                assertThat(alterations.size(), is(i));
+            }
+        } finally {
+            scramOp.stop();
+        }
+    }
+
+    @Test
+    public void testUnchangedPasswordIsUpsertedWhenSkippingIsDisabled() throws ExecutionException, InterruptedException {
+        List<UserScramCredentialAlteration> alterations = new CopyOnWriteArrayList<>();
+        ScramCredentialsOperator scramOp = operator(mockAdminClient(List.of("my-user"), alterations, false), false);
+
+        try {
+            for (int i = 1; i <= 3; i++) {
+                assertThat(scramOp.reconcile(RECONCILIATION, "my-user", "password").toCompletableFuture().get(), instanceOf(ReconcileResult.Patched.class));
+                assertThat(alterations.size(), is(i));
+            }
+        } finally {
+            scramOp.stop();
+        }
+    }
+}
@@ -4,15 +4,27 @@
  */
 package io.strimzi.operator.user.operator.batching;
 
+import io.strimzi.operator.user.UserOperatorConfig;
 import org.hamcrest.CoreMatchers;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class AbstractBatchReconcilerTest {
     Set<Integer> reconciled;
@@ -25,7 +37,11 @@ public class AbstractBatchReconcilerTest {
         reconciled = new HashSet<>(numberOfItems);
         reconciliationFinished = new CountDownLatch(numberOfItems);
 
-        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 100, 1, items -> {
+            reconciled.addAll(items);
+            reconciliationFinished.countDown();
+            return CompletableFuture.completedFuture(0);
+        });
         batcher.start();
 
         Thread producer = new Thread(() -> {
@@ -50,15 +66,183 @@ public class AbstractBatchReconcilerTest {
         batcher.stop();
     }
 
-    class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
-        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime) {
-            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime);
+    @Test
+    public void testInFlightBatchesAreBounded() throws InterruptedException {
+        List<CompletableFuture<Integer>> inFlight = new CopyOnWriteArrayList<>();
+
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(10, 1, 10, 2, items -> {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            inFlight.add(future);
+            return future;
+        });
+        batcher.start();
+
+        try {
+            for (int i = 0; i < 5; i++)    {
+                batcher.enqueue(i);
+            }
+
+            // Only two batches are sent while none of them completes
+            waitFor(() -> inFlight.size() == 2);
+            Thread.sleep(100);
+            assertThat(inFlight.size(), is(2));
+
+            // Completing a batch lets the next one to be sent
+            inFlight.get(0).complete(0);
+            waitFor(() -> inFlight.size() == 3);
+            Thread.sleep(100);
+            assertThat(inFlight.size(), is(3));
+
+            inFlight.forEach(future -> future.complete(0));
+            waitFor(() -> inFlight.size() == 5);
+        } finally {
+            inFlight.forEach(future -> future.complete(0));
+            batcher.stop();
+        }
+    }
+
+    @Test
+    public void testDefaultInFlightBatchesDoNotThrottle() throws InterruptedException {
+        List<CompletableFuture<Integer>> inFlight = new CopyOnWriteArrayList<>();
+        AtomicInteger sent = new AtomicInteger(0);
+
+        // Kafka never responds, so none of the batches completes
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 5, 10, Integer.parseInt(UserOperatorConfig.BATCH_MAXIMUM_IN_FLIGHT.defaultValue()), items -> {
+            CompletableFuture<Integer> future = new CompletableFuture<>();
+            inFlight.add(future);
+            sent.addAndGet(items.size());
+            return future;
+        });
+        batcher.start();
+
+        // Enqueueing many more requests than fit into the queue does not block, because the batches are sent
+        // without waiting for the previous ones to complete
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < 200; i++)    {
+                try {
+                    batcher.enqueue(i);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+        producer.start();
+
+        try {
+            waitFor(() -> sent.get() == 200);
+            assertThat(inFlight.size() >= 200 / 5, is(true));
+        } finally {
+            producer.interrupt();
+            inFlight.forEach(future -> future.complete(0));
+            batcher.stop();
+        }
+    }
+
+    @Test
+    public void testListener() throws InterruptedException {
+        AtomicInteger batchNumber = new AtomicInteger(0);
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(10, 2, 10_000, 1, items -> {
+            if (batchNumber.incrementAndGet() == 1) {
+                return CompletableFuture.completedFuture(1);
+            } else {
+                return CompletableFuture.failedFuture(new RuntimeException("Something failed"));
+            }
+        });
+
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<Integer> partialFailures = new CopyOnWriteArrayList<>();
+        AtomicInteger failedBatches = new AtomicInteger(0);
+
+        batcher.addListener(new BatchReconcilerListener() {
+            @Override
+            public void onBatchSent(String reconciler, long[] queueWaitNanos) {
+                assertThat(reconciler, is("TestBatchReconciler"));
+                batchSizes.add(queueWaitNanos.length);
+            }
+
+            @Override
+            public void onBatchCompleted(String reconciler, long durationNanos, int failedItems) {
+                partialFailures.add(failedItems);
+            }
+
+            @Override
+            public void onBatchFailed(String reconciler, long durationNanos) {
+                failedBatches.incrementAndGet();
+            }
+        });
+
+        // The first items are enqueued before the start, because the reconciler sends whatever is queued right after
+        // it starts. Slow Kafka requests keep the adaptive block time long, so that the first batch completing
+        // immediately does not split the second pair of items into two batches.
+        batcher.enqueue(1);
+        batcher.enqueue(2);
+        batcher.recordRequestLatency(TimeUnit.SECONDS.toNanos(10));
+        batcher.start();
+
+        try {
+            waitFor(() -> partialFailures.size() == 1);
+
+            batcher.enqueue(3);
+            batcher.enqueue(4);
+            waitFor(() -> failedBatches.get() == 1);
+
+            assertThat(batchSizes, is(List.of(2, 2)));
+            assertThat(partialFailures, is(List.of(1)));
+        } finally {
+            batcher.stop();
+        }
+    }
+
+    @Test
+    public void testAdaptiveBlockTime() {
+        AbstractBatchReconciler<Integer> batcher = new TestBatchReconciler(20, 10, 100, 1, items -> CompletableFuture.completedFuture(0));
+
+        // Without observed latency, the block time depends only on the queue depth
+        assertThat(batcher.blockTimeNanos(0), is(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(batcher.blockTimeNanos(4), is(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(batcher.blockTimeNanos(5), is(TimeUnit.MILLISECONDS.toNanos(50)));
+        assertThat(batcher.blockTimeNanos(8), is(TimeUnit.MILLISECONDS.toNanos(20)));
+        assertThat(batcher.blockTimeNanos(10), is(0L));
+
+        // Fast Kafka requests cap the block time once the queue is half full
+        batcher.recordRequestLatency(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(batcher.blockTimeNanos(0), is(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(batcher.blockTimeNanos(1), is(TimeUnit.MILLISECONDS.toNanos(100)));
+        assertThat(batcher.blockTimeNanos(5), is(TimeUnit.MILLISECONDS.toNanos(10)));
+
+        // Slow Kafka requests do not make the block time longer than the maximum
+        batcher.recordRequestLatency(TimeUnit.MILLISECONDS.toNanos(1_000));
+        assertThat(batcher.blockTimeNanos(5), is(TimeUnit.MILLISECONDS.toNanos(50)));
+    }
+
+    @Test
+    public void testInvalidMaxInFlight() {
+        assertThrows(IllegalArgumentException.class, () -> new TestBatchReconciler(20, 10, 100, 0, items -> CompletableFuture.completedFuture(0)));
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Timed out waiting for the condition");
+            }
+
+            Thread.sleep(10);
+        }
+    }
+
+    static class TestBatchReconciler extends AbstractBatchReconciler<Integer> {
+        private final Function<Collection<Integer>, CompletionStage<Integer>> reconcile;
+
+        public TestBatchReconciler(int queueSize, int maxBatchSize, int maxBatchTime, int maxInFlightBatches, Function<Collection<Integer>, CompletionStage<Integer>> reconcile) {
+            super("TestBatchReconciler", queueSize, maxBatchSize, maxBatchTime, maxInFlightBatches);
+            this.reconcile = reconcile;
         }
 
         @Override
-        protected void reconcile(Collection<Integer> items) {
-            reconciled.addAll(items);
-            reconciliationFinished.countDown();
+        protected CompletionStage<Integer> reconcile(Collection<Integer> items) {
+            return reconcile.apply(items);
         }
     }
 }
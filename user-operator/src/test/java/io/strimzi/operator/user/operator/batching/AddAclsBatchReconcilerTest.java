@@ -10,6 +10,7 @@ import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.CreateAclsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.acl.AccessControlEntry;
 import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclOperation;
@@ -34,7 +35,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -68,7 +68,6 @@ public class AddAclsBatchReconcilerTest {
 
         // Mock result
         CreateAclsResult mockResult = mock(CreateAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
                         MY_USER_2_READ, KafkaFuture.completedFuture(null), MY_USER_2_WRITE, KafkaFuture.completedFuture(null),
@@ -81,7 +80,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -131,11 +130,11 @@ public class AddAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
+        KafkaFutureImpl<Void> failedFuture = new KafkaFutureImpl<>();
+        failedFuture.completeExceptionally(new RuntimeException("Something failed"));
 
         CreateAclsResult mockResult = mock(CreateAclsResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_READ, failedFuture, MY_USER_WRITE, failedFuture, MY_USER_2_READ, failedFuture, MY_USER_2_WRITE, failedFuture));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -143,7 +142,7 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -159,8 +158,8 @@ public class AddAclsBatchReconcilerTest {
             ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> myUser2Future.get(1_000, TimeUnit.MILLISECONDS));
 
             // Test results
-            assertThat(myUserException.getCause().getMessage(), is("Something failed"));
-            assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
+            assertThat(myUserException.getCause().getMessage(), is("ACL creation failed"));
+            assertThat(myUser2Exception.getCause().getMessage(), is("ACL creation failed"));
 
             // Test request
             assertThat(aclBindingsCaptor.getAllValues().size(), is(1));
@@ -177,15 +176,13 @@ public class AddAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFutureImpl<Void> failedMyUser2Future = new KafkaFutureImpl<>();
+        failedMyUser2Future.completeExceptionally(new RuntimeException("Something failed"));
 
         CreateAclsResult mockResult = mock(CreateAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
-                        MY_USER_2_READ, mockMyUser2Future, MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
+                        MY_USER_2_READ, failedMyUser2Future, MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
         );
 
         // Mock call
@@ -194,7 +191,23 @@ public class AddAclsBatchReconcilerTest {
         when(mockClient.createAcls(aclBindingsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10);
+        AddAclsBatchReconciler reconciler = new AddAclsBatchReconciler(mockClient, 10, 5, 10, 2);
+        CompletableFuture<Integer> failedItems = new CompletableFuture<>();
+        reconciler.addListener(new BatchReconcilerListener() {
+            @Override
+            public void onBatchSent(String name, long[] queueWaitNanos) {
+            }
+
+            @Override
+            public void onBatchCompleted(String name, long durationNanos, int failed) {
+                failedItems.complete(failed);
+            }
+
+            @Override
+            public void onBatchFailed(String name, long durationNanos) {
+                failedItems.completeExceptionally(new RuntimeException("The whole batch failed"));
+            }
+        });
         reconciler.start();
 
         try {
@@ -210,6 +223,8 @@ public class AddAclsBatchReconcilerTest {
             ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> myUser2Future.get(1_000, TimeUnit.MILLISECONDS));
 
             // Test results
+            assertThat(failedItems.get(1_000, TimeUnit.MILLISECONDS), is(1));
+
             assertThat(myUserResult, is(notNullValue()));
             assertThat(myUserResult, is(instanceOf(ReconcileResult.Created.class)));
             assertThat(myUserResult.resource().size(), is(2));
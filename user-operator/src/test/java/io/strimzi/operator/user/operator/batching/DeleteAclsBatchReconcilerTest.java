@@ -10,8 +10,8 @@ import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.DeleteAclsResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.acl.AccessControlEntryFilter;
-import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
@@ -34,7 +34,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -68,7 +67,6 @@ public class DeleteAclsBatchReconcilerTest {
 
         // Mock result
         DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
                         MY_USER_2_READ, KafkaFuture.completedFuture(null), MY_USER_2_WRITE, KafkaFuture.completedFuture(null),
@@ -81,7 +79,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -125,11 +123,11 @@ public class DeleteAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Collection<AclBinding>> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
+        KafkaFutureImpl<DeleteAclsResult.FilterResults> failedFuture = new KafkaFutureImpl<>();
+        failedFuture.completeExceptionally(new RuntimeException("Something failed"));
 
         DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_READ, failedFuture, MY_USER_WRITE, failedFuture, MY_USER_2_READ, failedFuture, MY_USER_2_WRITE, failedFuture));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -137,7 +135,7 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -153,8 +151,8 @@ public class DeleteAclsBatchReconcilerTest {
             ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> myUser2Future.get(1_000, TimeUnit.MILLISECONDS));
 
             // Test results
-            assertThat(myUserException.getCause().getMessage(), is("Something failed"));
-            assertThat(myUser2Exception.getCause().getMessage(), is("Something failed"));
+            assertThat(myUserException.getCause().getMessage(), is("ACL deletion failed"));
+            assertThat(myUser2Exception.getCause().getMessage(), is("ACL deletion failed"));
 
             // Test request
             assertThat(aclBindingsFilterCaptor.getAllValues().size(), is(1));
@@ -171,15 +169,13 @@ public class DeleteAclsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<DeleteAclsResult.FilterResults> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFutureImpl<DeleteAclsResult.FilterResults> failedMyUser2Future = new KafkaFutureImpl<>();
+        failedMyUser2Future.completeExceptionally(new RuntimeException("Something failed"));
 
         DeleteAclsResult mockResult = mock(DeleteAclsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(
                 Map.of(MY_USER_READ, KafkaFuture.completedFuture(null), MY_USER_WRITE, KafkaFuture.completedFuture(null),
-                        MY_USER_2_READ, mockMyUser2Future, MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
+                        MY_USER_2_READ, failedMyUser2Future, MY_USER_2_WRITE, KafkaFuture.completedFuture(null))
         );
 
         // Mock call
@@ -188,7 +184,23 @@ public class DeleteAclsBatchReconcilerTest {
         when(mockClient.deleteAcls(aclBindingsFilterCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10);
+        DeleteAclsBatchReconciler reconciler = new DeleteAclsBatchReconciler(mockClient, 10, 5, 10, 2);
+        CompletableFuture<Integer> failedItems = new CompletableFuture<>();
+        reconciler.addListener(new BatchReconcilerListener() {
+            @Override
+            public void onBatchSent(String name, long[] queueWaitNanos) {
+            }
+
+            @Override
+            public void onBatchCompleted(String name, long durationNanos, int failed) {
+                failedItems.complete(failed);
+            }
+
+            @Override
+            public void onBatchFailed(String name, long durationNanos) {
+                failedItems.completeExceptionally(new RuntimeException("The whole batch failed"));
+            }
+        });
         reconciler.start();
 
         try {
@@ -204,6 +216,8 @@ public class DeleteAclsBatchReconcilerTest {
             ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> myUser2Future.get(1_000, TimeUnit.MILLISECONDS));
 
             // Test results
+            assertThat(failedItems.get(1_000, TimeUnit.MILLISECONDS), is(1));
+
             assertThat(myUserResult, is(notNullValue()));
             assertThat(myUserResult, is(ReconcileResult.deleted()));
 
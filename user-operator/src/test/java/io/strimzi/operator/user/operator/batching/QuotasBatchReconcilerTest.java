@@ -10,6 +10,7 @@ import io.strimzi.operator.user.operator.AdminApiOperator;
 import org.apache.kafka.clients.admin.Admin;
 import org.apache.kafka.clients.admin.AlterClientQuotasResult;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.quota.ClientQuotaAlteration;
 import org.apache.kafka.common.quota.ClientQuotaEntity;
 import org.junit.jupiter.api.Test;
@@ -28,7 +29,6 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -57,7 +57,6 @@ public class QuotasBatchReconcilerTest {
 
         // Mock result
         AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, KafkaFuture.completedFuture(null)));
 
         // Mock call
@@ -66,7 +65,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -105,11 +104,11 @@ public class QuotasBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
+        KafkaFutureImpl<Void> failedFuture = new KafkaFutureImpl<>();
+        failedFuture.completeExceptionally(new RuntimeException("Something failed"));
 
         AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, failedFuture, MY_USER_2_ENTITY, failedFuture));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -117,7 +116,7 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -151,13 +150,11 @@ public class QuotasBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFutureImpl<Void> failedMyUser2Future = new KafkaFutureImpl<>();
+        failedMyUser2Future.completeExceptionally(new RuntimeException("Something failed"));
 
         AlterClientQuotasResult mockResult = mock(AlterClientQuotasResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
-        when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, mockMyUser2Future));
+        when(mockResult.values()).thenReturn(Map.of(MY_USER_ENTITY, KafkaFuture.completedFuture(null), MY_USER_2_ENTITY, failedMyUser2Future));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -165,7 +162,23 @@ public class QuotasBatchReconcilerTest {
         when(mockClient.alterClientQuotas(clientQuotaAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10);
+        QuotasBatchReconciler reconciler = new QuotasBatchReconciler(mockClient, 10, 5, 10, 2);
+        CompletableFuture<Integer> failedItems = new CompletableFuture<>();
+        reconciler.addListener(new BatchReconcilerListener() {
+            @Override
+            public void onBatchSent(String name, long[] queueWaitNanos) {
+            }
+
+            @Override
+            public void onBatchCompleted(String name, long durationNanos, int failed) {
+                failedItems.complete(failed);
+            }
+
+            @Override
+            public void onBatchFailed(String name, long durationNanos) {
+                failedItems.completeExceptionally(new RuntimeException("The whole batch failed"));
+            }
+        });
         reconciler.start();
 
         try {
@@ -181,6 +194,8 @@ public class QuotasBatchReconcilerTest {
             ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> myUser2Future.get(1_000, TimeUnit.MILLISECONDS));
 
             // Test results
+            assertThat(failedItems.get(1_000, TimeUnit.MILLISECONDS), is(1));
+
             assertThat(myUserResult, is(notNullValue()));
             assertThat(myUserResult, is(instanceOf(ReconcileResult.Patched.class)));
             assertThat(myUserResult.resource(), is(MY_USER_ALTERATION));
@@ -15,6 +15,7 @@ import org.apache.kafka.clients.admin.UserScramCredentialAlteration;
 import org.apache.kafka.clients.admin.UserScramCredentialDeletion;
 import org.apache.kafka.clients.admin.UserScramCredentialUpsertion;
 import org.apache.kafka.common.KafkaFuture;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.errors.ResourceNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -35,7 +36,6 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -51,7 +51,6 @@ public class ScramShaCredentialsBatchReconcilerTest {
 
         // Mock result
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
         when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", KafkaFuture.completedFuture(null)));
 
         // Mock call
@@ -60,7 +59,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -99,11 +98,11 @@ public class ScramShaCredentialsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockFuture = mock(KafkaFuture.class);
-        when(mockFuture.toCompletionStage()).thenReturn(CompletableFuture.failedStage(new RuntimeException("Something failed")));
+        KafkaFutureImpl<Void> failedFuture = new KafkaFutureImpl<>();
+        failedFuture.completeExceptionally(new RuntimeException("Something failed"));
 
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(mockFuture);
+        when(mockResult.values()).thenReturn(Map.of("my-user", failedFuture, "my-user2", failedFuture));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -111,7 +110,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
@@ -145,13 +144,11 @@ public class ScramShaCredentialsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new RuntimeException("Something failed"));
+        KafkaFutureImpl<Void> failedMyUser2Future = new KafkaFutureImpl<>();
+        failedMyUser2Future.completeExceptionally(new RuntimeException("Something failed"));
 
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
-        when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", mockMyUser2Future));
+        when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", failedMyUser2Future));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -159,7 +156,23 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2);
+        CompletableFuture<Integer> failedItems = new CompletableFuture<>();
+        reconciler.addListener(new BatchReconcilerListener() {
+            @Override
+            public void onBatchSent(String name, long[] queueWaitNanos) {
+            }
+
+            @Override
+            public void onBatchCompleted(String name, long durationNanos, int failed) {
+                failedItems.complete(failed);
+            }
+
+            @Override
+            public void onBatchFailed(String name, long durationNanos) {
+                failedItems.completeExceptionally(new RuntimeException("The whole batch failed"));
+            }
+        });
         reconciler.start();
 
         try {
@@ -175,6 +188,8 @@ public class ScramShaCredentialsBatchReconcilerTest {
             ExecutionException myUser2Exception = assertThrows(ExecutionException.class, () -> myUser2Future.get(1_000, TimeUnit.MILLISECONDS));
 
             // Test results
+            assertThat(failedItems.get(1_000, TimeUnit.MILLISECONDS), is(1));
+
             assertThat(myUserResult, is(notNullValue()));
             assertThat(myUserResult, is(instanceOf(ReconcileResult.Patched.class)));
             assertThat(myUserResult.resource(), is(MY_USER_1));
@@ -196,13 +211,11 @@ public class ScramShaCredentialsBatchReconcilerTest {
         Admin mockClient = mock(Admin.class);
 
         // Mock result
-        KafkaFuture<Void> mockMyUser2Future = mock(KafkaFuture.class);
-        when(mockMyUser2Future.isCompletedExceptionally()).thenReturn(true);
-        when(mockMyUser2Future.getNow(any())).thenThrow(new ResourceNotFoundException("NotFound"));
+        KafkaFutureImpl<Void> failedMyUser2Future = new KafkaFutureImpl<>();
+        failedMyUser2Future.completeExceptionally(new ResourceNotFoundException("NotFound"));
 
         AlterUserScramCredentialsResult mockResult = mock(AlterUserScramCredentialsResult.class);
-        when(mockResult.all()).thenReturn(KafkaFuture.completedFuture(null));
-        when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", mockMyUser2Future));
+        when(mockResult.values()).thenReturn(Map.of("my-user", KafkaFuture.completedFuture(null), "my-user2", failedMyUser2Future));
 
         // Mock call
         @SuppressWarnings(value = "unchecked")
@@ -210,7 +223,7 @@ public class ScramShaCredentialsBatchReconcilerTest {
         when(mockClient.alterUserScramCredentials(credentialAlterationsCaptor.capture())).thenReturn(mockResult);
 
         // Test
-        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10);
+        ScramShaCredentialsBatchReconciler reconciler = new ScramShaCredentialsBatchReconciler(mockClient, 10, 5, 10, 2);
         reconciler.start();
 
         try {
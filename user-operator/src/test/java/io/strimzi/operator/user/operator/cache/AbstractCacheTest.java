@@ -4,15 +4,28 @@
  */
 package io.strimzi.operator.user.operator.cache;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.strimzi.operator.common.MetricsProvider;
+import io.strimzi.operator.common.MicrometerMetricsProvider;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 
 public class AbstractCacheTest {
     private CountDownLatch reload;
@@ -22,6 +35,7 @@ public class AbstractCacheTest {
         reload = new CountDownLatch(2);
 
         AbstractCache<Boolean> cache = new TestCache();
+        cache.addListener(new CountingListener());
 
         // Check the initial state before start
         RuntimeException e = Assertions.assertThrows(RuntimeException.class, () -> cache.get("one"));
@@ -71,6 +85,85 @@ public class AbstractCacheTest {
         assertThat(e.getMessage(), is("TestCache is not ready!"));
     }
 
+    @Test
+    public void testCacheKeepsDataWhenRefreshFails() throws InterruptedException {
+        FailingCache cache = new FailingCache();
+        BlockingQueue<Set<String>> changes = new LinkedBlockingQueue<>();
+        CountDownLatch failures = new CountDownLatch(2);
+        MetricsProvider metrics = new MicrometerMetricsProvider(new SimpleMeterRegistry());
+
+        cache.addListener(new CacheMetricsListener(metrics, "my-namespace"));
+        cache.addListener(new CacheListener() {
+            @Override
+            public void onRefresh(AbstractCache<?> refreshedCache, long durationNanos, Set<String> changedKeys) {
+                changes.add(changedKeys);
+            }
+
+            @Override
+            public void onRefreshFailure(AbstractCache<?> refreshedCache) {
+                failures.countDown();
+            }
+        });
+
+        cache.start();
+
+        try {
+            // Nothing changes on the first load, and the second load changes and adds some keys and removes others
+            assertThat(changes.poll(10, TimeUnit.SECONDS), is(Set.of()));
+            assertThat(changes.poll(10, TimeUnit.SECONDS), is(Set.of("changed", "added-1", "added-2")));
+
+            // The cache keeps serving the last data when the refresh fails
+            cache.fail = true;
+            failures.await();
+
+            assertThat(cache.get("unchanged"), is(0));
+            assertThat(cache.get("changed"), is(notNullValue()));
+            assertThat(cache.snapshotAgeMs(), is(greaterThanOrEqualTo(100L)));
+
+            // Check metrics
+            MeterRegistry registry = metrics.meterRegistry();
+            assertThat(registry.get("strimzi.user.cache.refresh.failed").tag("cache", "Failing").counter().count(), is(greaterThanOrEqualTo(2.0)));
+            assertThat(registry.get("strimzi.user.cache.refresh.duration").tag("cache", "Failing").timer().count(), is(greaterThanOrEqualTo(2L)));
+            assertThat(registry.get("strimzi.user.cache.entries").tag("cache", "Failing").gauge().value(), is(3.0));
+            assertThat(registry.get("strimzi.user.cache.changes").tag("cache", "Failing").counter().count(), is(greaterThanOrEqualTo(3.0)));
+            assertThat(registry.get("strimzi.user.cache.snapshot.age.seconds").tag("cache", "Failing").gauge().value(), is(greaterThanOrEqualTo(0.1)));
+        } finally {
+            cache.stop();
+        }
+
+        assertThat(cache.snapshotAgeMs(), is(-1L));
+    }
+
+    @Test
+    public void testKeyFilter() throws InterruptedException, ExecutionException {
+        AbstractCache<Boolean> cache = new TestCache();
+        cache.setKeyFilter(key -> !"two".equals(key));
+        cache.start();
+
+        try {
+            assertThat(cache.get("one"), is(true));
+            assertThat(cache.get("two"), is(nullValue()));
+            assertThat(cache.size(), is(2));
+
+            // Changing the filter and refreshing the cache loads the other keys
+            cache.setKeyFilter(key -> !"one".equals(key));
+            cache.refresh().toCompletableFuture().get();
+
+            assertThat(cache.get("one"), is(nullValue()));
+            assertThat(cache.get("two"), is(true));
+            assertThat(cache.size(), is(2));
+        } finally {
+            cache.stop();
+        }
+    }
+
+    @Test
+    public void testChangedKeys() {
+        assertThat(AbstractCache.changedKeys(Map.of("a", 1, "b", 2, "c", 3), Map.of("a", 1, "b", 3, "d", 4)), is(Set.of("b", "c", "d")));
+        assertThat(AbstractCache.changedKeys(Map.of("a", Set.of(1, 2)), Map.of("a", Set.of(2, 1))), is(Set.of()));
+        assertThat(AbstractCache.changedKeys(Map.of(), Map.of()), is(Set.of()));
+    }
+
     class TestCache extends AbstractCache<Boolean>  {
         public TestCache() {
             super("Test", 100L);
@@ -83,8 +176,45 @@ public class AbstractCacheTest {
             map.put("two", Boolean.TRUE);
             map.put("three", Boolean.TRUE);
 
-            reload.countDown();
             return map;
         }
     }
+
+    /**
+     * Cache which fails to load after the first load. The values change with every load.
+     */
+    static class FailingCache extends AbstractCache<Integer>  {
+        private final AtomicInteger loads = new AtomicInteger(0);
+        volatile boolean fail = false;
+
+        public FailingCache() {
+            super("Failing", 100L);
+        }
+
+        @Override
+        protected ConcurrentHashMap<String, Integer> loadCache() {
+            if (fail) {
+                throw new RuntimeException("Failed to load");
+            }
+
+            int load = loads.incrementAndGet();
+            ConcurrentHashMap<String, Integer> map = new ConcurrentHashMap<>();
+            map.put("unchanged", 0);
+            map.put("changed", load);
+            map.put("added-" + load, load);
+
+            return map;
+        }
+    }
+
+    class CountingListener implements CacheListener {
+        @Override
+        public void onRefresh(AbstractCache<?> cache, long durationNanos, Set<String> changedKeys) {
+            reload.countDown();
+        }
+
+        @Override
+        public void onRefreshFailure(AbstractCache<?> cache) {
+        }
+    }
 }
@@ -13,6 +13,7 @@ import org.apache.kafka.common.acl.AclBinding;
 import org.apache.kafka.common.acl.AclBindingFilter;
 import org.apache.kafka.common.acl.AclOperation;
 import org.apache.kafka.common.acl.AclPermissionType;
+import org.apache.kafka.common.internals.KafkaFutureImpl;
 import org.apache.kafka.common.resource.PatternType;
 import org.apache.kafka.common.resource.ResourcePattern;
 import org.apache.kafka.common.resource.ResourceType;
@@ -21,16 +22,22 @@ import org.mockito.ArgumentCaptor;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.hasItems;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
@@ -119,4 +126,94 @@ public class AclCacheTest {
             cache.stop();
         }
     }
+
+    @Test
+    public void testShardedLoading() {
+        AclBinding myUserTopic = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-topic", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+        AclBinding myUserPrefixedTopic = new AclBinding(
+                new ResourcePattern(ResourceType.TOPIC, "my-", PatternType.PREFIXED),
+                new AccessControlEntry("User:my-user", "*", AclOperation.WRITE, AclPermissionType.ALLOW)
+        );
+        AclBinding myUserGroup = new AclBinding(
+                new ResourcePattern(ResourceType.GROUP, "my-group", PatternType.LITERAL),
+                new AccessControlEntry("User:my-user", "*", AclOperation.READ, AclPermissionType.ALLOW)
+        );
+        AclBinding myUser2Cluster = new AclBinding(
+                new ResourcePattern(ResourceType.CLUSTER, "kafka-cluster", PatternType.LITERAL),
+                new AccessControlEntry("User:CN=my-user2", "*", AclOperation.DESCRIBE, AclPermissionType.ALLOW)
+        );
+        List<AclBinding> allBindings = List.of(myUserTopic, myUserPrefixedTopic, myUserGroup, myUser2Cluster);
+
+        // Mock Admin client which completes the requests asynchronously and tracks how many of them are in flight
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger inFlight = new AtomicInteger(0);
+        AtomicInteger maxInFlight = new AtomicInteger(0);
+        List<AclBindingFilter> filters = new CopyOnWriteArrayList<>();
+
+        Admin mockClient = mock(Admin.class);
+        when(mockClient.describeAcls(any())).thenAnswer(i -> {
+            AclBindingFilter filter = i.getArgument(0);
+            filters.add(filter);
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+            KafkaFutureImpl<Collection<AclBinding>> future = new KafkaFutureImpl<>();
+            executor.submit(() -> {
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+
+                inFlight.decrementAndGet();
+                future.complete(allBindings.stream().filter(filter::matches).toList());
+            });
+
+            DescribeAclsResult mockResult = mock(DescribeAclsResult.class);
+            when(mockResult.values()).thenReturn(future);
+            return mockResult;
+        });
+
+        AclCache cache = new AclCache(mockClient, 60_000, true, 2);
+
+        try {
+            cache.start();
+
+            assertThat(cache.get("my-user"), is(Set.of(SimpleAclRule.fromAclBinding(myUserTopic), SimpleAclRule.fromAclBinding(myUserPrefixedTopic), SimpleAclRule.fromAclBinding(myUserGroup))));
+            assertThat(cache.get("CN=my-user2"), is(Set.of(SimpleAclRule.fromAclBinding(myUser2Cluster))));
+
+            // Each shard is queried once with at most two queries at the same time
+            assertThat(filters, is(AclCache.SHARDS));
+            assertThat(maxInFlight.get(), is(lessThanOrEqualTo(2)));
+        } finally   {
+            cache.stop();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testShardsMatchEveryAclOnce() {
+        for (ResourceType resourceType : ResourceType.values()) {
+            if (resourceType == ResourceType.ANY || resourceType == ResourceType.UNKNOWN) {
+                continue;
+            }
+
+            for (PatternType patternType : List.of(PatternType.LITERAL, PatternType.PREFIXED)) {
+                for (AclOperation operation : AclOperation.values()) {
+                    if (operation == AclOperation.ANY || operation == AclOperation.UNKNOWN) {
+                        continue;
+                    }
+
+                    AclBinding binding = new AclBinding(
+                            new ResourcePattern(resourceType, "my-resource", patternType),
+                            new AccessControlEntry("User:my-user", "*", operation, AclPermissionType.ALLOW)
+                    );
+
+                    assertThat(AclCache.SHARDS.stream().filter(shard -> shard.matches(binding)).count(), is(1L));
+                }
+            }
+        }
+    }
 }